@@ -0,0 +1,132 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.admission;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.scheduler.QueueScheduler;
+import com.ticket.dojo.backdeepfamily.domain.queue.service.QueuePolicy;
+import com.ticket.dojo.backdeepfamily.domain.queue.service.QueueService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 적응형 입장 제어 (AIMD)
+ *
+ * 고정 50명 대신 부하 신호에 따라 최대 동시 접속 인원(QueuePolicy)을 조정
+ * - 과부하 (좌석 점유 / 결제 완료 p99, 커넥션 대기, outbound 대기 중 하나라도 기준 초과): 한도를 비율로 감소
+ * - 여유가 있고 한도를 거의 다 쓰는 중: 한도를 조금씩 증가 후 바로 활성화 요청
+ * - 한도는 항상 [min, max] 범위, 현재 값은 queue.admission.limit 게이지로 노출
+ * - 사용률은 사용 중인 대기열 구현체(basic / memory / redis)가 알려주는 ACTIVE 인원으로 계산
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "queue.admission.adaptive-enabled", havingValue = "true", matchIfMissing = true)
+public class AdaptiveAdmissionController {
+
+    public static final String LIMIT_METRIC = "queue.admission.limit";
+
+    private static final int INCREASE_STEP = 2;             // 가산 증가폭
+    private static final double DECREASE_FACTOR = 0.7;      // 곱셈 감소 비율
+    private static final double GROWTH_UTILIZATION = 0.9;   // 이 비율 이상 쓰고 있을 때만 증가
+
+    private final QueuePolicy queuePolicy;
+    private final QueueService queueService;
+    private final QueueScheduler queueScheduler;
+    private final AdmissionSignalCollector signalCollector;
+
+    private final int minActiveUsers;
+    private final int maxActiveUsers;
+    private final double holdSeatP99LimitMillis;
+    private final double completePayingP99LimitMillis;
+    private final int maxPendingConnections;
+    private final int maxOutboundQueueDepth;
+
+    public AdaptiveAdmissionController(QueuePolicy queuePolicy, QueueService queueService, QueueScheduler queueScheduler,
+                                       AdmissionSignalCollector signalCollector, MeterRegistry meterRegistry,
+                                       @Value("${queue.admission.min-active-users:10}") int minActiveUsers,
+                                       @Value("${queue.admission.max-active-users:200}") int maxActiveUsers,
+                                       @Value("${queue.admission.hold-seat-p99-ms:300}") double holdSeatP99LimitMillis,
+                                       @Value("${queue.admission.complete-paying-p99-ms:5000}") double completePayingP99LimitMillis,
+                                       @Value("${queue.admission.max-pending-connections:2}") int maxPendingConnections,
+                                       @Value("${queue.admission.max-outbound-queue:500}") int maxOutboundQueueDepth) {
+        if (minActiveUsers < 1 || minActiveUsers > maxActiveUsers) {
+            throw new IllegalArgumentException(
+                    String.format("입장 한도 범위가 올바르지 않습니다: [%d, %d]", minActiveUsers, maxActiveUsers));
+        }
+
+        this.queuePolicy = queuePolicy;
+        this.queueService = queueService;
+        this.queueScheduler = queueScheduler;
+        this.signalCollector = signalCollector;
+        this.minActiveUsers = minActiveUsers;
+        this.maxActiveUsers = maxActiveUsers;
+        this.holdSeatP99LimitMillis = holdSeatP99LimitMillis;
+        this.completePayingP99LimitMillis = completePayingP99LimitMillis;
+        this.maxPendingConnections = maxPendingConnections;
+        this.maxOutboundQueueDepth = maxOutboundQueueDepth;
+
+        queuePolicy.updateMaxActiveUsers(clamp(queuePolicy.getMaxActiveUsers()));
+
+        Gauge.builder(LIMIT_METRIC, queuePolicy, QueuePolicy::getMaxActiveUsers)
+                .description("현재 최대 동시 접속 가능 인원")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${queue.admission.interval-ms:2000}")
+    public void adjust() {
+        apply(signalCollector.collect());
+    }
+
+    /**
+     * 수집한 신호로 한도 한 번 조정
+     *
+     * @return 조정 후 한도
+     */
+    int apply(AdmissionSignals signals) {
+        int current = queuePolicy.getMaxActiveUsers();
+        String overload = overloadReason(signals);
+
+        int next = current;
+        if (overload != null) {
+            next = clamp((int) (current * DECREASE_FACTOR));
+        } else if (queueService.getActiveCount() >= current * GROWTH_UTILIZATION) {
+            next = clamp(current + INCREASE_STEP);
+        }
+
+        if (next == current) {
+            return current;
+        }
+
+        queuePolicy.updateMaxActiveUsers(next);
+
+        if (next < current) {
+            log.warn("입장 한도 감소 - {} -> {} ({}), signals: {}", current, next, overload, signals);
+        } else {
+            log.info("입장 한도 증가 - {} -> {}", current, next);
+            queueScheduler.requestActivation();
+        }
+        return next;
+    }
+
+    private String overloadReason(AdmissionSignals signals) {
+        if (signals.getHoldSeatP99Millis() > holdSeatP99LimitMillis) {
+            return "좌석 점유 p99 초과";
+        }
+        if (signals.getCompletePayingP99Millis() > completePayingP99LimitMillis) {
+            return "결제 완료 p99 초과";
+        }
+        if (signals.getPendingConnections() > maxPendingConnections) {
+            return "DB 커넥션 대기";
+        }
+        if (signals.getOutboundQueueDepth() > maxOutboundQueueDepth) {
+            return "outbound 메시지 적체";
+        }
+        return null;
+    }
+
+    private int clamp(int limit) {
+        return Math.max(minActiveUsers, Math.min(maxActiveUsers, limit));
+    }
+}
@@ -0,0 +1,54 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.admission;
+
+import com.ticket.dojo.backdeepfamily.global.metrics.TicketingMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 부하 신호 수집
+ *
+ * - 좌석 점유 / 결제 완료 p99: TicketingMetrics
+ * - 커넥션 대기 수: Hikari가 등록한 hikaricp.connections.pending 게이지
+ * - outbound 대기 수: STOMP clientOutboundChannel 실행기의 큐 크기
+ */
+@Component
+public class AdmissionSignalCollector {
+
+    private static final String HIKARI_PENDING = "hikaricp.connections.pending";
+
+    private final TicketingMetrics ticketingMetrics;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<ThreadPoolTaskExecutor> clientOutboundChannelExecutor;
+
+    public AdmissionSignalCollector(TicketingMetrics ticketingMetrics, MeterRegistry meterRegistry,
+                                    @Qualifier("clientOutboundChannelExecutor")
+                                    ObjectProvider<ThreadPoolTaskExecutor> clientOutboundChannelExecutor) {
+        this.ticketingMetrics = ticketingMetrics;
+        this.meterRegistry = meterRegistry;
+        this.clientOutboundChannelExecutor = clientOutboundChannelExecutor;
+    }
+
+    public AdmissionSignals collect() {
+        return new AdmissionSignals(
+                ticketingMetrics.getHoldSeatP99Millis(),
+                ticketingMetrics.getCompletePayingP99Millis(),
+                pendingConnections(),
+                outboundQueueDepth());
+    }
+
+    private int pendingConnections() {
+        return (int) meterRegistry.find(HIKARI_PENDING).gauges().stream()
+                .mapToDouble(Gauge::value)
+                .filter(value -> !Double.isNaN(value))
+                .sum();
+    }
+
+    private int outboundQueueDepth() {
+        ThreadPoolTaskExecutor executor = clientOutboundChannelExecutor.getIfAvailable();
+        return executor != null ? executor.getQueueSize() : 0;
+    }
+}
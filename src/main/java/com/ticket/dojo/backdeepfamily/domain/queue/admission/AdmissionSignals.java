@@ -0,0 +1,19 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.admission;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 적응형 입장 제어에 쓰는 부하 신호 (한 번 수집한 시점의 값)
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class AdmissionSignals {
+
+    private final double holdSeatP99Millis;         // 좌석 점유 p99
+    private final double completePayingP99Millis;   // 결제 완료 p99
+    private final int pendingConnections;           // 커넥션을 기다리는 스레드 수 (Hikari)
+    private final int outboundQueueDepth;           // 브로커 outbound 채널 대기 메시지 수
+}
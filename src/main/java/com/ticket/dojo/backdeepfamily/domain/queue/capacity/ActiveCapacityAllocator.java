@@ -0,0 +1,148 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.capacity;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.scheduler.QueueScheduler;
+import com.ticket.dojo.backdeepfamily.domain.queue.service.QueuePolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 노드별 ACTIVE 슬롯 lease 관리 (queue.capacity.leasing-enabled=true, 여러 인스턴스 운영 시)
+ *
+ * - 전역 한도(queue.capacity.global-limit)를 노드마다 슬롯 묶음으로 나눠 받고, 입장 판단은 받은 lease 안에서 로컬로 처리
+ *   (적응형 제어가 조정하는 QueuePolicy 최대 인원은 이 노드의 입장 상한일 뿐, 노드마다 값이 달라 전역 한도로 쓰지 않음)
+ * - 남은 슬롯이 묶음 절반 아래로 떨어지면 한 묶음 더 요청, 두 묶음 넘게 남으면 반납
+ * - 그 외에는 TTL 절반마다 갱신만 하므로 저장소 접근은 초당 몇 번 수준
+ * - 갱신에 실패한 채 TTL이 지나면(다른 노드가 회수해 갈 수 있으므로) 새 입장을 멈춤
+ *
+ * 한도를 나눠 갖는 것은 기본 파티션 pool만 해당
+ *
+ * 제약 (여러 노드가 basic 엔진으로 같은 기본 파티션에 진입 / 활성화하므로 노드 로컬 상태는 다른 노드의 변경을 모름):
+ * - 대기 순번 인덱스(WaitingLineIndex)와 사용자 -> 토큰 힌트는 lease 중에는 읽지 않고 매번 DB로 순번 / 기존 대기열 조회
+ * - 입장 lease(heartbeat)는 노드 메모리가 아니라 queue 행의 lease 만료 시각으로 관리하므로 어느 노드로 와도 연장됨
+ * - permit 주기 보정은 DB 전체 ACTIVE 수가 아니라 이 노드가 활성화한 행(activated_by = nodeId) 수로 맞춤
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "queue.capacity.leasing-enabled", havingValue = "true")
+public class ActiveCapacityAllocator {
+
+    public static final String LEASED_METRIC = "queue.capacity.leased";
+    public static final String RESIZE_METRIC = "queue.capacity.resize";
+
+    private final ActiveCapacityStore capacityStore;
+    private final QueuePolicy queuePolicy;
+    private final QueueScheduler queueScheduler;
+    private final Counter resizeCounter;
+
+    private final String nodeId;
+    private final int globalLimit;
+    private final int blockSize;
+    private final long leaseTtlMillis;
+
+    // 마지막으로 lease를 갱신한 시각 (0이면 아직 받지 못함)
+    private long lastRenewedAt;
+
+    public ActiveCapacityAllocator(ActiveCapacityStore capacityStore, QueuePolicy queuePolicy,
+                                   QueueScheduler queueScheduler, MeterRegistry meterRegistry,
+                                   @Value("${queue.capacity.node-id:}") String nodeId,
+                                   @Value("${queue.capacity.global-limit:50}") int globalLimit,
+                                   @Value("${queue.capacity.block-size:10}") int blockSize,
+                                   @Value("${queue.capacity.lease-ttl-ms:10000}") long leaseTtlMillis) {
+        if (globalLimit < 1) {
+            throw new IllegalArgumentException("전역 ACTIVE 한도는 1 이상이어야 합니다: " + globalLimit);
+        }
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("lease 묶음 크기는 1 이상이어야 합니다: " + blockSize);
+        }
+
+        this.capacityStore = capacityStore;
+        this.queuePolicy = queuePolicy;
+        this.queueScheduler = queueScheduler;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? "node-" + UUID.randomUUID() : nodeId;
+        this.globalLimit = globalLimit;
+        this.blockSize = blockSize;
+        this.leaseTtlMillis = leaseTtlMillis;
+
+        // lease를 받기 전에는 입장시키지 않음
+        queuePolicy.beginLeasing(this.nodeId);
+
+        this.resizeCounter = Counter.builder(RESIZE_METRIC)
+                .description("lease 저장소 요청 수 (노드 간 조정 횟수)")
+                .register(meterRegistry);
+        Gauge.builder(LEASED_METRIC, queuePolicy, QueuePolicy::getLeasedCapacity)
+                .description("이 노드가 lease 받은 ACTIVE 슬롯 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${queue.capacity.refill-interval-ms:250}")
+    public void rebalance() {
+        rebalance(System.currentTimeMillis());
+    }
+
+    /**
+     * 남은 슬롯에 따라 lease 보충 / 반납 / 갱신
+     *
+     * @return 조정 후 lease 크기
+     */
+    synchronized int rebalance(long now) {
+        int leased = queuePolicy.getLeasedCapacity();
+        int active = queuePolicy.getActivePermits();
+        int free = leased - active;
+
+        boolean renewDue = lastRenewedAt == 0 || now - lastRenewedAt >= leaseTtlMillis / 2;
+        boolean refill = free < Math.max(1, blockSize / 2) && leased < globalLimit;
+        boolean surplus = free > blockSize * 2;
+        if (!renewDue && !refill && !surplus) {
+            return leased;
+        }
+
+        try {
+            int granted = capacityStore.resize(nodeId, active + blockSize, globalLimit, leaseTtlMillis);
+            resizeCounter.increment();
+            lastRenewedAt = now;
+            queuePolicy.updateLeasedCapacity(granted);
+
+            if (granted != leased) {
+                log.debug("ACTIVE 슬롯 lease 조정 - nodeId: {}, {} -> {} (Active: {})", nodeId, leased, granted, active);
+            }
+            if (granted > leased) {
+                queueScheduler.requestActivation();
+            }
+            return granted;
+        } catch (Exception e) {
+            log.warn("ACTIVE 슬롯 lease 갱신 실패 - nodeId: {}, message: {}", nodeId, e.getMessage());
+
+            // 저장소에서 회수되었을 수 있는 lease로는 더 입장시키지 않음
+            if (lastRenewedAt == 0 || now - lastRenewedAt >= leaseTtlMillis) {
+                queuePolicy.updateLeasedCapacity(Math.min(leased, active));
+            }
+            return queuePolicy.getLeasedCapacity();
+        }
+    }
+
+    /**
+     * 종료 시 lease 반납 (다른 노드가 바로 가져갈 수 있도록)
+     */
+    @PreDestroy
+    public void releaseAll() {
+        try {
+            capacityStore.release(nodeId);
+            log.info("ACTIVE 슬롯 lease 반납 - nodeId: {}", nodeId);
+        } catch (Exception e) {
+            log.warn("ACTIVE 슬롯 lease 반납 실패 (TTL 후 회수됨) - nodeId: {}, message: {}", nodeId, e.getMessage());
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,28 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.capacity;
+
+/**
+ * 여러 노드가 나눠 쓰는 ACTIVE 슬롯 lease 저장소
+ *
+ * - 노드마다 슬롯 묶음(lease)을 받아 두고, 입장 판단은 자기 lease 안에서 로컬로 처리
+ * - 모든 노드의 lease 합은 전역 한도를 넘지 않음
+ * - lease는 TTL 안에 갱신하지 않으면 회수됨 (비정상 종료한 노드의 슬롯 복구)
+ */
+public interface ActiveCapacityStore {
+
+    /**
+     * 노드 lease 크기 변경 + 만료 시각 갱신
+     * 늘리는 경우 다른 노드 lease를 뺀 남은 만큼만 부여, 줄이는 경우 요청대로 반납
+     *
+     * @param nodeId         노드 식별자
+     * @param desired        원하는 lease 크기
+     * @param globalLimit    전체 노드 합산 ACTIVE 한도
+     * @param leaseTtlMillis 이 시간 안에 다시 호출하지 않으면 lease 회수
+     * @return 부여된 lease 크기
+     */
+    int resize(String nodeId, int desired, int globalLimit, long leaseTtlMillis);
+
+    /**
+     * 노드 lease 전체 반납 (정상 종료)
+     */
+    void release(String nodeId);
+}
@@ -0,0 +1,70 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.capacity;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 프로세스 안에서만 공유되는 lease 저장소 (queue.capacity.store=local, 단일 노드 / 테스트용)
+ */
+@Component
+@ConditionalOnProperty(name = "queue.capacity.store", havingValue = "local", matchIfMissing = true)
+public class LocalActiveCapacityStore implements ActiveCapacityStore {
+
+    private final LongSupplier clock;
+    private final Map<String, Lease> leases = new HashMap<>();
+
+    public LocalActiveCapacityStore() {
+        this(System::currentTimeMillis);
+    }
+
+    LocalActiveCapacityStore(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized int resize(String nodeId, int desired, int globalLimit, long leaseTtlMillis) {
+        long now = clock.getAsLong();
+        leases.values().removeIf(lease -> lease.expiresAt <= now);
+
+        int others = 0;
+        for (Map.Entry<String, Lease> entry : leases.entrySet()) {
+            if (!entry.getKey().equals(nodeId)) {
+                others += entry.getValue().leased;
+            }
+        }
+
+        int granted = Math.max(0, Math.min(desired, globalLimit - others));
+        leases.put(nodeId, new Lease(granted, now + leaseTtlMillis));
+        return granted;
+    }
+
+    @Override
+    public synchronized void release(String nodeId) {
+        leases.remove(nodeId);
+    }
+
+    /**
+     * 살아있는 lease 합
+     */
+    public synchronized int getTotalLeased() {
+        long now = clock.getAsLong();
+        return leases.values().stream()
+                .filter(lease -> lease.expiresAt > now)
+                .mapToInt(lease -> lease.leased)
+                .sum();
+    }
+
+    private static final class Lease {
+        private final int leased;
+        private final long expiresAt;
+
+        private Lease(int leased, long expiresAt) {
+            this.leased = leased;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
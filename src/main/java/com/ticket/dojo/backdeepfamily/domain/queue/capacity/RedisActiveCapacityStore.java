@@ -0,0 +1,36 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.capacity;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static com.ticket.dojo.backdeepfamily.domain.queue.engine.QueueRedisScripts.*;
+
+/**
+ * Redis lease 저장소 (queue.capacity.store=redis)
+ * 조회 / 회수 / 부여를 Lua 스크립트 한 번으로 처리하여 여러 노드가 동시에 요청해도 전역 한도를 넘지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "queue.capacity.store", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisActiveCapacityStore implements ActiveCapacityStore {
+
+    private static final List<String> KEYS = List.of(CAPACITY_LEASES_KEY, CAPACITY_EXPIRY_KEY);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public int resize(String nodeId, int desired, int globalLimit, long leaseTtlMillis) {
+        Long granted = redisTemplate.execute(CAPACITY_RESIZE, KEYS, nodeId,
+                String.valueOf(desired), String.valueOf(globalLimit), String.valueOf(leaseTtlMillis));
+        return granted == null ? 0 : granted.intValue();
+    }
+
+    @Override
+    public void release(String nodeId) {
+        redisTemplate.execute(CAPACITY_RELEASE, KEYS, nodeId);
+    }
+}
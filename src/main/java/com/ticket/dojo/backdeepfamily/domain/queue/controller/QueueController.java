@@ -2,16 +2,24 @@ package com.ticket.dojo.backdeepfamily.domain.queue.controller;
 
 import com.ticket.dojo.backdeepfamily.domain.queue.dto.response.QueueEnterResponse;
 import com.ticket.dojo.backdeepfamily.domain.queue.dto.response.QueueStatusResponse;
+import com.ticket.dojo.backdeepfamily.domain.queue.idempotency.QueueEnterIdempotency;
+import com.ticket.dojo.backdeepfamily.domain.queue.lease.QueueLeaseManager;
+import com.ticket.dojo.backdeepfamily.domain.queue.notification.QueueSseSubscriber;
+import com.ticket.dojo.backdeepfamily.domain.queue.partition.QueuePartitionResolver;
+import com.ticket.dojo.backdeepfamily.domain.queue.presence.QueuePresenceTracker;
 import com.ticket.dojo.backdeepfamily.domain.queue.service.QueueService;
 import com.ticket.dojo.backdeepfamily.domain.user.entity.CustomUserDetails;
 import com.ticket.dojo.backdeepfamily.domain.user.entity.User;
 import com.ticket.dojo.backdeepfamily.domain.user.service.UserService;
+import com.ticket.dojo.backdeepfamily.global.exception.QueueNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.Response;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @RestController
@@ -20,6 +28,11 @@ import org.springframework.web.bind.annotation.*;
 public class QueueController {
 
     private final QueueService queueService;
+    private final QueueSseSubscriber queueSseSubscriber;
+    private final QueueLeaseManager queueLeaseManager;
+    private final QueuePresenceTracker queuePresenceTracker;
+    private final QueueEnterIdempotency queueEnterIdempotency;
+    private final QueuePartitionResolver queuePartitionResolver;
 
     // jwt 도입 전 endPoint
 //    @PostMapping("/plain/enter")
@@ -30,21 +43,54 @@ public class QueueController {
 //    }
 
 //     jwt 도입 후 endPoint
+     // partition: 회차 대기열 (현재 / 다음 회차의 "round-{회차}"만 허용, 없으면 기본 대기열)
      @PostMapping("/jwt/enter")
-     public ResponseEntity<QueueEnterResponse> jwtQueueEnter(@AuthenticationPrincipal CustomUserDetails userDetail){
+     public ResponseEntity<QueueEnterResponse> jwtQueueEnter(@AuthenticationPrincipal CustomUserDetails userDetail,
+                                                             @RequestParam(required = false) String partition,
+                                                             @RequestHeader(value = QueueEnterIdempotency.HEADER, required = false) String idempotencyKey){
          Long userId = userDetail.getUserId();
-         log.info("대기열 진입 API 호출 - USER {}", userId);
-         QueueEnterResponse response = queueService.enterQueue(userId);
+         String partitionKey = queuePartitionResolver.resolve(partition);
+         log.info("대기열 진입 API 호출 - USER {}, partition : {}", userId, partitionKey);
+         queuePresenceTracker.touch(userId);
+         QueueEnterResponse response = queueEnterIdempotency.execute(userId, idempotencyKey, () -> queueService.enterQueue(userId, partitionKey));
          return ResponseEntity.ok(response);
      }
 
     @GetMapping("/status")
-    public ResponseEntity<QueueStatusResponse> getQueueStatus(@RequestParam String token) {
+    public ResponseEntity<QueueStatusResponse> getQueueStatus(@RequestParam String token,
+                                                              @AuthenticationPrincipal CustomUserDetails userDetail) {
         log.info("대기열 상태 조회 API 호출 - token : {}", token);
+        queuePresenceTracker.touch(userDetail.getUserId());
         QueueStatusResponse response = queueService.getQueueStatus(token);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 대기열 상태 스트림 (SSE)
+     * 순번이 delta 이상 바뀌거나 상태가 바뀔 때만 이벤트 전송 -> /status 폴링 대체
+     */
+    @GetMapping(value = "/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamQueueStatus(@RequestParam String token,
+                                        @RequestParam(required = false) Integer delta,
+                                        @AuthenticationPrincipal CustomUserDetails userDetail) {
+        log.info("대기열 상태 스트림 API 호출 - token : {}", token);
+        return queueSseSubscriber.subscribe(token, delta, userDetail.getUserId());
+    }
+
+    /**
+     * 입장 lease 연장 (ACTIVE 상태에서 주기적으로 호출)
+     * lease가 없으면(만료되었거나 ACTIVE가 아니거나 본인 토큰이 아님) 404
+     */
+    @PostMapping("/heartbeat")
+    public ResponseEntity<Void> heartbeat(@RequestParam String token,
+                                          @AuthenticationPrincipal CustomUserDetails userDetail) {
+        queuePresenceTracker.touch(userDetail.getUserId());
+        if (!queueLeaseManager.renew(token, userDetail.getUserId())) {
+            throw new QueueNotFoundException("활성 상태의 대기열이 아닙니다. 토큰 : " + token);
+        }
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/exit")
     public ResponseEntity<Void> exitQueue(@RequestParam String token) {
         log.info("대기열 퇴장 API 호출 - token : {}", token);
@@ -20,14 +20,28 @@ public class QueueEnterResponse {
      */
 
     private String token; // 대기열 고유 토큰
+    private String partitionKey; // 대기열 파티션 (회차 / 이벤트)
     private QueueStatus status; // 대기열 상태 (WAITING)
+    private int position; // 현재 대기 순번 (ACTIVE면 0)
     private LocalDateTime enteredAt; // 진입 시간
+    private String admissionTicket; // 입장권 (ACTIVE일 때만, 결제 등 티켓팅 API에 전달)
 
     public static QueueEnterResponse from(Queue savedQueue) {
+        return from(savedQueue, null);
+    }
+
+    public static QueueEnterResponse from(Queue savedQueue, String admissionTicket) {
+        return from(savedQueue, 0, admissionTicket);
+    }
+
+    public static QueueEnterResponse from(Queue savedQueue, int position, String admissionTicket) {
         return QueueEnterResponse.builder()
                 .token(savedQueue.getTokenValue())
+                .partitionKey(savedQueue.getPartitionKey())
                 .status(savedQueue.getStatus())
+                .position(position)
                 .enteredAt(savedQueue.getEnteredAt())
+                .admissionTicket(admissionTicket)
                 .build();
     }
 }
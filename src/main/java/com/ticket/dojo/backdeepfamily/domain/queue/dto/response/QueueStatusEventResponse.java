@@ -0,0 +1,48 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.dto.response;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.QueueStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueueStatusEventResponse {
+
+    /**
+     *  대기열 상태 push 메시지 (/user/queue/status)
+     */
+
+    private String type;         // POSITION / ACTIVATED / REMOVED
+    private String token;        // 대기열 토큰
+    private int position;        // 현재 대기 순번 (ACTIVE면 0)
+    private QueueStatus status;  // 대기열 상태
+
+    public static QueueStatusEventResponse position(QueueStatusResponse status) {
+        return QueueStatusEventResponse.builder()
+                .type("POSITION")
+                .token(status.getToken())
+                .position(status.getPosition())
+                .status(status.getStatus())
+                .build();
+    }
+
+    public static QueueStatusEventResponse activated(String token) {
+        return QueueStatusEventResponse.builder()
+                .type("ACTIVATED")
+                .token(token)
+                .position(0)
+                .status(QueueStatus.ACTIVE)
+                .build();
+    }
+
+    public static QueueStatusEventResponse removed(String token) {
+        return QueueStatusEventResponse.builder()
+                .type("REMOVED")
+                .token(token)
+                .build();
+    }
+}
@@ -20,12 +20,18 @@ public class QueueStatusResponse {
     private String token;               // 대기열 토큰
     private int position;               // 현재 대기 순번
     private QueueStatus status;   // 대기열 상태 (WAITING, ACTIVE, EXPIRED)
+    private String admissionTicket;     // 입장권 (ACTIVE일 때만)
 
     public static QueueStatusResponse of(Queue queue, int currentPosition) {
+        return of(queue, currentPosition, null);
+    }
+
+    public static QueueStatusResponse of(Queue queue, int currentPosition, String admissionTicket) {
         return QueueStatusResponse.builder()
                 .token(queue.getTokenValue())
                 .position(currentPosition)
                 .status(queue.getStatus())
+                .admissionTicket(admissionTicket)
                 .build();
     }
 }
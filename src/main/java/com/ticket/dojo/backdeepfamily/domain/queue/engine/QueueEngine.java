@@ -0,0 +1,425 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.engine;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.Queue;
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.QueueStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 인메모리 대기열 엔진
+ *
+ * 구조:
+ * - 사용자 ID 기준 lock striping: 같은 사용자의 진입/퇴장/만료만 직렬화되고 나머지는 병렬 처리
+ * - 토큰 맵 (token -> 항목), 사용자 맵 (userId -> 살아있는 항목)
+ * - 대기 줄: 진입 순번 기준 정렬 (ConcurrentSkipListMap), 순번 조회는 WaitingLineIndex로 O(log n)
+ * - 활성 인원 수는 AtomicInteger로 관리하여 COUNT 쿼리 없이 판단
+ * - ACTIVE 항목은 입장 lease 만료 시각을 들고 있고, lease가 지나면 expireLapsed로 만료 처리
+ *
+ * 상태가 바뀐 항목은 생성자에서 받은 listener로 전달 (write-behind 저장)
+ * 엔진 하나가 대기열 파티션 하나를 맡음 (파티션끼리는 락 / 대기 줄을 공유하지 않음)
+ */
+public class QueueEngine {
+
+    private static final int STRIPE_COUNT = 16; // 2의 거듭제곱
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPE_COUNT];
+    private final ReentrantLock activationLock = new ReentrantLock();
+
+    private final Map<String, QueueEntry> entriesByToken = new ConcurrentHashMap<>();
+    private final Map<Long, QueueEntry> entriesByUser = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, QueueEntry> waitingLine = new ConcurrentSkipListMap<>();
+    private final WaitingLineIndex waitingLineIndex = new WaitingLineIndex();
+    private final Map<String, QueueEntry> activeEntries = new ConcurrentHashMap<>(); // lease 만료 확인용
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger activeCount = new AtomicInteger();
+
+    private final String partitionKey;
+    private final long leaseMillis;
+    private final Consumer<QueueEntry> changeListener;
+
+    public QueueEngine(long leaseMillis, Consumer<QueueEntry> changeListener) {
+        this(Queue.DEFAULT_PARTITION, leaseMillis, changeListener);
+    }
+
+    public QueueEngine(String partitionKey, long leaseMillis, Consumer<QueueEntry> changeListener) {
+        this.partitionKey = partitionKey;
+        this.leaseMillis = leaseMillis;
+        this.changeListener = changeListener;
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 대기열 진입
+     * - 이미 살아있는 항목(ACTIVE / WAITING)이 있으면 그 항목을 그대로 반환 (재시도, 중복 클릭)
+     * - 빈 슬롯이 있으면 즉시 ACTIVE, 없으면 WAITING
+     *
+     * @return 새로 만든 항목이면 token이 같고, 기존 항목이면 기존 token
+     */
+    public QueueEntry enter(Long userId, String token, int maxActiveUsers) {
+        QueueEntry existing = entriesByUser.get(userId);
+        if (existing != null && !existing.isRemoved()) {
+            return existing;
+        }
+
+        ReentrantLock lock = stripeOf(userId);
+        lock.lock();
+        try {
+            existing = entriesByUser.get(userId);
+            if (existing != null) {
+                return existing;
+            }
+
+            long seq = sequence.incrementAndGet();
+            LocalDateTime now = LocalDateTime.now();
+            QueueEntry entry;
+
+            if (tryOccupySlot(maxActiveUsers)) {
+                entry = new QueueEntry(userId, partitionKey, token, seq, QueueStatus.ACTIVE, now, now, false);
+                grantLease(entry);
+            } else {
+                entry = new QueueEntry(userId, partitionKey, token, seq, QueueStatus.WAITING, now, null, false);
+                waitingLine.put(seq, entry);
+                waitingLineIndex.add(token, seq, 0L);
+            }
+
+            entriesByToken.put(token, entry);
+            entriesByUser.put(userId, entry);
+            changeListener.accept(entry);
+            return entry;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 토큰으로 항목 조회 (퇴장한 항목은 제외)
+     */
+    public QueueEntry find(String token) {
+        QueueEntry entry = entriesByToken.get(token);
+        return entry == null || entry.isRemoved() ? null : entry;
+    }
+
+    /**
+     * 현재 대기 순번 (1부터 시작, 대기 중이 아니면 0)
+     */
+    public int positionOf(QueueEntry entry) {
+        if (!entry.isWaiting()) {
+            return 0;
+        }
+        return waitingLineIndex.positionOf(entry.getToken());
+    }
+
+    /**
+     * 빈 슬롯만큼 대기 줄 앞에서부터 활성화
+     *
+     * @return 활성화된 항목 목록
+     */
+    public List<QueueEntry> activateNext(int maxActiveUsers) {
+        List<QueueEntry> activated = new ArrayList<>();
+
+        activationLock.lock();
+        try {
+            while (tryOccupySlot(maxActiveUsers)) {
+                Map.Entry<Long, QueueEntry> head = waitingLine.pollFirstEntry();
+                if (head == null) {
+                    activeCount.decrementAndGet();
+                    break;
+                }
+
+                QueueEntry entry = head.getValue();
+                waitingLineIndex.remove(entry.getToken());
+                ReentrantLock lock = stripeOf(entry.getUserId());
+                lock.lock();
+                try {
+                    // 꺼내는 사이 퇴장한 항목이면 슬롯 반납 후 다음 대기자로
+                    if (!entry.isWaiting()) {
+                        activeCount.decrementAndGet();
+                        continue;
+                    }
+                    entry.activate();
+                    grantLease(entry);
+                    changeListener.accept(entry);
+                    activated.add(entry);
+                } finally {
+                    lock.unlock();
+                }
+            }
+        } finally {
+            activationLock.unlock();
+        }
+        return activated;
+    }
+
+    /**
+     * 사용자의 WAITING 항목 삭제 (ACTIVE면 그대로 둠)
+     *
+     * @return 삭제된 항목, 없거나 WAITING이 아니면 null
+     */
+    public QueueEntry evictWaiting(Long userId) {
+        QueueEntry entry = entriesByUser.get(userId);
+        if (entry == null || !entry.isWaiting()) {
+            return null;
+        }
+
+        ReentrantLock lock = stripeOf(userId);
+        lock.lock();
+        try {
+            if (!entry.isWaiting()) {
+                return null;
+            }
+            entriesByUser.remove(userId, entry);
+            removeLocked(entry);
+            return entry;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 대기열 퇴장 (삭제)
+     *
+     * @return 삭제된 항목, 없으면 null
+     */
+    public QueueEntry exit(String token) {
+        QueueEntry entry = entriesByToken.get(token);
+        if (entry == null) {
+            return null;
+        }
+
+        ReentrantLock lock = stripeOf(entry.getUserId());
+        lock.lock();
+        try {
+            if (entry.isRemoved()) {
+                return null;
+            }
+            entriesByUser.remove(entry.getUserId(), entry);
+            removeLocked(entry);
+            return entry;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * ACTIVE 항목 만료 처리
+     *
+     * @return 실제로 ACTIVE -> EXPIRED 전환이 일어났는지 여부
+     */
+    public boolean expire(String token) {
+        QueueEntry entry = find(token);
+        if (entry == null) {
+            return false;
+        }
+
+        ReentrantLock lock = stripeOf(entry.getUserId());
+        lock.lock();
+        try {
+            if (!entry.isActive()) {
+                return false;
+            }
+            expireLocked(entry);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 입장 lease 연장 (본인 토큰이고 lease가 아직 살아있는 ACTIVE일 때만)
+     *
+     * @return 연장 여부
+     */
+    public boolean renewLease(String token, Long userId, long nowMillis) {
+        QueueEntry entry = find(token);
+        if (entry == null || !entry.getUserId().equals(userId)) {
+            return false;
+        }
+
+        ReentrantLock lock = stripeOf(userId);
+        lock.lock();
+        try {
+            if (!entry.isActive() || entry.getLeaseExpiresAtMillis() <= nowMillis) {
+                return false;
+            }
+            entry.renewLease(nowMillis + leaseMillis);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * lease가 지난 ACTIVE 항목 만료 처리 (ACTIVE 항목만 확인하므로 대기 인원과 무관)
+     *
+     * @return 만료 처리된 항목 목록
+     */
+    public List<QueueEntry> expireLapsed(long nowMillis) {
+        List<QueueEntry> lapsed = new ArrayList<>();
+        for (QueueEntry entry : activeEntries.values()) {
+            if (entry.getLeaseExpiresAtMillis() > nowMillis) {
+                continue;
+            }
+
+            ReentrantLock lock = stripeOf(entry.getUserId());
+            lock.lock();
+            try {
+                // 확인하는 사이 연장 / 퇴장했으면 건너뜀
+                if (entry.isActive() && entry.getLeaseExpiresAtMillis() <= nowMillis) {
+                    expireLocked(entry);
+                    lapsed.add(entry);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return lapsed;
+    }
+
+    /**
+     * DB에 저장되어 있던 항목 복원 (기동 시 재구성용, 진입 순서대로 호출해야 함)
+     */
+    public void restore(Long userId, String token, QueueStatus status, LocalDateTime enteredAt, LocalDateTime activatedAt) {
+        ReentrantLock lock = stripeOf(userId);
+        lock.lock();
+        try {
+            long seq = sequence.incrementAndGet();
+            QueueEntry entry = new QueueEntry(userId, partitionKey, token, seq, status, enteredAt, activatedAt, true);
+
+            if (status.isActive()) {
+                // 재기동 전 lease는 알 수 없으므로 새로 부여
+                activeCount.incrementAndGet();
+                grantLease(entry);
+            } else if (status.isWaiting()) {
+                waitingLine.put(seq, entry);
+                waitingLineIndex.add(token, seq, 0L);
+            }
+
+            entriesByToken.put(token, entry);
+            if (!status.isExpired()) {
+                entriesByUser.put(userId, entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 파티션 닫기 (회차 종료)
+     * - 남은 항목을 모두 퇴장 처리 -> listener(write-behind)가 DB 행을 배치로 삭제
+     *
+     * @return 닫을 때 ACTIVE였던 토큰 (입장권 회수 대상)
+     */
+    public List<String> close() {
+        List<String> activeTokens = new ArrayList<>();
+        for (QueueEntry entry : entriesByToken.values()) {
+            ReentrantLock lock = stripeOf(entry.getUserId());
+            lock.lock();
+            try {
+                if (entry.isRemoved()) {
+                    continue;
+                }
+                if (entry.isActive()) {
+                    activeTokens.add(entry.getToken());
+                }
+                entriesByUser.remove(entry.getUserId(), entry);
+                removeLocked(entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return activeTokens;
+    }
+
+    /**
+     * 엔진 전체 초기화 (회차 초기화)
+     */
+    public void clear() {
+        activationLock.lock();
+        try {
+            entriesByToken.clear();
+            entriesByUser.clear();
+            waitingLine.clear();
+            waitingLineIndex.clear();
+            activeEntries.clear();
+            activeCount.set(0);
+        } finally {
+            activationLock.unlock();
+        }
+    }
+
+    public String getPartitionKey() {
+        return partitionKey;
+    }
+
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    /**
+     * stripe 락을 잡은 상태에서 호출
+     */
+    private void removeLocked(QueueEntry entry) {
+        entriesByToken.remove(entry.getToken(), entry);
+        if (entry.isWaiting()) {
+            waitingLine.remove(entry.getSequence(), entry);
+            waitingLineIndex.remove(entry.getToken());
+        } else if (entry.isActive()) {
+            activeCount.decrementAndGet();
+            activeEntries.remove(entry.getToken(), entry);
+        }
+        entry.remove();
+        changeListener.accept(entry);
+    }
+
+    /**
+     * stripe 락을 잡은 상태에서 호출
+     */
+    private void expireLocked(QueueEntry entry) {
+        entry.expire();
+        activeCount.decrementAndGet();
+        activeEntries.remove(entry.getToken(), entry);
+        entriesByUser.remove(entry.getUserId(), entry);
+        changeListener.accept(entry);
+    }
+
+    /**
+     * ACTIVE가 된 항목에 새 lease 부여 (stripe 락을 잡은 상태에서 호출)
+     */
+    private void grantLease(QueueEntry entry) {
+        entry.renewLease(System.currentTimeMillis() + leaseMillis);
+        activeEntries.put(entry.getToken(), entry);
+    }
+
+    /**
+     * 활성 슬롯 하나 점유 시도 (CAS)
+     */
+    private boolean tryOccupySlot(int maxActiveUsers) {
+        while (true) {
+            int current = activeCount.get();
+            if (current >= maxActiveUsers) {
+                return false;
+            }
+            if (activeCount.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private ReentrantLock stripeOf(Long userId) {
+        int hash = Long.hashCode(userId);
+        hash ^= (hash >>> 16);
+        return stripes[hash & (STRIPE_COUNT - 1)];
+    }
+}
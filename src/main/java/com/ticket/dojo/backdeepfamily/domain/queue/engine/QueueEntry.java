@@ -0,0 +1,84 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.engine;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.QueueStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인메모리 대기열 엔진의 대기열 항목
+ *
+ * - 상태 변경은 QueueEngine이 사용자별 stripe 락을 잡은 상태에서만 수행
+ * - 조회는 락 없이 volatile 필드로 읽음
+ */
+@Getter
+public class QueueEntry {
+
+    private final Long userId;
+    private final String partitionKey;      // 대기열 파티션
+    private final String token;
+    private final long sequence;            // 엔진 내부 진입 순번 (대기 순서 기준)
+    private final LocalDateTime enteredAt;  // 진입 시간
+
+    private volatile QueueStatus status;
+    private volatile LocalDateTime activatedAt;
+    private volatile boolean removed;       // 퇴장(삭제) 여부
+    private volatile boolean persisted;     // DB 반영 여부 (write-behind)
+    private volatile long leaseExpiresAtMillis; // 입장 lease 만료 시각 (ACTIVE일 때만 의미 있음)
+
+    QueueEntry(Long userId, String partitionKey, String token, long sequence, QueueStatus status,
+               LocalDateTime enteredAt, LocalDateTime activatedAt, boolean persisted) {
+        this.userId = userId;
+        this.partitionKey = partitionKey;
+        this.token = token;
+        this.sequence = sequence;
+        this.status = status;
+        this.enteredAt = enteredAt;
+        this.activatedAt = activatedAt;
+        this.persisted = persisted;
+    }
+
+    void activate() {
+        validateStateTransition(QueueStatus.ACTIVE);
+        this.status = QueueStatus.ACTIVE;
+        this.activatedAt = LocalDateTime.now();
+    }
+
+    void expire() {
+        validateStateTransition(QueueStatus.EXPIRED);
+        this.status = QueueStatus.EXPIRED;
+    }
+
+    void remove() {
+        this.removed = true;
+    }
+
+    void renewLease(long leaseExpiresAtMillis) {
+        this.leaseExpiresAtMillis = leaseExpiresAtMillis;
+    }
+
+    /**
+     * write-behind 저장이 끝난 뒤 호출
+     */
+    public void markPersisted() {
+        this.persisted = true;
+    }
+
+    public boolean isWaiting() {
+        return !removed && status.isWaiting();
+    }
+
+    public boolean isActive() {
+        return !removed && status.isActive();
+    }
+
+    private void validateStateTransition(QueueStatus targetStatus) {
+        if (!this.status.canTransitionTo(targetStatus)) {
+            throw new IllegalStateException(
+                    String.format("현재 상태(%s)에서 %s 상태로 전환할 수 없습니다",
+                            this.status.getDescription(),
+                            targetStatus.getDescription())
+            );
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.engine;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * Redis 대기열 키 / Lua 스크립트 모음
+ *
+ * 키 구조 (모든 키가 같은 hash slot에 들어가도록 {queue} 해시 태그 사용):
+ * - waiting : ZSET (token -> 진입 순번)
+ * - active  : ZSET (token -> 입장 lease 만료 시각 ms), heartbeat로 연장하되 활성화 후 active-ttl-ms를 넘지 않음
+ *             lease가 지난 토큰은 슬롯을 차지하지 않고, expire_lapsed 스크립트가 EXPIRED로 정리
+ * - entries : HASH (token -> "userId|status|enteredAtMillis|activatedAtMillis", 활성화 전 activatedAt은 0)
+ * - users   : HASH (userId -> 살아있는 token)
+ * - seq     : 진입 순번 발급용 INCR 카운터
+ * - closed-round : 마지막으로 닫은 회차 (회차 전환을 여러 서버가 호출해도 한 번만 닫도록), 대기열 초기화(ALL_KEYS) 대상이 아님
+ * - capacity:leases / capacity:expiry : 노드별 ACTIVE 슬롯 lease (HASH nodeId -> 슬롯 수, ZSET nodeId -> 만료 시각 ms)
+ *   대기열 초기화(ALL_KEYS) 대상이 아님
+ *
+ * 상태가 바뀌는 연산은 모두 Lua 스크립트로 실행하여 여러 서버가 같은 대기열을 원자적으로 공유
+ */
+public final class QueueRedisScripts {
+
+    public static final String WAITING_KEY = "{queue}:waiting";
+    public static final String ACTIVE_KEY = "{queue}:active";
+    public static final String ENTRIES_KEY = "{queue}:entries";
+    public static final String USERS_KEY = "{queue}:users";
+    public static final String SEQUENCE_KEY = "{queue}:seq";
+    public static final String CLOSED_ROUND_KEY = "{queue}:closed-round";
+
+    public static final String CAPACITY_LEASES_KEY = "{queue}:capacity:leases";
+    public static final String CAPACITY_EXPIRY_KEY = "{queue}:capacity:expiry";
+
+    public static final List<String> ALL_KEYS = List.of(WAITING_KEY, ACTIVE_KEY, ENTRIES_KEY, USERS_KEY, SEQUENCE_KEY);
+
+    @SuppressWarnings("rawtypes")
+    public static final RedisScript<List> ENTER = load("enter", List.class);
+
+    @SuppressWarnings("rawtypes")
+    public static final RedisScript<List> ACTIVATE = load("activate", List.class);
+
+    @SuppressWarnings("rawtypes")
+    public static final RedisScript<List> STATUS = load("status", List.class);
+
+    public static final RedisScript<String> EXIT = load("exit", String.class);
+
+    public static final RedisScript<Long> EXPIRE = load("expire", Long.class);
+
+    public static final RedisScript<Long> EVICT_WAITING = load("evict_waiting", Long.class);
+
+    public static final RedisScript<Long> RENEW_LEASE = load("renew_lease", Long.class);
+
+    @SuppressWarnings("rawtypes")
+    public static final RedisScript<List> EXPIRE_LAPSED = load("expire_lapsed", List.class);
+
+    public static final RedisScript<Long> CLOSE_ROUND = load("close_round", Long.class);
+
+    public static final RedisScript<Long> CAPACITY_RESIZE = load("capacity_resize", Long.class);
+
+    public static final RedisScript<Long> CAPACITY_RELEASE = load("capacity_release", Long.class);
+
+    private QueueRedisScripts() {
+        // Utility class - 인스턴스 생성 방지
+    }
+
+    private static <T> RedisScript<T> load(String name, Class<T> resultType) {
+        return RedisScript.of(new ClassPathResource("redis/queue/" + name + ".lua"), resultType);
+    }
+}
@@ -0,0 +1,292 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.engine;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.QueueStatus;
+import com.ticket.dojo.backdeepfamily.domain.queue.repository.QueueRepository;
+import com.ticket.dojo.backdeepfamily.global.util.buffer.MpscRingBuffer;
+import com.ticket.dojo.backdeepfamily.global.util.transaction.TransactionUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 인메모리 대기열 엔진의 비동기 DB 저장 (write-behind)
+ *
+ * - 엔진에서 상태가 바뀐 항목을 MPSC 링 버퍼에 넣고 바로 반환 (요청 스레드는 락 / 트랜잭션 없음)
+ * - 전용 writer 스레드 하나가 버퍼를 꺼내 한 트랜잭션에서 INSERT / 상태 UPDATE / DELETE를 일괄 반영 (group commit)
+ *   -> 반영하는 동안 쌓인 변경은 다음 배치로 묶이므로 폭주할수록 배치가 커짐
+ * - 같은 배치 안의 같은 토큰 변경은 합쳐짐, 새 항목은 JDBC batch insert (rewriteBatchedStatements로 multi-row INSERT)
+ * - 버퍼가 가득 차면 overflow 큐로 넘겨 요청 스레드를 막지 않음
+ *   overflow가 queue.write-behind.overflow-limit을 넘으면 isSaturated() -> 새 진입만 거절 (상태 변경은 계속 받음)
+ *
+ * 저장 실패 시
+ * - 연결 실패 / 락 타임아웃처럼 일시적인 실패는 배치 그대로 다음 배치에 재시도
+ * - 그 외 실패는 배치를 반씩 나눠 각각 반영 -> 문제 있는 항목만 남기고 나머지는 저장
+ * - 혼자서도 실패한 항목은 다음 배치에 재시도, queue.write-behind.max-attempts번 실패하면
+ *   에러 로그와 queue.write-behind.dead-letter 카운터로 남기고 버림 (뒤 배치를 계속 막지 않도록)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "queue.engine", havingValue = "memory")
+public class QueueWriteBehind {
+
+    public static final String PENDING_METRIC = "queue.write-behind.pending";
+    public static final String BATCH_METRIC = "queue.write-behind.batch";
+    public static final String DEAD_LETTER_METRIC = "queue.write-behind.dead-letter";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO queue (user_id, token, partition_key, status, entered_at, activated_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final QueueRepository queueRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MpscRingBuffer<QueueEntry> buffer;
+    private final ConcurrentLinkedQueue<QueueEntry> overflow = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger overflowSize = new AtomicInteger();
+    private final DistributionSummary batchSummary;
+    private final Counter deadLetters;
+    private final int batchSize;
+    private final long idleNanos;
+    private final int maxAttempts;
+    private final int overflowLimit;
+
+    // 반영에 실패해 다음 배치로 넘길 항목 (writer 전용)
+    private final Map<String, QueueEntry> retryEntries = new LinkedHashMap<>();
+
+    // 토큰 -> 혼자 반영해도 실패한 횟수 (writer 전용, 반영되거나 버려지면 제거)
+    private final Map<String, Integer> failedAttempts = new HashMap<>();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public QueueWriteBehind(QueueRepository queueRepository, JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+                            @Value("${queue.write-behind.buffer-size:65536}") int bufferSize,
+                            @Value("${queue.write-behind.batch-size:1000}") int batchSize,
+                            @Value("${queue.write-behind.interval-ms:200}") long idleMillis,
+                            @Value("${queue.write-behind.max-attempts:5}") int maxAttempts,
+                            @Value("${queue.write-behind.overflow-limit:200000}") int overflowLimit) {
+        this.queueRepository = queueRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.buffer = new MpscRingBuffer<>(bufferSize);
+        this.batchSize = batchSize;
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMillis);
+        this.maxAttempts = maxAttempts;
+        this.overflowLimit = overflowLimit;
+        this.batchSummary = DistributionSummary.builder(BATCH_METRIC)
+                .description("write-behind 한 번에 반영한 항목 수")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder(PENDING_METRIC, this, QueueWriteBehind::getPendingCount)
+                .description("아직 DB에 반영되지 않은 대기열 변경 수")
+                .register(meterRegistry);
+        this.deadLetters = Counter.builder(DEAD_LETTER_METRIC)
+                .description("반영을 포기하고 버린 대기열 변경 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::runWriter, "queue-write-behind");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        flush(); // 남은 변경 반영
+    }
+
+    /**
+     * 변경된 항목 등록 (엔진 listener)
+     */
+    public void markDirty(QueueEntry entry) {
+        if (!buffer.offer(entry)) {
+            overflow.add(entry);
+            overflowSize.incrementAndGet();
+        }
+    }
+
+    /**
+     * DB 반영이 밀려 overflow가 한도에 닿았는지 (새 진입 거절 기준)
+     */
+    public boolean isSaturated() {
+        return overflowSize.get() >= overflowLimit;
+    }
+
+    /**
+     * 아직 반영되지 않은 변경 폐기 (회차 초기화 시)
+     */
+    public synchronized void discardPending() {
+        buffer.drain(entry -> { }, Integer.MAX_VALUE);
+        while (overflow.poll() != null) {
+            overflowSize.decrementAndGet();
+        }
+        retryEntries.clear();
+        failedAttempts.clear();
+    }
+
+    public int getPendingCount() {
+        return buffer.size() + overflowSize.get() + retryEntries.size();
+    }
+
+    /**
+     * 쌓인 변경을 최대 batch-size만큼 한 트랜잭션으로 반영
+     *
+     * @return 반영한 항목 수 (모두 실패하면 0)
+     */
+    public synchronized int flush() {
+        Map<String, QueueEntry> batch = new LinkedHashMap<>(retryEntries);
+        retryEntries.clear();
+
+        QueueEntry overflowed;
+        while (batch.size() < batchSize && (overflowed = overflow.poll()) != null) {
+            overflowSize.decrementAndGet();
+            batch.put(overflowed.getToken(), overflowed);
+        }
+        buffer.drain(entry -> batch.put(entry.getToken(), entry), batchSize - batch.size());
+
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        int written = writeIsolating(new ArrayList<>(batch.values()));
+        if (written > 0) {
+            batchSummary.record(written);
+            log.debug("대기열 write-behind 반영 완료 - {}건 / {}건", written, batch.size());
+        }
+        return written;
+    }
+
+    /**
+     * 한 트랜잭션으로 반영, 일시적이지 않은 실패면 반씩 나눠 다시 반영
+     *
+     * @return 반영한 항목 수
+     */
+    private int writeIsolating(List<QueueEntry> entries) {
+        try {
+            List<QueueEntry> inserted = transactionTemplate.execute(status -> write(entries));
+            inserted.forEach(QueueEntry::markPersisted);
+            if (!failedAttempts.isEmpty()) {
+                entries.forEach(entry -> failedAttempts.remove(entry.getToken()));
+            }
+            return entries.size();
+        } catch (Exception e) {
+            if (TransactionUtil.isTransient(e)) {
+                log.warn("대기열 write-behind 반영 실패 (일시적), 다음 배치에 재시도 - {}건: {}", entries.size(), e.getMessage());
+                entries.forEach(this::retry);
+                return 0;
+            }
+            if (entries.size() > 1) {
+                int half = entries.size() / 2;
+                return writeIsolating(entries.subList(0, half)) + writeIsolating(entries.subList(half, entries.size()));
+            }
+
+            QueueEntry entry = entries.get(0);
+            int attempts = failedAttempts.merge(entry.getToken(), 1, Integer::sum);
+            if (attempts < maxAttempts) {
+                log.error("대기열 write-behind 반영 실패, 다음 배치에 재시도 ({}/{}) - token: {}: {}",
+                        attempts, maxAttempts, entry.getToken(), e.getMessage());
+                retry(entry);
+                return 0;
+            }
+
+            failedAttempts.remove(entry.getToken());
+            deadLetters.increment();
+            log.error("대기열 write-behind 반영 포기 (dead letter) - token: {}, userId: {}, partition: {}, status: {}, removed: {}, persisted: {}",
+                    entry.getToken(), entry.getUserId(), entry.getPartitionKey(), entry.getStatus(),
+                    entry.isRemoved(), entry.isPersisted(), e);
+            return 0;
+        }
+    }
+
+    private void retry(QueueEntry entry) {
+        retryEntries.putIfAbsent(entry.getToken(), entry);
+    }
+
+    private void runWriter() {
+        while (running) {
+            try {
+                if (flush() == 0) {
+                    LockSupport.parkNanos(idleNanos);
+                }
+            } catch (Exception e) {
+                log.error("대기열 write-behind writer 오류", e);
+                LockSupport.parkNanos(idleNanos);
+            }
+        }
+    }
+
+    private List<QueueEntry> write(List<QueueEntry> batch) {
+        List<QueueEntry> inserted = new ArrayList<>();
+        List<String> deletedTokens = new ArrayList<>();
+        Map<QueueStatus, List<String>> tokensByStatus = new EnumMap<>(QueueStatus.class);
+
+        for (QueueEntry entry : batch) {
+            if (entry.isRemoved()) {
+                if (entry.isPersisted()) {
+                    deletedTokens.add(entry.getToken());
+                }
+                continue;
+            }
+
+            if (!entry.isPersisted()) {
+                inserted.add(entry);
+                continue;
+            }
+
+            tokensByStatus.computeIfAbsent(entry.getStatus(), status -> new ArrayList<>()).add(entry.getToken());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+
+        if (!inserted.isEmpty()) {
+            // 엔티티를 거치지 않고 JDBC batch insert (IDENTITY 키라 JPA saveAll은 한 행씩 INSERT)
+            Timestamp updatedAt = Timestamp.valueOf(now);
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserted, inserted.size(), (ps, entry) -> {
+                ps.setLong(1, entry.getUserId());
+                ps.setString(2, entry.getToken());
+                ps.setString(3, entry.getPartitionKey());
+                ps.setString(4, entry.getStatus().name());
+                ps.setTimestamp(5, Timestamp.valueOf(entry.getEnteredAt()));
+                ps.setTimestamp(6, entry.getActivatedAt() == null ? null : Timestamp.valueOf(entry.getActivatedAt()));
+                ps.setTimestamp(7, updatedAt);
+            });
+        }
+        if (!deletedTokens.isEmpty()) {
+            queueRepository.deleteByTokenValueIn(deletedTokens);
+        }
+
+        tokensByStatus.forEach((status, tokens) -> queueRepository.updateStatusByTokenValueIn(status, now, tokens));
+
+        return inserted;
+    }
+}
@@ -0,0 +1,223 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.engine;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 대기 순번 인덱스 (order-statistic treap)
+ *
+ * - 대기 중인 토큰을 (진입 시간, id) 순으로 정렬해 보관하고 서브트리 크기를 함께 유지
+ * - 순번 조회 / 추가 / 삭제 모두 O(log n) -> 상태 조회마다 COUNT 쿼리를 날리지 않아도 됨
+ * - 진입 시간이 같아도 id(그래도 같으면 토큰)로 순서가 갈리므로 같은 순번이 두 번 나오지 않음
+ */
+public class WaitingLineIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Node> nodesByToken = new HashMap<>();
+    private Node root;
+
+    /**
+     * 대기 토큰 추가 (이미 있으면 새 키로 교체)
+     */
+    public void add(String token, LocalDateTime enteredAt, long id) {
+        add(token, toEpochMicros(enteredAt), id);
+    }
+
+    public void add(String token, long primaryKey, long secondaryKey) {
+        Node node = new Node(token, primaryKey, secondaryKey, ThreadLocalRandom.current().nextInt());
+
+        lock.writeLock().lock();
+        try {
+            Node existing = nodesByToken.put(token, node);
+            if (existing != null) {
+                root = delete(root, existing);
+            }
+            Node[] parts = split(root, node);
+            root = merge(merge(parts[0], node), parts[1]);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 대기 토큰 삭제 (활성화 / 퇴장 / 만료)
+     *
+     * @return 인덱스에 있었는지 여부
+     */
+    public boolean remove(String token) {
+        lock.writeLock().lock();
+        try {
+            Node node = nodesByToken.remove(token);
+            if (node == null) {
+                return false;
+            }
+            root = delete(root, node);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 대기 순번 (1부터 시작)
+     *
+     * @return 인덱스에 없으면 0
+     */
+    public int positionOf(String token) {
+        lock.readLock().lock();
+        try {
+            Node target = nodesByToken.get(token);
+            if (target == null) {
+                return 0;
+            }
+
+            int ahead = 0;
+            Node current = root;
+            while (current != null) {
+                int cmp = compare(target, current);
+                if (cmp < 0) {
+                    current = current.left;
+                } else if (cmp > 0) {
+                    ahead += sizeOf(current.left) + 1;
+                    current = current.right;
+                } else {
+                    ahead += sizeOf(current.left);
+                    break;
+                }
+            }
+            return ahead + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(String token) {
+        lock.readLock().lock();
+        try {
+            return nodesByToken.containsKey(token);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return sizeOf(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            nodesByToken.clear();
+            root = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * t를 (pivot보다 작은 노드들, pivot보다 큰 노드들)로 분리
+     */
+    private Node[] split(Node t, Node pivot) {
+        if (t == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(t, pivot) < 0) {
+            Node[] parts = split(t.right, pivot);
+            t.right = parts[0];
+            update(t);
+            return new Node[]{t, parts[1]};
+        }
+        Node[] parts = split(t.left, pivot);
+        t.left = parts[1];
+        update(t);
+        return new Node[]{parts[0], t};
+    }
+
+    /**
+     * a의 모든 키 < b의 모든 키일 때 두 트리 병합
+     */
+    private Node merge(Node a, Node b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            update(a);
+            return a;
+        }
+        b.left = merge(a, b.left);
+        update(b);
+        return b;
+    }
+
+    private Node delete(Node t, Node target) {
+        if (t == null) {
+            return null;
+        }
+        int cmp = compare(target, t);
+        if (cmp == 0) {
+            return merge(t.left, t.right);
+        }
+        if (cmp < 0) {
+            t.left = delete(t.left, target);
+        } else {
+            t.right = delete(t.right, target);
+        }
+        update(t);
+        return t;
+    }
+
+    private static int compare(Node a, Node b) {
+        int cmp = Long.compare(a.primaryKey, b.primaryKey);
+        if (cmp != 0) {
+            return cmp;
+        }
+        cmp = Long.compare(a.secondaryKey, b.secondaryKey);
+        if (cmp != 0) {
+            return cmp;
+        }
+        return a.token.compareTo(b.token);
+    }
+
+    private static void update(Node node) {
+        node.size = sizeOf(node.left) + sizeOf(node.right) + 1;
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), dateTime);
+    }
+
+    private static final class Node {
+        private final String token;
+        private final long primaryKey;
+        private final long secondaryKey;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(String token, long primaryKey, long secondaryKey, int priority) {
+            this.token = token;
+            this.primaryKey = primaryKey;
+            this.secondaryKey = secondaryKey;
+            this.priority = priority;
+        }
+    }
+}
@@ -7,13 +7,21 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "queue")
+@Table(name = "queue", indexes = {
+        @Index(name = "idx_queue_partition_status_entered", columnList = "partition_key, status, entered_at, id"),
+        @Index(name = "idx_queue_status_lease", columnList = "status, lease_expires_at")
+})
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Queue {
 
+    // 파티션을 지정하지 않은 진입이 들어가는 기본 대기열
+    public static final String DEFAULT_PARTITION = "default";
+    private static final String ROUND_PARTITION_PREFIX = "round-";
+    private static final int PARTITION_KEY_MAX_LENGTH = 64;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -25,6 +33,9 @@ public class Queue {
     @Embedded
     private Token token;
 
+    @Column(nullable = false, length = PARTITION_KEY_MAX_LENGTH)
+    private String partitionKey; // 대기열 파티션 (회차 / 이벤트 ID), 파티션마다 한도와 순서가 따로
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private QueueStatus status; // 큐 상태
@@ -36,27 +47,85 @@ public class Queue {
 
     private LocalDateTime activatedAt; // ACTIVE 상태로 변경된 시간
 
+    private LocalDateTime leaseExpiresAt; // 입장 lease 만료 시간 (ACTIVE일 때만, heartbeat로 연장)
+
+    @Column(length = 64)
+    private String activatedBy; // 활성화한 노드 ID (여러 노드가 한도를 나눠 쓸 때만, permit 보정 기준)
+
     @Column(nullable = false)
     private LocalDateTime updatedAt; // 마지막 업데이트 시간
 
     @Builder(access = AccessLevel.PRIVATE)
-    private Queue(User user, Token token, QueueStatus status, LocalDateTime enteredAt, LocalDateTime activatedAt, LocalDateTime updatedAt){
+    private Queue(User user, Token token, String partitionKey, QueueStatus status, LocalDateTime enteredAt, LocalDateTime activatedAt, LocalDateTime updatedAt){
         this.user = user;
         this.token = token;
+        this.partitionKey = partitionKey;
         this.status = status;
         this.enteredAt = enteredAt;
         this.activatedAt = activatedAt;
         this.updatedAt = updatedAt;
     }
 
+    /**
+     * 요청받은 파티션 키 정리 (없으면 기본 파티션)
+     */
+    public static String normalizePartition(String partitionKey) {
+        if (partitionKey == null || partitionKey.isBlank()) {
+            return DEFAULT_PARTITION;
+        }
+        String trimmed = partitionKey.trim();
+        if (trimmed.length() > PARTITION_KEY_MAX_LENGTH) {
+            throw new IllegalArgumentException("대기열 파티션 키는 " + PARTITION_KEY_MAX_LENGTH + "자를 넘을 수 없습니다.");
+        }
+        return trimmed;
+    }
+
+    /**
+     * 회차 대기열 파티션 키 ("round-{회차}")
+     */
+    public static String roundPartition(long sequenceNum) {
+        return ROUND_PARTITION_PREFIX + sequenceNum;
+    }
+
+    /**
+     * 파티션 키의 회차 (회차 파티션이 아니면 null)
+     */
+    public static Long roundOf(String partitionKey) {
+        if (partitionKey == null || !partitionKey.startsWith(ROUND_PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(partitionKey.substring(ROUND_PARTITION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 회차 sequenceNum이 시작될 때 닫히는 파티션인지 (기본 파티션, 지난 회차 파티션)
+     * 다음 회차 파티션과 회차가 아닌 파티션은 유지
+     */
+    public static boolean closesAtRound(String partitionKey, long sequenceNum) {
+        if (DEFAULT_PARTITION.equals(partitionKey)) {
+            return true;
+        }
+        Long round = roundOf(partitionKey);
+        return round != null && round < sequenceNum;
+    }
+
     /**
      * 즉시 활성화된 대기열 생성
      */
     public static Queue createActive(User user) {
+        return createActive(user, DEFAULT_PARTITION);
+    }
+
+    public static Queue createActive(User user, String partitionKey) {
         LocalDateTime now = LocalDateTime.now();
         return Queue.builder()
                 .user(user)
                 .token(Token.generate())
+                .partitionKey(partitionKey)
                 .status(QueueStatus.ACTIVE)
                 .enteredAt(now)
                 .activatedAt(now)
@@ -68,16 +137,35 @@ public class Queue {
      * 대기 상태의 대기열 생성
      */
     public static Queue createWaiting(User user) {
+        return createWaiting(user, DEFAULT_PARTITION);
+    }
+
+    public static Queue createWaiting(User user, String partitionKey) {
         LocalDateTime now = LocalDateTime.now();
         return Queue.builder()
                 .user(user)
                 .token(Token.generate())
+                .partitionKey(partitionKey)
                 .status(QueueStatus.WAITING)
                 .enteredAt(now)
                 .updatedAt(now)
                 .build();
     }
 
+    /**
+     * 활성화한 노드 기록 (lease를 쓰지 않으면 null)
+     */
+    public void markActivatedBy(String nodeId) {
+        this.activatedBy = nodeId;
+    }
+
+    /**
+     * 입장 lease 부여 / 연장
+     */
+    public void renewLease(LocalDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
     /**
      * 대기열 활성화
      */
@@ -151,6 +239,9 @@ public class Queue {
         if (this.status == null) {
             this.status = QueueStatus.WAITING;
         }
+        if (this.partitionKey == null) {
+            this.partitionKey = DEFAULT_PARTITION;
+        }
     }
 
     @PreUpdate
@@ -7,6 +7,8 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.util.UUID;
 
 @Embeddable
@@ -15,6 +17,16 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Token {
 
+    // UUID.randomUUID()는 JVM 전체가 SecureRandom 하나를 공유하므로 진입 폭주 시 경합
+    // -> 스레드마다 DRBG 인스턴스를 따로 두고 UUID v4 비트만 맞춰서 생성
+    private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(() -> {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    });
+
     @Column(name = "token", unique = true, nullable = false)
     private String value;
 
@@ -24,7 +36,18 @@ public class Token {
     }
 
     public static Token generate(){
-        return new Token(UUID.randomUUID().toString());
+        byte[] bytes = new byte[16];
+        RANDOM.get().nextBytes(bytes);
+        bytes[6] = (byte) ((bytes[6] & 0x0f) | 0x40); // version 4
+        bytes[8] = (byte) ((bytes[8] & 0x3f) | 0x80); // IETF variant
+
+        long mostSigBits = 0;
+        long leastSigBits = 0;
+        for (int i = 0; i < 8; i++) {
+            mostSigBits = (mostSigBits << 8) | (bytes[i] & 0xff);
+            leastSigBits = (leastSigBits << 8) | (bytes[i + 8] & 0xff);
+        }
+        return new Token(new UUID(mostSigBits, leastSigBits).toString());
     }
 
     public static Token of(String value){
@@ -0,0 +1,17 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 대기자 활성화 이벤트 (activateNextInQueue로 WAITING -> ACTIVE 전환)
+ * 커밋 이후 QueueStatusBroadcaster가 구독자에게 즉시 ACTIVATED 전송
+ */
+@Getter
+@AllArgsConstructor
+public class QueueActivatedEvent {
+
+    private final List<String> tokens; // 활성화된 토큰 목록
+}
@@ -0,0 +1,27 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 입장권 회수 이벤트 (ACTIVE 퇴장 / 결제 완료 만료 / lease 만료 / 회차 초기화)
+ * 커밋 이후 AdmissionTicketVerifier가 받아서 해당 토큰의 입장권을 TTL 전이라도 거부
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class QueueAdmissionRevokedEvent {
+
+    private final List<String> tokens; // 입장권이 회수된 토큰 목록
+    private final boolean all; // 회차 초기화로 지금까지 ACTIVE가 된 입장권 전부 회수
+
+    public static QueueAdmissionRevokedEvent of(List<String> tokens) {
+        return new QueueAdmissionRevokedEvent(tokens, false);
+    }
+
+    public static QueueAdmissionRevokedEvent all() {
+        return new QueueAdmissionRevokedEvent(List.of(), true);
+    }
+}
@@ -0,0 +1,21 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.event;
+
+import lombok.Getter;
+
+/**
+ * ACTIVE 슬롯 반납 이벤트 (퇴장 / 결제 진입)
+ * 커밋 이후 QueueScheduler가 모아서 한 번에 활성화 (슬롯이 반납된 파티션만)
+ */
+@Getter
+public class QueueSlotReleasedEvent {
+
+    private final String token; // 슬롯을 반납한 토큰
+    private final String partitionKey; // 슬롯이 반납된 파티션
+    private final long releasedAtNanos; // 반납 시각 (활성화 지연 측정용, System.nanoTime)
+
+    public QueueSlotReleasedEvent(String token, String partitionKey) {
+        this.token = token;
+        this.partitionKey = partitionKey;
+        this.releasedAtNanos = System.nanoTime();
+    }
+}
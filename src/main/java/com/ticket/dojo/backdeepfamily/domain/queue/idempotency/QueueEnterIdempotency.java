@@ -0,0 +1,101 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.idempotency;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.dto.response.QueueEnterResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 대기열 진입 Idempotency-Key 처리
+ *
+ * - 타임아웃 후 재시도하는 클라이언트가 같은 키를 보내면 처음 응답을 그대로 반환
+ * - 처리 중에 같은 키로 들어온 요청은 새로 진입하지 않고 처음 요청의 결과를 기다림
+ * - 실패한 요청은 기록하지 않음 (같은 키로 다시 시도 가능)
+ */
+@Slf4j
+@Component
+public class QueueEnterIdempotency {
+
+    public static final String HEADER = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final long ttlMillis;
+
+    // (사용자, 키) -> 처음 요청의 결과
+    private final Map<String, Recorded> recorded = new ConcurrentHashMap<>();
+
+    public QueueEnterIdempotency(@Value("${queue.enter.idempotency-ttl-ms:600000}") long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 키가 없으면 그냥 실행, 있으면 키별로 한 번만 실행
+     */
+    public QueueEnterResponse execute(Long userId, String idempotencyKey, Supplier<QueueEnterResponse> enter) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return enter.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(HEADER + "는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String key = userId + ":" + idempotencyKey;
+        Recorded created = new Recorded(System.currentTimeMillis() + ttlMillis);
+        Recorded existing = recorded.putIfAbsent(key, created);
+
+        if (existing != null) {
+            log.info("대기열 진입 재시도 - 기존 응답 반환, userId: {}, key: {}", userId, idempotencyKey);
+            return join(existing.response);
+        }
+
+        try {
+            QueueEnterResponse response = enter.get();
+            created.response.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            recorded.remove(key, created);
+            created.response.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public int getRecordedCount() {
+        return recorded.size();
+    }
+
+    /**
+     * 보관 기간이 지난 응답 정리
+     */
+    @Scheduled(fixedDelayString = "${queue.enter.idempotency-sweep-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        recorded.values().removeIf(entry -> entry.expiresAtMillis <= now);
+    }
+
+    private QueueEnterResponse join(CompletableFuture<QueueEnterResponse> response) {
+        try {
+            return response.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Recorded {
+        private final CompletableFuture<QueueEnterResponse> response = new CompletableFuture<>();
+        private final long expiresAtMillis;
+
+        private Recorded(long expiresAtMillis) {
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
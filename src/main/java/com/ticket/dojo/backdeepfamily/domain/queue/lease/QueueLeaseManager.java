@@ -0,0 +1,151 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.lease;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.event.QueueActivatedEvent;
+import com.ticket.dojo.backdeepfamily.domain.queue.event.QueueAdmissionRevokedEvent;
+import com.ticket.dojo.backdeepfamily.domain.queue.service.QueueService;
+import com.ticket.dojo.backdeepfamily.global.util.timer.TimingWheel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * ACTIVE 입장 lease 관리
+ *
+ * - ACTIVE가 되면 queue.lease.ttl-ms 길이의 lease 부여 (기동 시 재구성된 ACTIVE 포함)
+ * - heartbeat(POST /queue/heartbeat)나 티켓팅 소켓 메시지가 오면 연장 (본인 토큰만)
+ * - 연장 없이 lease가 지나면 만료 처리 -> 슬롯 반납 후 다음 대기자 활성화
+ *
+ * lease 만료 시각은 대기열 구현체 상태와 함께 저장 (basic: queue 행, memory: 엔진 항목, redis: ACTIVE ZSET score)
+ * 활성화를 처리한 서버와 heartbeat를 받은 서버가 달라도 같은 lease를 연장 / 만료
+ *
+ * 만료 시점은 이 서버의 타이밍 휠로 판단 (활성화 / 연장 시 등록, 퇴장 / 회수 시 취소)
+ * - tick마다 지난 칸만 확인하고, 만료 시각이 된 토큰만 대기열 구현체에 조건부 확인 (lease가 지났을 때만 만료)
+ * - 다른 서버에서 연장된 토큰은 건너뜀 (연장을 받은 서버의 휠에 등록되어 있음)
+ * - 휠에 없는 lease(다른 서버가 활성화한 뒤 그 서버가 내려간 경우, 재기동 전 ACTIVE)는
+ *   queue.lease.sweep-interval-ms마다 전체 확인으로 정리
+ *
+ * 페이지를 떠난 사용자가 회차 초기화 전까지 슬롯을 붙잡고 있지 않도록 하는 용도
+ */
+@Slf4j
+@Component
+public class QueueLeaseManager {
+
+    private static final int WHEEL_SIZE = 512;
+
+    private final QueueService queueService;
+    private final long leaseMillis;
+    private final long sweepIntervalMillis;
+    private final TimingWheel<String> wheel;
+
+    private long lastSweepMillis;
+
+    public QueueLeaseManager(QueueService queueService,
+                             @Value("${queue.lease.ttl-ms:30000}") long leaseMillis,
+                             @Value("${queue.lease.tick-ms:1000}") long tickMillis,
+                             @Value("${queue.lease.sweep-interval-ms:30000}") long sweepIntervalMillis) {
+        this.queueService = queueService;
+        this.leaseMillis = leaseMillis;
+        this.sweepIntervalMillis = sweepIntervalMillis;
+        this.wheel = new TimingWheel<>(tickMillis, WHEEL_SIZE, System.currentTimeMillis());
+    }
+
+    /**
+     * lease 연장
+     *
+     * @return lease가 있었는지 여부 (ACTIVE가 아니거나, 이미 만료되었거나, 본인 토큰이 아니면 false)
+     */
+    public boolean renew(String token, Long userId) {
+        boolean renewed = queueService.renewLease(token, userId);
+        if (renewed) {
+            wheel.schedule(token, System.currentTimeMillis() + leaseMillis);
+        }
+        return renewed;
+    }
+
+    /**
+     * 활성화된 토큰의 lease 만료 시각 등록 (커밋 이후, 트랜잭션 밖에서 발행되면 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivated(QueueActivatedEvent event) {
+        long deadline = System.currentTimeMillis() + leaseMillis;
+        event.getTokens().forEach(token -> wheel.schedule(token, deadline));
+    }
+
+    /**
+     * 퇴장 / 만료 / 회차 초기화로 입장권이 회수된 토큰은 더 확인할 필요 없음
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRevoked(QueueAdmissionRevokedEvent event) {
+        if (event.isAll()) {
+            wheel.clear();
+            return;
+        }
+        event.getTokens().forEach(wheel::cancel);
+    }
+
+    /**
+     * lease가 지난 ACTIVE 만료 처리
+     *
+     * @return 만료 처리한 수
+     */
+    @Scheduled(fixedDelayString = "${queue.lease.tick-ms:1000}")
+    public int evictLapsed() {
+        return evictLapsed(System.currentTimeMillis());
+    }
+
+    int evictLapsed(long nowMillis) {
+        int evicted = evictDue(nowMillis);
+
+        if (nowMillis - lastSweepMillis >= sweepIntervalMillis) {
+            lastSweepMillis = nowMillis;
+            evicted += sweep();
+        }
+
+        if (evicted > 0) {
+            log.info("입장 lease 만료 - {}건", evicted);
+        }
+        return evicted;
+    }
+
+    int getScheduledCount() {
+        return wheel.size();
+    }
+
+    /**
+     * 휠에서 만료 시각이 된 토큰만 조건부 만료
+     */
+    private int evictDue(long nowMillis) {
+        List<String> due = wheel.advance(nowMillis);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            return queueService.expireLeasesIfLapsed(due).size();
+        } catch (Exception e) {
+            log.warn("lease 만료 처리 실패 - message: {}", e.getMessage());
+            due.forEach(token -> wheel.schedule(token, nowMillis)); // 다음 tick에 재시도
+            return 0;
+        }
+    }
+
+    /**
+     * 휠에 없는 lease까지 전체 확인 (드물게 실행)
+     */
+    private int sweep() {
+        List<String> lapsed;
+        try {
+            lapsed = queueService.expireLapsedLeases();
+        } catch (Exception e) {
+            log.warn("lease 만료 처리 실패 - message: {}", e.getMessage());
+            return 0;
+        }
+
+        lapsed.forEach(wheel::cancel);
+        return lapsed.size();
+    }
+}
@@ -0,0 +1,110 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.notification;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.dto.response.QueueStatusEventResponse;
+import com.ticket.dojo.backdeepfamily.domain.queue.dto.response.QueueStatusResponse;
+import com.ticket.dojo.backdeepfamily.domain.queue.presence.QueuePresenceTracker;
+import com.ticket.dojo.backdeepfamily.domain.queue.service.QueueService;
+import com.ticket.dojo.backdeepfamily.global.exception.QueueNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+
+/**
+ * SSE 대기열 상태 구독 처리 (SockJS 세션을 유지할 수 없는 클라이언트용)
+ *
+ * - 요청 스레드는 바로 반환되고(Servlet async) 연결만 유지
+ * - 구독 시점 상태를 먼저 보내고, 이후에는 순번이 최소 변화량 이상 바뀌거나 상태가 바뀔 때만 전송
+ * - ACTIVATED / REMOVED를 보내면 스트림 종료, 타임아웃 시 클라이언트(EventSource)가 재연결
+ * - 열려 있는 스트림은 살아있는 세션으로 presence에 등록
+ */
+@Slf4j
+@Component
+public class QueueSseSubscriber {
+
+    private final QueueService queueService;
+    private final QueueStatusBroadcaster queueStatusBroadcaster;
+    private final QueuePresenceTracker queuePresenceTracker;
+    private final long timeoutMillis;
+    private final int defaultPositionDelta;
+
+    public QueueSseSubscriber(QueueService queueService, QueueStatusBroadcaster queueStatusBroadcaster,
+                              QueuePresenceTracker queuePresenceTracker,
+                              @Value("${queue.stream.timeout-ms:300000}") long timeoutMillis,
+                              @Value("${queue.stream.position-delta:5}") int defaultPositionDelta) {
+        this.queueService = queueService;
+        this.queueStatusBroadcaster = queueStatusBroadcaster;
+        this.queuePresenceTracker = queuePresenceTracker;
+        this.timeoutMillis = timeoutMillis;
+        this.defaultPositionDelta = defaultPositionDelta;
+    }
+
+    /**
+     * 상태 스트림 열기
+     *
+     * @param token         대기열 토큰 (없거나 본인 토큰이 아니면 QueueNotFoundException)
+     * @param positionDelta 순번 최소 변화량 (null이면 기본값)
+     * @param userId        구독하는 사용자 (소유자 확인, presence 등록용)
+     */
+    public SseEmitter subscribe(String token, Integer positionDelta, Long userId) {
+        if (!queueService.isOwnedBy(token, userId)) {
+            // 남의 토큰 여부를 드러내지 않도록 없는 토큰과 같은 응답
+            throw new QueueNotFoundException("대기열을 찾을 수 없습니다. 토큰 : " + token);
+        }
+
+        QueueStatusResponse current = queueService.getQueueStatus(token);
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        String watchId = "sse:" + UUID.randomUUID();
+
+        queuePresenceTracker.connected(userId, watchId);
+        Runnable close = () -> {
+            queueStatusBroadcaster.unwatch(watchId);
+            queuePresenceTracker.disconnected(userId, watchId);
+        };
+        emitter.onCompletion(close);
+        emitter.onTimeout(close);
+        emitter.onError(e -> close.run());
+
+        QueueStatusEventResponse initial = current.getStatus().isActive()
+                ? QueueStatusEventResponse.activated(token)
+                : QueueStatusEventResponse.position(current);
+        send(emitter, initial);
+
+        if (isFinal(initial)) {
+            emitter.complete();
+            return emitter;
+        }
+
+        int delta = positionDelta != null ? positionDelta : defaultPositionDelta;
+        queueStatusBroadcaster.watch(watchId, token, delta, current, message -> {
+            send(emitter, message);
+            if (isFinal(message)) {
+                emitter.complete();
+            }
+        });
+
+        log.debug("대기열 상태 스트림 시작 - token: {}, delta: {}", token, delta);
+
+        return emitter;
+    }
+
+    private void send(SseEmitter emitter, QueueStatusEventResponse message) {
+        try {
+            emitter.send(SseEmitter.event().name(message.getType()).data(message));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 더 보낼 것이 없는 메시지 (활성화 / 대기열에서 사라짐 / 만료)
+     */
+    private boolean isFinal(QueueStatusEventResponse message) {
+        return !"POSITION".equals(message.getType()) || message.getStatus().isExpired();
+    }
+}
@@ -0,0 +1,219 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.notification;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.dto.response.QueueStatusEventResponse;
+import com.ticket.dojo.backdeepfamily.domain.queue.dto.response.QueueStatusResponse;
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.QueueStatus;
+import com.ticket.dojo.backdeepfamily.domain.queue.event.QueueActivatedEvent;
+import com.ticket.dojo.backdeepfamily.domain.queue.service.QueueService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 대기열 상태 push
+ *
+ * - 구독(watch)마다 토큰과 전송 대상(sink)을 등록
+ * - queue.push.interval-ms 주기로 순번이 바뀐 구독자에게만 POSITION 전송 (구독자당 전송 빈도 제한)
+ * - 주기마다 구독 중인 토큰 상태를 getQueueStatuses로 한 번에 조회 (토큰마다 조회하지 않음)
+ * - 구독마다 최소 변화량을 둘 수 있음 (순번이 그만큼 바뀌거나 상태가 바뀔 때만 전송)
+ * - activateNextInQueue로 활성화되면 주기를 기다리지 않고 즉시 ACTIVATED 전송
+ *
+ * 전송 수단(STOMP, SSE 등)은 sink가 결정하므로 이 클래스는 전송 방식을 모름
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueStatusBroadcaster {
+
+    private final QueueService queueService;
+
+    private final Map<String, QueueWatch> watches = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> watchIdsByToken = new ConcurrentHashMap<>();
+
+    /**
+     * 구독 등록 (같은 watchId로 다시 등록하면 교체)
+     *
+     * @param watchId 구독 식별자 (세션 + 구독 ID 등)
+     * @param token   대기열 토큰
+     * @param sink    메시지 전송 대상, 예외를 던지면 구독 해제
+     */
+    public void watch(String watchId, String token, Consumer<QueueStatusEventResponse> sink) {
+        watch(watchId, token, 1, null, sink);
+    }
+
+    /**
+     * 구독 등록 (최소 변화량 지정)
+     *
+     * @param minPositionDelta 순번이 이만큼 이상 바뀌어야 POSITION 전송 (상태 변경은 항상 전송)
+     * @param delivered        구독 시점에 이미 전달한 상태 (없으면 null -> 다음 주기에 전송)
+     */
+    public void watch(String watchId, String token, int minPositionDelta, QueueStatusResponse delivered,
+                      Consumer<QueueStatusEventResponse> sink) {
+        unwatch(watchId);
+
+        QueueWatch watch = new QueueWatch(watchId, token, Math.max(1, minPositionDelta), sink);
+        if (delivered != null) {
+            watch.changed(delivered.getStatus(), delivered.getPosition());
+        }
+
+        watches.put(watchId, watch);
+        watchIdsByToken.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(watchId);
+
+        log.debug("대기열 상태 구독 등록 - watchId: {}, token: {}", watchId, token);
+    }
+
+    /**
+     * 구독 해제
+     */
+    public void unwatch(String watchId) {
+        QueueWatch removed = watches.remove(watchId);
+        if (removed == null) {
+            return;
+        }
+
+        watchIdsByToken.computeIfPresent(removed.token, (token, ids) -> {
+            ids.remove(watchId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    /**
+     * 식별자가 prefix로 시작하는 구독 모두 해제 (세션 종료 등)
+     */
+    public void unwatchByPrefix(String watchIdPrefix) {
+        watches.keySet().stream()
+                .filter(watchId -> watchId.startsWith(watchIdPrefix))
+                .toList()
+                .forEach(this::unwatch);
+    }
+
+    public int getWatchCount() {
+        return watches.size();
+    }
+
+    /**
+     * 주기적 순번 push (바뀐 경우에만 전송)
+     */
+    @Scheduled(fixedDelayString = "${queue.push.interval-ms:1000}")
+    public void pushPositions() {
+        if (watches.isEmpty()) {
+            return;
+        }
+
+        // 구독 중인 토큰을 한 번에 조회 (같은 토큰을 여러 곳에서 구독해도 조회는 한 번)
+        List<String> tokens = List.copyOf(watchIdsByToken.keySet());
+        Map<String, QueueStatusResponse> statuses;
+        try {
+            statuses = queueService.getQueueStatuses(tokens);
+        } catch (Exception e) {
+            log.warn("대기열 상태 push 조회 실패 - {}건, message: {}", tokens.size(), e.getMessage());
+            return;
+        }
+
+        for (String token : tokens) {
+            Set<String> watchIds = watchIdsByToken.get(token);
+            if (watchIds == null) {
+                continue; // 조회 중에 구독 해제됨
+            }
+
+            QueueStatusResponse status = statuses.get(token);
+            if (status == null) {
+                sendAndClose(watchIds, QueueStatusEventResponse.removed(token));
+                continue;
+            }
+
+            QueueStatusEventResponse message = status.getStatus().isActive()
+                    ? QueueStatusEventResponse.activated(token)
+                    : QueueStatusEventResponse.position(status);
+
+            for (String watchId : watchIds) {
+                QueueWatch watch = watches.get(watchId);
+                if (watch != null && watch.changed(status.getStatus(), status.getPosition())) {
+                    send(watch, message);
+                }
+            }
+
+            if (status.getStatus().isExpired()) {
+                watchIds.forEach(this::unwatch);
+            }
+        }
+    }
+
+    /**
+     * 활성화 즉시 ACTIVATED 전송 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivated(QueueActivatedEvent event) {
+        for (String token : event.getTokens()) {
+            Set<String> watchIds = watchIdsByToken.get(token);
+            if (watchIds == null) {
+                continue;
+            }
+
+            QueueStatusEventResponse message = QueueStatusEventResponse.activated(token);
+            for (String watchId : watchIds) {
+                QueueWatch watch = watches.get(watchId);
+                if (watch != null && watch.changed(QueueStatus.ACTIVE, 0)) {
+                    send(watch, message);
+                }
+            }
+        }
+    }
+
+    private void sendAndClose(Set<String> watchIds, QueueStatusEventResponse message) {
+        for (String watchId : watchIds) {
+            QueueWatch watch = watches.get(watchId);
+            if (watch != null) {
+                send(watch, message);
+                unwatch(watchId);
+            }
+        }
+    }
+
+    private void send(QueueWatch watch, QueueStatusEventResponse message) {
+        try {
+            watch.sink.accept(message);
+        } catch (Exception e) {
+            log.debug("대기열 상태 push 실패로 구독 해제 - watchId: {}, message: {}", watch.watchId, e.getMessage());
+            unwatch(watch.watchId);
+        }
+    }
+
+    private static final class QueueWatch {
+        private final String watchId;
+        private final String token;
+        private final int minPositionDelta;
+        private final Consumer<QueueStatusEventResponse> sink;
+
+        // 마지막으로 보낸 상태 (처음 주기에는 무조건 전송)
+        private QueueStatus lastStatus;
+        private int lastPosition = -1;
+
+        private QueueWatch(String watchId, String token, int minPositionDelta, Consumer<QueueStatusEventResponse> sink) {
+            this.watchId = watchId;
+            this.token = token;
+            this.minPositionDelta = minPositionDelta;
+            this.sink = sink;
+        }
+
+        /**
+         * 상태가 바뀌었거나 순번이 최소 변화량 이상 바뀌었으면 기록 후 true
+         */
+        private synchronized boolean changed(QueueStatus status, int position) {
+            if (status == lastStatus && Math.abs(position - lastPosition) < minPositionDelta) {
+                return false;
+            }
+            lastStatus = status;
+            lastPosition = position;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.notification;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.service.QueueService;
+import com.ticket.dojo.backdeepfamily.domain.user.entity.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+
+/**
+ * STOMP 대기열 상태 구독 처리
+ *
+ * 클라이언트:
+ * SUBSCRIBE /user/queue/status (헤더 queue-token: {대기열 토큰})
+ * -> 해당 세션으로만 POSITION / ACTIVATED 메시지 수신 (GET /queue/status 폴링 불필요)
+ *
+ * 구독한 사용자의 토큰일 때만 등록 (남의 토큰으로 순번 / 입장권을 받아보지 못하도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueStompSubscriptionListener {
+
+    public static final String DESTINATION = "/queue/status";
+    private static final String SUBSCRIBE_DESTINATION = "/user" + DESTINATION;
+    private static final String TOKEN_HEADER = "queue-token";
+
+    private final QueueService queueService;
+    private final QueueStatusBroadcaster queueStatusBroadcaster;
+    private final SimpMessagingTemplate simpMessagingTemplate;
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (!SUBSCRIBE_DESTINATION.equals(accessor.getDestination())) {
+            return;
+        }
+
+        Principal user = event.getUser();
+        String token = accessor.getFirstNativeHeader(TOKEN_HEADER);
+        if (user == null || token == null || token.isBlank()) {
+            log.warn("대기열 상태 구독 거부 - 인증 정보 또는 {} 헤더 없음, sessionId: {}", TOKEN_HEADER, accessor.getSessionId());
+            return;
+        }
+
+        Long userId = userIdOf(user);
+        if (!queueService.isOwnedBy(token, userId)) {
+            log.warn("대기열 상태 구독 거부 - 본인 토큰 아님, userId: {}, sessionId: {}", userId, accessor.getSessionId());
+            return;
+        }
+
+        String sessionId = accessor.getSessionId();
+        queueStatusBroadcaster.watch(watchId(sessionId, accessor.getSubscriptionId()), token,
+                message -> simpMessagingTemplate.convertAndSendToUser(user.getName(), DESTINATION, message,
+                        sessionHeaders(sessionId).getMessageHeaders()));
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        queueStatusBroadcaster.unwatch(watchId(accessor.getSessionId(), accessor.getSubscriptionId()));
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        queueStatusBroadcaster.unwatchByPrefix(watchIdPrefix(event.getSessionId()));
+    }
+
+    /**
+     * 같은 사용자의 다른 세션으로 새지 않도록 세션 지정
+     */
+    private SimpMessageHeaderAccessor sessionHeaders(String sessionId) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(sessionId);
+        headers.setLeaveMutable(true);
+        return headers;
+    }
+
+    private Long userIdOf(Principal principal) {
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserId();
+        }
+        return null;
+    }
+
+    private String watchId(String sessionId, String subscriptionId) {
+        return watchIdPrefix(sessionId) + subscriptionId;
+    }
+
+    private String watchIdPrefix(String sessionId) {
+        return "stomp:" + sessionId + ":";
+    }
+}
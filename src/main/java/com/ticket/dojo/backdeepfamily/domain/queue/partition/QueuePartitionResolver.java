@@ -0,0 +1,43 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.partition;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.Queue;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.RoundEpoch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클라이언트가 요청한 대기열 파티션 확인
+ *
+ * - 파티션은 서버가 정함: 기본 파티션 또는 현재 / 다음 회차 파티션("round-{회차}")만 허용
+ * - 그 외 키는 거절 -> 임의 키로 빈 파티션을 만들어 바로 ACTIVE가 되거나 파티션이 끝없이 늘어나지 않음
+ * - 회차는 RoundEpoch 기준 (지난 회차 파티션은 회차 전환 시 정리)
+ */
+@Component
+@RequiredArgsConstructor
+public class QueuePartitionResolver {
+
+    private final RoundEpoch roundEpoch;
+
+    /**
+     * @param requested 요청받은 파티션 (없으면 기본 파티션)
+     * @return 서버 기준 파티션 키
+     * @throws IllegalArgumentException 허용되지 않은 파티션
+     */
+    public String resolve(String requested) {
+        if (requested == null || requested.isBlank()) {
+            return Queue.DEFAULT_PARTITION;
+        }
+
+        String trimmed = requested.trim();
+        if (Queue.DEFAULT_PARTITION.equals(trimmed)) {
+            return Queue.DEFAULT_PARTITION;
+        }
+
+        Long round = Queue.roundOf(trimmed);
+        long current = roundEpoch.current();
+        if (round == null || (round != current && round != current + 1)) {
+            throw new IllegalArgumentException("진입할 수 없는 대기열 파티션입니다. partition : " + trimmed);
+        }
+        return Queue.roundPartition(round);
+    }
+}
@@ -0,0 +1,172 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.presence;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.service.QueueService;
+import com.ticket.dojo.backdeepfamily.domain.user.entity.CustomUserDetails;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기열 사용자 접속(presence) 추적
+ *
+ * - STOMP 연결 / 종료(JwtChannelInterceptor가 넣은 사용자 기준), SSE 스트림을 살아있는 세션으로 봄
+ * - 진입 / 상태 조회 / heartbeat는 마지막 활동 시각만 갱신 (폴링 클라이언트)
+ * - 살아있는 세션이 없고 grace 시간 동안 활동도 없으면 WAITING 대기열을 모아서 일괄 삭제
+ *   -> 활성화가 떠난 사용자에게 슬롯을 주지 않도록
+ *
+ * presence는 이 서버가 받은 연결 / 요청만 보므로 대기열을 이 서버만 쓸 때만 삭제
+ * - redis 구현체 / ACTIVE 한도 lease(여러 서버가 같은 대기열 공유)에서는 다른 서버에 붙어 있는 사용자를
+ *   떠난 것으로 잘못 볼 수 있으므로 삭제하지 않고 활동 시각도 기록하지 않음
+ *   (남은 대기는 lease 만료와 회차 종료로 정리)
+ */
+@Slf4j
+@Component
+public class QueuePresenceTracker {
+
+    private static final int EVICT_CHUNK_SIZE = 500;
+
+    private final QueueService queueService;
+    private final long graceMillis;
+    private final boolean evictionEnabled;
+
+    // 사용자별 살아있는 세션 (STOMP 세션 ID, SSE 스트림 ID)
+    private final Map<Long, Set<String>> sessionsByUser = new ConcurrentHashMap<>();
+
+    // 사용자별 마지막 활동 시각
+    private final Map<Long, Long> lastSeenByUser = new ConcurrentHashMap<>();
+
+    public QueuePresenceTracker(QueueService queueService, long graceMillis) {
+        this(queueService, graceMillis, true);
+    }
+
+    @Autowired
+    public QueuePresenceTracker(QueueService queueService,
+                                @Value("${queue.presence.grace-ms:30000}") long graceMillis,
+                                @Value("${queue.engine:basic}") String engine,
+                                @Value("${queue.capacity.leasing-enabled:false}") boolean leasingEnabled) {
+        this(queueService, graceMillis, !("redis".equals(engine) || leasingEnabled));
+        if (!evictionEnabled) {
+            log.info("대기열을 여러 서버가 공유하므로 이탈 사용자 삭제를 사용하지 않음");
+        }
+    }
+
+    QueuePresenceTracker(QueueService queueService, long graceMillis, boolean evictionEnabled) {
+        this.queueService = queueService;
+        this.graceMillis = graceMillis;
+        this.evictionEnabled = evictionEnabled;
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        Long userId = userIdOf(event.getUser());
+        if (userId != null) {
+            connected(userId, SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders()));
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Long userId = userIdOf(event.getUser());
+        if (userId != null) {
+            disconnected(userId, event.getSessionId());
+        }
+    }
+
+    public void connected(Long userId, String sessionId) {
+        sessionsByUser.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet()).add(sessionId);
+        touch(userId);
+    }
+
+    public void disconnected(Long userId, String sessionId) {
+        sessionsByUser.computeIfPresent(userId, (key, sessions) -> {
+            sessions.remove(sessionId);
+            return sessions.isEmpty() ? null : sessions;
+        });
+        touch(userId); // 끊긴 시점부터 grace 시간 유예
+    }
+
+    /**
+     * 활동 기록 (진입, 상태 조회 등)
+     */
+    public void touch(Long userId) {
+        if (evictionEnabled) {
+            lastSeenByUser.put(userId, System.currentTimeMillis());
+        }
+    }
+
+    public boolean isPresent(Long userId) {
+        return sessionsByUser.containsKey(userId);
+    }
+
+    public int getTrackedUserCount() {
+        return lastSeenByUser.size();
+    }
+
+    @Scheduled(fixedDelayString = "${queue.presence.sweep-interval-ms:5000}")
+    public void evictAbsent() {
+        evictAbsent(System.currentTimeMillis());
+    }
+
+    /**
+     * 세션도 활동도 없는 사용자의 WAITING 대기열 일괄 삭제
+     *
+     * @return 삭제된 대기열 수
+     */
+    int evictAbsent(long nowMillis) {
+        if (!evictionEnabled) {
+            return 0;
+        }
+        long threshold = nowMillis - graceMillis;
+
+        List<Long> absentUsers = new ArrayList<>();
+        lastSeenByUser.forEach((userId, lastSeen) -> {
+            if (lastSeen < threshold && !sessionsByUser.containsKey(userId)) {
+                absentUsers.add(userId);
+            }
+        });
+
+        if (absentUsers.isEmpty()) {
+            return 0;
+        }
+
+        int evicted = 0;
+        for (int from = 0; from < absentUsers.size(); from += EVICT_CHUNK_SIZE) {
+            List<Long> chunk = absentUsers.subList(from, Math.min(from + EVICT_CHUNK_SIZE, absentUsers.size()));
+            try {
+                evicted += queueService.evictWaiting(chunk);
+            } catch (Exception e) {
+                log.warn("이탈 사용자 대기열 삭제 실패 - {}명, message: {}", chunk.size(), e.getMessage());
+                return evicted; // 다음 주기에 다시 시도
+            }
+        }
+
+        // 그 사이 다시 활동한 사용자는 계속 추적
+        absentUsers.forEach(userId -> lastSeenByUser.computeIfPresent(userId,
+                (key, lastSeen) -> lastSeen < threshold ? null : lastSeen));
+
+        log.info("이탈 사용자 정리 - 대상: {}명, 삭제된 대기열: {}건", absentUsers.size(), evicted);
+        return evicted;
+    }
+
+    private Long userIdOf(Principal principal) {
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserId();
+        }
+        return null;
+    }
+}
@@ -5,11 +5,13 @@ import com.ticket.dojo.backdeepfamily.domain.queue.entity.QueueStatus;
 import com.ticket.dojo.backdeepfamily.domain.user.entity.User;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,20 +23,187 @@ public interface QueueRepository extends JpaRepository<Queue, Long> {
     @Query("SELECT q FROM Queue q WHERE q.token.value = :tokenValue")
     Optional<Queue> findByTokenValue(@Param("tokenValue") String tokenValue);
 
+    // 여러 토큰의 Queue 한 번에 조회 (상태 push)
+    @Query("SELECT q FROM Queue q WHERE q.token.value IN :tokenValues")
+    List<Queue> findAllByTokenValueIn(@Param("tokenValues") Collection<String> tokenValues);
+
+    // 토큰 소유자 조회 (상태 구독 시 본인 확인)
+    @Query("SELECT q.user.userId FROM Queue q WHERE q.token.value = :tokenValue")
+    Optional<Long> findUserIdByTokenValue(@Param("tokenValue") String tokenValue);
+
     // 특정 상태의 Queue 개수 조회
     // SELECT count(*) FROM queue WHERE status = ?
     int countByStatus(QueueStatus status);
 
-    // 특정 시간 이전에 들어온 특정 상태의 Queue 개수
-    // SELECT count(*) FROM queue WHERE status = ? AND entered_at < ?
-    int countByStatusAndEnteredAtBefore(QueueStatus queueStatus, LocalDateTime enteredAt);
+    // 파티션의 특정 상태 Queue 개수
+    int countByPartitionKeyAndStatus(String partitionKey, QueueStatus status);
+
+    // 파티션에서 이 노드가 활성화한 특정 상태 Queue 개수 (lease로 한도를 나눠 쓸 때 permit 보정)
+    int countByPartitionKeyAndStatusAndActivatedBy(String partitionKey, QueueStatus status, String activatedBy);
+
+    // 같은 파티션에서 (enteredAt, id) 기준으로 앞에 있는 특정 상태의 Queue 개수
+    // 진입 시간이 같으면 id로 순서를 갈라 같은 순번이 나오지 않도록 함
+    @Query("SELECT COUNT(q) FROM Queue q WHERE q.partitionKey = :partitionKey AND q.status = :status " +
+            "AND (q.enteredAt < :enteredAt OR (q.enteredAt = :enteredAt AND q.id < :id))")
+    int countAhead(@Param("partitionKey") String partitionKey,
+                   @Param("status") QueueStatus status,
+                   @Param("enteredAt") LocalDateTime enteredAt,
+                   @Param("id") Long id);
+
+    // 여러 대기자의 앞선 인원 수를 한 번에 조회 (토큰, 앞선 인원), 앞선 인원이 없으면 행이 없음
+    @Query("SELECT w.token.value, COUNT(o) FROM Queue w, Queue o " +
+            "WHERE w.token.value IN :tokenValues AND w.status = :status " +
+            "AND o.partitionKey = w.partitionKey AND o.status = :status " +
+            "AND (o.enteredAt < w.enteredAt OR (o.enteredAt = w.enteredAt AND o.id < w.id)) " +
+            "GROUP BY w.token.value")
+    List<Object[]> countAheadByTokenValueIn(@Param("tokenValues") Collection<String> tokenValues,
+                                            @Param("status") QueueStatus status);
+
+    // 파티션 대기 줄 앞에서부터 (id, 토큰)만 조회 (Pageable로 개수 제어, 엔티티 로딩 없음)
+    // SELECT id, token FROM queue WHERE partition_key = ? AND status = ? ORDER BY entered_at ASC, id ASC LIMIT ?
+    @Query("SELECT q.id, q.token.value FROM Queue q WHERE q.partitionKey = :partitionKey AND q.status = :status " +
+            "ORDER BY q.enteredAt ASC, q.id ASC")
+    List<Object[]> findHeadKeysByStatus(@Param("partitionKey") String partitionKey,
+                                        @Param("status") QueueStatus status,
+                                        Pageable pageable);
+
+    // id 목록 중 아직 fromStatus인 행만 한 번의 UPDATE로 상태 변경 (일괄 활성화용)
+    // 영속성 컨텍스트에 남아있는 엔티티가 옛 상태를 보지 않도록 flush 후 clear
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Queue q SET q.status = :toStatus, q.activatedAt = COALESCE(q.activatedAt, :now), " +
+            "q.leaseExpiresAt = :leaseExpiresAt, q.activatedBy = :activatedBy, q.updatedAt = :now " +
+            "WHERE q.id IN :ids AND q.status = :fromStatus")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("fromStatus") QueueStatus fromStatus,
+                           @Param("toStatus") QueueStatus toStatus,
+                           @Param("now") LocalDateTime now,
+                           @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+                           @Param("activatedBy") String activatedBy);
+
+    // 입장 lease 연장 (본인 토큰이고 lease가 아직 살아있는 경우에만)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Queue q SET q.leaseExpiresAt = :leaseExpiresAt " +
+            "WHERE q.token.value = :tokenValue AND q.user.userId = :userId AND q.status = :status AND q.leaseExpiresAt > :now")
+    int renewLease(@Param("tokenValue") String tokenValue,
+                   @Param("userId") Long userId,
+                   @Param("status") QueueStatus status,
+                   @Param("now") LocalDateTime now,
+                   @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    // lease가 지난 행의 (토큰, 파티션) 조회
+    // SELECT token, partition_key FROM queue WHERE status = ? AND lease_expires_at <= ? LIMIT ?
+    @Query("SELECT q.token.value, q.partitionKey FROM Queue q WHERE q.status = :status AND q.leaseExpiresAt <= :now")
+    List<Object[]> findLapsedLeaseKeys(@Param("status") QueueStatus status,
+                                       @Param("now") LocalDateTime now,
+                                       Pageable pageable);
+
+    // 지정한 토큰 중 lease가 지난 행의 (토큰, 파티션) 조회 (lease 타이머가 만료를 알린 토큰 확인용)
+    @Query("SELECT q.token.value, q.partitionKey FROM Queue q " +
+            "WHERE q.token.value IN :tokenValues AND q.status = :status AND q.leaseExpiresAt <= :now")
+    List<Object[]> findLapsedLeaseKeysByTokenValueIn(@Param("tokenValues") Collection<String> tokenValues,
+                                                     @Param("status") QueueStatus status,
+                                                     @Param("now") LocalDateTime now);
+
+    // lease가 지난 경우에만 상태 전환 (조회 이후 연장되었거나 다른 서버가 먼저 만료시켰으면 0)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Queue q SET q.status = :toStatus, q.updatedAt = :now " +
+            "WHERE q.token.value = :tokenValue AND q.status = :fromStatus AND q.leaseExpiresAt <= :now")
+    int updateStatusByTokenValueIfLeaseLapsed(@Param("tokenValue") String tokenValue,
+                                              @Param("fromStatus") QueueStatus fromStatus,
+                                              @Param("toStatus") QueueStatus toStatus,
+                                              @Param("now") LocalDateTime now);
+
+    // lease가 없거나 이미 지난 행에 lease 부여 (기동 시, 이전 버전에서 활성화된 행 / 중단 중 지난 lease)
+    @Modifying
+    @Query("UPDATE Queue q SET q.leaseExpiresAt = :leaseExpiresAt " +
+            "WHERE q.status = :status AND (q.leaseExpiresAt IS NULL OR q.leaseExpiresAt < :now)")
+    int grantMissingLeases(@Param("status") QueueStatus status,
+                           @Param("now") LocalDateTime now,
+                           @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    // 토큰으로 상태 전환 (엔티티 조회 없이, fromStatus인 경우에만)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Queue q SET q.status = :toStatus, q.updatedAt = :now " +
+            "WHERE q.token.value = :tokenValue AND q.status = :fromStatus")
+    int updateStatusByTokenValue(@Param("tokenValue") String tokenValue,
+                                 @Param("fromStatus") QueueStatus fromStatus,
+                                 @Param("toStatus") QueueStatus toStatus,
+                                 @Param("now") LocalDateTime now);
 
-    // WAITING 상태를 enteredAt 순으로 조회 (Pageable로 개수 제어)
-    // SELECT * FROM queue WHERE status = ? ORDER BY entered_at ASC LIMIT ?
-    List<Queue> findByStatusOrderByEnteredAtAsc(QueueStatus status, Pageable pageable);
+    // id 목록 중 특정 상태인 행의 토큰 조회
+    @Query("SELECT q.token.value FROM Queue q WHERE q.id IN :ids AND q.status = :status")
+    List<String> findTokenValuesByIdInAndStatus(@Param("ids") Collection<Long> ids,
+                                                @Param("status") QueueStatus status);
+
+    // 대기 순번 인덱스 재구성용 (토큰, 진입 시간, id, 파티션)
+    @Query("SELECT q.token.value, q.enteredAt, q.id, q.partitionKey FROM Queue q WHERE q.status = :status")
+    List<Object[]> findIndexKeysByStatus(@Param("status") QueueStatus status);
+
+    // 살아있는 대기열이 있는 파티션 목록 (슬롯 보정용)
+    @Query("SELECT DISTINCT q.partitionKey FROM Queue q WHERE q.status = :status")
+    List<String> findPartitionKeysByStatus(@Param("status") QueueStatus status);
+
+    // 파티션들의 특정 상태 토큰 조회 (회차 종료 시 입장권 회수 대상)
+    @Query("SELECT q.token.value FROM Queue q WHERE q.partitionKey IN :partitionKeys AND q.status = :status")
+    List<String> findTokenValuesByPartitionKeyInAndStatus(@Param("partitionKeys") Collection<String> partitionKeys,
+                                                          @Param("status") QueueStatus status);
+
+    // 파티션들의 살아있는 대기열 일괄 만료 (회차 종료, 행 삭제는 purgeExpired가 나눠서 처리)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Queue q SET q.status = :toStatus, q.leaseExpiresAt = NULL, q.updatedAt = :now " +
+            "WHERE q.partitionKey IN :partitionKeys AND q.status IN :fromStatuses")
+    int updateStatusByPartitionKeyIn(@Param("partitionKeys") Collection<String> partitionKeys,
+                                     @Param("fromStatuses") Collection<QueueStatus> fromStatuses,
+                                     @Param("toStatus") QueueStatus toStatus,
+                                     @Param("now") LocalDateTime now);
+
+    // 만료된 지 오래된 행 정리 (한 번에 limit건씩)
+    @Modifying
+    @Query(value = "DELETE FROM queue WHERE status = 'EXPIRED' AND updated_at < :before LIMIT :limit", nativeQuery = true)
+    int deleteExpiredBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    // 토큰의 파티션만 조회
+    @Query("SELECT q.partitionKey FROM Queue q WHERE q.token.value = :tokenValue")
+    Optional<String> findPartitionKeyByTokenValue(@Param("tokenValue") String tokenValue);
 
     // 특정 사용자의 먼저 들어온 대기열 상태가 있는지 반환
     Optional<Queue> findByUserAndStatusIn(User user, List<QueueStatus> active);
 
+    // 사용자 ID로 파티션의 살아있는 대기열을 진입 순으로 조회 (User 엔티티 조회 없이)
+    // 정상이라면 최대 1건, 중복 행이 남아 있어도 예외 없이 가장 먼저 들어온 행을 쓸 수 있도록 목록으로 반환
+    @Query("SELECT q FROM Queue q WHERE q.user.userId = :userId AND q.partitionKey = :partitionKey AND q.status IN :statuses ORDER BY q.enteredAt ASC, q.id ASC")
+    List<Queue> findByUserIdAndStatusIn(@Param("userId") Long userId,
+                                        @Param("partitionKey") String partitionKey,
+                                        @Param("statuses") List<QueueStatus> statuses);
+
     List<Queue> user(User user);
+
+    // 살아있는 대기열을 진입 순으로 조회 (인메모리 엔진 재구성용)
+    // SELECT * FROM queue WHERE status IN (?) ORDER BY entered_at ASC, id ASC
+    List<Queue> findByStatusInOrderByEnteredAtAscIdAsc(Collection<QueueStatus> statuses);
+
+    // 토큰 목록의 상태 일괄 변경 (write-behind 저장용)
+    // activatedAt은 처음 활성화될 때 한 번만 기록
+    @Modifying
+    @Query("UPDATE Queue q SET q.status = :status, q.activatedAt = COALESCE(q.activatedAt, :now), q.updatedAt = :now " +
+            "WHERE q.token.value IN :tokenValues")
+    int updateStatusByTokenValueIn(@Param("status") QueueStatus status,
+                                   @Param("now") LocalDateTime now,
+                                   @Param("tokenValues") Collection<String> tokenValues);
+
+    // 사용자 목록 중 특정 상태인 대기열 토큰 조회
+    @Query("SELECT q.token.value FROM Queue q WHERE q.user.userId IN :userIds AND q.status = :status")
+    List<String> findTokenValuesByUserIdInAndStatus(@Param("userIds") Collection<Long> userIds,
+                                                    @Param("status") QueueStatus status);
+
+    // 토큰 목록 중 특정 상태인 행만 일괄 삭제 (그 사이 상태가 바뀐 행은 제외)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Queue q WHERE q.token.value IN :tokenValues AND q.status = :status")
+    int deleteByTokenValueInAndStatus(@Param("tokenValues") Collection<String> tokenValues,
+                                      @Param("status") QueueStatus status);
+
+    // 토큰 목록 일괄 삭제 (write-behind 저장용)
+    @Modifying
+    @Query("DELETE FROM Queue q WHERE q.token.value IN :tokenValues")
+    int deleteByTokenValueIn(@Param("tokenValues") Collection<String> tokenValues);
 }
@@ -1,24 +1,195 @@
 package com.ticket.dojo.backdeepfamily.domain.queue.scheduler;
 
+import com.ticket.dojo.backdeepfamily.domain.queue.event.QueueSlotReleasedEvent;
 import com.ticket.dojo.backdeepfamily.domain.queue.service.QueueService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대기열 활성화 스케줄러
+ *
+ * - 퇴장 / 결제 진입으로 슬롯이 반납되면 debounce 시간 동안 모았다가 활성화 한 번으로 처리
+ *   (슬롯 반납만으로 예약된 활성화는 반납된 파티션만 처리)
+ * - 이벤트를 놓쳐도 빈자리가 남지 않도록 주기적으로 한 번 더 활성화
+ *   (활성화된 사람이 있으면 최소 주기, 없으면 최대 주기까지 두 배씩 늘림)
+ * - 활성화는 동시에 하나만 실행 (single-flight), 실행 중 들어온 요청은 끝난 뒤 한 번 더 실행
+ * - 슬롯 반납부터 대기자 활성화까지 걸린 시간을 queue.activation.lag로 기록
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class QueueScheduler {
 
+    public static final String LAG_METRIC = "queue.activation.lag";
+
     private final QueueService queueService;
-//
-//    /***
-//     * 5초마다 대기자들 Active로 전환
-//     */
-//    @Scheduled(fixedDelay = 5000)
-//    public void activateNextInQueue() {
-//        log.debug("스케줄러 실행 : 대기자 Active로 전환");
-//        queueService.activateNextInQueue();
-//    }
+    private final TaskScheduler taskScheduler;
+    private final Timer lagTimer;
+    private final long debounceMillis;
+    private final long minIntervalMillis;
+    private final long maxIntervalMillis;
+
+    // 이미 예약된 활성화가 있으면 추가로 예약하지 않음
+    private final AtomicBoolean activationScheduled = new AtomicBoolean();
+
+    // 실행 중인 활성화 / 실행 중에 들어온 요청
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean rerunRequested = new AtomicBoolean();
+
+    // 슬롯이 반납되어 활성화가 필요한 파티션 / 전체 파티션 활성화 요청 여부 (주기 실행, 한도 증가 등)
+    private final Set<String> releasedPartitions = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean fullActivationRequested = new AtomicBoolean();
+
+    // 아직 채워지지 않은 가장 오래된 슬롯 반납 시각 (0이면 없음)
+    private final AtomicLong oldestReleaseNanos = new AtomicLong();
+
+    // 주기 활성화 간격
+    private volatile long intervalMillis;
+    private volatile long nextTickAtMillis;
+
+    public QueueScheduler(QueueService queueService, TaskScheduler taskScheduler, MeterRegistry meterRegistry,
+                          @Value("${queue.activation.debounce-ms:50}") long debounceMillis,
+                          @Value("${queue.activation.min-interval-ms:500}") long minIntervalMillis,
+                          @Value("${queue.activation.fallback-interval-ms:5000}") long maxIntervalMillis) {
+        this.queueService = queueService;
+        this.taskScheduler = taskScheduler;
+        this.debounceMillis = debounceMillis;
+        this.minIntervalMillis = minIntervalMillis;
+        this.maxIntervalMillis = Math.max(minIntervalMillis, maxIntervalMillis);
+        this.intervalMillis = minIntervalMillis;
+        this.lagTimer = Timer.builder(LAG_METRIC)
+                .description("슬롯 반납부터 대기자 활성화까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 슬롯 반납 커밋 이후 활성화 예약
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotReleased(QueueSlotReleasedEvent event) {
+        log.debug("슬롯 반납 - token: {}, partition: {}", event.getToken(), event.getPartitionKey());
+        oldestReleaseNanos.compareAndSet(0, event.getReleasedAtNanos());
+        releasedPartitions.add(event.getPartitionKey());
+        scheduleActivation();
+    }
+
+    /***
+     * 이벤트 누락 대비 주기적 활성화 (최소 주기로 깨어나서 현재 간격이 지났을 때만 실행)
+     */
+    @Scheduled(fixedDelayString = "${queue.activation.min-interval-ms:500}")
+    public void activateNextInQueue() {
+        if (System.currentTimeMillis() >= nextTickAtMillis) {
+            requestActivation();
+        }
+    }
+
+    /**
+     * debounce 시간 뒤 전체 파티션 활성화 한 번 실행 (이미 예약되어 있으면 그 실행에 합류)
+     */
+    public void requestActivation() {
+        fullActivationRequested.set(true);
+        scheduleActivation();
+    }
+
+    private void scheduleActivation() {
+        if (activationScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::runActivation, Instant.now().plusMillis(debounceMillis));
+        }
+    }
+
+    long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    void runActivation() {
+        // 실행 중에 들어온 반납은 다음 회차로 예약되도록 먼저 해제
+        activationScheduled.set(false);
+
+        if (!running.compareAndSet(false, true)) {
+            rerunRequested.set(true);
+            return;
+        }
+
+        try {
+            activateOnce();
+        } finally {
+            running.set(false);
+        }
+
+        if (rerunRequested.compareAndSet(true, false)) {
+            scheduleActivation();
+        }
+    }
+
+    private void activateOnce() {
+        long releasedAt = oldestReleaseNanos.getAndSet(0);
+        List<String> partitions = drainReleasedPartitions();
+        // 반납된 파티션이 없는 실행(주기 실행, 재실행 등)은 전체 파티션 활성화
+        boolean full = fullActivationRequested.getAndSet(false) || partitions.isEmpty();
+
+        List<String> activatedTokens;
+        try {
+            activatedTokens = full ? queueService.activateNextInQueue() : activatePartitions(partitions);
+        } catch (Exception e) {
+            log.error("대기열 활성화 실패", e);
+            if (releasedAt != 0) {
+                oldestReleaseNanos.compareAndSet(0, releasedAt);
+            }
+            releasedPartitions.addAll(partitions);
+            if (full) {
+                fullActivationRequested.set(true);
+            }
+            scheduleNextTick(false);
+            return;
+        }
+
+        if (!activatedTokens.isEmpty()) {
+            if (releasedAt != 0) {
+                lagTimer.record(System.nanoTime() - releasedAt, TimeUnit.NANOSECONDS);
+            }
+            log.debug("스케줄러 실행 : 대기자 {}명 Active로 전환", activatedTokens.size());
+        }
+        scheduleNextTick(!activatedTokens.isEmpty());
+    }
+
+    private List<String> drainReleasedPartitions() {
+        List<String> partitions = new ArrayList<>();
+        for (String partitionKey : releasedPartitions) {
+            if (releasedPartitions.remove(partitionKey)) {
+                partitions.add(partitionKey);
+            }
+        }
+        return partitions;
+    }
+
+    private List<String> activatePartitions(List<String> partitions) {
+        List<String> activatedTokens = new ArrayList<>();
+        for (String partitionKey : partitions) {
+            activatedTokens.addAll(queueService.activateNextInQueue(partitionKey));
+        }
+        return activatedTokens;
+    }
+
+    /**
+     * 활성화된 사람이 있으면 최소 주기로, 없으면 간격을 두 배씩 늘림
+     */
+    private void scheduleNextTick(boolean busy) {
+        intervalMillis = busy ? minIntervalMillis : Math.min(intervalMillis * 2, maxIntervalMillis);
+        nextTickAtMillis = System.currentTimeMillis() + intervalMillis;
+    }
 }
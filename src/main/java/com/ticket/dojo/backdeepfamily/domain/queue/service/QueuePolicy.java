@@ -1,27 +1,55 @@
 package com.ticket.dojo.backdeepfamily.domain.queue.service;
 
-import lombok.Getter;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
 @Component
-@Getter
 public class QueuePolicy {
 
-    // 최대 동시 접속 가능 인원
-    private static final int MAX_ACTIVE_USERS = 50;
+    // 기본 최대 동시 접속 가능 인원 (시작값, 적응형 제어를 끄면 고정값)
+    public static final int DEFAULT_MAX_ACTIVE_USERS = 50;
+
+    // 현재 최대 동시 접속 가능 인원 (AdaptiveAdmissionController가 부하에 따라 조정)
+    private volatile int maxActiveUsers;
+
+    // 여러 노드가 한도를 나눠 쓸 때 이 노드가 lease 받은 슬롯 수 (ActiveCapacityAllocator가 갱신, 없으면 제한 없음)
+    private volatile int leasedCapacity = UNLEASED;
+
+    // lease를 받는 이 노드의 ID (ACTIVE 행의 activated_by, lease를 쓰지 않으면 null)
+    private volatile String leaseOwner;
+
+    private static final int UNLEASED = Integer.MAX_VALUE;
 
     /**
-     * 즉시 확성화 가능 여부 판단
+     * ACTIVE 슬롯 permit pool
+     * - 상위 32비트: 변경 버전, 하위 32비트: 점유 중인 슬롯 수
+     * - 점유/반납은 CAS 한 번으로 처리 (COUNT 쿼리 없음)
+     * - 버전은 reconcile이 조회하는 사이에 다른 변경이 있었는지 판단하는 용도
      */
-    public boolean canActivateImmediately(int currentActiveCount){
-        return currentActiveCount < MAX_ACTIVE_USERS;
+    private final AtomicLong permitState = new AtomicLong();
+
+    // 아직 커밋/롤백되지 않은 트랜잭션 안에서 일어난 permit 변경 수
+    private final AtomicInteger pendingChanges = new AtomicInteger();
+
+    public QueuePolicy() {
+        this(DEFAULT_MAX_ACTIVE_USERS);
+    }
+
+    /**
+     * 한도를 지정한 slot pool (기본 파티션 외의 대기열 파티션용)
+     */
+    public QueuePolicy(int maxActiveUsers) {
+        updateMaxActiveUsers(maxActiveUsers);
     }
 
     /**
      * 활성화 가능한 슬릇 수 계산
      */
     public int calculateAvailableSlots(int currentActiveCount){
-        int slots = MAX_ACTIVE_USERS - currentActiveCount;
+        int slots = getLocalLimit() - currentActiveCount;
         return Math.max(0, slots);
     }
 
@@ -29,6 +57,158 @@ public class QueuePolicy {
      * 최대 동시 접속 가능 인원 수 얻기
      */
     public int getMaxActiveUsers(){
-        return MAX_ACTIVE_USERS;
+        return maxActiveUsers;
+    }
+
+    /**
+     * 이 노드가 실제로 입장시킬 수 있는 인원 (한도와 lease 받은 슬롯 중 작은 값)
+     */
+    public int getLocalLimit() {
+        return Math.min(maxActiveUsers, leasedCapacity);
+    }
+
+    /**
+     * 여러 노드가 한도를 나눠 쓰기 시작 (lease를 받기 전까지 슬롯 0)
+     */
+    public void beginLeasing(String nodeId) {
+        this.leaseOwner = nodeId;
+        updateLeasedCapacity(0);
+    }
+
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    /**
+     * lease 받은 슬롯 수 변경
+     * 줄이는 경우 이미 점유된 슬롯은 그대로 두고, 반납되면서 새 lease로 수렴
+     */
+    public void updateLeasedCapacity(int leasedCapacity) {
+        if (leasedCapacity < 0) {
+            throw new IllegalArgumentException("lease 슬롯 수는 0 이상이어야 합니다: " + leasedCapacity);
+        }
+        this.leasedCapacity = leasedCapacity;
+    }
+
+    public int getLeasedCapacity() {
+        return leasedCapacity == UNLEASED ? maxActiveUsers : leasedCapacity;
+    }
+
+    /**
+     * 여러 노드가 한도를 나눠 쓰는 중인지 (DB 전체 ACTIVE 수가 이 노드의 점유 수가 아님)
+     */
+    public boolean isCapacityLeased() {
+        return leasedCapacity != UNLEASED;
+    }
+
+    /**
+     * 최대 동시 접속 가능 인원 변경
+     * 줄이는 경우 이미 점유된 슬롯은 그대로 두고, 반납되면서 새 한도로 수렴
+     */
+    public void updateMaxActiveUsers(int maxActiveUsers) {
+        if (maxActiveUsers < 1) {
+            throw new IllegalArgumentException("최대 동시 접속 인원은 1 이상이어야 합니다: " + maxActiveUsers);
+        }
+        this.maxActiveUsers = maxActiveUsers;
+    }
+
+    /**
+     * 슬롯 하나 점유 시도
+     *
+     * @return 점유 성공 여부 (한도를 넘으면 false)
+     */
+    public boolean tryAcquire() {
+        return acquireUpTo(1) == 1;
+    }
+
+    /**
+     * 남은 슬롯 안에서 최대 requested개 점유
+     *
+     * @return 실제로 점유한 슬롯 수
+     */
+    public int acquireUpTo(int requested) {
+        while (true) {
+            long state = permitState.get();
+            int held = permitsOf(state);
+            int granted = Math.min(requested, getLocalLimit() - held);
+            if (granted <= 0) {
+                return 0;
+            }
+            if (permitState.compareAndSet(state, pack(versionOf(state) + 1, held + granted))) {
+                return granted;
+            }
+        }
+    }
+
+    /**
+     * 슬롯 반납 (0 아래로는 내려가지 않음)
+     */
+    public void release(int count) {
+        if (count <= 0) {
+            return;
+        }
+        permitState.getAndUpdate(state -> pack(versionOf(state) + 1, Math.max(0, permitsOf(state) - count)));
+    }
+
+    /**
+     * 한도와 무관하게 점유 수 증가 (반납했던 트랜잭션이 롤백된 경우 보정용)
+     */
+    public void occupy(int count) {
+        if (count <= 0) {
+            return;
+        }
+        permitState.getAndUpdate(state -> pack(versionOf(state) + 1, permitsOf(state) + count));
+    }
+
+    /**
+     * 전체 반납 (회차 초기화)
+     */
+    public void resetPermits() {
+        permitState.getAndUpdate(state -> pack(versionOf(state) + 1, 0));
+    }
+
+    public int getActivePermits() {
+        return permitsOf(permitState.get());
+    }
+
+    /**
+     * 트랜잭션 안에서 permit을 바꾸기 전에 호출, 트랜잭션이 끝나면 endPendingChange 호출
+     * 진행 중인 변경이 있는 동안에는 reconcile을 건너뜀 (커밋 전 행은 COUNT에 안 잡히므로)
+     */
+    public void beginPendingChange() {
+        pendingChanges.incrementAndGet();
+    }
+
+    public void endPendingChange() {
+        pendingChanges.decrementAndGet();
+    }
+
+    /**
+     * 실제 ACTIVE 수와 permit 수 맞추기 (drift 보정)
+     * - 진행 중인 트랜잭션이 있거나, 조회하는 사이 permit이 바뀌었으면 반영하지 않음
+     *
+     * @param activeCountQuery 커밋된 ACTIVE 수 조회
+     * @return 반영 여부
+     */
+    public boolean reconcile(IntSupplier activeCountQuery) {
+        long before = permitState.get();
+        if (pendingChanges.get() > 0) {
+            return false;
+        }
+
+        int actual = activeCountQuery.getAsInt();
+        return permitState.compareAndSet(before, pack(versionOf(before) + 1, actual));
+    }
+
+    private static long pack(long version, int permits) {
+        return (version << 32) | (permits & 0xFFFFFFFFL);
+    }
+
+    private static long versionOf(long state) {
+        return state >>> 32;
+    }
+
+    private static int permitsOf(long state) {
+        return (int) state;
     }
 }
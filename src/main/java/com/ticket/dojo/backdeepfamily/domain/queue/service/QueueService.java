@@ -2,17 +2,37 @@ package com.ticket.dojo.backdeepfamily.domain.queue.service;
 
 import com.ticket.dojo.backdeepfamily.domain.queue.dto.response.QueueEnterResponse;
 import com.ticket.dojo.backdeepfamily.domain.queue.dto.response.QueueStatusResponse;
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.Queue;
 import com.ticket.dojo.backdeepfamily.domain.user.entity.User;
+import com.ticket.dojo.backdeepfamily.global.exception.QueueNotFoundException;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 public interface QueueService {
 
     /***
-     * 대기열 진입
+     * 대기열 진입 (기본 파티션)
      * 
      * @param userId : 진입하는 사용자
      * @return : 대기열 진입 응답 (토큰, 순번, 상태, 진입 시간)
      */
-    QueueEnterResponse enterQueue(Long userId);
+    default QueueEnterResponse enterQueue(Long userId) {
+        return enterQueue(userId, Queue.DEFAULT_PARTITION);
+    }
+
+    /***
+     * 파티션(회차 / 이벤트) 대기열 진입
+     * 파티션마다 활성 한도와 대기 순서가 따로 관리됨
+     *
+     * @param userId       : 진입하는 사용자
+     * @param partitionKey : 대기열 파티션
+     * @return : 대기열 진입 응답 (토큰, 순번, 상태, 진입 시간)
+     */
+    QueueEnterResponse enterQueue(Long userId, String partitionKey);
 
     /***
      * 대기열 상태 조회
@@ -22,10 +42,45 @@ public interface QueueService {
      */
     QueueStatusResponse getQueueStatus(String token);
 
+    /***
+     * 여러 토큰의 대기열 상태 한 번에 조회 (상태 push용)
+     * 기본 구현은 토큰마다 getQueueStatus (조회 비용이 작은 구현체)
+     *
+     * @param tokens : 대기열 토큰 목록
+     * @return : 토큰 -> 대기열 상태 (대기열에 없는 토큰은 빠짐)
+     */
+    default Map<String, QueueStatusResponse> getQueueStatuses(Collection<String> tokens) {
+        Map<String, QueueStatusResponse> statuses = new HashMap<>();
+        for (String token : tokens) {
+            try {
+                statuses.put(token, getQueueStatus(token));
+            } catch (QueueNotFoundException e) {
+                // 대기열에 없는 토큰은 결과에서 제외
+            }
+        }
+        return statuses;
+    }
+
     /*
-     * 스케줄러: 대기열 활성화 (빈자리 채우기)
+     * 토큰이 해당 사용자의 대기열인지 확인 (상태 구독 전 소유자 확인)
+     *
+     * @return : 본인 토큰 여부 (대기열에 없는 토큰이면 false)
      */
-    void activateNextInQueue();
+    boolean isOwnedBy(String token, Long userId);
+
+    /*
+     * 스케줄러: 대기열 활성화 (모든 파티션의 빈자리 채우기)
+     *
+     * @return : 이번에 활성화된 토큰 목록 (알림용)
+     */
+    List<String> activateNextInQueue();
+
+    /*
+     * 한 파티션의 빈자리만 채우기 (슬롯이 반납된 파티션)
+     *
+     * @return : 이번에 활성화된 토큰 목록 (알림용)
+     */
+    List<String> activateNextInQueue(String partitionKey);
 
     /*
      * 대기열 퇴장 (삭제)
@@ -36,4 +91,66 @@ public interface QueueService {
      * 결제 페이지 진입 (만료 처리 + 대기자 입장)
      */
     void expireQueue(String token);
+
+    /*
+     * 입장 lease 연장 (본인 토큰이고 lease가 살아있는 ACTIVE일 때만)
+     * lease는 대기열 상태와 함께 저장되므로 어느 서버로 와도 같은 lease가 연장됨
+     *
+     * @return : 연장 여부
+     */
+    boolean renewLease(String token, Long userId);
+
+    /*
+     * lease가 지난 ACTIVE 만료 처리 (슬롯 반납 + 대기자 입장)
+     *
+     * @return : 만료 처리된 토큰 목록
+     */
+    List<String> expireLapsedLeases();
+
+    /*
+     * 지정한 토큰 중 lease가 지난 ACTIVE만 만료 처리 (lease 타이머가 만료 시각을 알린 토큰의 조건부 확인)
+     * 그 사이 다른 서버에서 연장된 토큰은 건너뜀
+     * 기본 구현은 전체 확인과 같음 (lease 만료 시각 인덱스를 가진 구현체)
+     *
+     * @return : 만료 처리된 토큰 목록
+     */
+    default List<String> expireLeasesIfLapsed(Collection<String> tokens) {
+        return tokens.isEmpty() ? List.of() : expireLapsedLeases();
+    }
+
+    /*
+     * 이탈한 사용자들의 WAITING 대기열 일괄 삭제 (ACTIVE는 건드리지 않음)
+     *
+     * @return : 삭제된 대기열 수
+     */
+    int evictWaiting(Collection<Long> userIds);
+
+    /*
+     * 기본 파티션의 현재 ACTIVE 인원 (입장 한도 조정용)
+     */
+    int getActiveCount();
+
+    /*
+     * 회차 전환: 끝난 회차의 대기열 닫기
+     * - 기본 파티션과 지난 회차 파티션의 WAITING / ACTIVE를 정리하고 입장권 회수 (다음 회차 파티션은 유지)
+     * - 테이블 전체를 지우지 않음, 남은 행은 purgeExpired로 나눠서 정리
+     *
+     * @param sequenceNum : 새로 시작한 회차
+     */
+    void closeRound(long sequenceNum);
+
+    /*
+     * before 이전에 만료된 대기열 행을 최대 limit건 삭제 (회차 종료 이후 백그라운드 정리)
+     * 기본 구현은 정리할 행을 남기지 않는 구현체용
+     *
+     * @return : 삭제한 행 수
+     */
+    default int purgeExpired(LocalDateTime before, int limit) {
+        return 0;
+    }
+
+    /*
+     * 회차 초기화: 대기열 전체 삭제
+     */
+    void clearQueue();
 }
@@ -2,74 +2,205 @@ package com.ticket.dojo.backdeepfamily.domain.queue.service;
 
 import com.ticket.dojo.backdeepfamily.domain.queue.dto.response.QueueEnterResponse;
 import com.ticket.dojo.backdeepfamily.domain.queue.dto.response.QueueStatusResponse;
+import com.ticket.dojo.backdeepfamily.domain.queue.engine.WaitingLineIndex;
+import com.ticket.dojo.backdeepfamily.domain.queue.event.QueueActivatedEvent;
+import com.ticket.dojo.backdeepfamily.domain.queue.event.QueueAdmissionRevokedEvent;
+import com.ticket.dojo.backdeepfamily.domain.queue.event.QueueSlotReleasedEvent;
 import com.ticket.dojo.backdeepfamily.domain.queue.entity.Queue;
 import com.ticket.dojo.backdeepfamily.domain.queue.entity.QueueStatus;
 import com.ticket.dojo.backdeepfamily.domain.queue.repository.QueueRepository;
+import com.ticket.dojo.backdeepfamily.domain.queue.ticket.AdmissionTicketSigner;
 import com.ticket.dojo.backdeepfamily.domain.user.entity.User;
 import com.ticket.dojo.backdeepfamily.domain.user.repository.UserRepository;
 import com.ticket.dojo.backdeepfamily.global.exception.QueueNotFoundException;
 import com.ticket.dojo.backdeepfamily.global.exception.UserNotFoundException;
-import lombok.RequiredArgsConstructor;
+import com.ticket.dojo.backdeepfamily.global.lifecycle.StateRestoreEvent;
+import com.ticket.dojo.backdeepfamily.global.util.transaction.TransactionUtil;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Service("basic")
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "queue.engine", havingValue = "basic", matchIfMissing = true)
 public class QueueServiceBasicImpl implements QueueService {
 
+    private static final int LAPSE_BATCH_SIZE = 500; // 한 번에 만료 처리할 lease 수
+    private static final int STATUS_BATCH_SIZE = 1000; // 상태 push 시 한 번에 조회할 토큰 수
+
     private final QueueRepository queueRepository;
     private final UserRepository userRepository;
     private final QueuePolicy queuePolicy;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AdmissionTicketSigner admissionTicketSigner;
+    private final int partitionMaxActiveUsers;
+    private final long leaseMillis;
+
+    // 파티션(회차 / 이벤트)별 슬롯 pool, 순번 인덱스 (파티션끼리 공유하는 상태 없음)
+    // 기본 파티션은 전역 QueuePolicy를 그대로 사용 (적응형 입장 제어 대상)
+    private final Map<String, Partition> partitions = new ConcurrentHashMap<>();
+
+    public QueueServiceBasicImpl(QueueRepository queueRepository, UserRepository userRepository, QueuePolicy queuePolicy,
+                                 ApplicationEventPublisher eventPublisher, AdmissionTicketSigner admissionTicketSigner,
+                                 @Value("${queue.partition.max-active-users:50}") int partitionMaxActiveUsers,
+                                 @Value("${queue.lease.ttl-ms:30000}") long leaseMillis) {
+        this.queueRepository = queueRepository;
+        this.userRepository = userRepository;
+        this.queuePolicy = queuePolicy;
+        this.eventPublisher = eventPublisher;
+        this.admissionTicketSigner = admissionTicketSigner;
+        this.partitionMaxActiveUsers = partitionMaxActiveUsers;
+        this.leaseMillis = leaseMillis;
+        this.partitions.put(Queue.DEFAULT_PARTITION, new Partition(Queue.DEFAULT_PARTITION, queuePolicy));
+    }
+
+    /**
+     * 기동 시 DB의 WAITING 대기열로 순번 인덱스 재구성
+     * lease가 없는(이전 버전에서 활성화된) ACTIVE와 중단 중에 lease가 지난 ACTIVE에는 새 lease 부여
+     */
+    @EventListener(StateRestoreEvent.class)
+    @Transactional
+    public void rebuildWaitingLineIndex() {
+        LocalDateTime now = LocalDateTime.now();
+        int leased = queueRepository.grantMissingLeases(QueueStatus.ACTIVE, now, leaseDeadline(now));
+        if (leased > 0) {
+            log.info("ACTIVE 대기열 lease 부여 - {}건", leased);
+        }
+
+        List<Object[]> keys = queueRepository.findIndexKeysByStatus(QueueStatus.WAITING);
+
+        partitions.values().forEach(partition -> partition.waitingLineIndex.clear());
+        for (Object[] key : keys) {
+            partition((String) key[3]).waitingLineIndex.add((String) key[0], (LocalDateTime) key[1], (Long) key[2]);
+        }
+
+        log.info("대기 순번 인덱스 재구성 완료 - {}건", keys.size());
+
+        reconcileActivePermits();
+    }
+
+    /**
+     * ACTIVE 슬롯 permit과 실제 ACTIVE 수 주기적 보정
+     * (직접 DB 수정, 비정상 종료 등으로 생긴 drift 복구)
+     */
+    @Scheduled(fixedDelayString = "${queue.permit.reconcile-interval-ms:10000}")
+    public void reconcileActivePermits() {
+        queueRepository.findPartitionKeysByStatus(QueueStatus.ACTIVE).forEach(this::partition);
+
+        for (Partition partition : partitions.values()) {
+            QueuePolicy policy = partition.policy;
+            int before = policy.getActivePermits();
+
+            // 여러 노드가 나눠 쓰는 pool은 DB 전체 ACTIVE 수가 아니라 이 노드가 활성화한 ACTIVE 수로 맞춤
+            // (다른 노드에서 퇴장 / 만료되면 그 노드의 permit이 반납되므로 양쪽 모두 여기서 수렴)
+            String owner = policy.getLeaseOwner();
+            if (policy.reconcile(() -> owner == null
+                    ? queueRepository.countByPartitionKeyAndStatus(partition.key, QueueStatus.ACTIVE)
+                    : queueRepository.countByPartitionKeyAndStatusAndActivatedBy(partition.key, QueueStatus.ACTIVE, owner))) {
+                int after = policy.getActivePermits();
+                if (before != after) {
+                    log.warn("ACTIVE 슬롯 permit 보정 - partition: {}, {} -> {}", partition.key, before, after);
+                }
+            }
+        }
+    }
 
     /**
      * 대기열 진입
+     * - 이미 ACTIVE / WAITING 대기열이 있으면 토큰과 순번을 그대로 반환 (재시도, 중복 클릭)
+     * - 대기 중인 재시도는 사용자 인덱스 + 순번 인덱스로 DB 조회 없이 응답
+     * - 그 외에는 사용자 행을 잠근 뒤 조회하므로 같은 사용자의 동시 진입도 대기열 1건만 생성
+     * - 같은 사용자라도 파티션이 다르면 별개의 대기열
      * @param userId : 진입하는 사용자
+     * @param partitionKey : 대기열 파티션 (없으면 기본 파티션)
      * @return
      */
     @Transactional
     @Override
-    public QueueEnterResponse enterQueue(Long userId) {
-
-        log.info("대기열 진입 요청 - userId: {}", userId);
+    public QueueEnterResponse enterQueue(Long userId, String partitionKey) {
+
+        Partition partition = partition(Queue.normalizePartition(partitionKey));
+        log.info("대기열 진입 요청 - userId: {}, partition: {}", userId, partition.key);
+
+        // 1. 대기 중인 재시도는 인덱스에서 바로 응답 (여러 노드가 나눠 쓰는 pool이면 인덱스를 믿지 않음)
+        EnteredToken entered = partition.isNodeLocal() ? partition.enteredTokensByUser.get(userId) : null;
+        if (entered != null) {
+            int position = partition.waitingLineIndex.positionOf(entered.token);
+            if (position > 0) {
+                log.info("기존 대기열 반환 - userId: {}, Token: {}, Position: {}", userId, entered.token, position);
+                return QueueEnterResponse.builder()
+                        .token(entered.token)
+                        .partitionKey(partition.key)
+                        .status(QueueStatus.WAITING)
+                        .position(position)
+                        .enteredAt(entered.enteredAt)
+                        .build();
+            }
+        }
 
-        // 1. 사용자 조회
-        User user = userRepository.findById(userId)
+        // 2. 사용자 행 잠금 (동시에 들어온 같은 사용자의 진입은 앞선 진입이 커밋될 때까지 대기)
+        User user = userRepository.findByIdForUpdate(userId)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다. 유저 ID : " + userId));
 
+        // 3. 살아있는 대기열이 있으면 그대로 반환 (여러 건이면 가장 먼저 들어온 대기열)
+        List<Queue> existingQueues = queueRepository.findByUserIdAndStatusIn(userId, partition.key, List.of(QueueStatus.ACTIVE, QueueStatus.WAITING));
+        if (!existingQueues.isEmpty()) {
+            Queue queue = existingQueues.get(0);
+            if (existingQueues.size() > 1) {
+                log.warn("사용자의 살아있는 대기열이 여러 건 - userId: {}, partition: {}, {}건", userId, partition.key, existingQueues.size());
+            }
+            rememberEntered(partition, userId, queue);
+            log.info("기존 대기열 반환 - userId: {}, Token: {}, Status: {}", userId, queue.getTokenValue(), queue.getStatus());
+            return QueueEnterResponse.from(queue, positionOf(queue), issueTicket(queue));
+        }
 
-        // 2. 기존 대기열 세션 정리
-        queueRepository.findByUserAndStatusIn(user, List.of(QueueStatus.ACTIVE, QueueStatus.WAITING))
-                .ifPresent(existingQueue -> {
-                    log.info("기존 대기열 세션 삭제 - 유저 ID : {}", user.getUserId());
-                    queueRepository.delete(existingQueue);
-                });
-
-        // 3. 현재 활성 상태 확인 및 큐 생성
-        int activeCount = queueRepository.countByStatus(QueueStatus.ACTIVE);
+        // 4. 활성 슬롯 점유 시도 및 큐 생성
         Queue createQueue = null;
 
-        // 3.1 50명 미만이면 바로 입장
-        if(queuePolicy.canActivateImmediately(activeCount)){
-            log.info("대기열 즉시 진입 (Active < {})", queuePolicy.getMaxActiveUsers());
-            createQueue = Queue.createActive(user);
+        // 4.1 슬롯을 점유하면 바로 입장
+        if(acquirePermits(partition.policy, 1) == 1){
+            log.info("대기열 즉시 진입 (Active < {})", partition.policy.getLocalLimit());
+            createQueue = Queue.createActive(user, partition.key);
+            createQueue.renewLease(leaseDeadline(LocalDateTime.now()));
+            createQueue.markActivatedBy(partition.policy.getLeaseOwner());
         }
-        // 3.2 50명 이상이면 대기열 진입
+        // 4.2 빈 슬롯이 없으면 대기열 진입
         else{
-            createQueue = Queue.createWaiting(user);
+            createQueue = Queue.createWaiting(user, partition.key);
         }
 
-        // 4. 저장
+        // 5. 저장
         Queue savedQueue = queueRepository.save(createQueue);
 
+        if (savedQueue.isWaiting()) {
+            TransactionUtil.afterCommit(() -> partition.waitingLineIndex.add(
+                    savedQueue.getTokenValue(), savedQueue.getEnteredAt(), savedQueue.getId()));
+        } else {
+            eventPublisher.publishEvent(new QueueActivatedEvent(List.of(savedQueue.getTokenValue())));
+        }
+        rememberEntered(partition, userId, savedQueue);
+
         log.info("대기열 진입 완료 - Token: {}, Status: {}", savedQueue.getTokenValue(), savedQueue.getStatus());
 
-        return QueueEnterResponse.from(savedQueue);
+        return QueueEnterResponse.from(savedQueue, positionOf(savedQueue), issueTicket(savedQueue));
     }
 
     /**
@@ -81,61 +212,155 @@ public class QueueServiceBasicImpl implements QueueService {
     @Override
     public QueueStatusResponse getQueueStatus(String token) {
 
-        log.info("대기열 상태 조회 요청 - token: {}", token);
+        log.debug("대기열 상태 조회 요청 - token: {}", token);
 
         // 1. 대기열 조회
         Queue queue = queueRepository.findByTokenValue(token)
                 .orElseThrow(() -> new QueueNotFoundException("대기열을 찾을 수 없습니다. 토큰 : " + token));
 
         // 2. 현재 대기 순번 계산
-        int currentPosition = 0;
+        int currentPosition = positionOf(queue);
 
-        if(queue.isWaiting()){
-            currentPosition = queueRepository.countByStatusAndEnteredAtBefore(QueueStatus.WAITING, queue.getEnteredAt()) + 1;
-        }
+        log.debug("대기열 상태 조회 완료 - Token: {}, Position: {}, Status: {}", token, currentPosition, queue.getStatus());
 
-        log.info("대기열 상태 조회 완료 - Token: {}, Position: {}, Status: {}", token, currentPosition, queue.getStatus());
+        return QueueStatusResponse.of(queue, currentPosition, issueTicket(queue));
+    }
 
-        return QueueStatusResponse.of(queue, currentPosition);
+    /**
+     * 여러 토큰의 상태 한 번에 조회 (상태 push)
+     * - STATUS_BATCH_SIZE개씩 한 번의 IN 조회
+     * - 순번은 대기 순번 인덱스에서 계산, 인덱스로 구할 수 없는 대기자(lease 모드 등)만 모아서 한 번의 COUNT 조회
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, QueueStatusResponse> getQueueStatuses(Collection<String> tokens) {
+        List<String> tokenList = List.copyOf(tokens);
+        Map<String, QueueStatusResponse> statuses = new HashMap<>();
+
+        for (int from = 0; from < tokenList.size(); from += STATUS_BATCH_SIZE) {
+            List<Queue> queues = queueRepository.findAllByTokenValueIn(
+                    tokenList.subList(from, Math.min(from + STATUS_BATCH_SIZE, tokenList.size())));
+
+            Map<String, Integer> positions = new HashMap<>();
+            List<String> uncounted = new ArrayList<>();
+            for (Queue queue : queues) {
+                int position = indexedPositionOf(queue);
+                if (position < 0) {
+                    uncounted.add(queue.getTokenValue());
+                } else {
+                    positions.put(queue.getTokenValue(), position);
+                }
+            }
+
+            if (!uncounted.isEmpty()) {
+                Map<String, Long> ahead = new HashMap<>();
+                for (Object[] row : queueRepository.countAheadByTokenValueIn(uncounted, QueueStatus.WAITING)) {
+                    ahead.put((String) row[0], (Long) row[1]);
+                }
+                uncounted.forEach(token -> positions.put(token, ahead.getOrDefault(token, 0L).intValue() + 1));
+            }
+
+            for (Queue queue : queues) {
+                statuses.put(queue.getTokenValue(),
+                        QueueStatusResponse.of(queue, positions.get(queue.getTokenValue()), issueTicket(queue)));
+            }
+        }
+        return statuses;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public boolean isOwnedBy(String token, Long userId) {
+        return userId != null && queueRepository.findUserIdByTokenValue(token)
+                .map(userId::equals)
+                .orElse(false);
     }
 
     /**
      * 다음 사용자 활성화
+     * - 파티션마다 자기 슬롯 한도 안에서 대기 줄 앞부터 활성화 (한 파티션의 폭주가 다른 파티션 입장을 막지 않음)
+     * - 대기 줄 앞에서부터 (id, 토큰)만 조회한 뒤 한 번의 UPDATE로 일괄 활성화
+     *
+     * @return 활성화된 토큰 목록
      */
     @Transactional
     @Override
-    public void activateNextInQueue() {
+    public List<String> activateNextInQueue() {
+
+        List<String> activatedTokens = new ArrayList<>();
+        for (Partition partition : partitions.values()) {
+            activatedTokens.addAll(activate(partition));
+        }
 
-        int activeCount = queueRepository.countByStatus(QueueStatus.ACTIVE); // 활성화 큐 개수
-        int availableSlots = queuePolicy.calculateAvailableSlots(activeCount); // 활성 가능한 개수
+        if (!activatedTokens.isEmpty()) {
+            eventPublisher.publishEvent(new QueueActivatedEvent(activatedTokens));
+        }
+        return activatedTokens;
+    }
+
+    /**
+     * 한 파티션만 활성화 (슬롯이 반납된 파티션, 다른 파티션은 조회하지 않음)
+     */
+    @Transactional
+    @Override
+    public List<String> activateNextInQueue(String partitionKey) {
+
+        List<String> activatedTokens = activate(partition(Queue.normalizePartition(partitionKey)));
+
+        if (!activatedTokens.isEmpty()) {
+            eventPublisher.publishEvent(new QueueActivatedEvent(activatedTokens));
+        }
+        return activatedTokens;
+    }
+
+    private List<String> activate(Partition partition) {
+
+        QueuePolicy policy = partition.policy;
+        int activeCount = policy.getActivePermits(); // 점유 중인 슬롯 수
+        int availableSlots = policy.calculateAvailableSlots(activeCount); // 활성 가능한 개수
 
         // 1. 활성 가능한 슬릇이 없으면
         if (availableSlots <= 0) {
-            log.debug("활성화 가능한 슬롯이 없습니다 - Active: {}", activeCount);
-            return;
+            log.debug("활성화 가능한 슬롯이 없습니다 - partition: {}, Active: {}", partition.key, activeCount);
+            return List.of();
         }
 
-        log.info("대기열 활성화 시작 - 빈자리: {}명", availableSlots);
+        log.info("대기열 활성화 시작 - partition: {}, 빈자리: {}명", partition.key, availableSlots);
         Pageable pageable = PageRequest.of(0, availableSlots);
 
-        // 2. 대기중인 입장 순 대기열 조회
-        List<Queue> waitingQueues = queueRepository.findByStatusOrderByEnteredAtAsc(QueueStatus.WAITING, pageable);
+        // 2. 대기중인 입장 순 대기열 (id, 토큰) 조회
+        List<Object[]> heads = queueRepository.findHeadKeysByStatus(partition.key, QueueStatus.WAITING, pageable);
 
-        // 3. 대기중인 큐 활성 가능한 개수만큼 활성화
-        if(waitingQueues.isEmpty()){
-            log.info("활성화할 대기 중인 큐가 없습니다.");
-            return;
+        if(heads.isEmpty()){
+            log.info("활성화할 대기 중인 큐가 없습니다. partition: {}", partition.key);
+            return List.of();
         }
 
-        for(int i=0; i<waitingQueues.size(); i++){
-            Queue queue = waitingQueues.get(i);
-            queue.activate();
-            log.debug("큐 활성화 - Token : {}", queue.getTokenValue());
+        // 조회하는 사이 다른 요청이 슬롯을 가져갔을 수 있으므로 실제 점유한 만큼만 활성화
+        int granted = acquirePermits(policy, heads.size());
+        if (granted == 0) {
+            return List.of();
         }
 
-        queueRepository.saveAll(waitingQueues);
+        List<Object[]> targets = heads.subList(0, granted);
+        List<Long> ids = targets.stream().map(key -> (Long) key[0]).toList();
+
+        // 3. 한 번의 UPDATE로 활성화 (그 사이 퇴장하거나 다른 서버가 활성화한 행은 제외됨)
+        LocalDateTime now = LocalDateTime.now();
+        int updated = queueRepository.updateStatusByIdIn(ids, QueueStatus.WAITING, QueueStatus.ACTIVE, now,
+                leaseDeadline(now), policy.getLeaseOwner());
 
-        log.info("대기열 활성화 완료 - 활성화된 인원: {}명", waitingQueues.size());
+        List<String> activatedTokens = targets.stream().map(key -> (String) key[1]).toList();
+        if (updated < granted) {
+            releasePermits(policy, granted - updated);
+            activatedTokens = queueRepository.findTokenValuesByIdInAndStatus(ids, QueueStatus.ACTIVE);
+        }
+
+        List<String> indexedTokens = activatedTokens;
+        TransactionUtil.afterCommit(() -> indexedTokens.forEach(partition.waitingLineIndex::remove));
+
+        log.info("대기열 활성화 완료 - partition: {}, 활성화된 인원: {}명", partition.key, updated);
+        return activatedTokens;
     }
 
     /**
@@ -152,27 +377,312 @@ public class QueueServiceBasicImpl implements QueueService {
                 .orElseThrow(() -> new QueueNotFoundException("대기열을 찾을 수 없습니다. 토큰 : " + token));
 
         queueRepository.delete(queue);
-
+        Partition partition = partition(queue.getPartitionKey());
+        Long userId = queue.getUser().getUserId();
+        TransactionUtil.afterCommit(() -> {
+            partition.waitingLineIndex.remove(token);
+            forgetEntered(partition, userId, token);
+        });
         log.info("대기열 퇴장 완료 - token: {}, userId: {}", token, queue.getUser().getUserId());
 
-        activateNextInQueue();
+        // 빈자리는 커밋 이후 QueueScheduler가 모아서 활성화
+        if (queue.isActive()) {
+            releasePermits(partition.policy, 1);
+            eventPublisher.publishEvent(new QueueSlotReleasedEvent(token, partition.key));
+            eventPublisher.publishEvent(QueueAdmissionRevokedEvent.of(List.of(token)));
+        }
     }
 
+    /**
+     * 대기열 만료 (결제 완료 시 입장권 회수)
+     * - 행을 읽지 않고 ACTIVE인 경우에만 한 번의 UPDATE로 만료
+     */
     @Transactional
     @Override
     public void expireQueue(String token) {
 
         log.info("결제 진입 (만료 처리) 요청 - token: {}", token);
 
+        int expired = queueRepository.updateStatusByTokenValue(token, QueueStatus.ACTIVE, QueueStatus.EXPIRED, LocalDateTime.now());
+
+        if (expired == 1) {
+            String partitionKey = queueRepository.findPartitionKeyByTokenValue(token).orElse(Queue.DEFAULT_PARTITION);
+            releasePermits(partition(partitionKey).policy, 1);
+            log.info("토큰 만료 처리 완료 - token: {}", token);
+            eventPublisher.publishEvent(new QueueSlotReleasedEvent(token, partitionKey));
+            eventPublisher.publishEvent(QueueAdmissionRevokedEvent.of(List.of(token)));
+            return;
+        }
+
+        // 만료 대상이 아니면 존재 여부 확인 후 무시 (없는 토큰은 예외)
         Queue queue = queueRepository.findByTokenValue(token)
                 .orElseThrow(() -> new QueueNotFoundException("대기열을 찾을 수 없습니다. 토큰 : " + token));
+        log.warn("Active 상태가 아닌 토큰에 대한 만료 요청 무시 - token: {}, status: {}", token, queue.getStatus());
+    }
 
-        if (queue.isActive()) {
-            queue.expire();
-            log.info("토큰 만료 처리 완료 - token: {}", token);
-            activateNextInQueue();
-        } else {
-            log.warn("Active 상태가 아닌 토큰에 대한 만료 요청 무시 - token: {}, status: {}", token, queue.getStatus());
+    /**
+     * 이탈한 사용자들의 WAITING 대기열 일괄 삭제
+     * - 토큰 조회 1번 + DELETE 1번, 그 사이 활성화된 행은 삭제되지 않음
+     */
+    @Transactional
+    @Override
+    public int evictWaiting(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        List<String> tokens = queueRepository.findTokenValuesByUserIdInAndStatus(userIds, QueueStatus.WAITING);
+        if (tokens.isEmpty()) {
+            return 0;
+        }
+
+        int deleted = queueRepository.deleteByTokenValueInAndStatus(tokens, QueueStatus.WAITING);
+        TransactionUtil.afterCommit(() -> {
+            for (Partition partition : partitions.values()) {
+                tokens.forEach(partition.waitingLineIndex::remove);
+                userIds.forEach(partition.enteredTokensByUser::remove);
+            }
+        });
+
+        log.info("이탈 사용자 대기열 삭제 - {}건", deleted);
+        return deleted;
+    }
+
+    /**
+     * 입장 lease 연장 (queue 행에 저장하므로 어느 노드로 와도 같은 lease가 연장됨)
+     */
+    @Transactional
+    @Override
+    public boolean renewLease(String token, Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        return queueRepository.renewLease(token, userId, QueueStatus.ACTIVE, now, leaseDeadline(now)) == 1;
+    }
+
+    /**
+     * lease가 지난 ACTIVE 만료 처리
+     * - 행마다 lease가 지난 경우에만 UPDATE하므로 그 사이 연장된 행이나 다른 노드가 먼저 만료시킨 행은 건너뜀
+     * - 빈자리는 커밋 이후 QueueScheduler가 파티션별로 모아서 활성화
+     */
+    @Transactional
+    @Override
+    public List<String> expireLapsedLeases() {
+        LocalDateTime now = LocalDateTime.now();
+        return expireLapsed(queueRepository.findLapsedLeaseKeys(QueueStatus.ACTIVE, now, PageRequest.of(0, LAPSE_BATCH_SIZE)), now);
+    }
+
+    /**
+     * lease 타이머가 알린 토큰만 확인 (queue 테이블 전체 스캔 없이 토큰 인덱스로 조회)
+     */
+    @Transactional
+    @Override
+    public List<String> expireLeasesIfLapsed(Collection<String> tokens) {
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return expireLapsed(queueRepository.findLapsedLeaseKeysByTokenValueIn(tokens, QueueStatus.ACTIVE, now), now);
+    }
+
+    private List<String> expireLapsed(List<Object[]> lapsed, LocalDateTime now) {
+        List<String> expiredTokens = new ArrayList<>();
+        for (Object[] key : lapsed) {
+            String token = (String) key[0];
+            String partitionKey = (String) key[1];
+            if (queueRepository.updateStatusByTokenValueIfLeaseLapsed(token, QueueStatus.ACTIVE, QueueStatus.EXPIRED, now) == 1) {
+                releasePermits(partition(partitionKey).policy, 1);
+                eventPublisher.publishEvent(new QueueSlotReleasedEvent(token, partitionKey));
+                expiredTokens.add(token);
+            }
+        }
+
+        if (!expiredTokens.isEmpty()) {
+            eventPublisher.publishEvent(QueueAdmissionRevokedEvent.of(expiredTokens));
+        }
+        return expiredTokens;
+    }
+
+    /**
+     * 기본 파티션에서 점유 중인 슬롯 수 (lease를 나눠 쓰는 경우 이 노드의 점유 수)
+     */
+    @Override
+    public int getActiveCount() {
+        return queuePolicy.getActivePermits();
+    }
+
+    @Transactional
+    @Override
+    public void clearQueue() {
+        queueRepository.deleteAllInBatch();
+        TransactionUtil.afterCommit(() -> {
+            partitions.keySet().removeIf(key -> !Queue.DEFAULT_PARTITION.equals(key));
+            Partition defaultPartition = partitions.get(Queue.DEFAULT_PARTITION);
+            defaultPartition.waitingLineIndex.clear();
+            defaultPartition.enteredTokensByUser.clear();
+            queuePolicy.resetPermits();
+        });
+        eventPublisher.publishEvent(QueueAdmissionRevokedEvent.all());
+    }
+
+    /**
+     * 회차 종료: 기본 파티션과 지난 회차 파티션의 WAITING / ACTIVE를 한 번의 UPDATE로 만료
+     * - 입장권은 ACTIVE였던 토큰만 회수 (다음 회차 파티션의 입장권은 그대로)
+     * - 만료된 행은 purgeExpired가 chunk 단위로 삭제
+     * - 여러 노드가 각자 호출해도 두 번째부터는 만료할 행이 없고, 노드마다 자기 인덱스 / permit만 초기화
+     */
+    @Transactional
+    @Override
+    public void closeRound(long sequenceNum) {
+        Set<String> closedKeys = new HashSet<>(partitions.keySet());
+        closedKeys.addAll(queueRepository.findPartitionKeysByStatus(QueueStatus.WAITING));
+        closedKeys.addAll(queueRepository.findPartitionKeysByStatus(QueueStatus.ACTIVE));
+        closedKeys.removeIf(key -> !Queue.closesAtRound(key, sequenceNum));
+
+        List<String> activeTokens = queueRepository.findTokenValuesByPartitionKeyInAndStatus(closedKeys, QueueStatus.ACTIVE);
+        int closed = queueRepository.updateStatusByPartitionKeyIn(closedKeys,
+                List.of(QueueStatus.WAITING, QueueStatus.ACTIVE), QueueStatus.EXPIRED, LocalDateTime.now());
+
+        TransactionUtil.afterCommit(() -> closedKeys.forEach(key -> {
+            if (!Queue.DEFAULT_PARTITION.equals(key)) {
+                partitions.remove(key);
+                return;
+            }
+            Partition defaultPartition = partitions.get(Queue.DEFAULT_PARTITION);
+            defaultPartition.waitingLineIndex.clear();
+            defaultPartition.enteredTokensByUser.clear();
+            queuePolicy.resetPermits();
+        }));
+        if (!activeTokens.isEmpty()) {
+            eventPublisher.publishEvent(QueueAdmissionRevokedEvent.of(activeTokens));
+        }
+
+        log.info("회차 대기열 정리 - 회차: {}, 파티션: {}, 만료: {}건", sequenceNum, closedKeys, closed);
+    }
+
+    @Transactional
+    @Override
+    public int purgeExpired(LocalDateTime before, int limit) {
+        return queueRepository.deleteExpiredBefore(before, limit);
+    }
+
+    /**
+     * 대기 순번 (인덱스에 아직 반영되지 않은 경우(커밋 직후 등)에만 DB 계산)
+     * 여러 노드가 나눠 쓰는 pool은 다른 노드의 진입 / 활성화가 인덱스에 반영되지 않으므로 항상 DB 계산
+     */
+    private int positionOf(Queue queue) {
+        int position = indexedPositionOf(queue);
+        if (position < 0) {
+            position = queueRepository.countAhead(queue.getPartitionKey(), QueueStatus.WAITING,
+                    queue.getEnteredAt(), queue.getId()) + 1;
+        }
+        return position;
+    }
+
+    /**
+     * 대기 순번 인덱스로 구한 순번 (대기 중이 아니면 0, 인덱스로 구할 수 없으면 -1)
+     */
+    private int indexedPositionOf(Queue queue) {
+        if (!queue.isWaiting()) {
+            return 0;
+        }
+
+        Partition partition = partition(queue.getPartitionKey());
+        int position = partition.isNodeLocal() ? partition.waitingLineIndex.positionOf(queue.getTokenValue()) : 0;
+        return position > 0 ? position : -1;
+    }
+
+    private LocalDateTime leaseDeadline(LocalDateTime now) {
+        return now.plus(Duration.ofMillis(leaseMillis));
+    }
+
+    /**
+     * 사용자 -> 토큰 인덱스 등록 (커밋 이후)
+     */
+    private void rememberEntered(Partition partition, Long userId, Queue queue) {
+        EnteredToken entered = new EnteredToken(queue.getTokenValue(), queue.getEnteredAt());
+        TransactionUtil.afterCommit(() -> partition.enteredTokensByUser.put(userId, entered));
+    }
+
+    private String issueTicket(Queue queue) {
+        return admissionTicketSigner.issueIfActive(queue.getStatus(), queue.getTokenValue(),
+                queue.getUser().getUserId(), queue.getPartitionKey(), queue.getActivatedAt());
+    }
+
+    private void forgetEntered(Partition partition, Long userId, String token) {
+        partition.enteredTokensByUser.computeIfPresent(userId, (key, entered) -> entered.token.equals(token) ? null : entered);
+    }
+
+    /**
+     * ACTIVE 슬롯 점유 (롤백되면 반납)
+     *
+     * @return 실제로 점유한 슬롯 수
+     */
+    private int acquirePermits(QueuePolicy policy, int requested) {
+        policy.beginPendingChange();
+        int granted = policy.acquireUpTo(requested);
+
+        TransactionUtil.afterCompletion(committed -> {
+            if (!committed) {
+                policy.release(granted);
+            }
+            policy.endPendingChange();
+        });
+        return granted;
+    }
+
+    /**
+     * ACTIVE 슬롯 반납 (롤백되면 다시 점유)
+     */
+    private void releasePermits(QueuePolicy policy, int count) {
+        policy.beginPendingChange();
+        policy.release(count);
+
+        TransactionUtil.afterCompletion(committed -> {
+            if (!committed) {
+                policy.occupy(count);
+            }
+            policy.endPendingChange();
+        });
+    }
+
+    /**
+     * 파티션 상태 조회 (처음 보는 파티션이면 기본 한도로 생성)
+     */
+    private Partition partition(String partitionKey) {
+        return partitions.computeIfAbsent(partitionKey,
+                key -> new Partition(key, new QueuePolicy(partitionMaxActiveUsers)));
+    }
+
+    private static final class Partition {
+        private final String key;
+        private final QueuePolicy policy;
+
+        // 대기 순번 인덱스 (커밋된 WAITING만 반영)
+        private final WaitingLineIndex waitingLineIndex = new WaitingLineIndex();
+
+        // 사용자 -> 마지막으로 진입한 토큰 (재시도 응답용 힌트, 순번 인덱스에 있을 때만 신뢰)
+        private final Map<Long, EnteredToken> enteredTokensByUser = new ConcurrentHashMap<>();
+
+        private Partition(String key, QueuePolicy policy) {
+            this.key = key;
+            this.policy = policy;
+        }
+
+        /**
+         * 이 노드만 진입 / 활성화하는 pool인지 (인덱스와 힌트를 믿을 수 있는지)
+         * lease로 한도를 나눠 쓰면 다른 노드도 같은 파티션에 진입 / 활성화하므로 false
+         */
+        private boolean isNodeLocal() {
+            return !policy.isCapacityLeased();
+        }
+    }
+
+    private static final class EnteredToken {
+        private final String token;
+        private final LocalDateTime enteredAt;
+
+        private EnteredToken(String token, LocalDateTime enteredAt) {
+            this.token = token;
+            this.enteredAt = enteredAt;
         }
     }
 }
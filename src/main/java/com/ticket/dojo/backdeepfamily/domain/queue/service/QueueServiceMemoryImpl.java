@@ -0,0 +1,359 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.service;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.dto.response.QueueEnterResponse;
+import com.ticket.dojo.backdeepfamily.domain.queue.dto.response.QueueStatusResponse;
+import com.ticket.dojo.backdeepfamily.domain.queue.engine.QueueEngine;
+import com.ticket.dojo.backdeepfamily.domain.queue.engine.QueueEntry;
+import com.ticket.dojo.backdeepfamily.domain.queue.engine.QueueWriteBehind;
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.Queue;
+import com.ticket.dojo.backdeepfamily.domain.queue.event.QueueActivatedEvent;
+import com.ticket.dojo.backdeepfamily.domain.queue.event.QueueAdmissionRevokedEvent;
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.QueueStatus;
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.Token;
+import com.ticket.dojo.backdeepfamily.domain.queue.repository.QueueRepository;
+import com.ticket.dojo.backdeepfamily.domain.queue.ticket.AdmissionTicketSigner;
+import com.ticket.dojo.backdeepfamily.global.exception.QueueNotFoundException;
+import com.ticket.dojo.backdeepfamily.global.exception.ServerBusyException;
+import com.ticket.dojo.backdeepfamily.global.lifecycle.StateRestoreEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인메모리 대기열 구현체 (queue.engine=memory)
+ *
+ * - WAITING/ACTIVE 상태를 QueueEngine에서 관리하여 요청 경로에서 DB 접근 제거
+ * - DB 반영은 QueueWriteBehind가 비동기로 일괄 처리 (반영이 밀려 포화되면 새 진입만 503으로 거절)
+ * - 기동 시 queue 테이블에서 살아있는 대기열을 읽어 엔진 재구성
+ * - 파티션(회차 / 이벤트)마다 엔진이 따로 있어 락과 대기 줄을 공유하지 않음
+ * - 입장 lease 만료 시각은 엔진 항목에 저장 (재기동 시 ACTIVE 항목에 새 lease 부여)
+ * - 토큰 / 사용자 -> 파티션 맵으로 조회 / 퇴장 / 만료 / 이탈 삭제가 해당 파티션 엔진만 거침
+ */
+@Slf4j
+@Service("memory")
+@ConditionalOnProperty(name = "queue.engine", havingValue = "memory")
+public class QueueServiceMemoryImpl implements QueueService {
+
+    private final QueueRepository queueRepository;
+    private final QueuePolicy queuePolicy;
+    private final QueueWriteBehind queueWriteBehind;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AdmissionTicketSigner admissionTicketSigner;
+    private final int partitionMaxActiveUsers;
+    private final long leaseMillis;
+
+    // 파티션 -> 엔진 (기본 파티션 한도는 전역 QueuePolicy, 나머지는 queue.partition.max-active-users)
+    private final Map<String, QueueEngine> engines = new ConcurrentHashMap<>();
+
+    // 토큰 -> 파티션 (토큰의 파티션은 바뀌지 않으므로 퇴장 / 이탈 삭제 시에만 제거)
+    private final Map<String, String> partitionByToken = new ConcurrentHashMap<>();
+
+    // 사용자 -> 진입한 적 있는 파티션 (이탈 삭제 대상 엔진만 찾기 위한 상위 집합, 초기화 / 회차 종료 시 정리)
+    private final Map<Long, Set<String>> partitionsByUser = new ConcurrentHashMap<>();
+
+    public QueueServiceMemoryImpl(QueueRepository queueRepository, QueuePolicy queuePolicy, QueueWriteBehind queueWriteBehind,
+                                  ApplicationEventPublisher eventPublisher, AdmissionTicketSigner admissionTicketSigner,
+                                  @Value("${queue.partition.max-active-users:50}") int partitionMaxActiveUsers,
+                                  @Value("${queue.lease.ttl-ms:30000}") long leaseMillis) {
+        this.queueRepository = queueRepository;
+        this.queuePolicy = queuePolicy;
+        this.queueWriteBehind = queueWriteBehind;
+        this.eventPublisher = eventPublisher;
+        this.admissionTicketSigner = admissionTicketSigner;
+        this.partitionMaxActiveUsers = partitionMaxActiveUsers;
+        this.leaseMillis = leaseMillis;
+        engine(Queue.DEFAULT_PARTITION);
+    }
+
+    /**
+     * 기동 시 DB의 WAITING/ACTIVE 대기열로 엔진 재구성
+     */
+    @EventListener(StateRestoreEvent.class)
+    @Transactional(readOnly = true)
+    public void restore() {
+        List<Queue> queues = queueRepository.findByStatusInOrderByEnteredAtAscIdAsc(
+                List.of(QueueStatus.WAITING, QueueStatus.ACTIVE));
+
+        for (Queue queue : queues) {
+            Long userId = queue.getUser().getUserId();
+            engine(queue.getPartitionKey()).restore(userId, queue.getTokenValue(), queue.getStatus(),
+                    queue.getEnteredAt(), queue.getActivatedAt());
+            remember(userId, queue.getTokenValue(), queue.getPartitionKey());
+        }
+
+        log.info("인메모리 대기열 재구성 완료 - {}건 (파티션: {}개)", queues.size(), engines.size());
+    }
+
+    /**
+     * 대기열 진입
+     * userId는 인증된 사용자에서 오므로 사용자 조회 없이 진행
+     */
+    @Override
+    public QueueEnterResponse enterQueue(Long userId, String partitionKey) {
+
+        if (queueWriteBehind.isSaturated()) {
+            throw new ServerBusyException("대기열 저장이 밀려 잠시 진입할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        QueueEngine queueEngine = engine(Queue.normalizePartition(partitionKey));
+        log.info("대기열 진입 요청 - userId: {}, partition: {}", userId, queueEngine.getPartitionKey());
+
+        String token = Token.generate().getValue();
+        QueueEntry entry = queueEngine.enter(userId, token, maxActiveUsers(queueEngine));
+        boolean created = entry.getToken().equals(token);
+        if (created) {
+            remember(userId, token, queueEngine.getPartitionKey());
+        }
+
+        log.info("대기열 진입 완료 - Token: {}, Status: {}, 기존 대기열 여부: {}", entry.getToken(), entry.getStatus(), !created);
+
+        if (created && entry.isActive()) {
+            eventPublisher.publishEvent(new QueueActivatedEvent(List.of(entry.getToken())));
+        }
+
+        return QueueEnterResponse.builder()
+                .token(entry.getToken())
+                .partitionKey(entry.getPartitionKey())
+                .status(entry.getStatus())
+                .position(queueEngine.positionOf(entry))
+                .enteredAt(entry.getEnteredAt())
+                .admissionTicket(issueTicket(entry))
+                .build();
+    }
+
+    @Override
+    public QueueStatusResponse getQueueStatus(String token) {
+
+        QueueEntry entry = findEntry(token);
+        int currentPosition = engines.get(entry.getPartitionKey()).positionOf(entry);
+
+        log.debug("대기열 상태 조회 완료 - Token: {}, Position: {}, Status: {}", token, currentPosition, entry.getStatus());
+
+        return QueueStatusResponse.builder()
+                .token(entry.getToken())
+                .position(currentPosition)
+                .status(entry.getStatus())
+                .admissionTicket(issueTicket(entry))
+                .build();
+    }
+
+    @Override
+    public boolean isOwnedBy(String token, Long userId) {
+        QueueEngine queueEngine = engineOf(token);
+        QueueEntry entry = queueEngine == null ? null : queueEngine.find(token);
+        return entry != null && entry.getUserId().equals(userId);
+    }
+
+    @Override
+    public List<String> activateNextInQueue() {
+        List<QueueEntry> activated = new ArrayList<>();
+        for (QueueEngine queueEngine : engines.values()) {
+            activated.addAll(queueEngine.activateNext(maxActiveUsers(queueEngine)));
+        }
+        return publishActivated(activated);
+    }
+
+    @Override
+    public List<String> activateNextInQueue(String partitionKey) {
+        QueueEngine queueEngine = engines.get(Queue.normalizePartition(partitionKey));
+        if (queueEngine == null) {
+            return List.of();
+        }
+        return publishActivated(queueEngine.activateNext(maxActiveUsers(queueEngine)));
+    }
+
+    @Override
+    public void exitQueue(String token) {
+
+        log.info("대기열 퇴장 요청 - token: {}", token);
+
+        QueueEngine queueEngine = engineOf(token);
+        QueueEntry entry = queueEngine == null ? null : queueEngine.exit(token);
+        if (entry == null) {
+            throw new QueueNotFoundException("대기열을 찾을 수 없습니다. 토큰 : " + token);
+        }
+        partitionByToken.remove(token);
+
+        log.info("대기열 퇴장 완료 - token: {}, userId: {}", token, entry.getUserId());
+
+        if (entry.getStatus().isActive()) {
+            eventPublisher.publishEvent(QueueAdmissionRevokedEvent.of(List.of(token)));
+            activateNextInQueue(entry.getPartitionKey());
+        }
+    }
+
+    @Override
+    public void expireQueue(String token) {
+
+        log.info("결제 진입 (만료 처리) 요청 - token: {}", token);
+
+        QueueEntry entry = findEntry(token);
+
+        if (engines.get(entry.getPartitionKey()).expire(token)) {
+            log.info("토큰 만료 처리 완료 - token: {}", token);
+            eventPublisher.publishEvent(QueueAdmissionRevokedEvent.of(List.of(token)));
+            activateNextInQueue(entry.getPartitionKey());
+        } else {
+            log.warn("Active 상태가 아닌 토큰에 대한 만료 요청 무시 - token: {}, status: {}", token, entry.getStatus());
+        }
+    }
+
+    @Override
+    public boolean renewLease(String token, Long userId) {
+        QueueEngine queueEngine = engineOf(token);
+        return queueEngine != null && queueEngine.renewLease(token, userId, System.currentTimeMillis());
+    }
+
+    @Override
+    public List<String> expireLapsedLeases() {
+        long now = System.currentTimeMillis();
+        List<String> lapsedTokens = new ArrayList<>();
+        for (QueueEngine queueEngine : engines.values()) {
+            List<QueueEntry> lapsed = queueEngine.expireLapsed(now);
+            if (lapsed.isEmpty()) {
+                continue;
+            }
+            lapsed.forEach(entry -> lapsedTokens.add(entry.getToken()));
+            activateNextInQueue(queueEngine.getPartitionKey());
+        }
+
+        if (!lapsedTokens.isEmpty()) {
+            eventPublisher.publishEvent(QueueAdmissionRevokedEvent.of(lapsedTokens));
+        }
+        return lapsedTokens;
+    }
+
+    @Override
+    public int evictWaiting(Collection<Long> userIds) {
+        int evicted = 0;
+        for (Long userId : userIds) {
+            for (String partitionKey : partitionsByUser.getOrDefault(userId, Set.of())) {
+                QueueEngine queueEngine = engines.get(partitionKey);
+                QueueEntry entry = queueEngine == null ? null : queueEngine.evictWaiting(userId);
+                if (entry != null) {
+                    partitionByToken.remove(entry.getToken());
+                    evicted++;
+                }
+            }
+        }
+
+        if (evicted > 0) {
+            log.info("이탈 사용자 대기열 삭제 - {}건", evicted);
+        }
+        return evicted;
+    }
+
+    @Override
+    public int getActiveCount() {
+        return engines.get(Queue.DEFAULT_PARTITION).getActiveCount();
+    }
+
+    @Override
+    public void clearQueue() {
+        engines.keySet().removeIf(key -> !Queue.DEFAULT_PARTITION.equals(key));
+        engines.get(Queue.DEFAULT_PARTITION).clear();
+        partitionByToken.clear();
+        partitionsByUser.clear();
+        queueWriteBehind.discardPending();
+        queueRepository.deleteAllInBatch();
+        eventPublisher.publishEvent(QueueAdmissionRevokedEvent.all());
+        log.info("인메모리 대기열 초기화 완료");
+    }
+
+    /**
+     * 회차 종료: 닫히는 파티션 엔진의 항목만 퇴장 처리
+     * DB 행은 write-behind가 배치로 삭제하므로 테이블 전체를 지우지 않음
+     */
+    @Override
+    public void closeRound(long sequenceNum) {
+        List<String> activeTokens = new ArrayList<>();
+        int closed = 0;
+        for (QueueEngine queueEngine : engines.values()) {
+            String partitionKey = queueEngine.getPartitionKey();
+            if (!Queue.closesAtRound(partitionKey, sequenceNum)) {
+                continue;
+            }
+            activeTokens.addAll(queueEngine.close());
+            if (!Queue.DEFAULT_PARTITION.equals(partitionKey)) {
+                engines.remove(partitionKey, queueEngine);
+            }
+            closed++;
+        }
+        partitionByToken.values().removeIf(partitionKey -> Queue.closesAtRound(partitionKey, sequenceNum));
+        for (Long userId : partitionsByUser.keySet()) {
+            partitionsByUser.computeIfPresent(userId, (id, partitionKeys) -> {
+                partitionKeys.removeIf(partitionKey -> Queue.closesAtRound(partitionKey, sequenceNum));
+                return partitionKeys.isEmpty() ? null : partitionKeys;
+            });
+        }
+
+        if (!activeTokens.isEmpty()) {
+            eventPublisher.publishEvent(QueueAdmissionRevokedEvent.of(activeTokens));
+        }
+        log.info("인메모리 회차 대기열 정리 - 회차: {}, 파티션: {}개, 입장권 회수: {}건", sequenceNum, closed, activeTokens.size());
+    }
+
+    private String issueTicket(QueueEntry entry) {
+        return admissionTicketSigner.issueIfActive(entry.getStatus(), entry.getToken(), entry.getUserId(),
+                entry.getPartitionKey(), entry.getActivatedAt());
+    }
+
+    private List<String> publishActivated(List<QueueEntry> activated) {
+        if (activated.isEmpty()) {
+            return List.of();
+        }
+
+        log.info("대기열 활성화 완료 - 활성화된 인원: {}명", activated.size());
+
+        List<String> activatedTokens = activated.stream().map(QueueEntry::getToken).toList();
+        eventPublisher.publishEvent(new QueueActivatedEvent(activatedTokens));
+        return activatedTokens;
+    }
+
+    private QueueEntry findEntry(String token) {
+        QueueEngine queueEngine = engineOf(token);
+        QueueEntry entry = queueEngine == null ? null : queueEngine.find(token);
+        if (entry == null) {
+            throw new QueueNotFoundException("대기열을 찾을 수 없습니다. 토큰 : " + token);
+        }
+        return entry;
+    }
+
+    /**
+     * 토큰이 속한 파티션 엔진 (모르는 토큰이면 null)
+     */
+    private QueueEngine engineOf(String token) {
+        String partitionKey = partitionByToken.get(token);
+        return partitionKey == null ? null : engines.get(partitionKey);
+    }
+
+    private void remember(Long userId, String token, String partitionKey) {
+        partitionByToken.put(token, partitionKey);
+        partitionsByUser.compute(userId, (id, partitionKeys) -> {
+            Set<String> keys = partitionKeys == null ? ConcurrentHashMap.newKeySet() : partitionKeys;
+            keys.add(partitionKey);
+            return keys;
+        });
+    }
+
+    private QueueEngine engine(String partitionKey) {
+        return engines.computeIfAbsent(partitionKey, key -> new QueueEngine(key, leaseMillis, queueWriteBehind::markDirty));
+    }
+
+    private int maxActiveUsers(QueueEngine queueEngine) {
+        return Queue.DEFAULT_PARTITION.equals(queueEngine.getPartitionKey())
+                ? queuePolicy.getLocalLimit()
+                : partitionMaxActiveUsers;
+    }
+}
@@ -0,0 +1,301 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.service;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.dto.response.QueueEnterResponse;
+import com.ticket.dojo.backdeepfamily.domain.queue.dto.response.QueueStatusResponse;
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.Queue;
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.QueueStatus;
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.Token;
+import com.ticket.dojo.backdeepfamily.domain.queue.event.QueueActivatedEvent;
+import com.ticket.dojo.backdeepfamily.domain.queue.event.QueueAdmissionRevokedEvent;
+import com.ticket.dojo.backdeepfamily.domain.queue.ticket.AdmissionTicketSigner;
+import com.ticket.dojo.backdeepfamily.global.exception.QueueNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.ticket.dojo.backdeepfamily.domain.queue.engine.QueueRedisScripts.*;
+
+/**
+ * Redis 대기열 구현체 (queue.engine=redis)
+ *
+ * - WAITING: ZSET (score = 진입 순번), 순번 조회는 ZRANK
+ * - ACTIVE: ZSET (score = 입장 lease 만료 시각), heartbeat로 연장하되 활성화 후 queue.redis.active-ttl-ms를 넘지 않음
+ *   lease가 지나면 슬롯을 차지하지 않고 expireLapsedLeases에서 만료 처리
+ * - 진입 / 활성화(ZPOPMIN) / 퇴장 / 만료는 Lua 스크립트로 원자적으로 처리
+ *
+ * 여러 서버가 같은 Redis를 바라보면 하나의 대기열을 공유하며, 요청 경로에서 MySQL에 접근하지 않음
+ * 키가 고정된 단일 대기열이라 기본 파티션만 지원
+ */
+@Slf4j
+@Service("redis")
+@ConditionalOnProperty(name = "queue.engine", havingValue = "redis")
+public class QueueServiceRedisImpl implements QueueService {
+
+    private static final int LAPSE_BATCH_SIZE = 500; // 한 번에 만료 처리할 lease 수
+
+    private final StringRedisTemplate redisTemplate;
+    private final QueuePolicy queuePolicy;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AdmissionTicketSigner admissionTicketSigner;
+    private final long activeTtlMillis;
+    private final long leaseMillis;
+
+    public QueueServiceRedisImpl(StringRedisTemplate redisTemplate, QueuePolicy queuePolicy,
+                                 ApplicationEventPublisher eventPublisher, AdmissionTicketSigner admissionTicketSigner,
+                                 @Value("${queue.redis.active-ttl-ms:600000}") long activeTtlMillis,
+                                 @Value("${queue.lease.ttl-ms:30000}") long leaseMillis) {
+        this.redisTemplate = redisTemplate;
+        this.queuePolicy = queuePolicy;
+        this.eventPublisher = eventPublisher;
+        this.admissionTicketSigner = admissionTicketSigner;
+        this.activeTtlMillis = activeTtlMillis;
+        this.leaseMillis = leaseMillis;
+    }
+
+    /**
+     * 대기열 진입
+     * userId는 인증된 사용자에서 오므로 사용자 조회 없이 진행
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public QueueEnterResponse enterQueue(Long userId, String partitionKey) {
+
+        if (!Queue.DEFAULT_PARTITION.equals(Queue.normalizePartition(partitionKey))) {
+            throw new IllegalArgumentException("Redis 대기열은 파티션을 지원하지 않습니다. partition : " + partitionKey);
+        }
+
+        log.info("대기열 진입 요청 - userId: {}", userId);
+
+        String newToken = Token.generate().getValue();
+        List<String> result = redisTemplate.execute(ENTER,
+                List.of(WAITING_KEY, ACTIVE_KEY, ENTRIES_KEY, USERS_KEY, SEQUENCE_KEY),
+                String.valueOf(userId), newToken,
+                String.valueOf(queuePolicy.getMaxActiveUsers()), String.valueOf(activeTtlMillis), String.valueOf(leaseMillis));
+
+        QueueStatus status = QueueStatus.valueOf(result.get(0));
+        int position = Integer.parseInt(result.get(1));
+        String token = result.get(3);
+        boolean created = token.equals(newToken);
+
+        log.info("대기열 진입 완료 - Token: {}, Status: {}, Position: {}, 기존 대기열 여부: {}", token, status, position, !created);
+
+        if (created && status.isActive()) {
+            eventPublisher.publishEvent(new QueueActivatedEvent(List.of(token)));
+        }
+
+        return QueueEnterResponse.builder()
+                .token(token)
+                .partitionKey(Queue.DEFAULT_PARTITION)
+                .status(status)
+                .position(position)
+                .enteredAt(toLocalDateTime(result.get(2)))
+                .admissionTicket(status.isActive()
+                        ? admissionTicketSigner.issue(token, userId, Queue.DEFAULT_PARTITION, (long) Double.parseDouble(result.get(4)))
+                        : null)
+                .build();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public QueueStatusResponse getQueueStatus(String token) {
+
+        List<String> result = redisTemplate.execute(STATUS,
+                List.of(WAITING_KEY, ACTIVE_KEY, ENTRIES_KEY), token);
+
+        if (result == null || result.isEmpty()) {
+            throw new QueueNotFoundException("대기열을 찾을 수 없습니다. 토큰 : " + token);
+        }
+
+        QueueStatus status = statusOf(result.get(0));
+        int currentPosition = Integer.parseInt(result.get(1));
+
+        log.debug("대기열 상태 조회 완료 - Token: {}, Position: {}, Status: {}", token, currentPosition, status);
+
+        String admissionTicket = status.isActive()
+                ? admissionTicketSigner.issue(token, userIdOf(result.get(0)), Queue.DEFAULT_PARTITION, (long) Double.parseDouble(result.get(2)))
+                : null;
+
+        return QueueStatusResponse.builder()
+                .token(token)
+                .position(currentPosition)
+                .status(status)
+                .admissionTicket(admissionTicket)
+                .build();
+    }
+
+    @Override
+    public boolean isOwnedBy(String token, Long userId) {
+        Object entry = redisTemplate.opsForHash().get(ENTRIES_KEY, token);
+        return entry != null && userIdOf(entry.toString()).equals(userId);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> activateNextInQueue() {
+        List<String> activated = redisTemplate.execute(ACTIVATE,
+                List.of(WAITING_KEY, ACTIVE_KEY, ENTRIES_KEY, USERS_KEY),
+                String.valueOf(queuePolicy.getMaxActiveUsers()), String.valueOf(activeTtlMillis), String.valueOf(leaseMillis));
+
+        if (activated == null || activated.isEmpty()) {
+            return List.of();
+        }
+
+        log.info("대기열 활성화 완료 - 활성화된 인원: {}명", activated.size());
+
+        eventPublisher.publishEvent(new QueueActivatedEvent(activated));
+        return activated;
+    }
+
+    /**
+     * 기본 파티션만 있으므로 기본 파티션이면 전체 활성화와 같음
+     */
+    @Override
+    public List<String> activateNextInQueue(String partitionKey) {
+        if (!Queue.DEFAULT_PARTITION.equals(Queue.normalizePartition(partitionKey))) {
+            return List.of();
+        }
+        return activateNextInQueue();
+    }
+
+    @Override
+    public void exitQueue(String token) {
+
+        log.info("대기열 퇴장 요청 - token: {}", token);
+
+        String removed = redisTemplate.execute(EXIT,
+                List.of(WAITING_KEY, ACTIVE_KEY, ENTRIES_KEY, USERS_KEY), token);
+
+        if (removed == null) {
+            throw new QueueNotFoundException("대기열을 찾을 수 없습니다. 토큰 : " + token);
+        }
+
+        log.info("대기열 퇴장 완료 - token: {}", token);
+
+        if (statusOf(removed).isActive()) {
+            eventPublisher.publishEvent(QueueAdmissionRevokedEvent.of(List.of(token)));
+            activateNextInQueue();
+        }
+    }
+
+    @Override
+    public void expireQueue(String token) {
+
+        log.info("결제 진입 (만료 처리) 요청 - token: {}", token);
+
+        Long expired = redisTemplate.execute(EXPIRE, List.of(ACTIVE_KEY, ENTRIES_KEY, USERS_KEY), token);
+
+        if (expired != null && expired == 1L) {
+            log.info("토큰 만료 처리 완료 - token: {}", token);
+            eventPublisher.publishEvent(QueueAdmissionRevokedEvent.of(List.of(token)));
+            activateNextInQueue();
+            return;
+        }
+
+        // 만료 대상이 아니면 존재 여부 확인 후 무시 (기존 구현과 동일하게 없는 토큰은 예외)
+        QueueStatusResponse current = getQueueStatus(token);
+        log.warn("Active 상태가 아닌 토큰에 대한 만료 요청 무시 - token: {}, status: {}", token, current.getStatus());
+    }
+
+    @Override
+    public boolean renewLease(String token, Long userId) {
+        Long renewed = redisTemplate.execute(RENEW_LEASE, List.of(ACTIVE_KEY, ENTRIES_KEY),
+                token, String.valueOf(userId), String.valueOf(leaseMillis), String.valueOf(activeTtlMillis));
+        return renewed != null && renewed == 1L;
+    }
+
+    /**
+     * lease가 지난 ACTIVE를 EXPIRED로 정리 (스크립트가 원자적으로 처리하므로 여러 서버가 실행해도 토큰마다 한 번)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> expireLapsedLeases() {
+        List<String> lapsed = redisTemplate.execute(EXPIRE_LAPSED, List.of(ACTIVE_KEY, ENTRIES_KEY, USERS_KEY),
+                String.valueOf(LAPSE_BATCH_SIZE));
+
+        if (lapsed == null || lapsed.isEmpty()) {
+            return List.of();
+        }
+
+        eventPublisher.publishEvent(QueueAdmissionRevokedEvent.of(lapsed));
+        activateNextInQueue();
+        return lapsed;
+    }
+
+    @Override
+    public int evictWaiting(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        Long evicted = redisTemplate.execute(EVICT_WAITING, List.of(WAITING_KEY, ENTRIES_KEY, USERS_KEY),
+                userIds.stream().map(String::valueOf).toArray());
+
+        if (evicted != null && evicted > 0) {
+            log.info("이탈 사용자 대기열 삭제 - {}건", evicted);
+        }
+        return evicted == null ? 0 : evicted.intValue();
+    }
+
+    /**
+     * ACTIVE ZSET에서 만료 시각이 지나지 않은 토큰 수
+     * (TTL이 지났지만 아직 스크립트가 정리하지 않은 토큰은 제외)
+     */
+    @Override
+    public int getActiveCount() {
+        Long count = redisTemplate.opsForZSet().count(ACTIVE_KEY, System.currentTimeMillis() + 1, Double.POSITIVE_INFINITY);
+        return count == null ? 0 : count.intValue();
+    }
+
+    @Override
+    public void clearQueue() {
+        redisTemplate.delete(ALL_KEYS);
+        eventPublisher.publishEvent(QueueAdmissionRevokedEvent.all());
+        log.info("Redis 대기열 초기화 완료");
+    }
+
+    /**
+     * 회차 종료 (기본 파티션만 있으므로 대기열 전체)
+     * 키 해제는 UNLINK로 Redis가 백그라운드에서 처리하고, 같은 회차는 서버 하나만 닫음
+     */
+    @Override
+    public void closeRound(long sequenceNum) {
+        List<String> keys = new ArrayList<>();
+        keys.add(CLOSED_ROUND_KEY);
+        keys.addAll(ALL_KEYS);
+        Long closed = redisTemplate.execute(CLOSE_ROUND, keys, String.valueOf(sequenceNum));
+        if (closed == null || closed == 0L) {
+            return;
+        }
+
+        eventPublisher.publishEvent(QueueAdmissionRevokedEvent.all());
+        log.info("Redis 회차 대기열 정리 - 회차: {}", sequenceNum);
+    }
+
+    /**
+     * "userId|status|enteredAtMillis|activatedAtMillis" 형식의 항목에서 상태 추출
+     */
+    private QueueStatus statusOf(String entry) {
+        return QueueStatus.valueOf(entry.split("\\|")[1]);
+    }
+
+    /**
+     * "userId|status|enteredAtMillis|activatedAtMillis" 형식의 항목에서 userId 추출
+     */
+    private Long userIdOf(String entry) {
+        return Long.valueOf(entry.split("\\|")[0]);
+    }
+
+    private LocalDateTime toLocalDateTime(String epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(epochMillis)), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,87 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.ticket;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.event.QueueAdmissionRevokedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * 입장권 회수를 Redis pub/sub으로 모든 서버에 전파 (queue.ticket.revocation=redis)
+ *
+ * - 이 서버의 회수 이벤트를 커밋 이후 채널에 발행 -> 다른 서버의 AdmissionTicketVerifier에 같은 시각으로 반영
+ * - 자기가 보낸 메시지는 무시 (이미 로컬에서 반영됨)
+ * - 발행 실패 시 로컬 회수만 남음 -> 다른 서버는 입장권 TTL까지 통과 (local 모드와 같은 수준)
+ *
+ * 메시지 형식: 발신 서버 ID | 회수 시각(ms) | 토큰 목록(,) 또는 * (전체 회수)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "queue.ticket.revocation", havingValue = "redis")
+@RequiredArgsConstructor
+public class AdmissionRevocationRelay implements MessageListener {
+
+    static final String CHANNEL = "queue:ticket:revoked";
+    private static final String ALL = "*";
+
+    private final StringRedisTemplate redisTemplate;
+    private final AdmissionTicketVerifier admissionTicketVerifier;
+
+    private final String originId = UUID.randomUUID().toString();
+
+    @Bean
+    public RedisMessageListenerContainer admissionRevocationListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(this, new ChannelTopic(CHANNEL));
+        return container;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRevoked(QueueAdmissionRevokedEvent event) {
+        if (!event.isAll() && event.getTokens().isEmpty()) {
+            return;
+        }
+
+        String targets = event.isAll() ? ALL : String.join(",", event.getTokens());
+        try {
+            redisTemplate.convertAndSend(CHANNEL, originId + "|" + System.currentTimeMillis() + "|" + targets);
+        } catch (Exception e) {
+            log.warn("입장권 회수 전파 실패 (이 서버에만 반영) - message: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || originId.equals(parts[0])) {
+            return;
+        }
+
+        long revokedAt;
+        try {
+            revokedAt = Long.parseLong(parts[1]);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 입장권 회수 메시지 무시 - {}", parts[1]);
+            return;
+        }
+
+        if (ALL.equals(parts[2])) {
+            admissionTicketVerifier.revokeAll(revokedAt);
+        } else {
+            admissionTicketVerifier.revoke(Arrays.asList(parts[2].split(",")), revokedAt);
+        }
+    }
+}
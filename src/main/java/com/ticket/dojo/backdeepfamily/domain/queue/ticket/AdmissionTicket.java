@@ -0,0 +1,54 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.ticket;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.Queue;
+import com.ticket.dojo.backdeepfamily.global.exception.AdmissionTicketException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서명 검증이 끝난 입장권 내용
+ *
+ * payload 형식: "token|userId|partitionKey|statusEpochMillis|issuedAtMillis"
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class AdmissionTicket {
+
+    private static final String SEPARATOR = "|";
+
+    private final String token;             // 대기열 토큰
+    private final Long userId;              // 입장권 소유자
+    private final String partitionKey;      // 입장한 대기열 파티션 (회차 파티션이면 그 회차에서만 사용 가능)
+    private final long statusEpochMillis;   // ACTIVE가 된 시각 (입장 유효 시간의 기준)
+    private final long issuedAtMillis;      // 발급 시각
+
+    String toPayload() {
+        return token + SEPARATOR + userId + SEPARATOR + partitionKey + SEPARATOR + statusEpochMillis + SEPARATOR + issuedAtMillis;
+    }
+
+    /**
+     * 예약 회차에 쓸 수 있는 입장권인지 확인 (기본 파티션 입장권은 회차 제한 없음)
+     *
+     * @throws AdmissionTicketException 다른 회차 파티션의 입장권
+     */
+    public void checkRound(long sequenceNum) {
+        Long round = Queue.roundOf(partitionKey);
+        if (round != null && round != sequenceNum) {
+            throw new AdmissionTicketException("다른 회차의 입장권입니다.");
+        }
+    }
+
+    static AdmissionTicket parse(String payload) {
+        String[] parts = payload.split("\\|");
+        if (parts.length != 5) {
+            throw new AdmissionTicketException("입장권 형식이 올바르지 않습니다.");
+        }
+
+        try {
+            return new AdmissionTicket(parts[0], Long.valueOf(parts[1]), parts[2], Long.parseLong(parts[3]), Long.parseLong(parts[4]));
+        } catch (NumberFormatException e) {
+            throw new AdmissionTicketException("입장권 형식이 올바르지 않습니다.");
+        }
+    }
+}
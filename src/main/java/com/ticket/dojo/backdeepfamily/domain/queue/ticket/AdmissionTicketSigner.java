@@ -0,0 +1,146 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.ticket;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.QueueStatus;
+import com.ticket.dojo.backdeepfamily.global.exception.AdmissionTicketException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+
+/**
+ * 입장권(admission ticket) 발급 / 검증
+ *
+ * - ACTIVE 대기열에 대해 HMAC-SHA256으로 서명한 입장권 발급 (토큰, userId, 파티션, 상태 epoch, 발급 시각)
+ * - 티켓팅 API는 서명 / 소유자 / 유효 시간을 메모리에서만 확인 -> queue 테이블 조회 없음
+ * - DB 행은 결제 완료 시 만료 처리(회수)에만 사용
+ *
+ * 형식: base64url(payload) + "." + base64url(HMAC)
+ *
+ * 서명 키(queue.ticket.secret)는 JWT 키와 따로 설정해야 함 (없거나 JWT 키와 같으면 기동 실패)
+ * -> 한쪽 키가 노출돼도 다른 쪽 토큰을 위조할 수 없음
+ */
+@Component
+public class AdmissionTicketSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final long ttlMillis;
+
+    // Mac은 thread-safe하지 않으므로 스레드마다 하나씩 사용
+    private final ThreadLocal<Mac> macs;
+
+    @Autowired
+    public AdmissionTicketSigner(@Value("${queue.ticket.secret:}") String secret,
+                                 @Value("${spring.jwt.secret}") String jwtSecret,
+                                 @Value("${queue.ticket.ttl-ms:600000}") long ttlMillis) {
+        this(requireSeparateSecret(secret, jwtSecret), ttlMillis);
+    }
+
+    public AdmissionTicketSigner(String secret, long ttlMillis) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("입장권 서명 키(queue.ticket.secret)가 설정되지 않았습니다.");
+        }
+        SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.ttlMillis = ttlMillis;
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("입장권 서명 키를 초기화할 수 없습니다.", e);
+            }
+        });
+    }
+
+    private static String requireSeparateSecret(String secret, String jwtSecret) {
+        if (secret != null && secret.equals(jwtSecret)) {
+            throw new IllegalStateException("입장권 서명 키(queue.ticket.secret)는 JWT 키와 달라야 합니다.");
+        }
+        return secret;
+    }
+
+    /**
+     * ACTIVE인 경우에만 입장권 발급 (그 외 null)
+     *
+     * @param activatedAt ACTIVE가 된 시각 (상태 epoch)
+     */
+    public String issueIfActive(QueueStatus status, String token, Long userId, String partitionKey, LocalDateTime activatedAt) {
+        if (!status.isActive() || activatedAt == null) {
+            return null;
+        }
+        return issue(token, userId, partitionKey, activatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    public String issue(String token, Long userId, String partitionKey, long statusEpochMillis) {
+        return issue(token, userId, partitionKey, statusEpochMillis, System.currentTimeMillis());
+    }
+
+    String issue(String token, Long userId, String partitionKey, long statusEpochMillis, long issuedAtMillis) {
+        byte[] payload = new AdmissionTicket(token, userId, partitionKey, statusEpochMillis, issuedAtMillis)
+                .toPayload()
+                .getBytes(StandardCharsets.UTF_8);
+
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(sign(payload));
+    }
+
+    /**
+     * 입장권 검증 (서명, 소유자, 유효 시간)
+     *
+     * @param ticket 클라이언트가 전달한 입장권
+     * @param userId 인증된 사용자
+     * @return 검증된 입장권 내용
+     */
+    public AdmissionTicket verify(String ticket, Long userId) {
+        return verify(ticket, userId, System.currentTimeMillis());
+    }
+
+    AdmissionTicket verify(String ticket, Long userId, long nowMillis) {
+        if (ticket == null || ticket.isBlank()) {
+            throw new AdmissionTicketException("입장권이 없습니다.");
+        }
+
+        int dot = ticket.indexOf('.');
+        if (dot <= 0 || dot == ticket.length() - 1) {
+            throw new AdmissionTicketException("입장권 형식이 올바르지 않습니다.");
+        }
+
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = DECODER.decode(ticket.substring(0, dot));
+            signature = DECODER.decode(ticket.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            throw new AdmissionTicketException("입장권 형식이 올바르지 않습니다.");
+        }
+
+        if (!MessageDigest.isEqual(sign(payload), signature)) {
+            throw new AdmissionTicketException("입장권 서명이 올바르지 않습니다.");
+        }
+
+        AdmissionTicket admissionTicket = AdmissionTicket.parse(new String(payload, StandardCharsets.UTF_8));
+
+        if (!admissionTicket.getUserId().equals(userId)) {
+            throw new AdmissionTicketException("본인의 입장권이 아닙니다.");
+        }
+        if (admissionTicket.getStatusEpochMillis() + ttlMillis <= nowMillis) {
+            throw new AdmissionTicketException("입장 가능 시간이 지났습니다.");
+        }
+
+        return admissionTicket;
+    }
+
+    private byte[] sign(byte[] payload) {
+        return macs.get().doFinal(payload);
+    }
+}
@@ -0,0 +1,123 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.ticket;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.event.QueueAdmissionRevokedEvent;
+import com.ticket.dojo.backdeepfamily.global.exception.AdmissionTicketException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 티켓팅 API의 입장권 검증 (서명 / 소유자 / 유효 시간 + 회수 여부)
+ *
+ * - 서명 검증은 AdmissionTicketSigner, 회수 여부는 메모리의 회수 토큰 목록으로 확인 -> 요청 경로에서 대기열 조회 없음
+ * - 대기열 구현체가 ACTIVE 퇴장 / 만료 / lease 만료 시 QueueAdmissionRevokedEvent 발행 -> 해당 토큰의 입장권은 TTL 전이라도 거부
+ * - 회차 초기화 시에는 그 전에 ACTIVE가 된 입장권 전부 거부
+ * - 회수 목록은 입장권 TTL이 지나면 정리 (그 뒤로는 유효 시간 검사로 거부됨)
+ *
+ * 여러 서버 운영 시 queue.ticket.revocation=redis로 회수를 모든 서버에 전파 (AdmissionRevocationRelay)
+ * - local(기본값)이면 회수 목록은 서버마다 따로 가지므로 다른 서버가 회수한 토큰은 TTL(queue.ticket.ttl-ms)까지 통과
+ * - 구현체와 무관: redis는 물론 basic / memory도 여러 서버로 띄우면 같은 제약이 있음
+ */
+@Slf4j
+@Component
+public class AdmissionTicketVerifier {
+
+    private final AdmissionTicketSigner admissionTicketSigner;
+    private final long ttlMillis;
+
+    // 회수된 토큰 -> 회수 시각
+    private final Map<String, Long> revokedAtByToken = new ConcurrentHashMap<>();
+
+    // 이 시각 전에 ACTIVE가 된 입장권은 모두 회수 (회차 초기화)
+    private volatile long revokedBeforeMillis;
+
+    public AdmissionTicketVerifier(AdmissionTicketSigner admissionTicketSigner,
+                                   @Value("${queue.ticket.ttl-ms:600000}") long ttlMillis) {
+        this.admissionTicketSigner = admissionTicketSigner;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @Autowired
+    public AdmissionTicketVerifier(AdmissionTicketSigner admissionTicketSigner,
+                                   @Value("${queue.ticket.ttl-ms:600000}") long ttlMillis,
+                                   @Value("${queue.engine:basic}") String engine,
+                                   @Value("${queue.capacity.leasing-enabled:false}") boolean leasingEnabled,
+                                   @Value("${queue.ticket.revocation:local}") String revocation) {
+        this(admissionTicketSigner, ttlMillis);
+        // redis 구현체 / ACTIVE 한도 lease는 여러 서버 운영을 전제로 함
+        boolean multiNode = "redis".equals(engine) || leasingEnabled;
+        if (multiNode && !"redis".equals(revocation)) {
+            log.warn("입장권 회수가 서버별로만 반영됩니다. 여러 서버 운영 시 queue.ticket.revocation=redis 필요 (TTL: {}ms)", ttlMillis);
+        }
+    }
+
+    /**
+     * 입장권 검증
+     *
+     * @param ticket 클라이언트가 전달한 입장권
+     * @param userId 인증된 사용자
+     * @return 검증된 입장권 내용
+     */
+    public AdmissionTicket verify(String ticket, Long userId) {
+        AdmissionTicket admissionTicket = admissionTicketSigner.verify(ticket, userId);
+
+        if (admissionTicket.getStatusEpochMillis() < revokedBeforeMillis
+                || revokedAtByToken.containsKey(admissionTicket.getToken())) {
+            throw new AdmissionTicketException("회수된 입장권입니다.");
+        }
+        return admissionTicket;
+    }
+
+    /**
+     * 입장권 회수 (커밋 이후 반영, 트랜잭션 밖에서 발행되면 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRevoked(QueueAdmissionRevokedEvent event) {
+        long now = System.currentTimeMillis();
+
+        if (event.isAll()) {
+            revokeAll(now);
+            return;
+        }
+        revoke(event.getTokens(), now);
+    }
+
+    /**
+     * 토큰 회수 (이 서버의 이벤트 또는 다른 서버에서 전파된 회수)
+     */
+    public void revoke(Collection<String> tokens, long revokedAtMillis) {
+        tokens.forEach(token -> revokedAtByToken.merge(token, revokedAtMillis, Math::max));
+        log.debug("입장권 회수 - {}건", tokens.size());
+    }
+
+    /**
+     * 이 시각 전에 ACTIVE가 된 입장권 전부 회수 (이후에 회수된 토큰 기록은 유지)
+     */
+    public void revokeAll(long revokedAtMillis) {
+        synchronized (this) {
+            revokedBeforeMillis = Math.max(revokedBeforeMillis, revokedAtMillis);
+        }
+        revokedAtByToken.values().removeIf(revokedAt -> revokedAt < revokedAtMillis);
+        log.info("입장권 전체 회수");
+    }
+
+    /**
+     * TTL이 지난 회수 기록 정리
+     */
+    @Scheduled(fixedDelayString = "${queue.ticket.revocation-purge-ms:60000}")
+    public void purgeExpired() {
+        long threshold = System.currentTimeMillis() - ttlMillis;
+        revokedAtByToken.values().removeIf(revokedAt -> revokedAt < threshold);
+    }
+
+    int getRevokedCount() {
+        return revokedAtByToken.size();
+    }
+}
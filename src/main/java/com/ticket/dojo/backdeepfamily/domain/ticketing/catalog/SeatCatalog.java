@@ -0,0 +1,158 @@
+package com.ticket.dojo.backdeepfamily.domain.ticketing.catalog;
+
+import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.response.GetHoldingSeatsResponse;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Seat;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.repository.SeatRepository;
+import com.ticket.dojo.backdeepfamily.global.exception.socket.SeatNotFoundException;
+import com.ticket.dojo.backdeepfamily.global.lifecycle.StateRestoreEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 좌석 목록 캐시 (seat 테이블은 운영 중 바뀌지 않음)
+ *
+ * - 기동 시 한 번 적재, 이후 좌석 정보는 Hibernate 대신 여기서 읽음
+ * - 좌석 ID - 가장 작은 ID를 index로 쓰는 배열 (ID가 연속이므로 조회는 뺄셈 한 번)
+ * - 응답용 좌석 DTO를 미리 만들어 두고 재사용
+ * - 운영 중 좌석을 바꿨다면 actuator(seatcatalog)로 다시 적재
+ */
+@Slf4j
+@Component
+public class SeatCatalog {
+
+    private final SeatRepository seatRepository;
+
+    private volatile Layout layout = Layout.EMPTY;
+
+    public SeatCatalog(SeatRepository seatRepository) {
+        this.seatRepository = seatRepository;
+    }
+
+    /**
+     * 좌석 상태 엔진 재구성보다 먼저 적재
+     */
+    @EventListener(StateRestoreEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void init() {
+        reload();
+    }
+
+    /**
+     * seat 테이블에서 다시 적재
+     *
+     * @return 배열 배치(시작 ID, 길이)가 바뀌었는지
+     */
+    public boolean reload() {
+        boolean changed = load(seatRepository.findAll());
+        log.info("좌석 목록 적재 - 좌석: {}석, ID 범위: {} ~ {}", layout.size, layout.baseId, layout.baseId + layout.seats.length - 1);
+        return changed;
+    }
+
+    /**
+     * 주어진 좌석으로 교체
+     *
+     * @return 배열 배치(시작 ID, 길이)가 바뀌었는지
+     */
+    public synchronized boolean load(List<Seat> seats) {
+        Layout previous = layout;
+        layout = Layout.of(seats);
+        return previous.baseId != layout.baseId || previous.seats.length != layout.seats.length;
+    }
+
+    /**
+     * 좌석의 배열 index (없는 좌석이면 SeatNotFoundException)
+     */
+    public int indexOf(long seatId) {
+        Layout current = layout;
+        long index = seatId - current.baseId;
+        if (index < 0 || index >= current.seats.length || current.seats[(int) index] == null) {
+            throw new SeatNotFoundException(seatId);
+        }
+        return (int) index;
+    }
+
+    public long seatIdAt(int index) {
+        return layout.baseId + index;
+    }
+
+    /**
+     * 좌석 배열 길이 (index 범위, 중간에 빈 ID가 있으면 좌석 수보다 클 수 있음)
+     */
+    public int capacity() {
+        return layout.seats.length;
+    }
+
+    public int size() {
+        return layout.size;
+    }
+
+    public boolean contains(long seatId) {
+        Layout current = layout;
+        long index = seatId - current.baseId;
+        return index >= 0 && index < current.seats.length && current.seats[(int) index] != null;
+    }
+
+    public String getSeatNumber(long seatId) {
+        return layout.seats[indexOf(seatId)].getSeatNumber();
+    }
+
+    public GetHoldingSeatsResponse.HoldingSeatDto getHoldingSeat(long seatId) {
+        return layout.seats[indexOf(seatId)];
+    }
+
+    public List<Long> getSeatIds() {
+        Layout current = layout;
+        List<Long> seatIds = new ArrayList<>(current.size);
+        for (int i = 0; i < current.seats.length; i++) {
+            if (current.seats[i] != null) {
+                seatIds.add(current.baseId + i);
+            }
+        }
+        return seatIds;
+    }
+
+    /**
+     * 적재된 좌석 배열 (교체만 하고 수정하지 않음)
+     */
+    private static final class Layout {
+        private static final Layout EMPTY = new Layout(0L, new GetHoldingSeatsResponse.HoldingSeatDto[0], 0);
+
+        private final long baseId;
+        private final GetHoldingSeatsResponse.HoldingSeatDto[] seats;
+        private final int size;
+
+        private Layout(long baseId, GetHoldingSeatsResponse.HoldingSeatDto[] seats, int size) {
+            this.baseId = baseId;
+            this.seats = seats;
+            this.size = size;
+        }
+
+        private static Layout of(List<Seat> seats) {
+            if (seats.isEmpty()) {
+                return EMPTY;
+            }
+
+            long minId = Long.MAX_VALUE;
+            long maxId = Long.MIN_VALUE;
+            for (Seat seat : seats) {
+                minId = Math.min(minId, seat.getId());
+                maxId = Math.max(maxId, seat.getId());
+            }
+            if (maxId - minId >= Integer.MAX_VALUE) {
+                throw new IllegalStateException("좌석 ID 범위가 너무 넓습니다. (" + minId + " ~ " + maxId + ")");
+            }
+
+            GetHoldingSeatsResponse.HoldingSeatDto[] array = new GetHoldingSeatsResponse.HoldingSeatDto[(int) (maxId - minId + 1)];
+            for (Seat seat : seats) {
+                array[(int) (seat.getId() - minId)] = new GetHoldingSeatsResponse.HoldingSeatDto(seat.getId(), seat.getSeatNumber());
+            }
+            return new Layout(minId, array, seats.size());
+        }
+    }
+}
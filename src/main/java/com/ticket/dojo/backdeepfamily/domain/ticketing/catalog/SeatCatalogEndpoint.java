@@ -0,0 +1,47 @@
+package com.ticket.dojo.backdeepfamily.domain.ticketing.catalog;
+
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.SeatStateEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 좌석 목록 캐시 조회 / 재적재 (GET, POST /actuator/seatcatalog, ADMIN 권한 필요)
+ *
+ * 배열 배치가 바뀌면 좌석 상태 엔진도 reservation_seat 기준으로 다시 구성
+ * 재적재 / 재구성은 엔진의 배치 락 안에서 한 번에 처리 (그동안 점유 요청은 대기)
+ */
+@Slf4j
+@Component
+@Endpoint(id = "seatcatalog")
+@RequiredArgsConstructor
+public class SeatCatalogEndpoint {
+
+    private final SeatCatalog seatCatalog;
+    private final SeatStateEngine seatStateEngine;
+
+    @ReadOperation
+    public Map<String, Object> info() {
+        return Map.of(
+                "size", seatCatalog.size(),
+                "capacity", seatCatalog.capacity());
+    }
+
+    @WriteOperation
+    public Map<String, Object> reload() {
+        boolean changed = seatStateEngine.reloadLayout(seatCatalog::reload);
+        if (changed) {
+            log.info("좌석 배치 변경으로 좌석 상태 엔진 재구성");
+        }
+
+        return Map.of(
+                "size", seatCatalog.size(),
+                "capacity", seatCatalog.capacity(),
+                "engineRebuilt", changed);
+    }
+}
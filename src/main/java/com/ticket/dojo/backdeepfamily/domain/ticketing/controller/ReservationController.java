@@ -4,6 +4,7 @@ import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.response.GetHoldingSe
 import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.response.GetRankingResponse;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.service.ReservationService;
 import com.ticket.dojo.backdeepfamily.domain.user.entity.CustomUserDetails;
+import com.ticket.dojo.backdeepfamily.global.metrics.TicketingMetrics;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,12 +18,21 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class ReservationController {
     private final ReservationService reservationService;
+    private final TicketingMetrics ticketingMetrics;
 
-    // 점유된 좌석 내역 가져오기 + reservation 객체 생성
+    // 점유된 좌석 내역 가져오기 + reservation 객체 생성 (대기열 입장권 필요)
     @PostMapping
     public ResponseEntity<GetHoldingSeatsResponse> enterTicketing(
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
-        GetHoldingSeatsResponse response = reservationService.enterTicketing(userDetails.getUserId());
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam String admissionTicket) {
+        GetHoldingSeatsResponse response = reservationService.enterTicketing(userDetails.getUserId(), admissionTicket);
+        return ResponseEntity.ok(response);
+    }
+
+    // 회차 좌석 배치도 (이벤트 version이 건너뛰면 다시 받기)
+    @GetMapping("/rounds/{sequenceNum}/seats")
+    public ResponseEntity<GetHoldingSeatsResponse> getSeatMap(@PathVariable Long sequenceNum) {
+        GetHoldingSeatsResponse response = reservationService.getSeatMap(sequenceNum);
         return ResponseEntity.ok(response);
     }
 
@@ -33,13 +43,14 @@ public class ReservationController {
         return ResponseEntity.ok().build();
     }
 
-    // 결제완료
+    // 결제완료 (대기열 입장권 필요)
     @PostMapping("/{reservationId}/payment")
     public ResponseEntity<Void> completePaying(
             @PathVariable Long reservationId,
             @AuthenticationPrincipal CustomUserDetails userDetails,
-            @RequestParam String queueToken) {
-        reservationService.completePaying(userDetails.getUserId(), reservationId, queueToken);
+            @RequestParam String admissionTicket) {
+        ticketingMetrics.recordCompletePaying(
+                () -> reservationService.completePaying(userDetails.getUserId(), reservationId, admissionTicket));
         return ResponseEntity.ok().build();
     }
 
@@ -1,63 +1,88 @@
 package com.ticket.dojo.backdeepfamily.domain.ticketing.controller;
 
+import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.request.SeatHoldBatchRequest;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.request.SeatHoldRequest;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.request.SeatReleaseAllRequest;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.request.SeatReleaseRequest;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.SeatHoldResult;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.SocketError;
-import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.response.SeatStatusEventResponse;
-import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Reservation;
-import com.ticket.dojo.backdeepfamily.domain.ticketing.repository.ReservationRepository;
-import com.ticket.dojo.backdeepfamily.global.exception.socket.ReservationNotFoundException;
-import com.ticket.dojo.backdeepfamily.global.exception.socket.SeatAlreadyHeldException;
-import com.ticket.dojo.backdeepfamily.global.exception.socket.SeatNotFoundException;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.notification.SeatStatusPublisher;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.service.TicketingSocketService;
+import com.ticket.dojo.backdeepfamily.domain.user.entity.CustomUserDetails;
 import com.ticket.dojo.backdeepfamily.global.exception.socket.SocketExceptionMapper;
+import com.ticket.dojo.backdeepfamily.global.metrics.TicketingMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 
+import java.security.Principal;
+
 @Slf4j
 @Controller
 @RequiredArgsConstructor
 public class TicketingSocketController {
-    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final SeatStatusPublisher seatStatusPublisher;
     private final TicketingSocketService ticketingSocketService;
     private final SocketExceptionMapper socketExceptionMapper;
+    private final TicketingMetrics ticketingMetrics;
 
     /**
      * 좌석 점유
      * /pub/seat/hold
+     * 요청에 담긴 입장권을 연결 시 인증된 사용자 기준으로 검증
      */
     @MessageMapping("/seat/hold")
-    public void holdSeat(SeatHoldRequest request) {
-        long sequenceNum = ticketingSocketService.holdSeat(request.getSeatId(), request.getReservationId());
+    public void holdSeat(SeatHoldRequest request, Principal principal) {
+        SeatHoldResult result = ticketingMetrics.recordHoldSeat(
+                () -> ticketingSocketService.holdSeat(request.getSeatId(), request.getReservationId(),
+                        userIdOf(principal), request.getAdmissionTicket()));
+
+        seatStatusPublisher.held(result.getSequenceNum(), result.getVersion(),
+                request.getReservationId(), request.getSeatId());
+    }
+
+    /**
+     * 여러 좌석 한 번에 점유 (전부 성공하거나 전부 실패)
+     * /pub/seat/hold-batch
+     * 성공하면 HOLD 이벤트 하나에 좌석 목록을 담아 전송
+     */
+    @MessageMapping("/seat/hold-batch")
+    public void holdSeats(SeatHoldBatchRequest request, Principal principal) {
+        SeatHoldResult result = ticketingMetrics.recordHoldSeat(
+                () -> ticketingSocketService.holdSeats(request.getSeatIds(), request.getReservationId(),
+                        userIdOf(principal), request.getAdmissionTicket()));
 
-        simpMessagingTemplate.convertAndSend("/sub/round/" + sequenceNum + "/seats",
-                SeatStatusEventResponse.builder()
-                        .type("HOLD")
-                        .seatId(request.getSeatId())
-                        .reservationId(request.getReservationId())
-                        .build());
+        seatStatusPublisher.held(result.getSequenceNum(), result.getVersion(),
+                request.getReservationId(), request.getSeatIds());
     }
 
     /**
      * 좌석 해제
      * /pub/seat/release
+     * 연결 시 인증된 사용자의 예약만 해제, 실제로 해제된 경우에만 RELEASE 전송
      */
     @MessageMapping("/seat/release")
-    public void releaseSeat(SeatReleaseRequest request) {
-        long sequenceNum = ticketingSocketService.releaseSeat(request.getReservationId(), request.getSeatId());
+    public void releaseSeat(SeatReleaseRequest request, Principal principal) {
+        seatStatusPublisher.released(
+                ticketingSocketService.releaseSeat(request.getReservationId(), request.getSeatId(), userIdOf(principal)),
+                request.getReservationId());
+    }
 
-        simpMessagingTemplate.convertAndSend(
-                "/sub/round/" + sequenceNum + "/seats",
-                SeatStatusEventResponse.builder()
-                        .type("RELEASE")
-                        .seatId(request.getSeatId())
-                        .reservationId(request.getReservationId())
-                        .build());
+    /**
+     * 내 좌석 모두 해제
+     * /pub/seat/release-all
+     * 연결 시 인증된 사용자의 예약만 해제
+     * 해제된 좌석을 RELEASE 이벤트 하나에 담아 전송 (해제된 좌석이 없으면 전송 안 함)
+     */
+    @MessageMapping("/seat/release-all")
+    public void releaseAllSeats(SeatReleaseAllRequest request, Principal principal) {
+        seatStatusPublisher.released(
+                ticketingSocketService.releaseAllSeats(request.getReservationId(), userIdOf(principal)),
+                request.getReservationId());
     }
 
     /**
@@ -77,4 +102,12 @@ public class TicketingSocketController {
                 .message(ex.getMessage())
                 .build();
     }
+
+    private Long userIdOf(Principal principal) {
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserId();
+        }
+        return null;
+    }
 }
@@ -0,0 +1,14 @@
+package com.ticket.dojo.backdeepfamily.domain.ticketing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 좌석 점유 결과 (HOLD 이벤트에 같은 version을 실어 보냄)
+ */
+@Getter
+@AllArgsConstructor
+public class SeatHoldResult {
+    private final long sequenceNum;
+    private final long version; // 점유 후 회차 version
+}
@@ -0,0 +1,25 @@
+package com.ticket.dojo.backdeepfamily.domain.ticketing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 좌석 해제 결과 (실제로 해제된 좌석이 있을 때만 RELEASE 이벤트 전송)
+ */
+@Getter
+@AllArgsConstructor
+public class SeatReleaseResult {
+    private final long sequenceNum;
+    private final long version;       // 해제 후 회차 version (해제된 좌석이 없으면 현재 version)
+    private final List<Long> seatIds; // 실제로 해제된 좌석
+
+    public static SeatReleaseResult none(long sequenceNum) {
+        return new SeatReleaseResult(sequenceNum, 0L, List.of());
+    }
+
+    public boolean isReleased() {
+        return !seatIds.isEmpty();
+    }
+}
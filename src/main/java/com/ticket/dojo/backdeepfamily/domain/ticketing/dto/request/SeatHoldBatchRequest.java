@@ -0,0 +1,19 @@
+package com.ticket.dojo.backdeepfamily.domain.ticketing.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatHoldBatchRequest {
+    private Long reservationId;
+    private Long sequenceNum;
+    private List<Long> seatIds;
+    private String admissionTicket; // 대기열 입장권
+}
@@ -13,4 +13,5 @@ public class SeatHoldRequest {
     private Long reservationId;
     private Long sequenceNum;
     private Long seatId;
+    private String admissionTicket; // 대기열 입장권
 }
@@ -0,0 +1,15 @@
+package com.ticket.dojo.backdeepfamily.domain.ticketing.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatReleaseAllRequest {
+    private Long reservationId;
+    private Long sequenceNum;
+}
@@ -15,6 +15,7 @@ public class GetHoldingSeatsResponse {
     private List<HoldingSeatDto> seats;
     private Long reservationId;
     private Long sequenceNum;
+    private Long version; // 좌석 배치도 version (이후 /sub/round/{sequenceNum}/seats 이벤트는 이보다 큰 version만 적용)
 
     @Getter
     @Builder
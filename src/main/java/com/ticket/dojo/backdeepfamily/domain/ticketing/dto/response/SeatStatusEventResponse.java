@@ -5,12 +5,17 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class SeatStatusEventResponse {
-    private String type; // HOLD / RELEASE
+    private String type; // HOLD / RELEASE / ROUND_STARTED
+    private Long version; // 회차 좌석 배치도 version (스냅샷 이후 이벤트만 적용, 건너뛰면 스냅샷 재조회)
     private Long seatId;
+    private List<Long> seatIds; // 여러 좌석을 한 번에 점유한 경우 (seatId 대신)
     private Long reservationId;
+    private Long sequenceNum; // ROUND_STARTED일 때 새 회차
 }
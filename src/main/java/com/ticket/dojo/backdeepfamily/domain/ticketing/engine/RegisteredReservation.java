@@ -0,0 +1,25 @@
+package com.ticket.dojo.backdeepfamily.domain.ticketing.engine;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 엔진에 기억해 둔 예약 (회차, 예약자, 점유 가능 여부)
+ * 점유 / 해제 요청마다 예약을 조회하지 않고 회차와 소유자, 상태를 확인하기 위함
+ * 예약 상태가 PENDING에서 바뀌면 엔진에서 지우므로 다음 요청은 DB의 상태로 다시 등록됨
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class RegisteredReservation {
+    private final long sequenceNum;
+    private final long userId;
+    private final boolean holdable; // PENDING 예약만 좌석 점유 가능
+
+    public boolean isOwnedBy(Long userId) {
+        return userId != null && this.userId == userId;
+    }
+}
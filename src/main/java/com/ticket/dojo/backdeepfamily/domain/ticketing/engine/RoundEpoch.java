@@ -0,0 +1,48 @@
+package com.ticket.dojo.backdeepfamily.domain.ticketing.engine;
+
+import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Reservation;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 현재 회차 (회차 판단의 유일한 기준)
+ *
+ * - 예약 생성 / 점유 경로는 벽시계 대신 이 값을 연산마다 한 번만 읽음
+ * - 회차 전환은 CAS로 한 번만 성공하고 뒤로 가지 않음 (스케줄이 늦거나 여러 번 호출돼도 안전)
+ * - 기동 시에는 시계 기준 회차로 시작
+ */
+@Component
+public class RoundEpoch {
+
+    private final AtomicLong current;
+
+    public RoundEpoch() {
+        this(Reservation.sequenceNumAt(LocalDateTime.now()));
+    }
+
+    public RoundEpoch(long sequenceNum) {
+        this.current = new AtomicLong(sequenceNum);
+    }
+
+    public long current() {
+        return current.get();
+    }
+
+    /**
+     * 회차 전환 (현재보다 뒤 회차로만)
+     *
+     * @return 전환 전 회차 (이미 같거나 뒤 회차면 null)
+     */
+    public Long advanceTo(long sequenceNum) {
+        long previous;
+        do {
+            previous = current.get();
+            if (previous >= sequenceNum) {
+                return null;
+            }
+        } while (!current.compareAndSet(previous, sequenceNum));
+        return previous;
+    }
+}
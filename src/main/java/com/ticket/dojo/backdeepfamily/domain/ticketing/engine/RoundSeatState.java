@@ -0,0 +1,28 @@
+package com.ticket.dojo.backdeepfamily.domain.ticketing.engine;
+
+/**
+ * 한 회차의 좌석 점유 상태
+ *
+ * 변경과 version 증가가 같은 락 안에서 일어나야 이벤트 version 순서가 좌석별 변경 순서와 같아짐
+ * (락 구간은 배열 몇 칸 비교 / 대입뿐이라 짧음)
+ */
+final class RoundSeatState {
+
+    static final long FREE = 0L;
+
+    final long[] holders;   // 좌석 index -> 점유한 예약 ID (0이면 빈 좌석)
+    long version;           // 실제 변경이 있을 때만 1씩 증가
+    SeatMapSnapshot snapshot; // 마지막 version의 스냅샷 (변경되면 null)
+
+    RoundSeatState(int capacity) {
+        this.holders = new long[capacity];
+    }
+
+    /**
+     * 변경 반영 후 새 version (락 안에서 호출)
+     */
+    long changed() {
+        snapshot = null;
+        return ++version;
+    }
+}
@@ -0,0 +1,41 @@
+package com.ticket.dojo.backdeepfamily.domain.ticketing.engine;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좌석 상태 엔진에서 일어난 점유 / 해제 (write-behind로 reservation_seat에 반영)
+ */
+@Getter
+public class SeatHoldChange {
+
+    private final boolean hold;             // true: 점유, false: 해제
+    private final long sequenceNum;
+    private final long seatId;
+    private final long reservationId;
+    private final LocalDateTime expiredAt;  // 점유 만료 시각 (해제면 null)
+
+    private SeatHoldChange(boolean hold, long sequenceNum, long seatId, long reservationId, LocalDateTime expiredAt) {
+        this.hold = hold;
+        this.sequenceNum = sequenceNum;
+        this.seatId = seatId;
+        this.reservationId = reservationId;
+        this.expiredAt = expiredAt;
+    }
+
+    static SeatHoldChange hold(long sequenceNum, long seatId, long reservationId, LocalDateTime expiredAt) {
+        return new SeatHoldChange(true, sequenceNum, seatId, reservationId, expiredAt);
+    }
+
+    static SeatHoldChange release(long sequenceNum, long seatId, long reservationId) {
+        return new SeatHoldChange(false, sequenceNum, seatId, reservationId, null);
+    }
+
+    /**
+     * 같은 회차의 같은 좌석이면 같은 키
+     */
+    String seatKey() {
+        return sequenceNum + ":" + seatId;
+    }
+}
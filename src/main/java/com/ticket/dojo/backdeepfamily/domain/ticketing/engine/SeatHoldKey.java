@@ -0,0 +1,19 @@
+package com.ticket.dojo.backdeepfamily.domain.ticketing.engine;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 좌석 점유 하나 (회차, 좌석, 예약)
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class SeatHoldKey {
+    private final long sequenceNum;
+    private final long seatId;
+    private final long reservationId;
+}
@@ -0,0 +1,78 @@
+package com.ticket.dojo.backdeepfamily.domain.ticketing.engine;
+
+import com.ticket.dojo.backdeepfamily.global.lifecycle.StateRestoreEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기동 시 reservation_seat 유니크 인덱스 확인
+ *
+ * 점유 행은 (seat_id, sequence_num) 단위로 유니크
+ * 예전 스키마의 seat_id 단독 유니크 인덱스는 ddl-auto=update가 지우지 않는데,
+ * 남아 있으면 write-behind의 INSERT IGNORE가 지난 회차 행과 겹치는 새 회차 점유를 조용히 버림 -> 기동 실패로 알림
+ *
+ * 마이그레이션: src/main/resources/reservation_seat_round_migration.sql
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatHoldSchemaValidator {
+
+    static final String TABLE = "reservation_seat";
+    static final String SEAT_COLUMN = "seat_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 좌석 상태 엔진 재구성보다 먼저 확인
+     */
+    @EventListener(StateRestoreEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void validate() {
+        List<String> staleIndexes = jdbcTemplate.execute((ConnectionCallback<List<String>>) connection ->
+                findSeatOnlyUniqueIndexes(connection.getMetaData(), connection.getCatalog(), connection.getSchema()));
+
+        if (staleIndexes != null && !staleIndexes.isEmpty()) {
+            throw new IllegalStateException("reservation_seat에 seat_id 단독 유니크 인덱스가 남아 있습니다. " + staleIndexes
+                    + " - reservation_seat_round_migration.sql로 정리한 뒤 기동하세요.");
+        }
+        log.info("reservation_seat 유니크 인덱스 확인 완료");
+    }
+
+    /**
+     * seat_id 하나로만 이루어진 유니크 인덱스 이름 목록
+     */
+    static List<String> findSeatOnlyUniqueIndexes(DatabaseMetaData metaData, String catalog, String schema) throws SQLException {
+        String table = metaData.storesUpperCaseIdentifiers() ? TABLE.toUpperCase() : TABLE;
+
+        Map<String, List<String>> columnsByIndex = new LinkedHashMap<>();
+        try (ResultSet indexes = metaData.getIndexInfo(catalog, schema, table, true, false)) {
+            while (indexes.next()) {
+                String indexName = indexes.getString("INDEX_NAME");
+                String column = indexes.getString("COLUMN_NAME");
+                if (indexName != null && column != null) {
+                    columnsByIndex.computeIfAbsent(indexName, key -> new ArrayList<>()).add(column);
+                }
+            }
+        }
+
+        return columnsByIndex.entrySet().stream()
+                .filter(entry -> entry.getValue().size() == 1 && SEAT_COLUMN.equalsIgnoreCase(entry.getValue().get(0)))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+}
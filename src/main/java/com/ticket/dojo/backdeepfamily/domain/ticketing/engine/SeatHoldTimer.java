@@ -0,0 +1,52 @@
+package com.ticket.dojo.backdeepfamily.domain.ticketing.engine;
+
+import com.ticket.dojo.backdeepfamily.global.util.timer.TimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 좌석 점유 만료 타이머 (타이밍 휠)
+ *
+ * - 점유 / 결제 진입 시 만료 시각 등록, 해제 시 취소
+ * - seat.hold.tick-ms 간격으로 지난 칸만 확인 -> 점유마다 만료 시각에 맞춰 개별 만료 (DB 스캔 없음)
+ * - 휠 한 바퀴(tick * 칸 수)가 점유 시간보다 길어서 대부분 한 번에 만료, 더 긴 만료 시각은 다음 바퀴로 넘어감
+ */
+@Component
+public class SeatHoldTimer {
+
+    private static final int WHEEL_SIZE = 512;
+
+    private final TimingWheel<SeatHoldKey> wheel;
+
+    public SeatHoldTimer(@Value("${seat.hold.tick-ms:50}") long tickMillis) {
+        this.wheel = new TimingWheel<>(tickMillis, WHEEL_SIZE, System.currentTimeMillis());
+    }
+
+    /**
+     * 만료 시각 등록 (이미 있으면 변경)
+     */
+    public void schedule(SeatHoldKey key, long deadlineMillis) {
+        wheel.schedule(key, deadlineMillis);
+    }
+
+    public void cancel(SeatHoldKey key) {
+        wheel.cancel(key);
+    }
+
+    /**
+     * nowMillis까지 만료된 점유 (반환된 점유는 타이머에서 빠짐)
+     */
+    public List<SeatHoldKey> advance(long nowMillis) {
+        return wheel.advance(nowMillis);
+    }
+
+    public void clear() {
+        wheel.clear();
+    }
+
+    public int size() {
+        return wheel.size();
+    }
+}
@@ -0,0 +1,328 @@
+package com.ticket.dojo.backdeepfamily.domain.ticketing.engine;
+
+import com.ticket.dojo.backdeepfamily.global.util.buffer.MpscRingBuffer;
+import com.ticket.dojo.backdeepfamily.global.util.transaction.TransactionUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 좌석 점유 / 해제의 비동기 DB 저장 (write-behind)
+ *
+ * - 좌석 상태 엔진이 바뀐 내용을 MPSC 링 버퍼에 넣고 바로 반환
+ * - 전용 writer 스레드가 모아서 한 트랜잭션에서 DELETE 후 INSERT를 JDBC batch로 반영
+ * - 같은 배치 안에서 점유 후 해제된 좌석은 DB에 쓰지 않음
+ * - overflow가 seat.write-behind.overflow-limit을 넘으면 isSaturated() -> 엔진이 새 점유만 거절 (해제는 계속 받음)
+ *
+ * 저장 실패 시
+ * - 연결 실패 / 락 타임아웃처럼 일시적인 실패는 배치 그대로 다음 배치에 재시도
+ * - 그 외 실패는 배치를 반씩 나눠 각각 반영 -> 문제 있는 변경만 남기고 나머지는 저장
+ * - 남긴 변경과 같은 좌석의 뒤 변경도 함께 미뤄 좌석별 순서 유지
+ * - 혼자서도 실패한 변경은 seat.write-behind.max-attempts번까지 재시도한 뒤
+ *   에러 로그와 seat.write-behind.dead-letter 카운터로 남기고 버림
+ *
+ * 행은 회차(sequence_num)별로 저장되고 유니크도 (seat_id, sequence_num) 단위
+ * 충돌 판단은 엔진이 하므로, 재구성 직후 등 이미 저장된 행과 겹치면 무시(INSERT IGNORE)
+ * 무시된 INSERT는 경고 로그와 seat.write-behind.ignored 카운터로 남김 (예전 seat_id 단독 유니크 인덱스는 SeatHoldSchemaValidator가 기동 시 차단)
+ */
+@Slf4j
+@Component
+public class SeatHoldWriteBehind {
+
+    public static final String PENDING_METRIC = "seat.write-behind.pending";
+    public static final String IGNORED_METRIC = "seat.write-behind.ignored";
+    public static final String DEAD_LETTER_METRIC = "seat.write-behind.dead-letter";
+
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO reservation_seat (seat_id, sequence_num, reservation_id, expired_at) VALUES (?, ?, ?, ?)";
+    private static final String DELETE_SQL =
+            "DELETE FROM reservation_seat WHERE seat_id = ? AND sequence_num = ? AND reservation_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MpscRingBuffer<SeatHoldChange> buffer;
+    private final ConcurrentLinkedQueue<SeatHoldChange> overflow = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger overflowSize = new AtomicInteger();
+    private final int batchSize;
+    private final long idleNanos;
+    private final int maxAttempts;
+    private final int overflowLimit;
+    private final Counter ignoredInserts;
+    private final Counter deadLetters;
+
+    // 반영에 실패해 다음 배치로 넘길 변경 (writer 전용, 순서 유지)
+    private final List<SeatHoldChange> retryChanges = new ArrayList<>();
+
+    // 변경 -> 혼자 반영해도 실패한 횟수 (writer 전용, 반영되거나 버려지면 제거)
+    private final Map<SeatHoldChange, Integer> failedAttempts = new IdentityHashMap<>();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public SeatHoldWriteBehind(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+                               @Value("${seat.write-behind.buffer-size:16384}") int bufferSize,
+                               @Value("${seat.write-behind.batch-size:500}") int batchSize,
+                               @Value("${seat.write-behind.interval-ms:50}") long idleMillis,
+                               @Value("${seat.write-behind.max-attempts:5}") int maxAttempts,
+                               @Value("${seat.write-behind.overflow-limit:100000}") int overflowLimit) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.buffer = new MpscRingBuffer<>(bufferSize);
+        this.batchSize = batchSize;
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMillis);
+        this.maxAttempts = maxAttempts;
+        this.overflowLimit = overflowLimit;
+        Gauge.builder(PENDING_METRIC, this, SeatHoldWriteBehind::getPendingCount)
+                .description("아직 DB에 반영되지 않은 좌석 점유 변경 수")
+                .register(meterRegistry);
+        this.ignoredInserts = Counter.builder(IGNORED_METRIC)
+                .description("이미 있는 행과 겹쳐 무시된 좌석 점유 INSERT 수")
+                .register(meterRegistry);
+        this.deadLetters = Counter.builder(DEAD_LETTER_METRIC)
+                .description("반영을 포기하고 버린 좌석 점유 변경 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::runWriter, "seat-write-behind");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        flushAll(); // 남은 변경 반영
+    }
+
+    /**
+     * 변경 등록 (엔진에서 호출)
+     */
+    public void markDirty(SeatHoldChange change) {
+        if (!buffer.offer(change)) {
+            overflow.add(change);
+            overflowSize.incrementAndGet();
+        }
+    }
+
+    /**
+     * DB 반영이 밀려 overflow가 한도에 닿았는지 (새 점유 거절 기준)
+     */
+    public boolean isSaturated() {
+        return overflowSize.get() >= overflowLimit;
+    }
+
+    /**
+     * 아직 반영되지 않은 변경 폐기 (회차 초기화 시)
+     */
+    public synchronized void discardPending() {
+        buffer.drain(change -> { }, Integer.MAX_VALUE);
+        while (overflow.poll() != null) {
+            overflowSize.decrementAndGet();
+        }
+        retryChanges.clear();
+        failedAttempts.clear();
+    }
+
+    public int getPendingCount() {
+        return buffer.size() + overflowSize.get() + retryChanges.size();
+    }
+
+    /**
+     * 쌓인 변경을 최대 batch-size만큼 한 트랜잭션으로 반영
+     *
+     * @return 반영한 변경 수 (모두 실패하면 0)
+     */
+    public synchronized int flush() {
+        List<SeatHoldChange> batch = new ArrayList<>(retryChanges);
+        retryChanges.clear();
+
+        // 링 버퍼가 가득 찼을 때 넘어간 변경이 더 먼저 들어온 것
+        SeatHoldChange overflowed;
+        while (batch.size() < batchSize && (overflowed = overflow.poll()) != null) {
+            overflowSize.decrementAndGet();
+            batch.add(overflowed);
+        }
+        buffer.drain(batch::add, batchSize - batch.size());
+
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        int written = writeIsolating(batch, new HashSet<>());
+        if (written > 0) {
+            log.debug("좌석 write-behind 반영 완료 - {}건 / {}건", written, batch.size());
+        }
+        return written;
+    }
+
+    /**
+     * 쌓인 변경을 모두 반영 (batch-size씩 나눠서 반복)
+     *
+     * @return 모두 반영했는지 (실패하면 남은 변경은 다음 배치에 재시도)
+     */
+    public synchronized boolean flushAll() {
+        while (getPendingCount() > 0) {
+            if (flush() == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void runWriter() {
+        while (running) {
+            try {
+                if (flush() == 0) {
+                    LockSupport.parkNanos(idleNanos);
+                }
+            } catch (Exception e) {
+                log.error("좌석 write-behind writer 오류", e);
+                LockSupport.parkNanos(idleNanos);
+            }
+        }
+    }
+
+    /**
+     * 한 트랜잭션으로 반영, 일시적이지 않은 실패면 반씩 나눠 다시 반영
+     * 앞에서 남긴 변경과 같은 좌석(blockedSeats)의 변경은 쓰지 않고 순서대로 다음 배치로 미룸
+     *
+     * @return 반영한 변경 수
+     */
+    private int writeIsolating(List<SeatHoldChange> changes, Set<String> blockedSeats) {
+        List<SeatHoldChange> writable = new ArrayList<>(changes.size());
+        for (SeatHoldChange change : changes) {
+            if (blockedSeats.contains(change.seatKey())) {
+                retryChanges.add(change);
+            } else {
+                writable.add(change);
+            }
+        }
+        if (writable.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(writable));
+            if (!failedAttempts.isEmpty()) {
+                writable.forEach(failedAttempts::remove);
+            }
+            return writable.size();
+        } catch (Exception e) {
+            if (TransactionUtil.isTransient(e)) {
+                log.warn("좌석 write-behind 반영 실패 (일시적), 다음 배치에 재시도 - {}건: {}", writable.size(), e.getMessage());
+                writable.forEach(change -> retry(change, blockedSeats));
+                return 0;
+            }
+            if (writable.size() > 1) {
+                int half = writable.size() / 2;
+                return writeIsolating(writable.subList(0, half), blockedSeats)
+                        + writeIsolating(writable.subList(half, writable.size()), blockedSeats);
+            }
+
+            SeatHoldChange change = writable.get(0);
+            int attempts = failedAttempts.merge(change, 1, Integer::sum);
+            if (attempts < maxAttempts) {
+                log.error("좌석 write-behind 반영 실패, 다음 배치에 재시도 ({}/{}) - seat: {}, reservationId: {}: {}",
+                        attempts, maxAttempts, change.seatKey(), change.getReservationId(), e.getMessage());
+                retry(change, blockedSeats);
+                return 0;
+            }
+
+            failedAttempts.remove(change);
+            deadLetters.increment();
+            log.error("좌석 write-behind 반영 포기 (dead letter) - {}, seat: {}, reservationId: {}, expiredAt: {}",
+                    change.isHold() ? "점유" : "해제", change.seatKey(), change.getReservationId(), change.getExpiredAt(), e);
+            return 0;
+        }
+    }
+
+    private void retry(SeatHoldChange change, Set<String> blockedSeats) {
+        retryChanges.add(change);
+        blockedSeats.add(change.seatKey());
+    }
+
+    private void write(List<SeatHoldChange> batch) {
+        // 회차 + 좌석별 마지막 점유만 남기고, 이전 배치에서 저장된 점유의 해제만 DELETE
+        Map<String, SeatHoldChange> holds = new LinkedHashMap<>();
+        List<SeatHoldChange> releases = new ArrayList<>();
+        for (SeatHoldChange change : batch) {
+            if (change.isHold()) {
+                holds.put(change.seatKey(), change);
+                continue;
+            }
+
+            SeatHoldChange pending = holds.get(change.seatKey());
+            if (pending != null && pending.getReservationId() == change.getReservationId()) {
+                holds.remove(change.seatKey());
+            } else {
+                releases.add(change);
+            }
+        }
+
+        if (!releases.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SQL, releases, releases.size(), (ps, change) -> {
+                ps.setLong(1, change.getSeatId());
+                ps.setLong(2, change.getSequenceNum());
+                ps.setLong(3, change.getReservationId());
+            });
+        }
+        if (!holds.isEmpty()) {
+            List<SeatHoldChange> inserts = new ArrayList<>(holds.values());
+            int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, inserts, inserts.size(), (ps, change) -> {
+                ps.setLong(1, change.getSeatId());
+                ps.setLong(2, change.getSequenceNum());
+                ps.setLong(3, change.getReservationId());
+                ps.setTimestamp(4, Timestamp.valueOf(change.getExpiredAt()));
+            });
+            warnIgnored(inserts, counts);
+        }
+    }
+
+    /**
+     * INSERT IGNORE로 저장되지 않은 점유 경고 (드라이버가 건수를 알려주지 않으면 확인 불가)
+     */
+    private void warnIgnored(List<SeatHoldChange> inserts, int[][] counts) {
+        List<String> ignored = new ArrayList<>();
+        int i = 0;
+        for (int[] batchCounts : counts) {
+            for (int count : batchCounts) {
+                if (count == 0) {
+                    ignored.add(inserts.get(i).seatKey());
+                }
+                i++;
+            }
+        }
+
+        if (!ignored.isEmpty()) {
+            ignoredInserts.increment(ignored.size());
+            log.warn("좌석 점유 INSERT 무시 - {}건 / {}건 (같은 회차 좌석 행이 이미 있음): {}", ignored.size(), inserts.size(), ignored);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.ticket.dojo.backdeepfamily.domain.ticketing.engine;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 회차 좌석 배치도 스냅샷 (불변)
+ *
+ * version까지의 변경이 모두 반영된 상태
+ * 클라이언트는 version보다 큰 이벤트만 순서대로 적용하고, 번호가 건너뛰면 스냅샷을 다시 받음
+ */
+@Getter
+public class SeatMapSnapshot {
+
+    private final long sequenceNum;
+    private final long version;
+    private final List<Long> heldSeatIds;
+
+    public SeatMapSnapshot(long sequenceNum, long version, List<Long> heldSeatIds) {
+        this.sequenceNum = sequenceNum;
+        this.version = version;
+        this.heldSeatIds = List.copyOf(heldSeatIds);
+    }
+
+    static SeatMapSnapshot empty(long sequenceNum) {
+        return new SeatMapSnapshot(sequenceNum, 0L, List.of());
+    }
+}
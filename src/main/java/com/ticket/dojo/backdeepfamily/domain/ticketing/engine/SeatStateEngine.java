@@ -0,0 +1,433 @@
+package com.ticket.dojo.backdeepfamily.domain.ticketing.engine;
+
+import com.ticket.dojo.backdeepfamily.domain.ticketing.catalog.SeatCatalog;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.SeatReleaseResult;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Reservation;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.ReservationSeat;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.repository.ReservationSeatRepository;
+import com.ticket.dojo.backdeepfamily.global.exception.ServerBusyException;
+import com.ticket.dojo.backdeepfamily.global.exception.socket.RoundClosedException;
+import com.ticket.dojo.backdeepfamily.global.exception.socket.SeatAlreadyHeldException;
+import com.ticket.dojo.backdeepfamily.global.lifecycle.StateRestoreEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 회차별 인메모리 좌석 상태 엔진
+ *
+ * - 회차마다 좌석 index(SeatCatalog 기준) -> 점유한 예약 ID(0이면 빈 좌석) 배열 하나
+ * - 점유 / 해제는 회차 락 안에서 비교 후 대입으로 결정 (DB 조회 없음), 충돌 판단은 이 엔진이 기준
+ * - 실제 변경마다 회차 version이 1씩 증가, 좌석 이벤트와 스냅샷이 같은 version을 사용
+ * - 바뀐 내용은 SeatHoldWriteBehind가 비동기로 reservation_seat에 반영 (반영이 밀려 포화되면 새 점유만 거절, 해제는 계속 받음)
+ * - 점유 만료 시각은 SeatHoldTimer에 등록 (해제되면 취소)
+ * - 기동 시 reservation_seat 테이블로 재구성
+ * - 새 회차가 시작되면 지난 회차만 메모리에서 제거 (테이블은 건드리지 않음)
+ * - RoundEpoch보다 앞선(종료된) 회차에는 점유 불가, 회차 락 안에서 다시 확인하므로 전환 직전 요청도 새지 않음
+ * - 좌석 index를 쓰는 작업은 배치 락(read)을 잡고 실행, 좌석 배치 교체 / 재구성은 write로 배타 실행
+ */
+@Slf4j
+@Component
+public class SeatStateEngine {
+
+    private static final long FREE = RoundSeatState.FREE;
+
+    private final SeatCatalog seatCatalog;
+    private final ReservationSeatRepository reservationSeatRepository;
+    private final SeatHoldWriteBehind seatHoldWriteBehind;
+    private final SeatHoldTimer seatHoldTimer;
+    private final RoundEpoch roundEpoch;
+
+    // 회차 -> 좌석별 점유 예약 ID + version
+    private final Map<Long, RoundSeatState> rounds = new ConcurrentHashMap<>();
+
+    // 예약 ID -> 회차 / 예약자 (점유 / 해제 요청마다 예약을 조회하지 않도록)
+    private final Map<Long, RegisteredReservation> reservations = new ConcurrentHashMap<>();
+
+    // 좌석 배치 락: 배치 교체 중에 이전 배치로 계산한 index가 새 배열에 쓰이지 않도록
+    private final ReadWriteLock layoutLock = new ReentrantReadWriteLock();
+
+    public SeatStateEngine(SeatCatalog seatCatalog, ReservationSeatRepository reservationSeatRepository,
+                           SeatHoldWriteBehind seatHoldWriteBehind, SeatHoldTimer seatHoldTimer, RoundEpoch roundEpoch) {
+        this.seatCatalog = seatCatalog;
+        this.reservationSeatRepository = reservationSeatRepository;
+        this.seatHoldWriteBehind = seatHoldWriteBehind;
+        this.seatHoldTimer = seatHoldTimer;
+        this.roundEpoch = roundEpoch;
+    }
+
+    /**
+     * 현재 회차 (RoundEpoch 기준)
+     */
+    public long currentRound() {
+        return roundEpoch.current();
+    }
+
+    /**
+     * 기동 시 reservation_seat의 점유 상태로 엔진 재구성 (좌석 목록은 SeatCatalog가 먼저 적재)
+     */
+    @EventListener(StateRestoreEvent.class)
+    @Transactional(readOnly = true)
+    public void restore() {
+        layoutLock.writeLock().lock();
+        try {
+            rounds.clear();
+            seatHoldTimer.clear();
+
+            List<Object[]> holds = reservationSeatRepository.findHoldKeys();
+            for (Object[] hold : holds) {
+                restore((Long) hold[2], (Long) hold[0], (Long) hold[1], (Long) hold[4],
+                        hold[5] == Reservation.ReservationState.PENDING, (LocalDateTime) hold[3]);
+            }
+
+            log.info("좌석 상태 엔진 재구성 완료 - 좌석: {}석, 점유: {}건", seatCatalog.size(), holds.size());
+        } finally {
+            layoutLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 좌석 목록 재적재 후 배치가 바뀌었으면 재구성 (actuator seatcatalog)
+     *
+     * 1. 배치 락(write)을 잡아 점유 / 해제 / 조회를 멈춤
+     * 2. 아직 반영되지 않은 점유를 모두 저장 (실패하면 배치를 바꾸지 않고 중단)
+     * 3. 좌석 목록 교체, 배치가 바뀌었으면 reservation_seat로 재구성
+     * 락을 푼 뒤에는 새 배치와 재구성된 상태가 함께 보임
+     *
+     * @param reloadCatalog 좌석 목록 교체 (배치가 바뀌었으면 true)
+     * @return 재구성했는지
+     */
+    public boolean reloadLayout(Supplier<Boolean> reloadCatalog) {
+        layoutLock.writeLock().lock();
+        try {
+            if (!seatHoldWriteBehind.flushAll()) {
+                throw new IllegalStateException("반영되지 않은 좌석 점유가 남아 있어 좌석 배치를 바꿀 수 없습니다.");
+            }
+            if (!reloadCatalog.get()) {
+                return false;
+            }
+            restore();
+            return true;
+        } finally {
+            layoutLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 좌석 점유 (빈 좌석일 때만 성공)
+     *
+     * @return 변경된 회차 version
+     * @throws SeatAlreadyHeldException 이미 점유된 좌석
+     * @throws RoundClosedException      이미 종료된 회차
+     * @throws ServerBusyException       DB 반영이 밀려 새 점유를 받을 수 없음
+     */
+    public long hold(long sequenceNum, long seatId, long reservationId) {
+        return holdAll(sequenceNum, List.of(seatId), reservationId);
+    }
+
+    /**
+     * 여러 좌석 점유 (all-or-nothing)
+     * 모두 비어 있을 때만 한 번에 점유하고 version은 1만 증가 (이벤트 하나)
+     *
+     * @return 변경된 회차 version
+     * @throws SeatAlreadyHeldException 하나라도 이미 점유된 경우 (아무것도 점유하지 않음)
+     * @throws RoundClosedException      이미 종료된 회차
+     * @throws ServerBusyException       DB 반영이 밀려 새 점유를 받을 수 없음
+     */
+    public long holdAll(long sequenceNum, List<Long> seatIds, long reservationId) {
+        if (seatHoldWriteBehind.isSaturated()) {
+            throw new ServerBusyException("좌석 저장이 밀려 잠시 점유할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        layoutLock.readLock().lock();
+        try {
+            // 없는 좌석이면 아무것도 잡기 전에 SeatNotFoundException
+            int[] indexes = new int[seatIds.size()];
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = indexOf(seatIds.get(i));
+            }
+
+            if (sequenceNum < roundEpoch.current()) {
+                throw new RoundClosedException(sequenceNum);
+            }
+
+            RoundSeatState round = round(sequenceNum);
+            synchronized (round) {
+                // 확인 후 락을 잡기 전에 회차가 바뀌었을 수 있음 (전환은 epoch CAS 후 제거 순서)
+                if (sequenceNum < roundEpoch.current()) {
+                    rounds.remove(sequenceNum, round);
+                    throw new RoundClosedException(sequenceNum);
+                }
+                for (int i = 0; i < indexes.length; i++) {
+                    if (round.holders[indexes[i]] != FREE) {
+                        throw new SeatAlreadyHeldException(seatIds.get(i));
+                    }
+                }
+
+                LocalDateTime expiredAt = LocalDateTime.now().plusSeconds(ReservationSeat.HOLD_SECONDS);
+                long deadline = System.currentTimeMillis() + ReservationSeat.HOLD_SECONDS * 1000L;
+                for (int i = 0; i < indexes.length; i++) {
+                    round.holders[indexes[i]] = reservationId;
+                    seatHoldWriteBehind.markDirty(SeatHoldChange.hold(sequenceNum, seatIds.get(i), reservationId, expiredAt));
+                    seatHoldTimer.schedule(new SeatHoldKey(sequenceNum, seatIds.get(i), reservationId), deadline);
+                }
+                return round.changed();
+            }
+        } finally {
+            layoutLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 좌석 해제 (해당 예약이 점유 중일 때만)
+     *
+     * @return 해제 결과 (해제된 좌석이 없으면 version 증가 없음)
+     */
+    public SeatReleaseResult release(long sequenceNum, long seatId, long reservationId) {
+        return releaseSeats(sequenceNum, List.of(seatId), reservationId);
+    }
+
+    /**
+     * 주어진 좌석 중 해당 예약이 점유한 좌석만 해제 (한 번의 version 변경)
+     */
+    public SeatReleaseResult releaseSeats(long sequenceNum, List<Long> seatIds, long reservationId) {
+        layoutLock.readLock().lock();
+        try {
+            int[] indexes = new int[seatIds.size()];
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = indexOf(seatIds.get(i));
+            }
+
+            RoundSeatState round = rounds.get(sequenceNum);
+            if (round == null) {
+                return SeatReleaseResult.none(sequenceNum);
+            }
+
+            synchronized (round) {
+                List<Long> released = new ArrayList<>();
+                for (int i = 0; i < indexes.length; i++) {
+                    if (round.holders[indexes[i]] == reservationId) {
+                        round.holders[indexes[i]] = FREE;
+                        seatHoldWriteBehind.markDirty(SeatHoldChange.release(sequenceNum, seatIds.get(i), reservationId));
+                        seatHoldTimer.cancel(new SeatHoldKey(sequenceNum, seatIds.get(i), reservationId));
+                        released.add(seatIds.get(i));
+                    }
+                }
+                return released(sequenceNum, round, released);
+            }
+        } finally {
+            layoutLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 예약이 점유한 좌석 모두 해제 (예약 취소)
+     */
+    public SeatReleaseResult releaseAll(long sequenceNum, long reservationId) {
+        layoutLock.readLock().lock();
+        try {
+            RoundSeatState round = rounds.get(sequenceNum);
+            if (round == null) {
+                return SeatReleaseResult.none(sequenceNum);
+            }
+
+            synchronized (round) {
+                List<Long> released = new ArrayList<>();
+                for (int i = 0; i < round.holders.length; i++) {
+                    if (round.holders[i] == reservationId) {
+                        long seatId = seatCatalog.seatIdAt(i);
+                        round.holders[i] = FREE;
+                        seatHoldWriteBehind.markDirty(SeatHoldChange.release(sequenceNum, seatId, reservationId));
+                        seatHoldTimer.cancel(new SeatHoldKey(sequenceNum, seatId, reservationId));
+                        released.add(seatId);
+                    }
+                }
+                return released(sequenceNum, round, released);
+            }
+        } finally {
+            layoutLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 예약이 점유한 좌석의 만료 시각을 다시 설정 (결제 진입)
+     *
+     * @return 만료 시각을 바꾼 좌석 ID 목록
+     */
+    public List<Long> refreshHolds(long sequenceNum, long reservationId, long deadlineMillis) {
+        layoutLock.readLock().lock();
+        try {
+            RoundSeatState round = rounds.get(sequenceNum);
+            if (round == null) {
+                return List.of();
+            }
+
+            synchronized (round) {
+                List<Long> refreshed = new ArrayList<>();
+                for (int i = 0; i < round.holders.length; i++) {
+                    if (round.holders[i] == reservationId) {
+                        long seatId = seatCatalog.seatIdAt(i);
+                        seatHoldTimer.schedule(new SeatHoldKey(sequenceNum, seatId, reservationId), deadlineMillis);
+                        refreshed.add(seatId);
+                    }
+                }
+                return refreshed;
+            }
+        } finally {
+            layoutLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 회차 좌석 배치도 스냅샷 (변경이 없으면 같은 객체 재사용)
+     */
+    public SeatMapSnapshot snapshot(long sequenceNum) {
+        layoutLock.readLock().lock();
+        try {
+            RoundSeatState round = rounds.get(sequenceNum);
+            if (round == null) {
+                return SeatMapSnapshot.empty(sequenceNum);
+            }
+
+            synchronized (round) {
+                if (round.snapshot == null) {
+                    List<Long> held = new ArrayList<>();
+                    for (int i = 0; i < round.holders.length; i++) {
+                        if (round.holders[i] != FREE) {
+                            held.add(seatCatalog.seatIdAt(i));
+                        }
+                    }
+                    round.snapshot = new SeatMapSnapshot(sequenceNum, round.version, held);
+                }
+                return round.snapshot;
+            }
+        } finally {
+            layoutLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 회차의 점유 중인 좌석 ID 목록
+     */
+    public List<Long> getHeldSeatIds(long sequenceNum) {
+        return snapshot(sequenceNum).getHeldSeatIds();
+    }
+
+    /**
+     * 좌석을 점유한 예약 ID (빈 좌석이면 0)
+     */
+    public long getHolder(long sequenceNum, long seatId) {
+        layoutLock.readLock().lock();
+        try {
+            int index = indexOf(seatId);
+            RoundSeatState round = rounds.get(sequenceNum);
+            if (round == null) {
+                return FREE;
+            }
+            synchronized (round) {
+                return round.holders[index];
+            }
+        } finally {
+            layoutLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 새 예약 등록 (PENDING)
+     */
+    public void registerReservation(long reservationId, long sequenceNum, long userId) {
+        registerReservation(reservationId, sequenceNum, userId, true);
+    }
+
+    public void registerReservation(long reservationId, long sequenceNum, long userId, boolean holdable) {
+        reservations.put(reservationId, new RegisteredReservation(sequenceNum, userId, holdable));
+    }
+
+    /**
+     * 예약 상태가 바뀌면 호출 (다음 요청은 DB의 상태로 다시 등록)
+     */
+    public void forgetReservation(long reservationId) {
+        reservations.remove(reservationId);
+    }
+
+    /**
+     * 등록된 예약 (등록되지 않았으면 null)
+     */
+    public RegisteredReservation findReservation(long reservationId) {
+        return reservations.get(reservationId);
+    }
+
+    /**
+     * 예약의 회차 (등록되지 않았으면 null)
+     */
+    public Long findRound(long reservationId) {
+        RegisteredReservation registered = reservations.get(reservationId);
+        return registered == null ? null : registered.getSequenceNum();
+    }
+
+    /**
+     * 지난 회차 상태 제거 (새 회차 시작, RoundEpoch를 먼저 전환한 뒤 호출)
+     * 타이머에 남은 지난 회차 점유는 만료 시 회차가 없어 해제 없이 무시되고, DB 행은 purge에서 정리
+     *
+     * @return 제거한 회차 수
+     */
+    public int evictRoundsBefore(long sequenceNum) {
+        int before = rounds.size();
+        rounds.keySet().removeIf(round -> round < sequenceNum);
+        reservations.values().removeIf(registered -> registered.getSequenceNum() < sequenceNum);
+        return before - rounds.size();
+    }
+
+    /**
+     * 모든 회차 점유 초기화
+     */
+    public void clear() {
+        rounds.clear();
+        seatHoldTimer.clear();
+        reservations.clear();
+    }
+
+    /**
+     * DB에 있는 점유 복원 (write-behind 전달 없음, 만료 시각은 타이머에 다시 등록)
+     */
+    private void restore(long sequenceNum, long seatId, long reservationId, long userId, boolean holdable, LocalDateTime expiredAt) {
+        if (!seatCatalog.contains(seatId)) {
+            log.warn("좌석 목록에 없는 점유 무시 - seatId: {}, reservationId: {}", seatId, reservationId);
+            return;
+        }
+        RoundSeatState round = round(sequenceNum);
+        synchronized (round) {
+            round.holders[seatCatalog.indexOf(seatId)] = reservationId;
+            round.snapshot = null;
+        }
+        seatHoldTimer.schedule(new SeatHoldKey(sequenceNum, seatId, reservationId),
+                expiredAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        reservations.put(reservationId, new RegisteredReservation(sequenceNum, userId, holdable));
+    }
+
+    private SeatReleaseResult released(long sequenceNum, RoundSeatState round, List<Long> released) {
+        if (released.isEmpty()) {
+            return new SeatReleaseResult(sequenceNum, round.version, List.of());
+        }
+        return new SeatReleaseResult(sequenceNum, round.changed(), released);
+    }
+
+    private RoundSeatState round(long sequenceNum) {
+        return rounds.computeIfAbsent(sequenceNum, key -> new RoundSeatState(seatCatalog.capacity()));
+    }
+
+    private int indexOf(long seatId) {
+        return seatCatalog.indexOf(seatId);
+    }
+}
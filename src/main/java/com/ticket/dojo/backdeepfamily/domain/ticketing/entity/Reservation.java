@@ -8,6 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 import static com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Reservation.ReservationState.PENDING;
 
@@ -19,6 +20,9 @@ import static com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Reservation
 @AllArgsConstructor
 public class Reservation {
 
+    // 회차 구할 때 기준점 (기준 시각부터 1분마다 회차 하나)
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 12, 9, 10, 0, 0);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -62,6 +66,20 @@ public class Reservation {
         PENDING, CONFIRMED, CANCELLED, TIMEOUT, PAYING
     }
 
+    /**
+     * 해당 시각의 회차 (30분 50초면 -> 30)
+     */
+    public static long sequenceNumAt(LocalDateTime time) {
+        return ChronoUnit.MINUTES.between(BASE_TIME, time);
+    }
+
+    /**
+     * 회차 시작 시각 (30 -> 30분 0초)
+     */
+    public static LocalDateTime startOf(long sequenceNum) {
+        return BASE_TIME.plusMinutes(sequenceNum);
+    }
+
     public static Reservation createReservation(User user, long sequenceNum) {
         return Reservation.builder()
                 .reservationState(PENDING)
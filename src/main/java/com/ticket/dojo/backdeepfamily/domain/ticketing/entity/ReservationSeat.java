@@ -9,13 +9,15 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reservation_seat")
+@Table(name = "reservation_seat",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reservation_seat_seat_round", columnNames = {"seat_id", "sequence_num"}),
+        indexes = @Index(name = "idx_reservation_seat_round", columnList = "sequence_num"))
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class ReservationSeat {
-    private static final int HOLD_SECONDS = 20;
+    public static final int HOLD_SECONDS = 20; // 좌석 점유 유지 시간
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -25,9 +27,14 @@ public class ReservationSeat {
     private LocalDateTime expiredAt;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(nullable = false, name = "seat_id", unique = true)
+    @JoinColumn(nullable = false, name = "seat_id")
     private Seat seat;
 
+    // 회차 (좌석 유니크는 회차 단위, 지난 회차 행은 백그라운드에서 정리)
+    // 기존 DB의 seat_id 단독 유니크는 reservation_seat_round_migration.sql로 삭제
+    @Column(nullable = false)
+    private Long sequenceNum;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(nullable = false, name = "reservation_id")
     private Reservation reservation;
@@ -35,12 +42,4 @@ public class ReservationSeat {
     public void refreshExpiredAt(LocalDateTime localDateTime) {
         expiredAt = localDateTime;
     }
-
-    public static ReservationSeat createReservationSeat(Seat seat, Reservation reservation) {
-        return ReservationSeat.builder()
-                .seat(seat)
-                .reservation(reservation)
-                .expiredAt(LocalDateTime.now().plusSeconds(HOLD_SECONDS))
-                .build();
-    }
 }
@@ -0,0 +1,74 @@
+package com.ticket.dojo.backdeepfamily.domain.ticketing.notification;
+
+import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.SeatReleaseResult;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.response.SeatStatusEventResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 회차 좌석 이벤트 전송 (/sub/round/{sequenceNum}/seats)
+ *
+ * 모든 이벤트에 좌석 상태 엔진의 회차 version을 실어 보냄
+ * 클라이언트는 스냅샷 version 이후 이벤트만 적용하고, version이 건너뛰면 스냅샷을 다시 받음
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatStatusPublisher {
+
+    private final SimpMessagingTemplate simpMessagingTemplate;
+
+    public void held(long sequenceNum, long version, Long reservationId, Long seatId) {
+        send(sequenceNum, SeatStatusEventResponse.builder()
+                .type("HOLD")
+                .version(version)
+                .seatId(seatId)
+                .reservationId(reservationId)
+                .build());
+    }
+
+    public void held(long sequenceNum, long version, Long reservationId, List<Long> seatIds) {
+        send(sequenceNum, SeatStatusEventResponse.builder()
+                .type("HOLD")
+                .version(version)
+                .seatIds(seatIds)
+                .reservationId(reservationId)
+                .build());
+    }
+
+    /**
+     * 실제로 해제된 좌석이 있을 때만 전송 (한 좌석이면 seatId, 여러 좌석이면 seatIds)
+     */
+    public void released(SeatReleaseResult result, Long reservationId) {
+        if (!result.isReleased()) {
+            return;
+        }
+
+        SeatStatusEventResponse.SeatStatusEventResponseBuilder event = SeatStatusEventResponse.builder()
+                .type("RELEASE")
+                .version(result.getVersion())
+                .reservationId(reservationId);
+        if (result.getSeatIds().size() == 1) {
+            event.seatId(result.getSeatIds().get(0));
+        } else {
+            event.seatIds(result.getSeatIds());
+        }
+        send(result.getSequenceNum(), event.build());
+    }
+
+    /**
+     * 새 회차 시작 (지난 회차 구독자에게 전송, 클라이언트는 새 회차 토픽을 구독하고 스냅샷을 다시 받음)
+     */
+    public void roundStarted(long previousSequenceNum, long sequenceNum) {
+        send(previousSequenceNum, SeatStatusEventResponse.builder()
+                .type("ROUND_STARTED")
+                .sequenceNum(sequenceNum)
+                .build());
+    }
+
+    private void send(long sequenceNum, SeatStatusEventResponse event) {
+        simpMessagingTemplate.convertAndSend("/sub/round/" + sequenceNum + "/seats", event);
+    }
+}
@@ -2,12 +2,30 @@ package com.ticket.dojo.backdeepfamily.domain.ticketing.repository;
 
 import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Reservation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
     List<Reservation> findAllBySequenceNumAndReservationStateOrderByUpdatedAtAsc(long sequenceNum, Reservation.ReservationState reservationState);
+
+    // 좌석 만료 알림용 (사용자 이메일까지 한 번에)
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.user WHERE r.id IN :ids")
+    List<Reservation> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 조건부 일괄 상태 변경 (현재 상태가 from인 예약만, @PreUpdate를 거치지 않으므로 updatedAt도 직접)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.reservationState = :to, r.updatedAt = :now " +
+            "WHERE r.id IN :ids AND r.reservationState = :from")
+    int updateStateByIdIn(@Param("ids") Collection<Long> ids,
+                          @Param("from") Reservation.ReservationState from,
+                          @Param("to") Reservation.ReservationState to,
+                          @Param("now") LocalDateTime now);
 }
@@ -2,8 +2,11 @@ package com.ticket.dojo.backdeepfamily.domain.ticketing.repository;
 
 import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Reservation;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.ReservationSeat;
-import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Seat;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -11,9 +14,20 @@ import java.util.List;
 
 @Repository
 public interface ReservationSeatRepository extends JpaRepository<ReservationSeat, Long> {
-    boolean existsBySeat(Seat seat);
-
     List<ReservationSeat> findAllByReservation(Reservation reservation);
 
-    List<ReservationSeat> findAllByExpiredAtBefore(LocalDateTime now);
+    // 만료 행 chunk 조회 (예약, 사용자, 좌석까지 한 번에)
+    @Query("SELECT rs FROM ReservationSeat rs JOIN FETCH rs.reservation r JOIN FETCH r.user JOIN FETCH rs.seat " +
+            "WHERE rs.expiredAt < :now ORDER BY rs.id")
+    List<ReservationSeat> findExpiredWithReservation(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 좌석 상태 엔진 재구성용 (좌석 ID, 예약 ID, 회차, 만료 시각, 예약자 ID, 예약 상태)
+    @Query("SELECT rs.seat.id, rs.reservation.id, rs.sequenceNum, rs.expiredAt, r.user.userId, r.reservationState " +
+            "FROM ReservationSeat rs JOIN rs.reservation r")
+    List<Object[]> findHoldKeys();
+
+    // 지난 회차 행 정리 (한 번에 limit건씩)
+    @Modifying
+    @Query(value = "DELETE FROM reservation_seat WHERE sequence_num < :sequenceNum LIMIT :limit", nativeQuery = true)
+    int deleteRoundsBefore(@Param("sequenceNum") long sequenceNum, @Param("limit") int limit);
 }
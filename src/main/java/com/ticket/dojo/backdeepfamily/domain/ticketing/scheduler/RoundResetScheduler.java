@@ -1,36 +1,129 @@
 package com.ticket.dojo.backdeepfamily.domain.ticketing.scheduler;
 
-import com.ticket.dojo.backdeepfamily.domain.queue.repository.QueueRepository;
+import com.ticket.dojo.backdeepfamily.domain.queue.service.QueueService;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.RoundEpoch;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.SeatStateEngine;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Reservation;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.notification.SeatStatusPublisher;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.repository.ReservationSeatRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
 
 /**
- * 매분 정각에 ReservationSeat 테이블을 초기화하고 새 회차 시작
+ * 매분 정각에 새 회차 시작
+ *
+ * - reservation_seat 행은 회차(sequence_num)별로 저장되므로 회차 전환 시 테이블을 지우지 않음
+ * - 정각에는 RoundEpoch를 CAS로 전환한 뒤 좌석 상태 엔진에서 지난 회차만 제거
+ * - 지난 회차 구독자에게 ROUND_STARTED 전송
+ * - 대기열은 회차가 바뀔 때마다 닫음: 기본 파티션과 지난 회차 파티션만 만료, 다음 회차 파티션은 유지
+ *   (점유가 있었는지와 무관하게 항상, 테이블 전체 삭제 없이 해당 파티션만)
+ * - 지난 회차 좌석 행과 지난 회차 이전에 만료된 대기열 행은
+ *   seat.round.purge-interval-ms 간격으로 seat.round.purge-chunk-size 건씩 백그라운드 삭제
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class RoundResetScheduler {
 
     private final ReservationSeatRepository reservationSeatRepository;
-    private final QueueRepository queueRepository;
+    private final QueueService queueService;
+    private final SeatStateEngine seatStateEngine;
+    private final RoundEpoch roundEpoch;
+    private final SeatStatusPublisher seatStatusPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int purgeChunkSize;
+
+    public RoundResetScheduler(ReservationSeatRepository reservationSeatRepository,
+                               QueueService queueService,
+                               SeatStateEngine seatStateEngine,
+                               RoundEpoch roundEpoch,
+                               SeatStatusPublisher seatStatusPublisher,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${seat.round.purge-chunk-size:1000}") int purgeChunkSize) {
+        this.reservationSeatRepository = reservationSeatRepository;
+        this.queueService = queueService;
+        this.seatStateEngine = seatStateEngine;
+        this.roundEpoch = roundEpoch;
+        this.seatStatusPublisher = seatStatusPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.purgeChunkSize = purgeChunkSize;
+    }
 
     /**
-     * 매분 0초에 실행 - 모든 좌석 점유 초기화
+     * 매분 0초에 실행 - 회차 전환 후 지난 회차 점유를 메모리에서 제거
      */
     @Scheduled(cron = "0 * * * * *")
-    @Transactional
     public void resetForNewRound() {
-        long count = reservationSeatRepository.count();
+        startRound(Reservation.sequenceNumAt(LocalDateTime.now()));
+    }
+
+    /**
+     * 회차 전환 (이미 전환됐으면 아무 일도 없음)
+     *
+     * @return 전환했으면 true
+     */
+    boolean startRound(long sequenceNum) {
+        // epoch를 먼저 바꿔야 제거 이후 들어온 지난 회차 점유가 엔진에서 거절됨
+        Long previous = roundEpoch.advanceTo(sequenceNum);
+        if (previous == null) {
+            return false;
+        }
+
+        seatStateEngine.evictRoundsBefore(sequenceNum);
+        seatStatusPublisher.roundStarted(previous, sequenceNum);
+
+        try {
+            queueService.closeRound(sequenceNum);
+        } catch (Exception e) {
+            // 닫히지 않은 파티션은 다음 회차 전환 때 함께 닫힘 (지난 회차 파티션은 모두 대상)
+            log.warn("회차 대기열 정리 실패 - 회차: {}, message: {}", sequenceNum, e.getMessage());
+        }
+        log.info("새 회차 시작 - 회차: {} -> {}", previous, sequenceNum);
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${seat.round.purge-interval-ms:10000}")
+    public void purgePastRounds() {
+        purgePastRounds(roundEpoch.current());
+    }
+
+    /**
+     * 회차 sequenceNum 이전 reservation_seat 행과, 회차 시작 전에 만료된 queue 행 정리 (chunk마다 트랜잭션 하나)
+     *
+     * @return 삭제한 행 수
+     */
+    int purgePastRounds(long sequenceNum) {
+        int seats = purgeInChunks(() -> reservationSeatRepository.deleteRoundsBefore(sequenceNum, purgeChunkSize));
+        if (seats > 0) {
+            log.info("지난 회차 좌석 점유 정리 - 회차 {} 이전, {}건", sequenceNum, seats);
+        }
+
+        LocalDateTime roundStart = Reservation.startOf(sequenceNum);
+        int queues = purgeInChunks(() -> queueService.purgeExpired(roundStart, purgeChunkSize));
+        if (queues > 0) {
+            log.info("만료된 대기열 정리 - 회차 {} 이전, {}건", sequenceNum, queues);
+        }
+        return seats + queues;
+    }
 
-        if (count > 0) {
-            reservationSeatRepository.deleteAll();
-            queueRepository.deleteAll();
-            log.info("새 회차 시작");
+    private int purgeInChunks(IntSupplier deleteChunk) {
+        int total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> deleteChunk.getAsInt());
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            total += deleted;
+            // 마지막 chunk
+            if (deleted < purgeChunkSize) {
+                break;
+            }
         }
+        return total;
     }
 }
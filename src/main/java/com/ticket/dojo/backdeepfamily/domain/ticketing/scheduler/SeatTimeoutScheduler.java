@@ -1,96 +1,232 @@
 package com.ticket.dojo.backdeepfamily.domain.ticketing.scheduler;
 
+import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.SeatReleaseResult;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.SeatHoldKey;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.SeatHoldTimer;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.SeatStateEngine;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.notification.SeatStatusPublisher;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Reservation;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.ReservationSeat;
-import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.response.SeatStatusEventResponse;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.SeatTimeoutNotification;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.repository.ReservationRepository;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.repository.ReservationSeatRepository;
-import lombok.RequiredArgsConstructor;
+import com.ticket.dojo.backdeepfamily.global.util.transaction.TransactionUtil;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * 좌석 점유 만료 처리
+ *
+ * - 평소: SeatHoldTimer(타이밍 휠)를 seat.hold.tick-ms 간격으로 돌려 만료 시각이 된 점유만 개별 해제 (DB 스캔 없음)
+ * - 복구용: seat.hold.recovery-sweep-ms 간격으로 만료가 한참 지난 reservation_seat 행 정리 (서버 재시작 등으로 타이머에서 빠진 행)
+ *   seat.hold.recovery-chunk-size 건씩 끊어서 chunk마다 트랜잭션 하나 (조회 1 + 삭제 1 + 상태 변경 1 쿼리)
+ * - 사용자 타임아웃 알림은 커밋 이후에만 전송
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 /// todo: sendToUser JWT 도입 후 테스트
 public class SeatTimeoutScheduler {
+    // 타이머 + write-behind가 처리 중일 수 있는 행은 건드리지 않도록 여유
+    private static final long RECOVERY_GRACE_SECONDS = 5;
+
     private final ReservationSeatRepository reservationSeatRepository;
     private final ReservationRepository reservationRepository;
     private final SimpMessagingTemplate simpMessagingTemplate;
+    private final SeatStateEngine seatStateEngine;
+    private final SeatStatusPublisher seatStatusPublisher;
+    private final SeatHoldTimer seatHoldTimer;
+    private final TransactionTemplate transactionTemplate;
+    private final int recoveryChunkSize;
+
+    public SeatTimeoutScheduler(ReservationSeatRepository reservationSeatRepository,
+                                ReservationRepository reservationRepository,
+                                SimpMessagingTemplate simpMessagingTemplate,
+                                SeatStateEngine seatStateEngine,
+                                SeatStatusPublisher seatStatusPublisher,
+                                SeatHoldTimer seatHoldTimer,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${seat.hold.recovery-chunk-size:500}") int recoveryChunkSize) {
+        this.reservationSeatRepository = reservationSeatRepository;
+        this.reservationRepository = reservationRepository;
+        this.simpMessagingTemplate = simpMessagingTemplate;
+        this.seatStateEngine = seatStateEngine;
+        this.seatStatusPublisher = seatStatusPublisher;
+        this.seatHoldTimer = seatHoldTimer;
+        this.transactionTemplate = transactionTemplate;
+        this.recoveryChunkSize = recoveryChunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${seat.hold.tick-ms:50}")
+    public void expireDueHolds() {
+        expireDueHolds(System.currentTimeMillis());
+    }
+
+    /**
+     * 만료 시각이 지난 점유 해제
+     *
+     * @return 해제한 좌석 수
+     */
+    int expireDueHolds(long nowMillis) {
+        List<SeatHoldKey> due = seatHoldTimer.advance(nowMillis);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        // 같은 예약의 좌석은 RELEASE 이벤트 하나로
+        Map<Long, List<SeatHoldKey>> dueByReservation = due.stream()
+                .collect(Collectors.groupingBy(SeatHoldKey::getReservationId));
+
+        Map<Long, List<Long>> releasedByReservation = new HashMap<>();
+        dueByReservation.forEach((reservationId, keys) -> {
+            List<Long> seatIds = keys.stream()
+                    .map(SeatHoldKey::getSeatId)
+                    .collect(Collectors.toList());
 
-    @Scheduled(fixedRate = 2000) // 2초
-    @Transactional
+            SeatReleaseResult result = seatStateEngine.releaseSeats(keys.get(0).getSequenceNum(), seatIds, reservationId);
+            seatStatusPublisher.released(result, reservationId);
+            if (result.isReleased()) {
+                releasedByReservation.put(reservationId, result.getSeatIds());
+            }
+        });
+
+        if (releasedByReservation.isEmpty()) {
+            return 0;
+        }
+
+        transactionTemplate.executeWithoutResult(status ->
+                timeout(reservationRepository.findAllWithUserByIdIn(releasedByReservation.keySet()), releasedByReservation));
+
+        return releasedByReservation.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * 복구용 정리 (타이머에서 빠진 만료 행)
+     */
+    @Scheduled(fixedDelayString = "${seat.hold.recovery-sweep-ms:60000}")
     public void releaseExpiredSeats() {
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime threshold = LocalDateTime.now().minusSeconds(RECOVERY_GRACE_SECONDS);
+
+        int total = 0;
+        while (true) {
+            Integer processed = transactionTemplate.execute(status -> releaseExpiredChunk(threshold));
+            if (processed == null || processed == 0) {
+                break;
+            }
+            total += processed;
+            // 마지막 chunk
+            if (processed < recoveryChunkSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("만료 좌석 복구 정리 - {}건", total);
+        }
+    }
 
-        List<ReservationSeat> expiredSeats = reservationSeatRepository.findAllByExpiredAtBefore(now);
+    /**
+     * 만료 행 한 chunk 정리 (트랜잭션 안에서 호출)
+     *
+     * @return 정리한 행 수
+     */
+    private int releaseExpiredChunk(LocalDateTime threshold) {
+        List<ReservationSeat> expiredSeats = reservationSeatRepository.findExpiredWithReservation(
+                threshold, PageRequest.of(0, recoveryChunkSize));
 
         if (expiredSeats.isEmpty()) {
-            return;
+            return 0;
         }
 
         // Reservation별로 그룹화
-        Map<Reservation, List<ReservationSeat>> seatsByReservation = expiredSeats.stream()
-                .collect(Collectors.groupingBy(ReservationSeat::getReservation));
+        Map<Long, List<ReservationSeat>> seatsByReservation = expiredSeats.stream()
+                .collect(Collectors.groupingBy(rs -> rs.getReservation().getId()));
 
-        // 각 Reservation 처리
-        seatsByReservation.forEach((reservation, seats) -> {
-            Long sequenceNum = reservation.getSequenceNum();
+        Map<Long, List<Long>> releasedByReservation = new HashMap<>();
+        List<Reservation> timedOut = new ArrayList<>();
+        seatsByReservation.forEach((reservationId, seats) -> {
+            Reservation reservation = seats.get(0).getReservation();
             List<Long> seatIds = seats.stream()
                     .map(rs -> rs.getSeat().getId())
                     .collect(Collectors.toList());
 
-            // 모든 사용자에게 좌석 해제 이벤트 브로드캐스트
-            seats.forEach(seat -> {
-                simpMessagingTemplate.convertAndSend(
-                        "/sub/round/" + sequenceNum + "/seats",
-                        SeatStatusEventResponse.builder()
-                                .type("RELEASE")
-                                .seatId(seat.getSeat().getId())
-                                .reservationId(reservation.getId())
-                                .build());
-            });
-
-            // 해당 사용자에게 개인 타임아웃 알림 전송
-            String userEmail = reservation.getUser().getEmail();
-            String reservationStatus = reservation.getReservationState().name();
-
-            // PAYING 상태인 경우 TIMEOUT으로 변경 -> 결제 중단해야됨
-            if (reservation.getReservationState() == Reservation.ReservationState.PAYING) {
-                reservation.changeState(Reservation.ReservationState.TIMEOUT);
-                reservationRepository.save(reservation);
-                reservationStatus = "TIMEOUT";
-                log.info("결제 중 타임아웃 발생 - Reservation ID: {},", reservation.getId());
+            // 엔진에 아직 남아 있던 점유만 해제 / 알림 (이미 해제된 좌석은 행만 정리)
+            SeatReleaseResult result = seatStateEngine.releaseSeats(reservation.getSequenceNum(), seatIds, reservationId);
+            seatStatusPublisher.released(result, reservationId);
+            if (result.isReleased()) {
+                releasedByReservation.put(reservationId, result.getSeatIds());
+                timedOut.add(reservation);
             }
+        });
+
+        reservationSeatRepository.deleteAllByIdInBatch(expiredSeats.stream()
+                .map(ReservationSeat::getId)
+                .collect(Collectors.toList()));
+
+        if (!timedOut.isEmpty()) {
+            timeout(timedOut, releasedByReservation);
+        }
+
+        return expiredSeats.size();
+    }
+
+    /**
+     * 점유가 만료된 예약 처리 (트랜잭션 안에서 호출)
+     * PAYING인 예약은 UPDATE 한 번으로 TIMEOUT 변경 -> 결제 중단해야됨
+     * 해당 사용자에게 개인 타임아웃 알림은 커밋 이후 전송
+     */
+    private void timeout(List<Reservation> reservations, Map<Long, List<Long>> seatIdsByReservation) {
+        List<Long> payingIds = reservations.stream()
+                .filter(reservation -> reservation.getReservationState() == Reservation.ReservationState.PAYING)
+                .map(Reservation::getId)
+                .collect(Collectors.toList());
+
+        if (!payingIds.isEmpty()) {
+            int updated = reservationRepository.updateStateByIdIn(payingIds,
+                    Reservation.ReservationState.PAYING, Reservation.ReservationState.TIMEOUT, LocalDateTime.now());
+            log.info("결제 중 타임아웃 발생 - {}건, Reservation IDs: {}", updated, payingIds);
+        }
+
+        List<Runnable> notifications = new ArrayList<>();
+        for (Reservation reservation : reservations) {
+            String userEmail = reservation.getUser().getEmail();
+            List<Long> seatIds = seatIdsByReservation.get(reservation.getId());
+            String reservationStatus = payingIds.contains(reservation.getId())
+                    ? Reservation.ReservationState.TIMEOUT.name()
+                    : reservation.getReservationState().name();
+
+            SeatTimeoutNotification notification = SeatTimeoutNotification.builder()
+                    .type("TIMEOUT")
+                    .reservationId(reservation.getId())
+                    .seatIds(seatIds)
+                    .reservationStatus(reservationStatus)
+                    .message("좌석 점유 시간이 만료되었습니다.")
+                    .build();
 
             /**
              * STOMP의 convertAndSendToUser()는
              * WebSocket 세션에 바인딩된 Principal.getName()을 기준으로 동작
              */
-            simpMessagingTemplate.convertAndSendToUser(
+            notifications.add(() -> simpMessagingTemplate.convertAndSendToUser(
                     userEmail,
                     "/queue/timeout", // user/queue/timeout
-                    SeatTimeoutNotification.builder()
-                            .type("TIMEOUT")
-                            .reservationId(reservation.getId())
-                            .seatIds(seatIds)
-                            .reservationStatus(reservationStatus)
-                            .message("좌석 점유 시간이 만료되었습니다.")
-                            .build());
+                    notification));
 
             log.info("좌석 타임아웃 처리 완료 - Reservation ID: {}, 좌석 수: {}, 사용자: {}",
                     reservation.getId(), seatIds.size(), userEmail);
-        });
+        }
 
-        expiredSeats.forEach(reservationSeatRepository::delete);
+        TransactionUtil.afterCommit(() -> notifications.forEach(Runnable::run));
     }
 }
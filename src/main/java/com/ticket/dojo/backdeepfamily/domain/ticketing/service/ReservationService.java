@@ -6,9 +6,14 @@ import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.response.GetRankingRe
 public interface ReservationService {
     void enterPaying(Long reservationId);
 
-    GetHoldingSeatsResponse enterTicketing(Long userId);
+    GetHoldingSeatsResponse enterTicketing(Long userId, String admissionTicket);
 
-    void completePaying(Long userId, Long reservationId, String queueToken);
+    /**
+     * 회차 좌석 배치도 스냅샷 (이벤트 version이 건너뛰었을 때 재동기화용)
+     */
+    GetHoldingSeatsResponse getSeatMap(Long sequenceNum);
+
+    void completePaying(Long userId, Long reservationId, String admissionTicket);
 
     GetRankingResponse getRanking(Long reservationId);
 
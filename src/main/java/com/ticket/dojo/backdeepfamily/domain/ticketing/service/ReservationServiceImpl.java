@@ -1,20 +1,26 @@
 package com.ticket.dojo.backdeepfamily.domain.ticketing.service;
 
 import com.ticket.dojo.backdeepfamily.domain.queue.service.QueueService;
+import com.ticket.dojo.backdeepfamily.domain.queue.ticket.AdmissionTicket;
+import com.ticket.dojo.backdeepfamily.domain.queue.ticket.AdmissionTicketVerifier;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.response.GetHoldingSeatsResponse;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.response.GetRankingResponse;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.catalog.SeatCatalog;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.SeatMapSnapshot;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.SeatStateEngine;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.notification.SeatStatusPublisher;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Reservation;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.repository.ReservationRepository;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.repository.ReservationSeatRepository;
 import com.ticket.dojo.backdeepfamily.domain.user.entity.User;
 import com.ticket.dojo.backdeepfamily.domain.user.repository.UserRepository;
 import com.ticket.dojo.backdeepfamily.global.exception.ReservationException;
+import com.ticket.dojo.backdeepfamily.global.util.transaction.TransactionUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -27,13 +33,15 @@ public class ReservationServiceImpl implements ReservationService {
     private final ReservationRepository reservationRepository;
     private final ReservationSeatRepository reservationSeatRepository;
     private final QueueService queueService;
+    private final AdmissionTicketVerifier admissionTicketVerifier;
+    private final SeatStateEngine seatStateEngine;
+    private final SeatCatalog seatCatalog;
+    private final SeatStatusPublisher seatStatusPublisher;
     private static final int HOLD_SECONDS = 20;
 
-    // 회차구할때 기준점
-    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 12, 9, 10, 0, 0);
-
+    // 회차는 벽시계가 아니라 RoundEpoch 기준 (정각 전후 요청도 전환과 같은 회차로 판단)
     private long getCurrentSequenceNum() {
-        return ChronoUnit.MINUTES.between(BASE_TIME, LocalDateTime.now()); // 내림차순 30분 50초면 -> 30
+        return seatStateEngine.currentRound();
     }
 
     /**
@@ -48,41 +56,72 @@ public class ReservationServiceImpl implements ReservationService {
                 .orElseThrow(() -> new ReservationException("예약을 찾을 수 없습니다. 예약 ID : " + reservationId));
 
         reservation.changeState(PAYING);
+        closeReservation(reservation);
 
         reservationSeatRepository.findAllByReservation(reservation)
                 .forEach(seat -> seat.refreshExpiredAt(LocalDateTime.now().plusSeconds(HOLD_SECONDS))); // 현재시간 + 20초로 초기화
+
+        // 만료 타이머도 같은 시각으로 다시 등록
+        seatStateEngine.refreshHolds(reservation.getSequenceNum(), reservation.getId(),
+                System.currentTimeMillis() + HOLD_SECONDS * 1000L);
     }
 
     /**
      * Reservation 객체 생성해서 id 넘겨주고
      * 현재 점유중인 좌석 넘겨주기
+     * 입장권은 메모리에서 검증 (대기열 조회 없음), 회차 파티션 입장권은 현재 회차에서만 사용 가능
      */
     @Transactional
     @Override
-    public GetHoldingSeatsResponse enterTicketing(Long userId) {
-        User findUser = userRepository.findById(userId).orElseThrow(); // todo: 예외 가져오기
+    public GetHoldingSeatsResponse enterTicketing(Long userId, String admissionTicket) {
+        AdmissionTicket ticket = admissionTicketVerifier.verify(admissionTicket, userId);
         long sequenceNum = getCurrentSequenceNum();
+        ticket.checkRound(sequenceNum);
+
+        User findUser = userRepository.findById(userId).orElseThrow(); // todo: 예외 가져오기
         Reservation reservation = Reservation.createReservation(findUser, sequenceNum);
 
         reservationRepository.save(reservation);
+        seatStateEngine.registerReservation(reservation.getId(), sequenceNum, userId);
 
-        // 매분 초기화되므로 테이블의 모든 데이터가 현재 회차의 점유 좌석
-        List<GetHoldingSeatsResponse.HoldingSeatDto> holdingSeats = reservationSeatRepository.findAll()
-                .stream()
-                .map(rs -> new GetHoldingSeatsResponse.HoldingSeatDto(
-                        rs.getSeat().getId(), rs.getSeat().getSeatNumber()))
-                .collect(Collectors.toList());
+        // 점유 상태는 좌석 상태 엔진이 기준 (DB는 write-behind로 뒤따라감)
+        SeatMapSnapshot snapshot = seatStateEngine.snapshot(sequenceNum);
 
         return GetHoldingSeatsResponse.builder()
-                .seats(holdingSeats)
+                .seats(toHoldingSeats(snapshot))
                 .reservationId(reservation.getId())
                 .sequenceNum(sequenceNum)
+                .version(snapshot.getVersion())
                 .build();
     }
 
+    @Override
+    public GetHoldingSeatsResponse getSeatMap(Long sequenceNum) {
+        SeatMapSnapshot snapshot = seatStateEngine.snapshot(sequenceNum);
+
+        return GetHoldingSeatsResponse.builder()
+                .seats(toHoldingSeats(snapshot))
+                .sequenceNum(sequenceNum)
+                .version(snapshot.getVersion())
+                .build();
+    }
+
+    private List<GetHoldingSeatsResponse.HoldingSeatDto> toHoldingSeats(SeatMapSnapshot snapshot) {
+        return snapshot.getHeldSeatIds()
+                .stream()
+                .map(seatCatalog::getHoldingSeat)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 결제 완료
+     * 입장권은 메모리에서 검증하고 (대기열 조회 없음), 대기열 행은 마지막에 만료 처리만
+     */
     @Transactional
     @Override
-    public void completePaying(Long userId, Long reservationId, String queueToken) {
+    public void completePaying(Long userId, Long reservationId, String admissionTicket) {
+        AdmissionTicket ticket = admissionTicketVerifier.verify(admissionTicket, userId);
+
         // 결제 처리 시뮬레이션 - 3초 딜레이
         try {
             Thread.sleep(3000);
@@ -96,10 +135,12 @@ public class ReservationServiceImpl implements ReservationService {
         if (!reservation.getUser().getUserId().equals(userId)) {
             throw new ReservationException("비정상적인 접근입니다.");
         }
+        ticket.checkRound(reservation.getSequenceNum());
         reservation.changeState(CONFIRMED);
+        closeReservation(reservation);
 
         // 대기열 만료 처리 (다음 대기자 입장 가능)
-        queueService.expireQueue(queueToken);
+        queueService.expireQueue(ticket.getToken());
     }
 
     @Transactional
@@ -137,9 +178,21 @@ public class ReservationServiceImpl implements ReservationService {
             throw new ReservationException("확정된 예약은 취소할 수 없습니다.");
         }
 
-        // 좌석 점유 해제
-        reservationSeatRepository.deleteAll(reservationSeatRepository.findAllByReservation(reservation));
+        // 좌석 점유 해제 (DB 삭제는 write-behind), 다른 사용자에게도 RELEASE 전송
+        seatStatusPublisher.released(
+                seatStateEngine.releaseAll(reservation.getSequenceNum(), reservation.getId()),
+                reservation.getId());
 
         reservation.changeState(Reservation.ReservationState.CANCELLED);
+        closeReservation(reservation);
+    }
+
+    /**
+     * PENDING이 아니게 된 예약을 엔진에서 지움 (더 이상 좌석 점유 불가)
+     * 커밋 전에 지운 뒤 커밋 사이에 DB에서 다시 등록될 수 있으므로 커밋 이후에 한 번 더
+     */
+    private void closeReservation(Reservation reservation) {
+        seatStateEngine.forgetReservation(reservation.getId());
+        TransactionUtil.afterCommit(() -> seatStateEngine.forgetReservation(reservation.getId()));
     }
 }
@@ -1,7 +1,28 @@
 package com.ticket.dojo.backdeepfamily.domain.ticketing.service;
 
+import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.SeatHoldResult;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.SeatReleaseResult;
+
+import java.util.List;
+
 public interface TicketingSocketService {
-    long holdSeat(Long seatId, Long reservationId);
+    /**
+     * 좌석 점유 (대기열 입장권 필요)
+     */
+    SeatHoldResult holdSeat(Long seatId, Long reservationId, Long userId, String admissionTicket);
+
+    /**
+     * 여러 좌석 한 번에 점유 (하나라도 실패하면 아무것도 점유하지 않음, 대기열 입장권 필요)
+     */
+    SeatHoldResult holdSeats(List<Long> seatIds, Long reservationId, Long userId, String admissionTicket);
+
+    /**
+     * 좌석 해제 (본인 예약만)
+     */
+    SeatReleaseResult releaseSeat(Long reservationId, Long seatId, Long userId);
 
-    long releaseSeat(Long reservationId, Long seatId);
+    /**
+     * 예약이 점유한 좌석 모두 해제 (본인 예약만)
+     */
+    SeatReleaseResult releaseAllSeats(Long reservationId, Long userId);
 }
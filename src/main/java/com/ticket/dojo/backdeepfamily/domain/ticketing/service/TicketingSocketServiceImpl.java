@@ -1,61 +1,122 @@
 package com.ticket.dojo.backdeepfamily.domain.ticketing.service;
 
+import com.ticket.dojo.backdeepfamily.domain.queue.ticket.AdmissionTicket;
+import com.ticket.dojo.backdeepfamily.domain.queue.ticket.AdmissionTicketVerifier;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.SeatHoldResult;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.SeatReleaseResult;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.RegisteredReservation;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.SeatStateEngine;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Reservation;
-import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.ReservationSeat;
-import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Seat;
+import com.ticket.dojo.backdeepfamily.global.exception.socket.ReservationAccessDeniedException;
+import com.ticket.dojo.backdeepfamily.global.exception.socket.ReservationClosedException;
 import com.ticket.dojo.backdeepfamily.global.exception.socket.ReservationNotFoundException;
-import com.ticket.dojo.backdeepfamily.global.exception.socket.SeatAlreadyHeldException;
-import com.ticket.dojo.backdeepfamily.global.exception.socket.SeatNotFoundException;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.repository.ReservationRepository;
-import com.ticket.dojo.backdeepfamily.domain.ticketing.repository.ReservationSeatRepository;
-import com.ticket.dojo.backdeepfamily.domain.ticketing.repository.SeatRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 좌석 점유 / 해제
+ * 충돌 판단은 SeatStateEngine이 처리하고 DB 반영은 write-behind에 맡김 (요청 경로에서 DB 접근 없음)
+ * 예약의 회차 / 예약자 / 상태는 처음 한 번만 조회 후 엔진에 기억
+ * 점유는 본인의 PENDING 예약일 때만, 해제는 본인 예약일 때만
+ * 점유 요청은 대기열 입장권을 메모리에서 검증한 뒤 처리 (회차 파티션 입장권은 예약 회차와 같아야 함)
+ */
 @Service
 @RequiredArgsConstructor
 public class TicketingSocketServiceImpl implements TicketingSocketService {
+        public static final int MAX_BATCH_SEATS = 4; // 한 번에 점유할 수 있는 최대 좌석 수
+
         private final ReservationRepository reservationRepository;
-        private final SeatRepository seatRepository;
-        private final ReservationSeatRepository reservationSeatRepository;
-        private static final int HOLD_SECONDS = 20;
+        private final SeatStateEngine seatStateEngine;
+        private final AdmissionTicketVerifier admissionTicketVerifier;
 
         @Override
-        @Transactional
-        public long holdSeat(Long seatId, Long reservationId) {
-                Reservation reservation = reservationRepository.findById(reservationId)
-                                .orElseThrow(() -> new ReservationNotFoundException(reservationId));
+        public SeatHoldResult holdSeat(Long seatId, Long reservationId, Long userId, String admissionTicket) {
+                AdmissionTicket ticket = admissionTicketVerifier.verify(admissionTicket, userId);
+
+                long sequenceNum = holdableRoundOf(reservationId, userId);
+                ticket.checkRound(sequenceNum);
+
+                long version = seatStateEngine.hold(sequenceNum, seatId, reservationId);
+
+            return new SeatHoldResult(sequenceNum, version);
+        }
 
-                Seat seat = seatRepository.findById(seatId)
-                                .orElseThrow(() -> new SeatNotFoundException(seatId));
+        @Override
+        public SeatHoldResult holdSeats(List<Long> seatIds, Long reservationId, Long userId, String admissionTicket) {
+                AdmissionTicket ticket = admissionTicketVerifier.verify(admissionTicket, userId);
 
-                if (reservationSeatRepository.existsBySeat(seat)) {
-                        throw new SeatAlreadyHeldException(seatId);
+                if (seatIds == null || seatIds.isEmpty() || seatIds.size() > MAX_BATCH_SEATS
+                                || seatIds.stream().anyMatch(Objects::isNull)) {
+                        throw new IllegalArgumentException("한 번에 1~" + MAX_BATCH_SEATS + "석까지 점유할 수 있습니다.");
+                }
+                if (new HashSet<>(seatIds).size() != seatIds.size()) {
+                        throw new IllegalArgumentException("중복된 좌석이 있습니다.");
                 }
 
-                ReservationSeat reservationSeat = ReservationSeat.createReservationSeat(seat, reservation);
+                long sequenceNum = holdableRoundOf(reservationId, userId);
+                ticket.checkRound(sequenceNum);
 
-                reservationSeatRepository.save(reservationSeat);
+                long version = seatStateEngine.holdAll(sequenceNum, seatIds, reservationId);
 
-            return reservation.getSequenceNum();
+            return new SeatHoldResult(sequenceNum, version);
         }
 
         @Override
-        @Transactional
-        public long releaseSeat(Long reservationId, Long seatId) {
-                Reservation reservation = reservationRepository.findById(reservationId)
-                                .orElseThrow(() -> new ReservationNotFoundException(reservationId));
+        public SeatReleaseResult releaseSeat(Long reservationId, Long seatId, Long userId) {
+                long sequenceNum = ownedRoundOf(reservationId, userId);
+
+                // (예약, 좌석)이 일치할 때만 해제, 아니면 아무 일도 없음
+            return seatStateEngine.release(sequenceNum, seatId, reservationId);
+        }
 
-                Seat seat = seatRepository.findById(seatId)
-                                .orElseThrow(() -> new SeatNotFoundException(seatId));
+        @Override
+        public SeatReleaseResult releaseAllSeats(Long reservationId, Long userId) {
+                long sequenceNum = ownedRoundOf(reservationId, userId);
+
+            return seatStateEngine.releaseAll(sequenceNum, reservationId);
+        }
+
+        /**
+         * 좌석을 점유할 수 있는 본인 예약의 회차 (PENDING이 아니면 예외)
+         */
+        private long holdableRoundOf(Long reservationId, Long userId) {
+                RegisteredReservation registered = ownedReservationOf(reservationId, userId);
+                if (!registered.isHoldable()) {
+                        throw new ReservationClosedException(reservationId);
+                }
+                return registered.getSequenceNum();
+        }
+
+        /**
+         * 본인 예약의 회차 (다른 사용자의 예약이면 예외)
+         */
+        private long ownedRoundOf(Long reservationId, Long userId) {
+                return ownedReservationOf(reservationId, userId).getSequenceNum();
+        }
 
-                reservationSeatRepository.findAllByReservation(reservation)
-                                .stream()
-                                .filter(rs -> rs.getSeat().equals(seat))
-                                .findFirst()
-                                .ifPresent(reservationSeatRepository::delete);
+        private RegisteredReservation ownedReservationOf(Long reservationId, Long userId) {
+                RegisteredReservation registered = reservationOf(reservationId);
+                if (!registered.isOwnedBy(userId)) {
+                        throw new ReservationAccessDeniedException(reservationId);
+                }
+                return registered;
+        }
 
-            return reservation.getSequenceNum();
+        private RegisteredReservation reservationOf(Long reservationId) {
+                RegisteredReservation registered = seatStateEngine.findReservation(reservationId);
+                if (registered != null) {
+                        return registered;
+                }
+
+                Reservation reservation = reservationRepository.findById(reservationId)
+                                .orElseThrow(() -> new ReservationNotFoundException(reservationId));
+                seatStateEngine.registerReservation(reservationId, reservation.getSequenceNum(), reservation.getUser().getUserId(),
+                                reservation.getReservationState() == Reservation.ReservationState.PENDING);
+                return seatStateEngine.findReservation(reservationId);
         }
 }
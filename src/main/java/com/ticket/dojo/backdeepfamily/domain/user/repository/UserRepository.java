@@ -1,9 +1,15 @@
 package com.ticket.dojo.backdeepfamily.domain.user.repository;
 
 import com.ticket.dojo.backdeepfamily.domain.user.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Boolean existsByName(String name);
@@ -11,4 +17,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     User findByName(String name);
     User findByEmail(String email);
+
+    // 사용자 행 잠금 조회 (같은 사용자의 대기열 진입을 노드와 관계없이 직렬화)
+    // SELECT * FROM user WHERE user_id = ? FOR UPDATE
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.userId = :userId")
+    Optional<User> findByIdForUpdate(@Param("userId") Long userId);
 }
@@ -1,5 +1,6 @@
 package com.ticket.dojo.backdeepfamily.global.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -16,6 +17,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.ticket.dojo.backdeepfamily.domain.auth.service.BlackListService;
 import com.ticket.dojo.backdeepfamily.domain.auth.service.RefreshService;
+import com.ticket.dojo.backdeepfamily.domain.user.entity.User;
 import com.ticket.dojo.backdeepfamily.domain.user.repository.UserRepository;
 import com.ticket.dojo.backdeepfamily.global.util.jwt.JWTFilter;
 import com.ticket.dojo.backdeepfamily.global.util.jwt.JWTUtil;
@@ -217,7 +219,16 @@ public class SecurityConfig {
                 // /login: 로그인
                 // /auth/reissue: 토큰 재발급
                 // /auth/logout: 로그아웃
-                .requestMatchers("/users", "/login", "/auth/refresh", "/auth/logout", "/ws", "/actuator/**").permitAll()
+                .requestMatchers("/users", "/login", "/auth/refresh", "/auth/logout", "/ws").permitAll()
+
+                // 좌석 목록 재적재는 좌석 상태 엔진을 다시 구성하므로 관리자만
+                .requestMatchers("/actuator/seatcatalog", "/actuator/seatcatalog/**").hasAuthority(User.Role.ADMIN.name())
+
+                // 그 외 actuator(health, info, prometheus): 인증 없이 접근 가능
+                .requestMatchers("/actuator/**").permitAll()
+
+                // 비동기 응답(SSE 등)의 async dispatch: 최초 요청에서 이미 인증됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 
                 // 그 외 모든 경로: 인증 필요
                 // 예: /api/users/profile, /api/orders 등
@@ -1,6 +1,7 @@
 package com.ticket.dojo.backdeepfamily.global.config;
 
 import com.ticket.dojo.backdeepfamily.global.interceptor.JwtChannelInterceptor;
+import com.ticket.dojo.backdeepfamily.global.interceptor.QueueLeaseChannelInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
@@ -15,10 +16,12 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtChannelInterceptor jwtChannelInterceptor;
+    private final QueueLeaseChannelInterceptor queueLeaseChannelInterceptor;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/sub");
+        // /queue: convertAndSendToUser 개인 메시지 (/user/queue/status, /user/queue/errors, /user/queue/timeout)
+        registry.enableSimpleBroker("/sub", "/queue");
         registry.setApplicationDestinationPrefixes("/pub");
     }
 
@@ -32,9 +35,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     /**
      * STOMP 연결 시 CONNECT 메시지에서 JWT 토큰 검증
+     * 이후 SEND마다 대기열 입장 lease 연장
      */
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(jwtChannelInterceptor);
+        registration.interceptors(jwtChannelInterceptor, queueLeaseChannelInterceptor);
     }
 }
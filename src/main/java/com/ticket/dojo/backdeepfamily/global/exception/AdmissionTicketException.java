@@ -0,0 +1,8 @@
+package com.ticket.dojo.backdeepfamily.global.exception;
+
+public class AdmissionTicketException extends RuntimeException {
+
+    public AdmissionTicketException(String message) {
+        super(message);
+    }
+}
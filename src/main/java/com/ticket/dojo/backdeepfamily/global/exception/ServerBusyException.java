@@ -0,0 +1,11 @@
+package com.ticket.dojo.backdeepfamily.global.exception;
+
+/**
+ * DB 반영이 밀려 새 요청을 받을 수 없는 경우 발생하는 예외 (잠시 후 다시 시도)
+ */
+public class ServerBusyException extends RuntimeException {
+
+    public ServerBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.ticket.dojo.backdeepfamily.global.exception.socket;
+
+import lombok.Getter;
+
+/**
+ * 본인의 예약이 아닌 경우 발생하는 예외
+ */
+@Getter
+public class ReservationAccessDeniedException extends RuntimeException {
+    private final Long reservationId;
+
+    public ReservationAccessDeniedException(Long reservationId) {
+        super("본인의 예약이 아닙니다. (예약 ID: " + reservationId + ")");
+        this.reservationId = reservationId;
+    }
+}
@@ -0,0 +1,16 @@
+package com.ticket.dojo.backdeepfamily.global.exception.socket;
+
+import lombok.Getter;
+
+/**
+ * 좌석을 점유할 수 없는 상태의 예약인 경우 발생하는 예외 (결제 중, 확정, 취소 등)
+ */
+@Getter
+public class ReservationClosedException extends RuntimeException {
+    private final Long reservationId;
+
+    public ReservationClosedException(Long reservationId) {
+        super("좌석을 점유할 수 없는 예약입니다. (예약 ID: " + reservationId + ")");
+        this.reservationId = reservationId;
+    }
+}
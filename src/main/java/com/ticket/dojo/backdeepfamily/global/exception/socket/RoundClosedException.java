@@ -0,0 +1,16 @@
+package com.ticket.dojo.backdeepfamily.global.exception.socket;
+
+import lombok.Getter;
+
+/**
+ * 이미 종료된 회차에 좌석을 점유하려는 경우 발생하는 예외
+ */
+@Getter
+public class RoundClosedException extends RuntimeException {
+    private final Long sequenceNum;
+
+    public RoundClosedException(Long sequenceNum) {
+        super("이미 종료된 회차입니다. (회차: " + sequenceNum + ")");
+        this.sequenceNum = sequenceNum;
+    }
+}
@@ -1,5 +1,7 @@
 package com.ticket.dojo.backdeepfamily.global.exception.socket;
 
+import com.ticket.dojo.backdeepfamily.global.exception.AdmissionTicketException;
+import com.ticket.dojo.backdeepfamily.global.exception.ServerBusyException;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -11,9 +13,27 @@ public class SocketExceptionMapper {
         if (ex instanceof SeatNotFoundException) {
             return "SEAT_NOT_FOUND";
         }
+        if (ex instanceof RoundClosedException) {
+            return "ROUND_CLOSED";
+        }
         if (ex instanceof ReservationNotFoundException) {
             return "RESERVATION_NOT_FOUND";
         }
+        if (ex instanceof ReservationAccessDeniedException) {
+            return "RESERVATION_FORBIDDEN";
+        }
+        if (ex instanceof ReservationClosedException) {
+            return "RESERVATION_CLOSED";
+        }
+        if (ex instanceof AdmissionTicketException) {
+            return "ADMISSION_DENIED";
+        }
+        if (ex instanceof ServerBusyException) {
+            return "SERVER_BUSY";
+        }
+        if (ex instanceof IllegalArgumentException) {
+            return "INVALID_REQUEST";
+        }
         return "INTERNAL_ERROR";
     }
 }
@@ -0,0 +1,129 @@
+package com.ticket.dojo.backdeepfamily.global.interceptor;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.lease.QueueLeaseManager;
+import com.ticket.dojo.backdeepfamily.domain.user.entity.CustomUserDetails;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 티켓팅 소켓 활동으로 입장 lease 연장
+ *
+ * 1. CONNECT 시 queue-token 헤더가 있으면 세션에 저장
+ * 2. 이후 같은 세션의 SEND(좌석 점유 / 해제 등)에서 해당 토큰의 lease 연장 (CONNECT 시 인증된 사용자의 토큰일 때만)
+ *
+ * - 세션마다 lease TTL의 절반이 지났을 때만 연장 -> 메시지마다 queue 행 UPDATE(basic) / Redis 호출이 나가지 않음
+ * - 연장은 별도 스레드에서 처리하고 실패는 무시 -> inbound 채널 스레드를 막거나 메시지 처리를 실패시키지 않음
+ *   (연장이 빠져도 다음 SEND / heartbeat에서 다시 연장, 대기가 밀리면 이번 연장은 건너뜀)
+ */
+@Slf4j
+@Component
+public class QueueLeaseChannelInterceptor implements ChannelInterceptor {
+
+    private static final String TOKEN_HEADER = "queue-token";
+    private static final String TOKEN_ATTRIBUTE = "queueToken";
+    private static final String RENEWED_AT_ATTRIBUTE = "queueLeaseRenewedAt";
+
+    private static final int RENEW_THREADS = 2;
+    private static final int RENEW_BACKLOG = 4096;
+
+    private final QueueLeaseManager queueLeaseManager;
+    private final Executor renewExecutor;
+    private final long renewIntervalMillis;
+
+    @Autowired
+    public QueueLeaseChannelInterceptor(QueueLeaseManager queueLeaseManager,
+                                        @Value("${queue.lease.ttl-ms:30000}") long leaseTtlMillis) {
+        this(queueLeaseManager, new ThreadPoolExecutor(RENEW_THREADS, RENEW_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(RENEW_BACKLOG), runnable -> {
+                    Thread thread = new Thread(runnable, "queue-lease-renew");
+                    thread.setDaemon(true);
+                    return thread;
+                }), leaseTtlMillis);
+    }
+
+    QueueLeaseChannelInterceptor(QueueLeaseManager queueLeaseManager, Executor renewExecutor, long leaseTtlMillis) {
+        this.queueLeaseManager = queueLeaseManager;
+        this.renewExecutor = renewExecutor;
+        this.renewIntervalMillis = leaseTtlMillis / 2;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getSessionAttributes() == null) {
+            return message;
+        }
+
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            String token = accessor.getFirstNativeHeader(TOKEN_HEADER);
+            if (token != null && !token.isBlank()) {
+                sessionAttributes.put(TOKEN_ATTRIBUTE, token);
+            }
+        } else if (StompCommand.SEND.equals(accessor.getCommand())
+                && sessionAttributes.get(TOKEN_ATTRIBUTE) instanceof String token) {
+            Long userId = userIdOf(accessor.getUser());
+            if (userId != null) {
+                renewIfDue(sessionAttributes, token, userId);
+            }
+        }
+
+        return message;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (renewExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void renewIfDue(Map<String, Object> sessionAttributes, String token, Long userId) {
+        long now = System.currentTimeMillis();
+        if (sessionAttributes.get(RENEWED_AT_ATTRIBUTE) instanceof Long renewedAt
+                && now - renewedAt < renewIntervalMillis) {
+            return;
+        }
+        sessionAttributes.put(RENEWED_AT_ATTRIBUTE, now);
+
+        try {
+            renewExecutor.execute(() -> {
+                try {
+                    queueLeaseManager.renew(token, userId);
+                } catch (Exception e) {
+                    log.debug("소켓 활동 lease 연장 실패 - userId: {}, message: {}", userId, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            sessionAttributes.remove(RENEWED_AT_ATTRIBUTE); // 다음 SEND에서 다시 시도
+        }
+    }
+
+    private Long userIdOf(Principal principal) {
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserId();
+        }
+        return null;
+    }
+}
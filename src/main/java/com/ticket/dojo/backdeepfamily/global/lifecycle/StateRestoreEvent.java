@@ -0,0 +1,8 @@
+package com.ticket.dojo.backdeepfamily.global.lifecycle;
+
+/**
+ * 인메모리 상태 재구성 시점 이벤트 (웹 서버가 요청을 받기 전에 한 번 발행)
+ * 리스너는 @Order로 순서를 정함 (예: 좌석 목록 적재 -> 좌석 상태 엔진 재구성)
+ */
+public class StateRestoreEvent {
+}
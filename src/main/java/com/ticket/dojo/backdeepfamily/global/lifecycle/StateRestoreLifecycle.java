@@ -0,0 +1,51 @@
+package com.ticket.dojo.backdeepfamily.global.lifecycle;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 웹 서버 시작 전에 인메모리 상태 재구성 (StateRestoreEvent 발행)
+ *
+ * - ApplicationReadyEvent는 웹 서버가 이미 요청을 받는 중에 발행됨
+ *   -> 재구성 전에 들어온 진입 / 점유가 빈 엔진을 보고 중복 진입, 이미 점유된 좌석 점유가 성공할 수 있음
+ * - 웹 서버(WebServerStartStopLifecycle)보다 앞선 phase에서 동기로 발행하므로 재구성이 끝나야 포트가 열림
+ * - 재구성이 실패하면 기동 실패
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StateRestoreLifecycle implements SmartLifecycle {
+
+    // 웹 서버 시작(DEFAULT_PHASE - 2048)보다 먼저
+    public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        long startedAt = System.currentTimeMillis();
+        eventPublisher.publishEvent(new StateRestoreEvent());
+        running = true;
+        log.info("인메모리 상태 재구성 완료 - {}ms", System.currentTimeMillis() - startedAt);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
@@ -0,0 +1,80 @@
+package com.ticket.dojo.backdeepfamily.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 티켓팅 주요 구간 처리 시간 측정
+ *
+ * - 좌석 점유(holdSeat), 결제 완료(completePaying) 처리 시간을 Timer로 기록
+ * - p99는 최근 30초 구간 기준으로 계산 (대기열 적응형 입장 제어의 부하 신호로 사용)
+ */
+@Component
+public class TicketingMetrics {
+
+    public static final String HOLD_SEAT = "ticketing.hold.seat";
+    public static final String COMPLETE_PAYING = "ticketing.complete.paying";
+
+    private static final double P99 = 0.99;
+
+    private final Timer holdSeatTimer;
+    private final Timer completePayingTimer;
+
+    public TicketingMetrics(MeterRegistry meterRegistry) {
+        this.holdSeatTimer = timer(meterRegistry, HOLD_SEAT, "좌석 점유 처리 시간");
+        this.completePayingTimer = timer(meterRegistry, COMPLETE_PAYING, "결제 완료 처리 시간");
+    }
+
+    public <T> T recordHoldSeat(Supplier<T> holdSeat) {
+        Timer.Sample sample = Timer.start();
+        try {
+            return holdSeat.get();
+        } finally {
+            sample.stop(holdSeatTimer);
+        }
+    }
+
+    public void recordCompletePaying(Runnable completePaying) {
+        Timer.Sample sample = Timer.start();
+        try {
+            completePaying.run();
+        } finally {
+            sample.stop(completePayingTimer);
+        }
+    }
+
+    public double getHoldSeatP99Millis() {
+        return p99Millis(holdSeatTimer);
+    }
+
+    public double getCompletePayingP99Millis() {
+        return p99Millis(completePayingTimer);
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentiles(P99)
+                .distributionStatisticExpiry(Duration.ofSeconds(30))
+                .distributionStatisticBufferLength(3)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 최근 구간 p99 (기록이 없으면 0)
+     */
+    private static double p99Millis(Timer timer) {
+        for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == P99) {
+                return percentile.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0;
+    }
+}
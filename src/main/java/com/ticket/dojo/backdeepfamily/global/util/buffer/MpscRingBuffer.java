@@ -0,0 +1,108 @@
+package com.ticket.dojo.backdeepfamily.global.util.buffer;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 고정 크기 multi-producer / single-consumer 링 버퍼 (Disruptor 방식)
+ *
+ * - 생산자는 CAS로 다음 시퀀스를 선점한 뒤 슬롯에 쓰고 슬롯 시퀀스를 발행 (락 없음)
+ * - 선점한 시퀀스 순서가 곧 꺼내지는 순서
+ * - 소비자는 발행된 슬롯만 순서대로 꺼내고 슬롯을 다음 바퀴용으로 반납
+ * - 가득 차면 offer가 false를 반환 (대기하지 않음, 처리는 호출하는 쪽이 결정)
+ *
+ * drain은 한 스레드에서만 호출해야 함
+ */
+public class MpscRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+
+    // 슬롯별 시퀀스: pos면 pos 위치에 쓸 수 있음, pos + 1이면 pos 위치에 발행됨
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong tail = new AtomicLong(); // 다음에 선점할 시퀀스
+    private volatile long head;                       // 다음에 꺼낼 시퀀스 (소비자 전용)
+
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("버퍼 크기는 2 이상인 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 항목 추가
+     *
+     * @return 가득 차서 넣지 못했으면 false
+     */
+    public boolean offer(E element) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long diff = sequences.get(index) - position;
+
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, element);
+                    sequences.set(index, position + 1); // 발행
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false; // 소비자가 아직 이전 바퀴를 꺼내지 않음
+            }
+            // diff > 0: 다른 생산자가 먼저 선점, 다시 시도
+        }
+    }
+
+    /**
+     * 발행된 항목을 순서대로 최대 limit개 꺼냄
+     *
+     * @return 꺼낸 개수
+     */
+    public int drain(Consumer<E> consumer, int limit) {
+        long position = head;
+        int drained = 0;
+
+        while (drained < limit) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                break; // 비어 있거나 선점만 되고 아직 발행 전
+            }
+
+            E element = slots.get(index);
+            slots.lazySet(index, null);
+            sequences.lazySet(index, position + capacity); // 다음 바퀴용으로 반납
+            position++;
+            drained++;
+            consumer.accept(element);
+        }
+
+        head = position;
+        return drained;
+    }
+
+    /**
+     * 대략적인 적재 개수 (모니터링용)
+     */
+    public int size() {
+        return (int) Math.max(0, Math.min(capacity, tail.get() - head));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -199,7 +199,8 @@ public class JWTFilter extends OncePerRequestFilter{
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
 
-        if (path.startsWith("/actuator")) return true;
+        // actuator는 인증 없이 사용 (seatcatalog는 ADMIN 권한 확인을 위해 JWT 검증)
+        if (path.startsWith("/actuator") && !path.startsWith("/actuator/seatcatalog")) return true;
 
         return path.equals("/login")
                 || path.equals("/users/join")
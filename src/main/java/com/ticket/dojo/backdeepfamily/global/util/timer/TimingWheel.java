@@ -0,0 +1,142 @@
+package com.ticket.dojo.backdeepfamily.global.util.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 해시 타이밍 휠 (키별 만료 시각 관리)
+ *
+ * - 등록 / 연장 / 취소는 O(1), 만료 확인은 지난 칸만 훑음 (전체 스캔 없음)
+ * - 연장은 만료 시각만 바꾸고 칸은 옮기지 않음 -> 그 칸을 지날 때 새 만료 시각의 칸으로 옮김
+ * - 한 바퀴보다 먼 만료 시각은 해당 칸을 지날 때마다 다시 넣어 다음 바퀴로 넘김
+ *
+ * 등록 / 연장 / 취소는 여러 스레드에서 호출 가능, advance는 한 스레드(스케줄러)에서만 호출
+ *
+ * @param <K> 만료 대상 키 (equals/hashCode 필요)
+ */
+public class TimingWheel<K> {
+
+    private final long tickMillis;
+    private final Queue<K>[] buckets;
+    private final Map<K, Long> deadlines = new ConcurrentHashMap<>();
+
+    // 처리가 끝난(또는 처리 중인) 마지막 tick, 새로 넣는 키는 항상 이후 칸에 들어감
+    private volatile long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tick 간격과 칸 수는 1 이상이어야 합니다.");
+        }
+
+        this.tickMillis = tickMillis;
+        this.buckets = new Queue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * 등록 (이미 있으면 만료 시각 변경)
+     */
+    public void schedule(K key, long deadlineMillis) {
+        Long previous = deadlines.put(key, deadlineMillis);
+
+        // 더 늦어지는 경우는 기존 칸에서 지날 때 옮겨짐
+        if (previous == null || deadlineMillis < previous) {
+            bucketOf(deadlineMillis).add(key);
+        }
+    }
+
+    /**
+     * 등록된 키의 만료 시각 연장 (앞당기지는 않음)
+     *
+     * @return 등록되어 있었는지 여부
+     */
+    public boolean extend(K key, long deadlineMillis) {
+        return deadlines.computeIfPresent(key, (k, deadline) -> Math.max(deadline, deadlineMillis)) != null;
+    }
+
+    /**
+     * 취소 (칸에 남은 항목은 지날 때 버려짐)
+     */
+    public boolean cancel(K key) {
+        return deadlines.remove(key) != null;
+    }
+
+    /**
+     * 모두 취소 (칸에 남은 항목은 지날 때 버려짐)
+     */
+    public void clear() {
+        deadlines.clear();
+    }
+
+    public boolean contains(K key) {
+        return deadlines.containsKey(key);
+    }
+
+    public int size() {
+        return deadlines.size();
+    }
+
+    /**
+     * nowMillis까지 지난 칸을 처리하고 만료된 키 반환 (반환된 키는 휠에서 빠짐)
+     */
+    public List<K> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        long fromTick = currentTick + 1;
+        if (targetTick < fromTick) {
+            return List.of();
+        }
+
+        // 한 바퀴 넘게 밀렸으면 모든 칸을 한 번씩만 확인
+        fromTick = Math.max(fromTick, targetTick - buckets.length + 1);
+
+        // 처리하는 동안 새로 들어오는 키는 다음 tick 이후 칸으로 가도록 먼저 갱신
+        currentTick = targetTick;
+
+        List<K> expired = new ArrayList<>();
+        for (long tick = fromTick; tick <= targetTick; tick++) {
+            drain(buckets[index(tick)], nowMillis, expired);
+        }
+        return expired;
+    }
+
+    private void drain(Queue<K> bucket, long nowMillis, List<K> expired) {
+        List<K> postponed = new ArrayList<>();
+
+        K key;
+        while ((key = bucket.poll()) != null) {
+            Long deadline = deadlines.get(key);
+            if (deadline == null) {
+                continue; // 취소되었거나 이미 만료 처리된 중복 항목
+            }
+
+            if (deadline <= nowMillis && deadlines.remove(key, deadline)) {
+                expired.add(key);
+            } else {
+                postponed.add(key); // 연장됨 -> 새 만료 시각의 칸으로
+            }
+        }
+
+        for (K postponedKey : postponed) {
+            Long deadline = deadlines.get(postponedKey);
+            if (deadline != null) {
+                bucketOf(deadline).add(postponedKey);
+            }
+        }
+    }
+
+    private Queue<K> bucketOf(long deadlineMillis) {
+        return buckets[index(Math.max(deadlineMillis / tickMillis, currentTick + 1))];
+    }
+
+    private int index(long tick) {
+        return (int) Math.floorMod(tick, (long) buckets.length);
+    }
+}
@@ -0,0 +1,74 @@
+package com.ticket.dojo.backdeepfamily.global.util.transaction;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+/**
+ * 트랜잭션 완료 시점에 실행할 작업 등록 유틸리티
+ *
+ * 책임:
+ * - 인메모리 상태(인덱스, 카운터 등)를 DB 커밋 결과와 맞추기
+ * - 트랜잭션 밖에서 호출되면 즉시 실행
+ * - 실패한 트랜잭션을 그대로 다시 시도할지 판단
+ */
+public class TransactionUtil {
+
+    private TransactionUtil() {
+        // Utility class - 인스턴스 생성 방지
+    }
+
+    /**
+     * 커밋 이후 실행 (롤백되면 실행하지 않음)
+     *
+     * @param task 실행할 작업
+     */
+    public static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션 종료(커밋/롤백) 이후 실행
+     *
+     * @param task 커밋 여부를 받아 실행할 작업 (트랜잭션 밖이면 즉시 true로 실행)
+     */
+    public static void afterCompletion(Consumer<Boolean> task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.accept(true);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                task.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    /**
+     * 그대로 다시 시도하면 성공할 수 있는 실패인지 (연결 실패, 락 대기 / 타임아웃 등)
+     * 제약 위반, 잘못된 값처럼 데이터 자체가 문제인 실패는 false
+     */
+    public static boolean isTransient(Throwable e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof CannotCreateTransactionException;
+    }
+}
@@ -0,0 +1,28 @@
+-- 빈 슬롯만큼 대기 줄 앞에서부터 활성화
+-- KEYS: waiting, active, entries, users
+-- ARGV: maxActiveUsers, activeTtlMillis, leaseMillis
+-- return: 활성화된 토큰 목록
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+-- lease가 지났지만 아직 만료 처리되지 않은 ACTIVE는 슬롯을 차지하지 않음
+local slots = tonumber(ARGV[1]) - redis.call('ZCOUNT', KEYS[2], '(' .. now, '+inf')
+if slots <= 0 then
+    return {}
+end
+
+local leaseExpiresAt = now + math.min(tonumber(ARGV[3]), tonumber(ARGV[2]))
+local popped = redis.call('ZPOPMIN', KEYS[1], slots)
+local activated = {}
+for i = 1, #popped, 2 do
+    local token = popped[i]
+    redis.call('ZADD', KEYS[2], leaseExpiresAt, token)
+    local entry = redis.call('HGET', KEYS[3], token)
+    if entry then
+        local userId, enteredAt = string.match(entry, '^([^|]+)|[^|]+|([^|]+)')
+        redis.call('HSET', KEYS[3], token, userId .. '|ACTIVE|' .. enteredAt .. '|' .. now)
+    end
+    activated[#activated + 1] = token
+end
+
+return activated
@@ -0,0 +1,8 @@
+-- 노드의 ACTIVE 슬롯 lease 반납 (정상 종료)
+-- KEYS: leases, expiry
+-- ARGV: nodeId
+-- return: 반납한 슬롯 수
+local leased = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+redis.call('HDEL', KEYS[1], ARGV[1])
+redis.call('ZREM', KEYS[2], ARGV[1])
+return leased
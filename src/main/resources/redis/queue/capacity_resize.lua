@@ -0,0 +1,30 @@
+-- 노드의 ACTIVE 슬롯 lease 크기 변경 + 만료 시각 갱신
+-- KEYS: leases(HASH nodeId -> 슬롯 수), expiry(ZSET nodeId -> lease 만료 시각 ms)
+-- ARGV: nodeId, desired, globalLimit, leaseTtlMillis
+-- return: 부여된 슬롯 수 (다른 노드 lease 합과 더해도 globalLimit을 넘지 않음)
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+-- 갱신이 끊긴 노드(비정상 종료 등)의 lease 회수
+local lapsed = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', now)
+for _, nodeId in ipairs(lapsed) do
+    redis.call('HDEL', KEYS[1], nodeId)
+end
+redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+
+local others = 0
+local leases = redis.call('HGETALL', KEYS[1])
+for i = 1, #leases, 2 do
+    if leases[i] ~= ARGV[1] then
+        others = others + tonumber(leases[i + 1])
+    end
+end
+
+local granted = math.min(tonumber(ARGV[2]), tonumber(ARGV[3]) - others)
+if granted < 0 then
+    granted = 0
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], granted)
+redis.call('ZADD', KEYS[2], now + tonumber(ARGV[4]), ARGV[1])
+return granted
@@ -0,0 +1,13 @@
+-- 회차 전환 시 대기열 닫기 (여러 서버가 같은 회차로 호출해도 한 번만)
+-- KEYS: closed-round, waiting, active, entries, users, seq
+-- ARGV: 새 회차
+-- return: 닫았으면 1, 이미 닫은 회차면 0
+local closed = tonumber(redis.call('GET', KEYS[1]) or '-1')
+if closed >= tonumber(ARGV[1]) then
+    return 0
+end
+
+redis.call('SET', KEYS[1], ARGV[1])
+-- 큰 키의 메모리 해제는 Redis 백그라운드 스레드에서 (정각에 DEL로 Redis를 막지 않도록)
+redis.call('UNLINK', KEYS[2], KEYS[3], KEYS[4], KEYS[5], KEYS[6])
+return 1
@@ -0,0 +1,48 @@
+-- 대기열 진입
+-- KEYS: waiting, active, entries, users, seq
+-- ARGV: userId, token, maxActiveUsers, activeTtlMillis, leaseMillis
+-- return: { status, position, enteredAtMillis, token, activatedAtMillis(ACTIVE가 아니면 0) }
+--         이미 살아있는 항목이 있으면 새로 만들지 않고 기존 항목을 반환
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+-- 이미 대기 중이거나 입장한 상태면 기존 토큰과 순번 그대로 반환 (재시도 / 중복 클릭)
+local previous = redis.call('HGET', KEYS[4], ARGV[1])
+if previous then
+    local entry = redis.call('HGET', KEYS[3], previous)
+    if entry then
+        local enteredAt = string.match(entry, '^[^|]+|[^|]+|([^|]+)')
+        local rank = redis.call('ZRANK', KEYS[1], previous)
+        if rank then
+            return { 'WAITING', tostring(rank + 1), enteredAt, previous, '0' }
+        end
+        local leaseExpiresAt = redis.call('ZSCORE', KEYS[2], previous)
+        if leaseExpiresAt then
+            if tonumber(leaseExpiresAt) > now then
+                local activatedAt = string.match(entry, '^[^|]+|[^|]+|[^|]+|([^|]+)$') or enteredAt
+                return { 'ACTIVE', '0', enteredAt, previous, activatedAt }
+            end
+            -- lease가 지난 ACTIVE는 만료 처리(expire_lapsed)에 맡기고 새로 진입
+        else
+            redis.call('HDEL', KEYS[3], previous)
+        end
+    end
+end
+
+local status = 'WAITING'
+local position = 0
+local activatedAt = '0'
+-- lease가 지났지만 아직 만료 처리되지 않은 ACTIVE는 슬롯을 차지하지 않음
+if redis.call('ZCOUNT', KEYS[2], '(' .. now, '+inf') < tonumber(ARGV[3]) then
+    status = 'ACTIVE'
+    activatedAt = tostring(now)
+    redis.call('ZADD', KEYS[2], now + math.min(tonumber(ARGV[5]), tonumber(ARGV[4])), ARGV[2])
+else
+    redis.call('ZADD', KEYS[1], redis.call('INCR', KEYS[5]), ARGV[2])
+    position = redis.call('ZRANK', KEYS[1], ARGV[2]) + 1
+end
+
+redis.call('HSET', KEYS[3], ARGV[2], ARGV[1] .. '|' .. status .. '|' .. now .. '|' .. activatedAt)
+redis.call('HSET', KEYS[4], ARGV[1], ARGV[2])
+
+return { status, tostring(position), tostring(now), ARGV[2], activatedAt }
@@ -0,0 +1,14 @@
+-- 이탈한 사용자들의 WAITING 항목 일괄 삭제 (ACTIVE는 그대로)
+-- KEYS: waiting, entries, users
+-- ARGV: userId...
+-- return: 삭제된 수
+local evicted = 0
+for _, userId in ipairs(ARGV) do
+    local token = redis.call('HGET', KEYS[3], userId)
+    if token and redis.call('ZREM', KEYS[1], token) == 1 then
+        redis.call('HDEL', KEYS[2], token)
+        redis.call('HDEL', KEYS[3], userId)
+        evicted = evicted + 1
+    end
+end
+return evicted
@@ -0,0 +1,19 @@
+-- 대기열 퇴장 (삭제)
+-- KEYS: waiting, active, entries, users
+-- ARGV: token
+-- return: 삭제된 항목 / 없으면 nil
+local entry = redis.call('HGET', KEYS[3], ARGV[1])
+if not entry then
+    return false
+end
+
+redis.call('ZREM', KEYS[1], ARGV[1])
+redis.call('ZREM', KEYS[2], ARGV[1])
+redis.call('HDEL', KEYS[3], ARGV[1])
+
+local userId = string.match(entry, '^([^|]+)|')
+if redis.call('HGET', KEYS[4], userId) == ARGV[1] then
+    redis.call('HDEL', KEYS[4], userId)
+end
+
+return entry
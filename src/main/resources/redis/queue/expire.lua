@@ -0,0 +1,18 @@
+-- ACTIVE 항목 만료 처리
+-- KEYS: active, entries, users
+-- ARGV: token
+-- return: 실제로 ACTIVE -> EXPIRED 전환이 일어났으면 1
+if redis.call('ZREM', KEYS[1], ARGV[1]) == 0 then
+    return 0
+end
+
+local entry = redis.call('HGET', KEYS[2], ARGV[1])
+if entry then
+    redis.call('HSET', KEYS[2], ARGV[1], (string.gsub(entry, '|ACTIVE|', '|EXPIRED|', 1)))
+    local userId = string.match(entry, '^([^|]+)|')
+    if redis.call('HGET', KEYS[3], userId) == ARGV[1] then
+        redis.call('HDEL', KEYS[3], userId)
+    end
+end
+
+return 1
@@ -0,0 +1,21 @@
+-- lease가 지난 ACTIVE 만료 처리 (여러 서버가 동시에 실행해도 토큰마다 한 번만 반환)
+-- KEYS: active, entries, users
+-- ARGV: limit
+-- return: 만료 처리한 토큰 목록
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local lapsed = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', now, 'LIMIT', 0, tonumber(ARGV[1]))
+for _, token in ipairs(lapsed) do
+    redis.call('ZREM', KEYS[1], token)
+    local entry = redis.call('HGET', KEYS[2], token)
+    if entry then
+        redis.call('HSET', KEYS[2], token, (string.gsub(entry, '|ACTIVE|', '|EXPIRED|', 1)))
+        local userId = string.match(entry, '^([^|]+)|')
+        if redis.call('HGET', KEYS[3], userId) == token then
+            redis.call('HDEL', KEYS[3], userId)
+        end
+    end
+end
+
+return lapsed
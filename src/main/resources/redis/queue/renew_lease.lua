@@ -0,0 +1,24 @@
+-- 입장 lease 연장 (본인 토큰이고 lease가 살아있는 ACTIVE일 때만)
+-- KEYS: active, entries
+-- ARGV: token, userId, leaseMillis, activeTtlMillis
+-- return: 연장했으면 1
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local leaseExpiresAt = redis.call('ZSCORE', KEYS[1], ARGV[1])
+if not leaseExpiresAt or tonumber(leaseExpiresAt) <= now then
+    return 0
+end
+
+local entry = redis.call('HGET', KEYS[2], ARGV[1])
+if not entry or string.match(entry, '^([^|]+)|') ~= ARGV[2] then
+    return 0
+end
+
+-- 활성화 후 activeTtlMillis가 지나면 더 연장하지 않음 (최대 입장 시간)
+local activatedAt = tonumber(string.match(entry, '^[^|]+|[^|]+|[^|]+|([^|]+)$') or now)
+local deadline = math.min(now + tonumber(ARGV[3]), activatedAt + tonumber(ARGV[4]))
+if deadline > tonumber(leaseExpiresAt) then
+    redis.call('ZADD', KEYS[1], 'XX', deadline, ARGV[1])
+end
+return 1
@@ -0,0 +1,23 @@
+-- 대기열 상태 조회
+-- KEYS: waiting, active, entries
+-- ARGV: token
+-- return: { entry, position, activatedAtMillis(ACTIVE가 아니면 0) } / 없으면 빈 목록
+local entry = redis.call('HGET', KEYS[3], ARGV[1])
+if not entry then
+    return {}
+end
+
+-- lease가 지났지만 아직 만료 처리되지 않은 ACTIVE는 없는 것으로 취급
+local leaseExpiresAt = redis.call('ZSCORE', KEYS[2], ARGV[1])
+local activatedAt = '0'
+if leaseExpiresAt then
+    local time = redis.call('TIME')
+    local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+    if tonumber(leaseExpiresAt) <= now then
+        return {}
+    end
+    activatedAt = string.match(entry, '^[^|]+|[^|]+|[^|]+|([^|]+)$') or string.match(entry, '^[^|]+|[^|]+|([^|]+)')
+end
+
+local rank = redis.call('ZRANK', KEYS[1], ARGV[1])
+return { entry, tostring(rank and rank + 1 or 0), activatedAt }
@@ -0,0 +1,41 @@
+-- reservation_seat 회차별 점유 마이그레이션 (기존 DB에서 한 번 실행)
+--
+-- 점유 행이 회차(sequence_num)별로 저장되면서 유니크 기준이 seat_id -> (seat_id, sequence_num)으로 바뀜
+-- ddl-auto=update는 새 컬럼 / 유니크를 추가하지만 예전 seat_id 단독 유니크 인덱스는 지우지 않음
+-- 남아 있으면 지난 회차 행이 정리되기 전까지 같은 좌석의 새 회차 점유가 INSERT IGNORE로 버려짐
+-- -> 애플리케이션은 기동 시 이 인덱스를 발견하면 실패함 (SeatHoldSchemaValidator)
+--
+-- 순서: 애플리케이션 중지 -> 이 스크립트 실행 -> 새 버전 기동
+-- 여러 번 실행해도 이미 반영된 단계는 건너뜀
+
+USE ticketdojo;
+
+-- 1. 예전 점유 행 삭제 (20초짜리 점유라 보존할 필요 없고, 어느 회차인지도 알 수 없음)
+DELETE FROM reservation_seat;
+
+-- 2. 회차 컬럼 추가
+SET @missing := (SELECT COUNT(*) = 0 FROM information_schema.columns
+                 WHERE table_schema = DATABASE() AND table_name = 'reservation_seat' AND column_name = 'sequence_num');
+SET @ddl := IF(@missing, 'ALTER TABLE reservation_seat ADD COLUMN sequence_num BIGINT NOT NULL', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 3. (seat_id, sequence_num) 유니크 추가 (seat_id 외래 키가 이 인덱스를 쓰므로 예전 인덱스보다 먼저)
+SET @missing := (SELECT COUNT(*) = 0 FROM information_schema.statistics
+                 WHERE table_schema = DATABASE() AND table_name = 'reservation_seat' AND index_name = 'uk_reservation_seat_seat_round');
+SET @ddl := IF(@missing, 'ALTER TABLE reservation_seat ADD CONSTRAINT uk_reservation_seat_seat_round UNIQUE (seat_id, sequence_num)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 4. seat_id 단독 유니크 인덱스 삭제 (이름은 Hibernate가 만들었으므로 조회해서 삭제)
+SET @stale := (SELECT index_name FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'reservation_seat' AND non_unique = 0
+               GROUP BY index_name
+               HAVING COUNT(*) = 1 AND MAX(column_name) = 'seat_id'
+               LIMIT 1);
+SET @ddl := IF(@stale IS NULL, 'DO 0', CONCAT('ALTER TABLE reservation_seat DROP INDEX `', @stale, '`'));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
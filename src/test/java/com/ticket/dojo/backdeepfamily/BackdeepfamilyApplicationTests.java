@@ -3,7 +3,7 @@ package com.ticket.dojo.backdeepfamily;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "queue.ticket.secret=application-test-ticket-secret-0123456789")
 class BackdeepfamilyApplicationTests {
 
 	@Test
@@ -40,7 +40,7 @@ import com.ticket.dojo.backdeepfamily.global.util.jwt.JWTUtil;
  * 3. 잘못된 비밀번호로 로그인 시도
  * 4. 발급된 JWT 토큰의 유효성 검증
  */
-@SpringBootTest
+@SpringBootTest(properties = "queue.ticket.secret=login-test-ticket-secret-0123456789")
 @AutoConfigureMockMvc
 @DisplayName("로그인 통합 테스트 (JWT 인증)")
 class LoginIntegrationTest {
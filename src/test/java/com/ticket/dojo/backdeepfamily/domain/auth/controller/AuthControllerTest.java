@@ -47,7 +47,7 @@ import jakarta.servlet.http.Cookie;
  * 6. 로그아웃 후 블랙리스트된 Access 토큰 사용 불가 확인
  * 7. 로그아웃 후 Refresh 토큰 사용 불가 확인
  */
-@SpringBootTest
+@SpringBootTest(properties = "queue.ticket.secret=auth-test-ticket-secret-0123456789")
 @AutoConfigureMockMvc
 @DisplayName("AuthController 통합 테스트 (Refresh & Logout)")
 class AuthControllerTest {
@@ -0,0 +1,156 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.admission;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.engine.QueueWriteBehind;
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.QueueStatus;
+import com.ticket.dojo.backdeepfamily.domain.queue.repository.QueueRepository;
+import com.ticket.dojo.backdeepfamily.domain.queue.scheduler.QueueScheduler;
+import com.ticket.dojo.backdeepfamily.domain.queue.service.QueuePolicy;
+import com.ticket.dojo.backdeepfamily.domain.queue.service.QueueService;
+import com.ticket.dojo.backdeepfamily.domain.queue.service.QueueServiceMemoryImpl;
+import com.ticket.dojo.backdeepfamily.domain.queue.ticket.AdmissionTicketSigner;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdaptiveAdmissionController 단위 테스트")
+class AdaptiveAdmissionControllerTest {
+
+    private static final AdmissionSignals IDLE = new AdmissionSignals(50, 3_100, 0, 0);
+
+    @Mock
+    private QueueScheduler queueScheduler;
+
+    @Mock
+    private AdmissionSignalCollector signalCollector;
+
+    @Mock
+    private QueueService queueService;
+
+    @Mock
+    private QueueRepository queueRepository;
+
+    @Mock
+    private QueueWriteBehind queueWriteBehind;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private QueuePolicy queuePolicy;
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveAdmissionController controller;
+
+    @BeforeEach
+    void setUp() {
+        queuePolicy = new QueuePolicy();
+        meterRegistry = new SimpleMeterRegistry();
+        // basic 구현체처럼 점유 중인 permit 수를 ACTIVE 인원으로 보고
+        lenient().when(queueService.getActiveCount()).thenAnswer(invocation -> queuePolicy.getActivePermits());
+        controller = controllerOf(queueService);
+    }
+
+    @Test
+    @DisplayName("여유가 있고 한도를 다 쓰는 중이면 조금씩 늘리고 바로 활성화 요청")
+    void increase_WhenSaturatedAndHealthy() {
+        // given
+        queuePolicy.acquireUpTo(50);
+
+        // when
+        int next = controller.apply(IDLE);
+
+        // then
+        assertThat(next).isEqualTo(52);
+        assertThat(queuePolicy.getMaxActiveUsers()).isEqualTo(52);
+        assertThat(queuePolicy.calculateAvailableSlots(queuePolicy.getActivePermits())).isEqualTo(2);
+        verify(queueScheduler).requestActivation();
+    }
+
+    @Test
+    @DisplayName("한도를 다 쓰지 않으면 늘리지 않음")
+    void hold_WhenUnderUtilized() {
+        // given
+        queuePolicy.acquireUpTo(10);
+
+        // when
+        int next = controller.apply(IDLE);
+
+        // then
+        assertThat(next).isEqualTo(50);
+        verify(queueScheduler, never()).requestActivation();
+    }
+
+    @Test
+    @DisplayName("신호 중 하나라도 기준을 넘으면 비율로 줄이고, 하한 아래로는 내려가지 않음")
+    void decrease_OnOverload() {
+        // given
+        AdmissionSignals slowHoldSeat = new AdmissionSignals(800, 3_100, 0, 0);
+        AdmissionSignals pendingConnections = new AdmissionSignals(50, 3_100, 5, 0);
+        AdmissionSignals outboundBacklog = new AdmissionSignals(50, 3_100, 0, 1_000);
+
+        // when & then
+        assertThat(controller.apply(slowHoldSeat)).isEqualTo(35);
+        assertThat(controller.apply(pendingConnections)).isEqualTo(24);
+        assertThat(controller.apply(outboundBacklog)).isEqualTo(16);
+        assertThat(controller.apply(outboundBacklog)).isEqualTo(11);
+        assertThat(controller.apply(outboundBacklog)).isEqualTo(10);
+
+        // 새로 점유할 수 있는 슬롯도 줄어든 한도를 따름
+        assertThat(queuePolicy.acquireUpTo(50)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("상한을 넘지 않고, 현재 한도는 게이지로 노출")
+    void ceiling_AndGauge() {
+        // given
+        queuePolicy.acquireUpTo(50);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            queuePolicy.acquireUpTo(10);
+            controller.apply(IDLE);
+        }
+
+        // then
+        assertThat(queuePolicy.getMaxActiveUsers()).isEqualTo(60);
+        assertThat(meterRegistry.get(AdaptiveAdmissionController.LIMIT_METRIC).gauge().value()).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("memory 엔진: permit을 쓰지 않아도 엔진의 ACTIVE 인원으로 사용률을 계산해 한도를 늘림")
+    void increase_WithMemoryEngine() {
+        // given
+        QueueServiceMemoryImpl memoryQueueService = new QueueServiceMemoryImpl(queueRepository, queuePolicy,
+                queueWriteBehind, eventPublisher,
+                new AdmissionTicketSigner("adaptive-admission-test-secret-key-0123", 600_000L), 10, 30_000L);
+        AdaptiveAdmissionController memoryController = controllerOf(memoryQueueService);
+        for (long userId = 1; userId <= 50; userId++) {
+            memoryQueueService.enterQueue(userId);
+        }
+        assertThat(queuePolicy.getActivePermits()).isZero();
+
+        // when
+        int next = memoryController.apply(IDLE);
+
+        // then
+        assertThat(next).isEqualTo(52);
+        verify(queueScheduler).requestActivation();
+        assertThat(memoryQueueService.enterQueue(51L).getStatus()).isEqualTo(QueueStatus.ACTIVE);
+        assertThat(memoryQueueService.enterQueue(52L).getStatus()).isEqualTo(QueueStatus.ACTIVE);
+        assertThat(memoryQueueService.enterQueue(53L).getStatus()).isEqualTo(QueueStatus.WAITING);
+    }
+
+    private AdaptiveAdmissionController controllerOf(QueueService service) {
+        return new AdaptiveAdmissionController(queuePolicy, service, queueScheduler, signalCollector, meterRegistry,
+                10, 60, 300, 5_000, 2, 500);
+    }
+}
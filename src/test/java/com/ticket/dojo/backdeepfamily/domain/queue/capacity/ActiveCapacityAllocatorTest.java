@@ -0,0 +1,195 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.capacity;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.scheduler.QueueScheduler;
+import com.ticket.dojo.backdeepfamily.domain.queue.service.QueuePolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActiveCapacityAllocator 단위 테스트")
+class ActiveCapacityAllocatorTest {
+
+    private static final int BLOCK = 10;
+    private static final long TTL = 10_000L;
+
+    @Mock
+    private QueueScheduler queueScheduler;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private LocalActiveCapacityStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = spy(new LocalActiveCapacityStore(clock::get));
+    }
+
+    @Test
+    @DisplayName("lease를 받기 전에는 입장 불가, 받은 뒤에는 묶음 안에서 로컬로 입장")
+    void admitWithinBlock() {
+        // given
+        QueuePolicy policy = new QueuePolicy(50);
+        ActiveCapacityAllocator allocator = allocator("a", policy);
+        assertThat(policy.tryAcquire()).isFalse();
+
+        // when
+        allocator.rebalance(clock.get());
+
+        // then
+        assertThat(policy.getLeasedCapacity()).isEqualTo(BLOCK);
+        assertThat(policy.acquireUpTo(20)).isEqualTo(BLOCK);
+        verify(queueScheduler).requestActivation();
+    }
+
+    @Test
+    @DisplayName("여러 노드가 lease를 나눠도 합은 전역 한도를 넘지 않음")
+    void globalLimitRespected() {
+        // given
+        QueuePolicy policyA = new QueuePolicy(25);
+        QueuePolicy policyB = new QueuePolicy(25);
+        ActiveCapacityAllocator nodeA = allocator("a", policyA);
+        ActiveCapacityAllocator nodeB = allocator("b", policyB);
+
+        // when
+        // 두 노드가 번갈아 가며 슬롯을 다 쓰고 보충 요청
+        for (int i = 0; i < 5; i++) {
+            nodeA.rebalance(clock.get());
+            nodeB.rebalance(clock.get());
+            policyA.acquireUpTo(100);
+            policyB.acquireUpTo(100);
+        }
+
+        // then
+        assertThat(policyA.getActivePermits() + policyB.getActivePermits()).isEqualTo(25);
+        assertThat(store.getTotalLeased()).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("남은 슬롯이 충분하면 저장소에 접근하지 않고, 많이 남으면 반납")
+    void coordinateOnlyOnWatermarks() {
+        // given
+        QueuePolicy policy = new QueuePolicy(100);
+        ActiveCapacityAllocator allocator = allocator("a", policy);
+        allocator.rebalance(clock.get());
+        policy.acquireUpTo(3);
+
+        // when
+        // 남은 슬롯 7개 (절반 이상) -> 조정 없음
+        for (int i = 0; i < 10; i++) {
+            clock.addAndGet(100);
+            allocator.rebalance(clock.get());
+        }
+
+        // then
+        verify(store, times(1)).resize(anyString(), anyInt(), anyInt(), anyLong());
+
+        // when
+        // 보충을 거듭해 70명 입장 후 모두 퇴장 -> 남은 슬롯이 두 묶음을 넘으므로 반납
+        for (int i = 0; i < 6; i++) {
+            policy.acquireUpTo(BLOCK);
+            allocator.rebalance(clock.get());
+        }
+        int leased = policy.getLeasedCapacity();
+        policy.release(policy.getActivePermits());
+        allocator.rebalance(clock.get());
+
+        // then
+        assertThat(leased).isGreaterThan(BLOCK * 2);
+        assertThat(policy.getLeasedCapacity()).isEqualTo(BLOCK);
+        assertThat(store.getTotalLeased()).isEqualTo(BLOCK);
+    }
+
+    @Test
+    @DisplayName("갱신이 끊긴 노드의 lease는 TTL 후 다른 노드가 가져감")
+    void lapsedLeaseReclaimed() {
+        // given
+        QueuePolicy policyA = new QueuePolicy(20);
+        QueuePolicy policyB = new QueuePolicy(20);
+        ActiveCapacityAllocator nodeA = allocator("a", policyA);
+        ActiveCapacityAllocator nodeB = allocator("b", policyB);
+        nodeA.rebalance(clock.get());
+        nodeB.rebalance(clock.get());
+        policyB.acquireUpTo(BLOCK);
+        assertThat(nodeB.rebalance(clock.get())).isEqualTo(BLOCK);
+
+        // when
+        // 노드 A가 갱신 없이 TTL 경과 (비정상 종료)
+        clock.addAndGet(TTL + 1);
+        int granted = nodeB.rebalance(clock.get());
+
+        // then
+        assertThat(granted).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("저장소 장애로 TTL 동안 갱신하지 못하면 새 입장 중단")
+    void stopAdmittingWhenLeaseLapses() {
+        // given
+        QueuePolicy policy = new QueuePolicy(50);
+        ActiveCapacityAllocator allocator = allocator("a", policy);
+        allocator.rebalance(clock.get());
+        policy.acquireUpTo(4);
+        doThrow(new IllegalStateException("redis down")).when(store).resize(anyString(), anyInt(), anyInt(), anyLong());
+
+        // when
+        clock.addAndGet(TTL / 2);
+        allocator.rebalance(clock.get());
+        boolean admittedBeforeLapse = policy.tryAcquire();
+
+        clock.addAndGet(TTL);
+        allocator.rebalance(clock.get());
+
+        // then
+        assertThat(admittedBeforeLapse).isTrue();
+        assertThat(policy.getLeasedCapacity()).isEqualTo(5);
+        assertThat(policy.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("적응형 제어가 노드 한도를 올려도 lease 합은 설정된 전역 한도를 넘지 않음")
+    void globalLimitIndependentOfAdaptiveLimit() {
+        // given
+        QueuePolicy policyA = new QueuePolicy(30);
+        QueuePolicy policyB = new QueuePolicy(30);
+        ActiveCapacityAllocator nodeA = allocator("a", policyA, 30);
+        ActiveCapacityAllocator nodeB = allocator("b", policyB, 30);
+        policyA.updateMaxActiveUsers(100);
+        policyB.updateMaxActiveUsers(100);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            nodeA.rebalance(clock.get());
+            nodeB.rebalance(clock.get());
+            policyA.acquireUpTo(100);
+            policyB.acquireUpTo(100);
+        }
+
+        // then
+        assertThat(policyA.getActivePermits() + policyB.getActivePermits()).isEqualTo(30);
+        assertThat(store.getTotalLeased()).isEqualTo(30);
+        assertThat(policyA.getLeaseOwner()).isEqualTo("a");
+    }
+
+    private ActiveCapacityAllocator allocator(String nodeId, QueuePolicy policy) {
+        return allocator(nodeId, policy, policy.getMaxActiveUsers());
+    }
+
+    private ActiveCapacityAllocator allocator(String nodeId, QueuePolicy policy, int globalLimit) {
+        return new ActiveCapacityAllocator(store, policy, queueScheduler, new SimpleMeterRegistry(), nodeId, globalLimit, BLOCK, TTL);
+    }
+}
@@ -0,0 +1,151 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.engine;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.QueueStatus;
+import com.ticket.dojo.backdeepfamily.domain.queue.repository.QueueRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QueueWriteBehind 단위 테스트")
+class QueueWriteBehindTest {
+
+    private static final int MAX_ATTEMPTS = 2;
+
+    @Mock
+    private QueueRepository queueRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueueWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        writeBehind = new QueueWriteBehind(queueRepository, jdbcTemplate, transactionTemplate, meterRegistry,
+                4, 100, 1L, MAX_ATTEMPTS, 2);
+    }
+
+    @Test
+    @DisplayName("저장할 수 없는 항목이 섞여도 나머지는 반영하고 그 항목만 재시도")
+    void flush_IsolatesFailingEntry() {
+        // given
+        runTransactions();
+        failInsertOf("poison");
+        QueueEntry first = entry("token-1");
+        QueueEntry poison = entry("poison");
+        QueueEntry second = entry("token-2");
+        writeBehind.markDirty(first);
+        writeBehind.markDirty(poison);
+        writeBehind.markDirty(second);
+
+        // when
+        int written = writeBehind.flush();
+
+        // then
+        assertThat(written).isEqualTo(2);
+        assertThat(first.isPersisted()).isTrue();
+        assertThat(second.isPersisted()).isTrue();
+        assertThat(poison.isPersisted()).isFalse();
+        assertThat(writeBehind.getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("max-attempts번 실패한 항목은 dead letter로 남기고 버림")
+    void flush_DeadLettersAfterMaxAttempts() {
+        // given
+        runTransactions();
+        failInsertOf("poison");
+        writeBehind.markDirty(entry("poison"));
+
+        // when
+        writeBehind.flush();
+        writeBehind.flush();
+
+        // then
+        assertThat(writeBehind.getPendingCount()).isZero();
+        assertThat(meterRegistry.counter(QueueWriteBehind.DEAD_LETTER_METRIC).count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("일시적인 실패는 횟수를 세지 않고 배치 그대로 재시도")
+    void flush_TransientFailureRetriesWholeBatch() {
+        // given
+        runTransactions();
+        given(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .willThrow(new CannotAcquireLockException("lock wait timeout"));
+        writeBehind.markDirty(entry("token-1"));
+        writeBehind.markDirty(entry("token-2"));
+
+        // when
+        for (int i = 0; i < MAX_ATTEMPTS + 1; i++) {
+            assertThat(writeBehind.flush()).isZero();
+        }
+
+        // then
+        assertThat(writeBehind.getPendingCount()).isEqualTo(2);
+        assertThat(meterRegistry.counter(QueueWriteBehind.DEAD_LETTER_METRIC).count()).isZero();
+    }
+
+    @Test
+    @DisplayName("overflow가 한도에 닿으면 포화, 반영하면 해소")
+    void isSaturated_OverflowLimit() {
+        // given
+        runTransactions();
+        for (int i = 0; i < 6; i++) {
+            writeBehind.markDirty(entry("token-" + i));
+        }
+        assertThat(writeBehind.isSaturated()).isTrue();
+
+        // when
+        writeBehind.flush();
+
+        // then
+        assertThat(writeBehind.isSaturated()).isFalse();
+        assertThat(writeBehind.getPendingCount()).isZero();
+    }
+
+    private void runTransactions() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private void failInsertOf(String token) {
+        given(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any())).willAnswer(invocation -> {
+            Collection<QueueEntry> rows = invocation.getArgument(1);
+            if (rows.stream().anyMatch(row -> row.getToken().equals(token))) {
+                throw new DuplicateKeyException("Duplicate entry '" + token + "'");
+            }
+            return new int[][]{new int[rows.size()]};
+        });
+    }
+
+    private QueueEntry entry(String token) {
+        return new QueueEntry(1L, "default", token, 0L, QueueStatus.WAITING, LocalDateTime.now(), null, false);
+    }
+}
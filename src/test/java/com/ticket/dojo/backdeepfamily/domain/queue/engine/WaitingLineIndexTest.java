@@ -0,0 +1,71 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WaitingLineIndex 단위 테스트")
+class WaitingLineIndexTest {
+
+    @Test
+    @DisplayName("진입 시간 순으로 순번 계산")
+    void positionOf_OrderedByEnteredAt() {
+        // given
+        WaitingLineIndex index = new WaitingLineIndex();
+        LocalDateTime base = LocalDateTime.of(2025, 12, 9, 10, 0, 0);
+        index.add("third", base.plusSeconds(2), 3L);
+        index.add("first", base, 1L);
+        index.add("second", base.plusSeconds(1), 2L);
+
+        // then
+        assertThat(index.positionOf("first")).isEqualTo(1);
+        assertThat(index.positionOf("second")).isEqualTo(2);
+        assertThat(index.positionOf("third")).isEqualTo(3);
+        assertThat(index.positionOf("unknown")).isZero();
+    }
+
+    @Test
+    @DisplayName("진입 시간이 같아도 id로 갈라 중복 순번 없음")
+    void positionOf_SameEnteredAt_NoDuplicate() {
+        // given
+        WaitingLineIndex index = new WaitingLineIndex();
+        LocalDateTime sameTime = LocalDateTime.of(2025, 12, 9, 10, 0, 0);
+        for (long id = 1; id <= 100; id++) {
+            index.add("t" + id, sameTime, id);
+        }
+
+        // then
+        Set<Integer> positions = new HashSet<>();
+        for (long id = 1; id <= 100; id++) {
+            positions.add(index.positionOf("t" + id));
+        }
+        assertThat(positions).hasSize(100);
+        assertThat(index.positionOf("t1")).isEqualTo(1);
+        assertThat(index.positionOf("t100")).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("앞 사람이 빠지면 뒤 순번이 당겨짐")
+    void remove_ShiftsPositions() {
+        // given
+        WaitingLineIndex index = new WaitingLineIndex();
+        for (long seq = 1; seq <= 10; seq++) {
+            index.add("t" + seq, seq, 0L);
+        }
+
+        // when
+        assertThat(index.remove("t1")).isTrue();
+        assertThat(index.remove("t5")).isTrue();
+        assertThat(index.remove("t5")).isFalse();
+
+        // then
+        assertThat(index.size()).isEqualTo(8);
+        assertThat(index.positionOf("t2")).isEqualTo(1);
+        assertThat(index.positionOf("t10")).isEqualTo(8);
+    }
+}
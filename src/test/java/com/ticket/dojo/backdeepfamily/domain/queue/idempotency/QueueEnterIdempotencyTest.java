@@ -0,0 +1,89 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.idempotency;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.dto.response.QueueEnterResponse;
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.QueueStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("QueueEnterIdempotency 단위 테스트")
+class QueueEnterIdempotencyTest {
+
+    private final QueueEnterIdempotency idempotency = new QueueEnterIdempotency(60_000L);
+
+    @Test
+    @DisplayName("같은 키로 재시도하면 진입은 한 번만 실행하고 처음 응답 반환")
+    void sameKey_EnterOnce() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        QueueEnterResponse first = idempotency.execute(1L, "key-1", () -> enter(calls, "token-1"));
+        QueueEnterResponse retry = idempotency.execute(1L, "key-1", () -> enter(calls, "token-2"));
+
+        // then
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(retry.getToken()).isEqualTo(first.getToken());
+    }
+
+    @Test
+    @DisplayName("키가 없거나 사용자가 다르면 각각 실행")
+    void noKeyOrOtherUser_EnterEach() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        idempotency.execute(1L, null, () -> enter(calls, "token-1"));
+        idempotency.execute(1L, null, () -> enter(calls, "token-2"));
+        idempotency.execute(1L, "key-1", () -> enter(calls, "token-3"));
+        idempotency.execute(2L, "key-1", () -> enter(calls, "token-4"));
+
+        // then
+        assertThat(calls.get()).isEqualTo(4);
+        assertThat(idempotency.getRecordedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 기록하지 않아 같은 키로 다시 시도 가능")
+    void failedEnter_NotRecorded() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        assertThatThrownBy(() -> idempotency.execute(1L, "key-1", () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // when
+        QueueEnterResponse retry = idempotency.execute(1L, "key-1", () -> enter(calls, "token-1"));
+
+        // then
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(retry.getToken()).isEqualTo("token-1");
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지나면 정리")
+    void expired_Evicted() {
+        // given
+        QueueEnterIdempotency shortLived = new QueueEnterIdempotency(0L);
+        shortLived.execute(1L, "key-1", () -> enter(new AtomicInteger(), "token-1"));
+
+        // when
+        shortLived.evictExpired();
+
+        // then
+        assertThat(shortLived.getRecordedCount()).isZero();
+    }
+
+    private QueueEnterResponse enter(AtomicInteger calls, String token) {
+        calls.incrementAndGet();
+        return QueueEnterResponse.builder()
+                .token(token)
+                .status(QueueStatus.WAITING)
+                .position(1)
+                .build();
+    }
+}
@@ -0,0 +1,142 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.lease;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.event.QueueActivatedEvent;
+import com.ticket.dojo.backdeepfamily.domain.queue.event.QueueAdmissionRevokedEvent;
+import com.ticket.dojo.backdeepfamily.domain.queue.service.QueueService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QueueLeaseManager 단위 테스트")
+class QueueLeaseManagerTest {
+
+    private static final long LEASE_TTL = 30_000L;
+    private static final long TICK = 100L;
+    private static final long SWEEP_INTERVAL = 60_000L;
+
+    @Mock
+    private QueueService queueService;
+
+    private QueueLeaseManager leaseManager;
+
+    @BeforeEach
+    void setUp() {
+        leaseManager = new QueueLeaseManager(queueService, LEASE_TTL, TICK, SWEEP_INTERVAL);
+    }
+
+    @Test
+    @DisplayName("연장은 요청한 사용자와 함께 대기열 구현체에 위임")
+    void renew_DelegatesWithUser() {
+        // given
+        given(queueService.renewLease("token-1", 1L)).willReturn(true);
+        given(queueService.renewLease("token-1", 2L)).willReturn(false);
+
+        // when
+        boolean owner = leaseManager.renew("token-1", 1L);
+        boolean other = leaseManager.renew("token-1", 2L);
+
+        // then
+        assertThat(owner).isTrue();
+        assertThat(other).isFalse();
+        verify(queueService).renewLease("token-1", 1L);
+        verify(queueService).renewLease("token-1", 2L);
+    }
+
+    @Test
+    @DisplayName("활성화된 토큰은 lease 만료 시각이 되었을 때만 조건부 만료 (전체 스캔 없음)")
+    void evictLapsed_OnlyDueTokens() {
+        // given
+        long now = System.currentTimeMillis();
+        given(queueService.expireLapsedLeases()).willReturn(List.of());
+        leaseManager.evictLapsed(now); // 첫 전체 확인
+        leaseManager.onActivated(new QueueActivatedEvent(List.of("token-1", "token-2")));
+        given(queueService.expireLeasesIfLapsed(any())).willReturn(List.of("token-1", "token-2"));
+
+        // when
+        int early = leaseManager.evictLapsed(now + LEASE_TTL / 2);
+        int lapsed = leaseManager.evictLapsed(now + LEASE_TTL + TICK * 2);
+
+        // then
+        assertThat(early).isZero();
+        assertThat(lapsed).isEqualTo(2);
+        verify(queueService, times(1)).expireLeasesIfLapsed(argThat(tokens -> tokens.containsAll(List.of("token-1", "token-2"))));
+        verify(queueService, times(1)).expireLapsedLeases();
+        assertThat(leaseManager.getScheduledCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 서버가 활성화한 토큰도 이 서버에서 연장하면 휠에 등록, 연장 실패는 등록하지 않음")
+    void renew_SchedulesOnThisNode() {
+        // given
+        given(queueService.renewLease("token-1", 1L)).willReturn(true);
+        given(queueService.renewLease("token-2", 2L)).willReturn(false);
+
+        // when
+        leaseManager.renew("token-1", 1L);
+        leaseManager.renew("token-2", 2L);
+
+        // then
+        assertThat(leaseManager.getScheduledCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("퇴장 / 회수된 토큰은 휠에서 빠짐")
+    void revoked_Cancelled() {
+        // given
+        leaseManager.onActivated(new QueueActivatedEvent(List.of("token-1", "token-2", "token-3")));
+
+        // when
+        leaseManager.onRevoked(QueueAdmissionRevokedEvent.of(List.of("token-1")));
+        int afterOne = leaseManager.getScheduledCount();
+        leaseManager.onRevoked(QueueAdmissionRevokedEvent.all());
+
+        // then
+        assertThat(afterOne).isEqualTo(2);
+        assertThat(leaseManager.getScheduledCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("휠에 없는 lease는 주기적인 전체 확인으로 만료 처리")
+    void evictLapsed_SweepsUntracked() {
+        // given
+        given(queueService.expireLapsedLeases()).willReturn(List.of("token-1", "token-2"));
+
+        // when
+        int evicted = leaseManager.evictLapsed();
+        int beforeInterval = leaseManager.evictLapsed();
+
+        // then
+        assertThat(evicted).isEqualTo(2);
+        assertThat(beforeInterval).isZero();
+        verify(queueService, times(1)).expireLapsedLeases();
+    }
+
+    @Test
+    @DisplayName("만료 처리 실패 시 예외를 던지지 않고 다음 tick에 재시도")
+    void evictLapsed_FailureSwallowed() {
+        // given
+        long now = System.currentTimeMillis();
+        given(queueService.expireLapsedLeases()).willThrow(new RedisConnectionFailureException("down"));
+        leaseManager.onActivated(new QueueActivatedEvent(List.of("token-1")));
+        given(queueService.expireLeasesIfLapsed(any())).willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        int evicted = leaseManager.evictLapsed(now + LEASE_TTL + TICK * 2);
+
+        // then
+        assertThat(evicted).isZero();
+        assertThat(leaseManager.getScheduledCount()).isEqualTo(1);
+    }
+}
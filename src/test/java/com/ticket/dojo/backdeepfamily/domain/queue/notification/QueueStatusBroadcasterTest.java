@@ -0,0 +1,168 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.notification;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.dto.response.QueueStatusEventResponse;
+import com.ticket.dojo.backdeepfamily.domain.queue.dto.response.QueueStatusResponse;
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.QueueStatus;
+import com.ticket.dojo.backdeepfamily.domain.queue.event.QueueActivatedEvent;
+import com.ticket.dojo.backdeepfamily.domain.queue.service.QueueService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QueueStatusBroadcaster 단위 테스트")
+class QueueStatusBroadcasterTest {
+
+    @Mock
+    private QueueService queueService;
+
+    private QueueStatusBroadcaster broadcaster;
+    private List<QueueStatusEventResponse> received;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new QueueStatusBroadcaster(queueService);
+        received = new ArrayList<>();
+        broadcaster.watch("w1", "token-1", received::add);
+    }
+
+    @Test
+    @DisplayName("순번이 바뀐 경우에만 POSITION 전송")
+    void pushPositions_OnlyWhenChanged() {
+        // given
+        given(queueService.getQueueStatuses(anyCollection()))
+                .willReturn(statuses(waiting(5)), statuses(waiting(5)), statuses(waiting(3)));
+
+        // when
+        broadcaster.pushPositions();
+        broadcaster.pushPositions();
+        broadcaster.pushPositions();
+
+        // then
+        assertThat(received).extracting(QueueStatusEventResponse::getPosition).containsExactly(5, 3);
+        assertThat(received).extracting(QueueStatusEventResponse::getType).containsOnly("POSITION");
+    }
+
+    @Test
+    @DisplayName("활성화 이벤트는 주기를 기다리지 않고 즉시 한 번만 전송")
+    void onActivated_ImmediateOnce() {
+        // given
+        given(queueService.getQueueStatuses(anyCollection())).willReturn(statuses(
+                QueueStatusResponse.builder().token("token-1").position(0).status(QueueStatus.ACTIVE).build()));
+
+        // when
+        broadcaster.onActivated(new QueueActivatedEvent(List.of("token-1", "token-other")));
+        broadcaster.pushPositions();
+
+        // then
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).getType()).isEqualTo("ACTIVATED");
+        assertThat(received.get(0).getStatus()).isEqualTo(QueueStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("최소 변화량 지정 시 순번이 그만큼 바뀌거나 상태가 바뀔 때만 전송")
+    void pushPositions_MinPositionDelta() {
+        // given
+        List<QueueStatusEventResponse> stream = new ArrayList<>();
+        broadcaster.unwatch("w1");
+        broadcaster.watch("sse", "token-1", 5, waiting(20), stream::add);
+        given(queueService.getQueueStatuses(anyCollection())).willReturn(
+                statuses(waiting(18)), statuses(waiting(15)), statuses(waiting(14)),
+                statuses(QueueStatusResponse.builder().token("token-1").position(0).status(QueueStatus.ACTIVE).build()));
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            broadcaster.pushPositions();
+        }
+
+        // then
+        assertThat(stream).extracting(QueueStatusEventResponse::getType).containsExactly("POSITION", "ACTIVATED");
+        assertThat(stream.get(0).getPosition()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("대기열에서 사라진 토큰은 REMOVED 전송 후 구독 해제")
+    void pushPositions_RemovedToken() {
+        // given
+        given(queueService.getQueueStatuses(anyCollection())).willReturn(Map.of());
+
+        // when
+        broadcaster.pushPositions();
+
+        // then
+        assertThat(received).extracting(QueueStatusEventResponse::getType).containsExactly("REMOVED");
+        assertThat(broadcaster.getWatchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 구독은 해제")
+    void send_Failure_Unwatch() {
+        // given
+        broadcaster.watch("w2", "token-1", message -> {
+            throw new IllegalStateException("세션 종료");
+        });
+        given(queueService.getQueueStatuses(anyCollection())).willReturn(statuses(waiting(1)));
+
+        // when
+        broadcaster.pushPositions();
+
+        // then
+        assertThat(received).hasSize(1);
+        assertThat(broadcaster.getWatchCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구독 중인 토큰은 주기마다 한 번에 조회 (토큰마다 조회하지 않음)")
+    void pushPositions_SingleBatchLookup() {
+        // given
+        broadcaster.watch("w2", "token-2", received::add);
+        broadcaster.watch("w3", "token-1", received::add);
+        given(queueService.getQueueStatuses(anyCollection())).willReturn(Map.of(
+                "token-1", waiting(1),
+                "token-2", QueueStatusResponse.builder().token("token-2").position(2).status(QueueStatus.WAITING).build()));
+
+        // when
+        broadcaster.pushPositions();
+
+        // then
+        assertThat(received).hasSize(3);
+        verify(queueService, times(1)).getQueueStatuses(argThat(tokens -> tokens.size() == 2));
+        verify(queueService, never()).getQueueStatus(any());
+    }
+
+    @Test
+    @DisplayName("조회에 실패하면 이번 주기는 건너뛰고 구독 유지")
+    void pushPositions_LookupFailure() {
+        // given
+        given(queueService.getQueueStatuses(anyCollection())).willThrow(new IllegalStateException("db down"));
+
+        // when
+        broadcaster.pushPositions();
+
+        // then
+        assertThat(received).isEmpty();
+        assertThat(broadcaster.getWatchCount()).isEqualTo(1);
+    }
+
+    private Map<String, QueueStatusResponse> statuses(QueueStatusResponse status) {
+        return Map.of(status.getToken(), status);
+    }
+
+    private QueueStatusResponse waiting(int position) {
+        return QueueStatusResponse.builder().token("token-1").position(position).status(QueueStatus.WAITING).build();
+    }
+}
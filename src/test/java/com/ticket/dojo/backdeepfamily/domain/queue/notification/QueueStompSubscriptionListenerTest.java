@@ -0,0 +1,89 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.notification;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.service.QueueService;
+import com.ticket.dojo.backdeepfamily.domain.user.entity.CustomUserDetails;
+import com.ticket.dojo.backdeepfamily.domain.user.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QueueStompSubscriptionListener 단위 테스트")
+class QueueStompSubscriptionListenerTest {
+
+    @Mock
+    private QueueService queueService;
+
+    @Mock
+    private QueueStatusBroadcaster queueStatusBroadcaster;
+
+    @Mock
+    private SimpMessagingTemplate simpMessagingTemplate;
+
+    @InjectMocks
+    private QueueStompSubscriptionListener listener;
+
+    @Test
+    @DisplayName("본인 토큰 구독 -> 상태 push 등록")
+    void onSubscribe_OwnToken() {
+        // given
+        given(queueService.isOwnedBy("token-1", 1L)).willReturn(true);
+
+        // when
+        listener.onSubscribe(subscribe("token-1"));
+
+        // then
+        verify(queueStatusBroadcaster).watch(eq("stomp:session-1:sub-0"), eq("token-1"), any());
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 토큰 구독 -> 등록하지 않음")
+    void onSubscribe_OtherUsersToken() {
+        // given
+        given(queueService.isOwnedBy("token-2", 1L)).willReturn(false);
+
+        // when
+        listener.onSubscribe(subscribe("token-2"));
+
+        // then
+        verify(queueStatusBroadcaster, never()).watch(anyString(), anyString(), any());
+    }
+
+    private SessionSubscribeEvent subscribe(String token) {
+        User user = User.builder()
+                .userId(1L)
+                .email("test@example.com")
+                .name("테스트유저")
+                .build();
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(new CustomUserDetails(user), null, List.of());
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination("/user/queue/status");
+        accessor.setSessionId("session-1");
+        accessor.setSubscriptionId("sub-0");
+        accessor.setNativeHeader("queue-token", token);
+        accessor.setUser(authentication);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        return new SessionSubscribeEvent(this, message, authentication);
+    }
+}
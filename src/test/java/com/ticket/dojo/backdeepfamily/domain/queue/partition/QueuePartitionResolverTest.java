@@ -0,0 +1,43 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.partition;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.Queue;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.RoundEpoch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("QueuePartitionResolver 단위 테스트")
+class QueuePartitionResolverTest {
+
+    private final QueuePartitionResolver resolver = new QueuePartitionResolver(new RoundEpoch(7L));
+
+    @Test
+    @DisplayName("파티션을 지정하지 않으면 기본 파티션")
+    void defaultPartition() {
+        assertThat(resolver.resolve(null)).isEqualTo(Queue.DEFAULT_PARTITION);
+        assertThat(resolver.resolve(" ")).isEqualTo(Queue.DEFAULT_PARTITION);
+        assertThat(resolver.resolve("default")).isEqualTo(Queue.DEFAULT_PARTITION);
+    }
+
+    @Test
+    @DisplayName("현재 / 다음 회차 파티션만 허용")
+    void currentAndNextRound() {
+        assertThat(resolver.resolve("round-7")).isEqualTo("round-7");
+        assertThat(resolver.resolve(" round-8 ")).isEqualTo("round-8");
+    }
+
+    @Test
+    @DisplayName("지난 회차, 먼 회차, 임의 키는 거절 (빈 파티션으로 바로 입장 불가)")
+    void unknownPartition_Rejected() {
+        assertThatThrownBy(() -> resolver.resolve("round-6"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> resolver.resolve("round-9"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> resolver.resolve("round-abc"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> resolver.resolve("f3a1c9"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,122 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.presence;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.service.QueueService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QueuePresenceTracker 단위 테스트")
+class QueuePresenceTrackerTest {
+
+    private static final long GRACE = 1_000L;
+
+    @Mock
+    private QueueService queueService;
+
+    private QueuePresenceTracker presenceTracker;
+
+    @BeforeEach
+    void setUp() {
+        presenceTracker = new QueuePresenceTracker(queueService, GRACE);
+    }
+
+    @Test
+    @DisplayName("연결이 끊기고 grace 시간이 지나면 대기열 일괄 삭제")
+    void disconnected_AfterGrace_Evicted() {
+        // given
+        presenceTracker.connected(1L, "session-1");
+        presenceTracker.disconnected(1L, "session-1");
+        presenceTracker.touch(2L);
+        given(queueService.evictWaiting(any())).willReturn(2);
+
+        // when
+        int evicted = presenceTracker.evictAbsent(System.currentTimeMillis() + GRACE + 1);
+
+        // then
+        assertThat(evicted).isEqualTo(2);
+        verify(queueService).evictWaiting(argThat((Collection<Long> ids) -> ids.containsAll(List.of(1L, 2L)) && ids.size() == 2));
+        assertThat(presenceTracker.getTrackedUserCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("세션이 살아있으면 활동이 없어도 삭제하지 않음")
+    void liveSession_Kept() {
+        // given
+        presenceTracker.connected(1L, "session-1");
+
+        // when
+        int evicted = presenceTracker.evictAbsent(System.currentTimeMillis() + GRACE * 10);
+
+        // then
+        assertThat(evicted).isZero();
+        assertThat(presenceTracker.isPresent(1L)).isTrue();
+        verify(queueService, never()).evictWaiting(any());
+    }
+
+    @Test
+    @DisplayName("여러 세션 중 하나만 끊기면 여전히 접속 중")
+    void oneOfSessionsClosed_StillPresent() {
+        // given
+        presenceTracker.connected(1L, "stomp-1");
+        presenceTracker.connected(1L, "sse:1");
+
+        // when
+        presenceTracker.disconnected(1L, "stomp-1");
+
+        // then
+        assertThat(presenceTracker.isPresent(1L)).isTrue();
+        assertThat(presenceTracker.evictAbsent(System.currentTimeMillis() + GRACE * 10)).isZero();
+    }
+
+    @Test
+    @DisplayName("grace 시간 안에 폴링하면 삭제하지 않음")
+    void polledWithinGrace_Kept() {
+        // given
+        presenceTracker.connected(1L, "session-1");
+        presenceTracker.disconnected(1L, "session-1");
+
+        // when
+        presenceTracker.touch(1L);
+        int evicted = presenceTracker.evictAbsent(System.currentTimeMillis() + GRACE / 2);
+
+        // then
+        assertThat(evicted).isZero();
+        verify(queueService, never()).evictWaiting(any());
+    }
+
+    @Test
+    @DisplayName("여러 서버가 대기열을 공유하면(redis / lease 모드) 이 서버의 presence로 삭제하지 않음")
+    void sharedEngine_NoEviction() {
+        // given
+        QueuePresenceTracker sharedTracker = new QueuePresenceTracker(queueService, GRACE, "redis", false);
+        sharedTracker.connected(1L, "session-1");
+        sharedTracker.disconnected(1L, "session-1");
+        sharedTracker.touch(2L);
+
+        // when
+        int evicted = sharedTracker.evictAbsent(System.currentTimeMillis() + GRACE * 10);
+
+        // then
+        assertThat(evicted).isZero();
+        assertThat(sharedTracker.getTrackedUserCount()).isZero();
+        verify(queueService, never()).evictWaiting(any());
+
+        QueuePresenceTracker leasedTracker = new QueuePresenceTracker(queueService, GRACE, "basic", true);
+        leasedTracker.touch(3L);
+        assertThat(leasedTracker.evictAbsent(System.currentTimeMillis() + GRACE * 10)).isZero();
+    }
+}
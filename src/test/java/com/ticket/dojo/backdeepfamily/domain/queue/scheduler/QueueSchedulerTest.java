@@ -0,0 +1,133 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.scheduler;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.event.QueueSlotReleasedEvent;
+import com.ticket.dojo.backdeepfamily.domain.queue.service.QueueService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QueueScheduler 단위 테스트")
+class QueueSchedulerTest {
+
+    private static final long MIN_INTERVAL = 100L;
+    private static final long MAX_INTERVAL = 400L;
+
+    @Mock
+    private QueueService queueService;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueueScheduler queueScheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queueScheduler = new QueueScheduler(queueService, taskScheduler, meterRegistry, 0L, MIN_INTERVAL, MAX_INTERVAL);
+    }
+
+    @Test
+    @DisplayName("활성화 실행 중 들어온 요청은 겹쳐 실행하지 않고 끝난 뒤 다시 예약")
+    void singleFlight_RerunAfterPass() {
+        // given
+        given(queueService.activateNextInQueue()).willAnswer(invocation -> {
+            queueScheduler.runActivation(); // 실행 중 다른 트리거
+            return List.of();
+        });
+
+        // when
+        queueScheduler.runActivation();
+
+        // then
+        verify(queueService, times(1)).activateNextInQueue();
+        verify(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("예약된 활성화가 있으면 요청이 여러 번 와도 한 번만 예약")
+    void requestActivation_Debounced() {
+        // when
+        queueScheduler.requestActivation();
+        queueScheduler.requestActivation();
+        queueScheduler.onSlotReleased(new QueueSlotReleasedEvent("token-1", "default"));
+
+        // then
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("슬롯 반납 후 대기자가 활성화되면 지연 시간 기록")
+    void slotReleased_LagRecorded() {
+        // given
+        given(queueService.activateNextInQueue("default")).willReturn(List.of("waiter-1"));
+        queueScheduler.onSlotReleased(new QueueSlotReleasedEvent("token-1", "default"));
+
+        // when
+        queueScheduler.runActivation();
+
+        // then
+        Timer lag = meterRegistry.get(QueueScheduler.LAG_METRIC).timer();
+        assertThat(lag.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("슬롯 반납으로 예약된 활성화는 반납된 파티션만 처리, 전체 활성화 요청이 섞이면 전체 처리")
+    void slotReleased_ActivatesReleasedPartitionOnly() {
+        // given
+        given(queueService.activateNextInQueue("round-7")).willReturn(List.of("waiter-1"));
+        queueScheduler.onSlotReleased(new QueueSlotReleasedEvent("token-1", "round-7"));
+        queueScheduler.onSlotReleased(new QueueSlotReleasedEvent("token-2", "round-7"));
+
+        // when
+        queueScheduler.runActivation();
+
+        // then
+        verify(queueService, times(1)).activateNextInQueue("round-7");
+        verify(queueService, never()).activateNextInQueue();
+
+        // when
+        queueScheduler.onSlotReleased(new QueueSlotReleasedEvent("token-3", "round-7"));
+        queueScheduler.requestActivation();
+        queueScheduler.runActivation();
+
+        // then
+        verify(queueService, times(1)).activateNextInQueue();
+        verify(queueService, times(1)).activateNextInQueue("round-7");
+    }
+
+    @Test
+    @DisplayName("활성화할 대기자가 없으면 주기를 최대까지 늘리고, 활성화되면 최소로 되돌림")
+    void adaptiveInterval() {
+        // given
+        given(queueService.activateNextInQueue()).willReturn(List.of(), List.of(), List.of(), List.of("waiter-1"));
+
+        // when & then
+        queueScheduler.runActivation();
+        assertThat(queueScheduler.getIntervalMillis()).isEqualTo(200L);
+        queueScheduler.runActivation();
+        assertThat(queueScheduler.getIntervalMillis()).isEqualTo(400L);
+        queueScheduler.runActivation();
+        assertThat(queueScheduler.getIntervalMillis()).isEqualTo(MAX_INTERVAL);
+        queueScheduler.runActivation();
+        assertThat(queueScheduler.getIntervalMillis()).isEqualTo(MIN_INTERVAL);
+        assertThat(meterRegistry.get(QueueScheduler.LAG_METRIC).timer().count()).isZero();
+    }
+}
@@ -0,0 +1,138 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QueuePolicy permit pool 단위 테스트")
+class QueuePolicyTest {
+
+    private final QueuePolicy queuePolicy = new QueuePolicy();
+
+    @Test
+    @DisplayName("1000개 스레드 동시 진입 -> 정확히 50개만 점유")
+    void tryAcquire_ThousandThreadBurst() throws InterruptedException {
+        // given
+        int threads = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicInteger acquired = new AtomicInteger();
+        AtomicInteger maxObserved = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    if (queuePolicy.tryAcquire()) {
+                        acquired.incrementAndGet();
+                    }
+                    maxObserved.accumulateAndGet(queuePolicy.getActivePermits(), Math::max);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(acquired.get()).isEqualTo(queuePolicy.getMaxActiveUsers());
+        assertThat(queuePolicy.getActivePermits()).isEqualTo(queuePolicy.getMaxActiveUsers());
+        assertThat(maxObserved.get()).isLessThanOrEqualTo(queuePolicy.getMaxActiveUsers());
+    }
+
+    @Test
+    @DisplayName("점유/반납이 섞여도 한도를 넘지 않음")
+    void acquireAndRelease_NeverExceedsLimit() throws InterruptedException {
+        // given
+        int threads = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicInteger holders = new AtomicInteger();
+        AtomicInteger maxHolders = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                try {
+                    for (int round = 0; round < 100; round++) {
+                        if (queuePolicy.tryAcquire()) {
+                            maxHolders.accumulateAndGet(holders.incrementAndGet(), Math::max);
+                            holders.decrementAndGet();
+                            queuePolicy.release(1);
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(maxHolders.get()).isLessThanOrEqualTo(queuePolicy.getMaxActiveUsers());
+        assertThat(queuePolicy.getActivePermits()).isZero();
+    }
+
+    @Test
+    @DisplayName("남은 슬롯만큼만 일괄 점유")
+    void acquireUpTo_LimitedByAvailable() {
+        // given
+        queuePolicy.acquireUpTo(45);
+
+        // when
+        int granted = queuePolicy.acquireUpTo(10);
+
+        // then
+        assertThat(granted).isEqualTo(5);
+        assertThat(queuePolicy.acquireUpTo(1)).isZero();
+    }
+
+    @Test
+    @DisplayName("reconcile: 실제 ACTIVE 수로 drift 보정")
+    void reconcile_RepairsDrift() {
+        // given
+        queuePolicy.acquireUpTo(30);
+
+        // when
+        boolean applied = queuePolicy.reconcile(() -> 12);
+
+        // then
+        assertThat(applied).isTrue();
+        assertThat(queuePolicy.getActivePermits()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("reconcile: 진행 중인 변경이 있거나 조회 중 permit이 바뀌면 반영하지 않음")
+    void reconcile_SkippedOnConcurrentChange() {
+        // given
+        queuePolicy.acquireUpTo(30);
+
+        // when & then
+        queuePolicy.beginPendingChange();
+        assertThat(queuePolicy.reconcile(() -> 0)).isFalse();
+        queuePolicy.endPendingChange();
+
+        assertThat(queuePolicy.reconcile(() -> {
+            queuePolicy.tryAcquire();
+            return 0;
+        })).isFalse();
+        assertThat(queuePolicy.getActivePermits()).isEqualTo(31);
+    }
+}
@@ -14,11 +14,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+        "queue.admission.adaptive-enabled=false", // 한도 50 고정으로 검증
+        "queue.partition.max-active-users=10",
+        "queue.ticket.secret=queue-service-test-ticket-secret-0123456789"
+})
 class QueueServiceImplTest {
 
     @Autowired
@@ -30,10 +40,13 @@ class QueueServiceImplTest {
     @Autowired
     private QueueRepository queueRepository;
 
+    @Autowired
+    private QueuePolicy queuePolicy;
+
     @BeforeEach
     void setUp() {
-        // DB 초기화
-        queueRepository.deleteAll();
+        // DB 초기화 (ACTIVE 슬롯 permit도 함께 초기화)
+        queueService.clearQueue();
         userRepository.deleteAll();
     }
 
@@ -83,9 +96,9 @@ class QueueServiceImplTest {
     }
 
     @Test
-    @DisplayName("4. 재진입 시 기존 대기열 삭제 및 맨 뒤로 이동")
+    @DisplayName("4. 재진입 시 기존 토큰과 순번 유지")
     @Transactional
-    void reEntry_Reset() {
+    void reEntry_KeepsPosition() {
         // given
         // 1. 50명 Active 채움
         for (int i = 0; i < 50; i++) {
@@ -97,6 +110,7 @@ class QueueServiceImplTest {
         User targetUser = createAndSaveUser("target");
         QueueEnterResponse firstEntry = queueService.enterQueue(targetUser.getUserId());
         assertEquals(QueueStatus.WAITING, firstEntry.getStatus());
+        assertEquals(1, firstEntry.getPosition());
 
         // 3. 몇 명 더 입장 -> Waiting 증가
         User dummyW1 = createAndSaveUser("dummy_w1");
@@ -107,24 +121,16 @@ class QueueServiceImplTest {
         assertEquals(3, queueRepository.countByStatus(QueueStatus.WAITING));
 
         // when
-        // 4. Target 유저 재진입
+        // 4. Target 유저 재진입 (재시도 / 중복 클릭)
         QueueEnterResponse secondEntry = queueService.enterQueue(targetUser.getUserId());
 
         // then
-        // 기존 토큰과 달라야 함
-        assertNotEquals(firstEntry.getToken(), secondEntry.getToken());
-
-        // 상태는 여전히 Waiting이지만, 맨 뒤로 갔으므로 순번이나 enteredAt이 바뀌었음
-        // (Position은 동적 계산이므로 DB count로 확인)
-        // 총 Waiting 수는 여전히 3명이어야 함 (기존 것 삭제 후 추가이므로)
+        // 기존 토큰과 순번 그대로, 새 행은 생기지 않음
+        assertEquals(firstEntry.getToken(), secondEntry.getToken());
+        assertEquals(QueueStatus.WAITING, secondEntry.getStatus());
+        assertEquals(1, secondEntry.getPosition());
         assertEquals(3, queueRepository.countByStatus(QueueStatus.WAITING));
-
-        // 맨 뒤인지 확인 (Token으로 조회하여 상태 및 EnteredAt 비교 등)
-        QueueStatusResponse status = queueService.getQueueStatus(secondEntry.getToken());
-
-        // 순번이 3등이어야 함 (앞에 dummy_w1, dummy_w2가 있으므로)
-        // 로직: dummy_w1(1), dummy_w2(2), target(3)
-        assertEquals(3, status.getPosition());
+        assertEquals(1, queueService.getQueueStatus(secondEntry.getToken()).getPosition());
     }
 
     @Test
@@ -152,6 +158,8 @@ class QueueServiceImplTest {
         Queue activeQueue = queueRepository.findByUserAndStatusIn(activeUsers.get(0), List.of(QueueStatus.ACTIVE))
                 .get();
         queueService.expireQueue(activeQueue.getTokenValue());
+        // 빈자리 활성화는 커밋 이후 스케줄러가 처리하므로 테스트 트랜잭션 안에서는 직접 호출
+        List<String> activatedTokens = queueService.activateNextInQueue();
 
         // then
         // 4. 해당 Active 유저는 Expired
@@ -162,6 +170,7 @@ class QueueServiceImplTest {
         QueueStatusResponse waiterStatus = queueService.getQueueStatus(waiterResponse.getToken());
         assertEquals(QueueStatus.ACTIVE, waiterStatus.getStatus());
         assertEquals(0, waiterStatus.getPosition());
+        assertEquals(List.of(waiterResponse.getToken()), activatedTokens);
     }
 
     @Test
@@ -187,6 +196,7 @@ class QueueServiceImplTest {
         Queue activeQueue = queueRepository.findByUserAndStatusIn(activeUsers.get(0), List.of(QueueStatus.ACTIVE))
                 .get();
         queueService.exitQueue(activeQueue.getTokenValue());
+        List<String> activatedTokens = queueService.activateNextInQueue();
 
         // then
         // 4. 해당 Active 유저는 삭제됨
@@ -195,6 +205,182 @@ class QueueServiceImplTest {
         // 5. Waiting 유저는 Active로 변경되었어야 함
         QueueStatusResponse waiterStatus = queueService.getQueueStatus(waiterResponse.getToken());
         assertEquals(QueueStatus.ACTIVE, waiterStatus.getStatus());
+        assertEquals(List.of(waiterResponse.getToken()), activatedTokens);
+    }
+
+    @Test
+    @DisplayName("7. 1000명 동시 입장 -> Active는 한도(50명)를 넘지 않음")
+    void enterQueue_ThousandThreadBurst() throws InterruptedException {
+        // given
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            users.add(User.builder()
+                    .email("ts_burst" + i + "@test.com")
+                    .password("pw")
+                    .name("test_burst" + i)
+                    .build());
+        }
+        List<User> savedUsers = userRepository.saveAll(users);
+
+        ExecutorService executor = Executors.newFixedThreadPool(1000);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(savedUsers.size());
+
+        // when
+        for (User user : savedUsers) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    queueService.enterQueue(user.getUserId());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(60, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        // then
+        assertEquals(50, queueRepository.countByStatus(QueueStatus.ACTIVE));
+        assertEquals(950, queueRepository.countByStatus(QueueStatus.WAITING));
+        assertEquals(50, queuePolicy.getActivePermits());
+
+        queueService.clearQueue();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("8. 파티션마다 활성 한도와 대기 순번이 따로 관리됨")
+    @Transactional
+    void enterQueue_Partitions() {
+        // given
+        // 1. 기본 파티션 50명 Active + 1명 Waiting
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            User user = createAndSaveUser("partition" + i);
+            queueService.enterQueue(user.getUserId());
+            users.add(user);
+        }
+        QueueEnterResponse defaultWaiter = queueService.enterQueue(createAndSaveUser("partition_waiter").getUserId());
+
+        // when
+        // 2. 같은 사용자들이 다른 회차 파티션에 12명 진입
+        List<QueueEnterResponse> roundResponses = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            roundResponses.add(queueService.enterQueue(users.get(i).getUserId(), "round-7"));
+        }
+
+        // then
+        // 3. 기본 파티션이 가득 차도 회차 파티션은 자기 한도(10명)만큼 즉시 입장
+        assertEquals(10, roundResponses.stream().filter(r -> r.getStatus() == QueueStatus.ACTIVE).count());
+        assertEquals(1, roundResponses.get(10).getPosition());
+        assertEquals("round-7", roundResponses.get(10).getPartitionKey());
+        assertEquals(1, queueService.getQueueStatus(defaultWaiter.getToken()).getPosition());
+
+        // 4. 회차 파티션의 퇴장은 그 파티션 대기자만 입장시킴
+        queueService.exitQueue(roundResponses.get(0).getToken());
+        List<String> activatedTokens = queueService.activateNextInQueue();
+        assertEquals(List.of(roundResponses.get(10).getToken()), activatedTokens);
+        assertEquals(QueueStatus.WAITING, queueService.getQueueStatus(defaultWaiter.getToken()).getStatus());
+    }
+
+    @Test
+    @DisplayName("9. 같은 사용자의 동시 진입(Idempotency-Key 없음) -> 대기열 1건, 모두 같은 토큰")
+    void enterQueue_ConcurrentDoubleEnter() throws InterruptedException {
+        // given
+        // 1. 50명 Active 채워서 대상 사용자는 Waiting으로 진입 (힌트 경로 없이 DB까지 내려가는 경우)
+        for (int i = 0; i < 50; i++) {
+            queueService.enterQueue(createAndSaveUser("double_dummy" + i).getUserId());
+        }
+        User target = createAndSaveUser("double_target");
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        List<QueueEnterResponse> responses = java.util.Collections.synchronizedList(new ArrayList<>());
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    responses.add(queueService.enterQueue(target.getUserId()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        // then
+        assertEquals(threads, responses.size());
+        assertEquals(1, responses.stream().map(QueueEnterResponse::getToken).distinct().count());
+        assertEquals(1, queueRepository.countByStatus(QueueStatus.WAITING));
+
+        // 이후 재진입도 예외 없이 같은 토큰
+        assertEquals(responses.get(0).getToken(), queueService.enterQueue(target.getUserId()).getToken());
+
+        queueService.clearQueue();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("10. 여러 토큰 상태 일괄 조회 -> 단건 조회와 같은 순번, 없는 토큰은 제외")
+    @Transactional
+    void getQueueStatuses_MatchesSingleLookup() {
+        // given
+        for (int i = 0; i < 50; i++) {
+            queueService.enterQueue(createAndSaveUser("batch_dummy" + i).getUserId());
+        }
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            tokens.add(queueService.enterQueue(createAndSaveUser("batch_w" + i).getUserId()).getToken());
+        }
+        tokens.add("unknown-token");
+
+        // when
+        Map<String, QueueStatusResponse> statuses = queueService.getQueueStatuses(tokens);
+
+        // then
+        assertEquals(3, statuses.size());
+        assertFalse(statuses.containsKey("unknown-token"));
+        for (int i = 0; i < 3; i++) {
+            QueueStatusResponse single = queueService.getQueueStatus(tokens.get(i));
+            assertEquals(QueueStatus.WAITING, statuses.get(tokens.get(i)).getStatus());
+            assertEquals(i + 1, statuses.get(tokens.get(i)).getPosition());
+            assertEquals(single.getPosition(), statuses.get(tokens.get(i)).getPosition());
+        }
+    }
+
+    @Test
+    @DisplayName("11. 회차 종료 -> 기본 / 지난 회차 파티션만 만료, 다음 회차 파티션 유지, 만료 행은 나중에 정리")
+    @Transactional
+    void closeRound_ExpiresEndedPartitionsOnly() {
+        // given
+        QueueEnterResponse defaultActive = queueService.enterQueue(createAndSaveUser("close_default").getUserId());
+        QueueEnterResponse pastRound = queueService.enterQueue(createAndSaveUser("close_past").getUserId(), "round-7");
+        QueueEnterResponse nextRound = queueService.enterQueue(createAndSaveUser("close_next").getUserId(), "round-9");
+
+        // when
+        queueService.closeRound(8L);
+
+        // then
+        // 테이블을 지우지 않고 닫힌 파티션의 행만 EXPIRED
+        assertEquals(QueueStatus.EXPIRED, queueService.getQueueStatus(defaultActive.getToken()).getStatus());
+        assertEquals(QueueStatus.EXPIRED, queueService.getQueueStatus(pastRound.getToken()).getStatus());
+        assertEquals(QueueStatus.ACTIVE, queueService.getQueueStatus(nextRound.getToken()).getStatus());
+
+        // 만료된 행은 백그라운드 정리에서 삭제
+        assertEquals(2, queueService.purgeExpired(java.time.LocalDateTime.now().plusSeconds(1), 1000));
+        assertEquals(1, queueRepository.count());
     }
 
     private User createAndSaveUser(String suffix) {
@@ -0,0 +1,259 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.service;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.dto.response.QueueEnterResponse;
+import com.ticket.dojo.backdeepfamily.domain.queue.dto.response.QueueStatusResponse;
+import com.ticket.dojo.backdeepfamily.domain.queue.engine.QueueEntry;
+import com.ticket.dojo.backdeepfamily.domain.queue.engine.QueueWriteBehind;
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.Queue;
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.QueueStatus;
+import com.ticket.dojo.backdeepfamily.domain.queue.event.QueueActivatedEvent;
+import com.ticket.dojo.backdeepfamily.domain.queue.event.QueueAdmissionRevokedEvent;
+import com.ticket.dojo.backdeepfamily.domain.queue.repository.QueueRepository;
+import com.ticket.dojo.backdeepfamily.domain.queue.ticket.AdmissionTicketSigner;
+import com.ticket.dojo.backdeepfamily.domain.user.entity.User;
+import com.ticket.dojo.backdeepfamily.global.exception.QueueNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QueueService 인메모리 구현 단위 테스트")
+class QueueServiceMemoryImplTest {
+
+    @Mock
+    private QueueRepository queueRepository;
+
+    @Mock
+    private QueueWriteBehind queueWriteBehind;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private static final long LEASE = 200L;
+
+    private QueueServiceMemoryImpl queueService;
+
+    @BeforeEach
+    void setUp() {
+        queueService = new QueueServiceMemoryImpl(queueRepository, new QueuePolicy(), queueWriteBehind, eventPublisher,
+                new AdmissionTicketSigner("memory-queue-test-secret-key-0123456789", 600_000L), 10, LEASE);
+    }
+
+    @Test
+    @DisplayName("100명 진입 -> 50명 Active, 50명 Waiting, DB 접근 없음")
+    void enterQueue_Hundred() {
+        // when
+        List<QueueEnterResponse> responses = enterUsers(1, 100);
+
+        // then
+        assertThat(responses.stream().filter(r -> r.getStatus() == QueueStatus.ACTIVE)).hasSize(50);
+        assertThat(responses.stream().filter(r -> r.getStatus() == QueueStatus.WAITING)).hasSize(50);
+        assertThat(queueService.getQueueStatus(responses.get(50).getToken()).getPosition()).isEqualTo(1);
+        assertThat(queueService.getQueueStatus(responses.get(99).getToken()).getPosition()).isEqualTo(50);
+
+        verifyNoInteractions(queueRepository);
+        verify(queueWriteBehind, atLeastOnce()).markDirty(any(QueueEntry.class));
+    }
+
+    @Test
+    @DisplayName("재진입 시 기존 토큰과 순번 유지")
+    void reEntry_KeepsPosition() {
+        // given
+        List<QueueEnterResponse> actives = enterUsers(1, 50);
+        QueueEnterResponse firstEntry = queueService.enterQueue(100L);
+        enterUsers(101, 2);
+
+        // when
+        QueueEnterResponse secondEntry = queueService.enterQueue(100L);
+        QueueEnterResponse activeRetry = queueService.enterQueue(1L);
+
+        // then
+        assertThat(secondEntry.getToken()).isEqualTo(firstEntry.getToken());
+        assertThat(secondEntry.getStatus()).isEqualTo(QueueStatus.WAITING);
+        assertThat(secondEntry.getPosition()).isEqualTo(1);
+        assertThat(queueService.getQueueStatus(secondEntry.getToken()).getPosition()).isEqualTo(1);
+        assertThat(activeRetry.getToken()).isEqualTo(actives.get(0).getToken());
+        assertThat(activeRetry.getStatus()).isEqualTo(QueueStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("파티션마다 활성 한도와 대기 순번이 따로 관리됨")
+    void enterQueue_Partitions() {
+        // given
+        enterUsers(1, 50);
+        QueueEnterResponse defaultWaiter = queueService.enterQueue(100L);
+
+        // when
+        List<QueueEnterResponse> roundResponses = new ArrayList<>();
+        for (long userId = 1; userId <= 12; userId++) {
+            roundResponses.add(queueService.enterQueue(userId, "round-7"));
+        }
+
+        // then
+        // 기본 파티션이 가득 차도 다른 파티션은 자기 한도(10)만큼 즉시 입장
+        assertThat(roundResponses.stream().filter(r -> r.getStatus() == QueueStatus.ACTIVE)).hasSize(10);
+        assertThat(roundResponses.get(10).getPosition()).isEqualTo(1);
+        assertThat(roundResponses.get(10).getPartitionKey()).isEqualTo("round-7");
+        assertThat(queueService.getQueueStatus(defaultWaiter.getToken()).getPosition()).isEqualTo(1);
+
+        // 한 파티션의 퇴장은 그 파티션 대기자만 입장시킴
+        queueService.exitQueue(roundResponses.get(0).getToken());
+        assertThat(queueService.getQueueStatus(roundResponses.get(10).getToken()).getStatus()).isEqualTo(QueueStatus.ACTIVE);
+        assertThat(queueService.getQueueStatus(defaultWaiter.getToken()).getStatus()).isEqualTo(QueueStatus.WAITING);
+    }
+
+    @Test
+    @DisplayName("이탈 삭제는 사용자가 진입한 파티션의 WAITING만 삭제하고, 삭제된 토큰은 더 조회되지 않음")
+    void evictWaiting_AcrossPartitions() {
+        // given
+        for (long userId = 1; userId <= 10; userId++) {
+            queueService.enterQueue(userId, "round-7");
+        }
+        enterUsers(1, 50);
+        QueueEnterResponse roundWaiter = queueService.enterQueue(100L, "round-7");
+        QueueEnterResponse defaultWaiter = queueService.enterQueue(100L);
+        QueueEnterResponse otherWaiter = queueService.enterQueue(101L);
+
+        // when
+        int evicted = queueService.evictWaiting(List.of(100L, 1L));
+
+        // then
+        // 사용자 1은 두 파티션 모두 ACTIVE라 그대로 두고, 사용자 100은 두 파티션의 WAITING 모두 삭제
+        assertThat(evicted).isEqualTo(2);
+        assertThatThrownBy(() -> queueService.getQueueStatus(roundWaiter.getToken()))
+                .isInstanceOf(QueueNotFoundException.class);
+        assertThatThrownBy(() -> queueService.getQueueStatus(defaultWaiter.getToken()))
+                .isInstanceOf(QueueNotFoundException.class);
+        assertThat(queueService.getQueueStatus(otherWaiter.getToken()).getPosition()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("lease는 엔진 항목에 저장되어 본인만 연장, 지나면 만료 처리 후 같은 파티션 대기자 입장")
+    void lease_RenewAndLapse() throws InterruptedException {
+        // given
+        List<QueueEnterResponse> actives = enterUsers(1, 50);
+        QueueEnterResponse waiter = queueService.enterQueue(100L);
+
+        // when
+        Thread.sleep(LEASE / 2);
+        boolean renewed = queueService.renewLease(actives.get(0).getToken(), 1L);
+        boolean stolen = queueService.renewLease(actives.get(1).getToken(), 100L);
+        Thread.sleep(LEASE / 2 + 50);
+        List<String> lapsed = queueService.expireLapsedLeases();
+
+        // then
+        assertThat(renewed).isTrue();
+        assertThat(stolen).isFalse();
+        assertThat(lapsed).hasSize(49).doesNotContain(actives.get(0).getToken());
+        assertThat(queueService.getQueueStatus(actives.get(0).getToken()).getStatus()).isEqualTo(QueueStatus.ACTIVE);
+        assertThat(queueService.getQueueStatus(actives.get(1).getToken()).getStatus()).isEqualTo(QueueStatus.EXPIRED);
+        assertThat(queueService.getQueueStatus(waiter.getToken()).getStatus()).isEqualTo(QueueStatus.ACTIVE);
+        assertThat(queueService.renewLease(actives.get(1).getToken(), 2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("기동 시 재구성된 ACTIVE에도 lease가 부여됨")
+    void restore_GrantsLease() throws InterruptedException {
+        // given
+        User user = User.builder().email("restore@test.com").password("pw").name("restore").build();
+        ReflectionTestUtils.setField(user, "userId", 7L);
+        Queue active = Queue.createActive(user);
+        given(queueRepository.findByStatusInOrderByEnteredAtAscIdAsc(any())).willReturn(List.of(active));
+
+        // when
+        queueService.restore();
+
+        // then
+        assertThat(queueService.renewLease(active.getTokenValue(), 7L)).isTrue();
+        Thread.sleep(LEASE + 50);
+        assertThat(queueService.expireLapsedLeases()).containsExactly(active.getTokenValue());
+    }
+
+    @Test
+    @DisplayName("결제 진입(만료) 시 대기자 즉시 입장")
+    void payment_Entry_Activation() {
+        // given
+        List<QueueEnterResponse> actives = enterUsers(1, 50);
+        QueueEnterResponse waiter = queueService.enterQueue(100L);
+        assertThat(waiter.getStatus()).isEqualTo(QueueStatus.WAITING);
+
+        // when
+        queueService.expireQueue(actives.get(0).getToken());
+
+        // then
+        assertThat(queueService.getQueueStatus(actives.get(0).getToken()).getStatus()).isEqualTo(QueueStatus.EXPIRED);
+        QueueStatusResponse waiterStatus = queueService.getQueueStatus(waiter.getToken());
+        assertThat(waiterStatus.getStatus()).isEqualTo(QueueStatus.ACTIVE);
+        assertThat(waiterStatus.getPosition()).isZero();
+    }
+
+    @Test
+    @DisplayName("퇴장 시 대기자 즉시 입장")
+    void exit_Entry_Activation() {
+        // given
+        List<QueueEnterResponse> actives = enterUsers(1, 50);
+        QueueEnterResponse waiter = queueService.enterQueue(100L);
+
+        // when
+        queueService.exitQueue(actives.get(0).getToken());
+
+        // then
+        assertThatThrownBy(() -> queueService.getQueueStatus(actives.get(0).getToken()))
+                .isInstanceOf(QueueNotFoundException.class);
+        assertThat(queueService.getQueueStatus(waiter.getToken()).getStatus()).isEqualTo(QueueStatus.ACTIVE);
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof QueueActivatedEvent activated
+                && activated.getTokens().equals(List.of(waiter.getToken()))));
+    }
+
+    @Test
+    @DisplayName("회차 종료 -> 기본 / 지난 회차 파티션만 닫고 ACTIVE 입장권 회수, 다음 회차 파티션은 유지, 테이블 일괄 삭제 없음")
+    void closeRound_ClosesEndedPartitionsOnly() {
+        // given
+        List<QueueEnterResponse> defaultActives = enterUsers(1, 2);
+        QueueEnterResponse pastRound = queueService.enterQueue(10L, "round-7");
+        QueueEnterResponse nextRound = queueService.enterQueue(11L, "round-9");
+
+        // when
+        queueService.closeRound(8L);
+
+        // then
+        assertThatThrownBy(() -> queueService.getQueueStatus(defaultActives.get(0).getToken()))
+                .isInstanceOf(QueueNotFoundException.class);
+        assertThatThrownBy(() -> queueService.getQueueStatus(pastRound.getToken()))
+                .isInstanceOf(QueueNotFoundException.class);
+        assertThat(queueService.getQueueStatus(nextRound.getToken()).getStatus()).isEqualTo(QueueStatus.ACTIVE);
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof QueueAdmissionRevokedEvent revoked
+                && !revoked.isAll()
+                && revoked.getTokens().containsAll(List.of(defaultActives.get(0).getToken(), pastRound.getToken()))
+                && !revoked.getTokens().contains(nextRound.getToken())));
+        verifyNoInteractions(queueRepository);
+
+        // 닫힌 기본 파티션은 다시 빈 슬롯부터 입장
+        assertThat(queueService.enterQueue(1L).getStatus()).isEqualTo(QueueStatus.ACTIVE);
+    }
+
+    private List<QueueEnterResponse> enterUsers(long firstUserId, int count) {
+        List<QueueEnterResponse> responses = new ArrayList<>();
+        for (long userId = firstUserId; userId < firstUserId + count; userId++) {
+            responses.add(queueService.enterQueue(userId));
+        }
+        return responses;
+    }
+}
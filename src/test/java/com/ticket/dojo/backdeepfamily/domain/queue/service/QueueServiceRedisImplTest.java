@@ -0,0 +1,261 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.service;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.dto.response.QueueEnterResponse;
+import com.ticket.dojo.backdeepfamily.domain.queue.dto.response.QueueStatusResponse;
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.QueueStatus;
+import com.ticket.dojo.backdeepfamily.domain.queue.ticket.AdmissionTicketSigner;
+import com.ticket.dojo.backdeepfamily.global.exception.QueueNotFoundException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("QueueService Redis 구현 테스트 (embedded Redis)")
+class QueueServiceRedisImplTest {
+
+    private static final AdmissionTicketSigner TICKET_SIGNER = new AdmissionTicketSigner("redis-queue-test-secret-key-0123456789", 600_000L);
+    private static final long LEASE = 30_000L;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private QueueServiceRedisImpl queueService;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory("localhost", port);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        queueService = new QueueServiceRedisImpl(redisTemplate, new QueuePolicy(), event -> {}, TICKET_SIGNER, 600_000L, LEASE);
+        queueService.clearQueue();
+    }
+
+    @Test
+    @DisplayName("100명 진입 -> 50명 Active, 50명 Waiting")
+    void enterQueue_Hundred() {
+        // when
+        List<QueueEnterResponse> responses = enterUsers(queueService, 1, 100);
+
+        // then
+        assertThat(responses.stream().filter(r -> r.getStatus() == QueueStatus.ACTIVE)).hasSize(50);
+        assertThat(responses.stream().filter(r -> r.getStatus() == QueueStatus.WAITING)).hasSize(50);
+        assertThat(queueService.getQueueStatus(responses.get(50).getToken()).getPosition()).isEqualTo(1);
+        assertThat(queueService.getQueueStatus(responses.get(99).getToken()).getPosition()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("재진입 시 기존 토큰과 순번 유지")
+    void reEntry_KeepsPosition() {
+        // given
+        List<QueueEnterResponse> actives = enterUsers(queueService, 1, 50);
+        QueueEnterResponse firstEntry = queueService.enterQueue(100L);
+        enterUsers(queueService, 101, 2);
+
+        // when
+        QueueEnterResponse secondEntry = queueService.enterQueue(100L);
+        QueueEnterResponse activeRetry = queueService.enterQueue(1L);
+
+        // then
+        assertThat(secondEntry.getToken()).isEqualTo(firstEntry.getToken());
+        assertThat(secondEntry.getStatus()).isEqualTo(QueueStatus.WAITING);
+        assertThat(secondEntry.getPosition()).isEqualTo(1);
+        assertThat(queueService.getQueueStatus(secondEntry.getToken()).getPosition()).isEqualTo(1);
+        assertThat(activeRetry.getToken()).isEqualTo(actives.get(0).getToken());
+        assertThat(activeRetry.getStatus()).isEqualTo(QueueStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("결제 진입(만료) 시 대기자 즉시 입장")
+    void payment_Entry_Activation() {
+        // given
+        List<QueueEnterResponse> actives = enterUsers(queueService, 1, 50);
+        QueueEnterResponse waiter = queueService.enterQueue(100L);
+        assertThat(waiter.getStatus()).isEqualTo(QueueStatus.WAITING);
+
+        // when
+        queueService.expireQueue(actives.get(0).getToken());
+
+        // then
+        assertThat(queueService.getQueueStatus(actives.get(0).getToken()).getStatus()).isEqualTo(QueueStatus.EXPIRED);
+        QueueStatusResponse waiterStatus = queueService.getQueueStatus(waiter.getToken());
+        assertThat(waiterStatus.getStatus()).isEqualTo(QueueStatus.ACTIVE);
+        assertThat(waiterStatus.getPosition()).isZero();
+    }
+
+    @Test
+    @DisplayName("퇴장 시 대기자 즉시 입장")
+    void exit_Entry_Activation() {
+        // given
+        List<QueueEnterResponse> actives = enterUsers(queueService, 1, 50);
+        QueueEnterResponse waiter = queueService.enterQueue(100L);
+
+        // when
+        queueService.exitQueue(actives.get(0).getToken());
+
+        // then
+        assertThatThrownBy(() -> queueService.getQueueStatus(actives.get(0).getToken()))
+                .isInstanceOf(QueueNotFoundException.class);
+        assertThat(queueService.getQueueStatus(waiter.getToken()).getStatus()).isEqualTo(QueueStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("Active TTL이 지나면 슬롯 반납 후 대기자 입장")
+    void activeTtl_Lapse() throws InterruptedException {
+        // given
+        QueueServiceRedisImpl shortTtlService = new QueueServiceRedisImpl(redisTemplate, new QueuePolicy(), event -> {}, TICKET_SIGNER, 200L, LEASE);
+        List<QueueEnterResponse> actives = enterUsers(shortTtlService, 1, 50);
+        QueueEnterResponse waiter = shortTtlService.enterQueue(100L);
+
+        // when
+        Thread.sleep(300);
+        shortTtlService.activateNextInQueue();
+
+        // then
+        assertThatThrownBy(() -> shortTtlService.getQueueStatus(actives.get(0).getToken()))
+                .isInstanceOf(QueueNotFoundException.class);
+        assertThat(shortTtlService.getQueueStatus(waiter.getToken()).getStatus()).isEqualTo(QueueStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("lease는 Redis에 저장되어 다른 서버에서도 본인 토큰만 연장, 지나면 만료 처리 후 대기자 입장")
+    void lease_SharedAcrossNodes() throws InterruptedException {
+        // given
+        QueueServiceRedisImpl nodeA = new QueueServiceRedisImpl(redisTemplate, new QueuePolicy(), event -> {}, TICKET_SIGNER, 600_000L, 300L);
+        QueueServiceRedisImpl nodeB = new QueueServiceRedisImpl(redisTemplate, new QueuePolicy(), event -> {}, TICKET_SIGNER, 600_000L, 300L);
+        List<QueueEnterResponse> actives = enterUsers(nodeA, 1, 50);
+        QueueEnterResponse waiter = nodeA.enterQueue(100L);
+
+        // when
+        // 사용자 1은 활성화를 처리하지 않은 nodeB로 heartbeat, 다른 사용자는 남의 토큰을 연장할 수 없음
+        Thread.sleep(200);
+        boolean renewed = nodeB.renewLease(actives.get(0).getToken(), 1L);
+        boolean stolen = nodeB.renewLease(actives.get(1).getToken(), 100L);
+        Thread.sleep(200);
+        List<String> lapsed = nodeB.expireLapsedLeases();
+
+        // then
+        assertThat(renewed).isTrue();
+        assertThat(stolen).isFalse();
+        assertThat(lapsed).hasSize(49).doesNotContain(actives.get(0).getToken());
+        assertThat(nodeA.getQueueStatus(actives.get(0).getToken()).getStatus()).isEqualTo(QueueStatus.ACTIVE);
+        assertThat(nodeA.getQueueStatus(actives.get(1).getToken()).getStatus()).isEqualTo(QueueStatus.EXPIRED);
+        assertThat(nodeA.getQueueStatus(waiter.getToken()).getStatus()).isEqualTo(QueueStatus.ACTIVE);
+        assertThat(nodeA.expireLapsedLeases()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이탈 사용자 정리 시 WAITING만 삭제되고 순번이 당겨짐")
+    void evictWaiting_WaitingOnly() {
+        // given
+        List<QueueEnterResponse> actives = enterUsers(queueService, 1, 50);
+        List<QueueEnterResponse> waiters = enterUsers(queueService, 101, 3);
+
+        // when
+        int evicted = queueService.evictWaiting(List.of(1L, 101L, 102L, 999L));
+
+        // then
+        assertThat(evicted).isEqualTo(2);
+        assertThat(queueService.getQueueStatus(actives.get(0).getToken()).getStatus()).isEqualTo(QueueStatus.ACTIVE);
+        assertThatThrownBy(() -> queueService.getQueueStatus(waiters.get(0).getToken()))
+                .isInstanceOf(QueueNotFoundException.class);
+        assertThat(queueService.getQueueStatus(waiters.get(2).getToken()).getPosition()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Active 토큰에만 본인 입장권 발급")
+    void admissionTicket_ActiveOnly() {
+        // given
+        List<QueueEnterResponse> actives = enterUsers(queueService, 1, 50);
+        QueueEnterResponse waiter = queueService.enterQueue(100L);
+
+        // when
+        QueueStatusResponse activeStatus = queueService.getQueueStatus(actives.get(0).getToken());
+        QueueStatusResponse waiterStatus = queueService.getQueueStatus(waiter.getToken());
+
+        // then
+        assertThat(TICKET_SIGNER.verify(actives.get(0).getAdmissionTicket(), 1L).getToken()).isEqualTo(actives.get(0).getToken());
+        assertThat(TICKET_SIGNER.verify(activeStatus.getAdmissionTicket(), 1L).getToken()).isEqualTo(actives.get(0).getToken());
+        assertThat(waiter.getAdmissionTicket()).isNull();
+        assertThat(waiterStatus.getAdmissionTicket()).isNull();
+    }
+
+    @Test
+    @DisplayName("두 서버가 동시에 1000명 진입 -> Active 정확히 50명, 대기 순번 중복 없음")
+    void enterQueue_Concurrent_TwoNodes() throws InterruptedException {
+        // given
+        QueueServiceRedisImpl otherNode = new QueueServiceRedisImpl(redisTemplate, new QueuePolicy(), event -> {}, TICKET_SIGNER, 600_000L, LEASE);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(1000);
+        Set<String> activeTokens = ConcurrentHashMap.newKeySet();
+        Set<String> waitingTokens = ConcurrentHashMap.newKeySet();
+
+        // when
+        for (long userId = 1; userId <= 1000; userId++) {
+            QueueServiceRedisImpl node = userId % 2 == 0 ? queueService : otherNode;
+            long id = userId;
+            executor.submit(() -> {
+                try {
+                    QueueEnterResponse response = node.enterQueue(id);
+                    (response.getStatus() == QueueStatus.ACTIVE ? activeTokens : waitingTokens).add(response.getToken());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(activeTokens).hasSize(50);
+        assertThat(waitingTokens).hasSize(950);
+
+        Set<Integer> positions = ConcurrentHashMap.newKeySet();
+        for (String token : waitingTokens) {
+            positions.add(otherNode.getQueueStatus(token).getPosition());
+        }
+        assertThat(positions).hasSize(950);
+    }
+
+    private List<QueueEnterResponse> enterUsers(QueueService service, long firstUserId, int count) {
+        List<QueueEnterResponse> responses = new ArrayList<>();
+        for (long userId = firstUserId; userId < firstUserId + count; userId++) {
+            responses.add(service.enterQueue(userId));
+        }
+        return responses;
+    }
+}
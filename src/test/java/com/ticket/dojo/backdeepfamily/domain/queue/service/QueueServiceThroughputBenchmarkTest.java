@@ -0,0 +1,199 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.service;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.dto.response.QueueEnterResponse;
+import com.ticket.dojo.backdeepfamily.domain.queue.engine.QueueWriteBehind;
+import com.ticket.dojo.backdeepfamily.domain.queue.repository.QueueRepository;
+import com.ticket.dojo.backdeepfamily.domain.queue.ticket.AdmissionTicketSigner;
+import com.ticket.dojo.backdeepfamily.domain.user.entity.User;
+import com.ticket.dojo.backdeepfamily.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대기열 구현체 처리량 비교 (MySQL 기반 basic vs Redis)
+ *
+ * 실행: ./gradlew benchmark (일반 test 태스크에서는 제외)
+ * 시나리오 1: 동시 진입 N명 + 진입한 토큰마다 상태 조회 POLLS_PER_USER회
+ * 시나리오 2: 회차 오픈 진입 폭주 (요청마다 트랜잭션 basic vs 링 버퍼 + group commit memory)
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "queue.ticket.secret=benchmark-test-ticket-secret-0123456789")
+class QueueServiceThroughputBenchmarkTest {
+
+    private static final int USERS = 2000;
+    private static final int POLLS_PER_USER = 5;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private QueueService basicQueueService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QueueRepository queueRepository;
+
+    @Autowired
+    private AdmissionTicketSigner admissionTicketSigner;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private QueueServiceRedisImpl redisQueueService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        queueRepository.deleteAll();
+        userRepository.deleteAll();
+
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory("localhost", port);
+        connectionFactory.afterPropertiesSet();
+        redisQueueService = new QueueServiceRedisImpl(new StringRedisTemplate(connectionFactory), new QueuePolicy(), event -> {}, admissionTicketSigner, 600_000L, 30_000L);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        queueRepository.deleteAll();
+        userRepository.deleteAll();
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    @DisplayName("진입 + 상태 조회 처리량: basic vs redis")
+    void compareThroughput() throws Exception {
+        // given
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            userIds.add(userRepository.save(User.builder()
+                    .email("bench_" + i + "@test.com")
+                    .password("pw")
+                    .name("bench_" + i)
+                    .build()).getUserId());
+        }
+
+        // when
+        double basicOps = run(basicQueueService, userIds);
+        double redisOps = run(redisQueueService, userIds);
+
+        // then
+        System.out.printf("[queue benchmark] users=%d, polls/user=%d, threads=%d%n", USERS, POLLS_PER_USER, THREADS);
+        System.out.printf("[queue benchmark] basic : %,.0f ops/s%n", basicOps);
+        System.out.printf("[queue benchmark] redis : %,.0f ops/s (x%.1f)%n", redisOps, redisOps / basicOps);
+
+        assertThat(basicOps).isPositive();
+        assertThat(redisOps).isPositive();
+    }
+
+    @Test
+    @DisplayName("진입 폭주 처리량: basic(요청마다 INSERT) vs memory(링 버퍼 + group commit)")
+    void compareEnterBurst() throws Exception {
+        // given
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            userIds.add(userRepository.save(User.builder()
+                    .email("burst_" + i + "@test.com")
+                    .password("pw")
+                    .name("burst_" + i)
+                    .build()).getUserId());
+        }
+
+        QueueWriteBehind writeBehind = new QueueWriteBehind(queueRepository, jdbcTemplate, transactionTemplate,
+                new SimpleMeterRegistry(), 65536, 1000, 1L, 5, 200_000);
+        writeBehind.start();
+        QueueServiceMemoryImpl memoryQueueService = new QueueServiceMemoryImpl(queueRepository, new QueuePolicy(),
+                writeBehind, event -> {}, admissionTicketSigner, 50, 30_000L);
+
+        // when
+        double basicOps = runEnter(basicQueueService, userIds);
+        queueRepository.deleteAll();
+
+        long start = System.nanoTime();
+        double memoryOps = runEnter(memoryQueueService, userIds);
+        while (writeBehind.getPendingCount() > 0 || queueRepository.count() < USERS) {
+            Thread.sleep(1);
+        }
+        double memoryPersistedOps = USERS * 1_000_000_000.0 / (System.nanoTime() - start);
+        writeBehind.stop();
+
+        // then
+        System.out.printf("[enter burst] users=%d, threads=%d%n", USERS, THREADS);
+        System.out.printf("[enter burst] basic              : %,.0f enters/s%n", basicOps);
+        System.out.printf("[enter burst] memory (응답 기준)  : %,.0f enters/s (x%.1f)%n", memoryOps, memoryOps / basicOps);
+        System.out.printf("[enter burst] memory (DB 반영까지): %,.0f enters/s (x%.1f)%n", memoryPersistedOps, memoryPersistedOps / basicOps);
+
+        assertThat(queueRepository.count()).isEqualTo(USERS);
+    }
+
+    private double runEnter(QueueService queueService, List<Long> userIds) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (Long userId : userIds) {
+            futures.add(executor.submit(() -> queueService.enterQueue(userId)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        return userIds.size() * 1_000_000_000.0 / elapsed;
+    }
+
+    private double run(QueueService queueService, List<Long> userIds) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (Long userId : userIds) {
+            futures.add(executor.submit(() -> {
+                QueueEnterResponse response = queueService.enterQueue(userId);
+                for (int i = 0; i < POLLS_PER_USER; i++) {
+                    queueService.getQueueStatus(response.getToken());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        long operations = (long) userIds.size() * (1 + POLLS_PER_USER);
+        return operations * 1_000_000_000.0 / elapsed;
+    }
+}
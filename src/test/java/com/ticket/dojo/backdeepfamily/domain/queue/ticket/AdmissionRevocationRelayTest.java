@@ -0,0 +1,99 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.ticket;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.Queue;
+import com.ticket.dojo.backdeepfamily.domain.queue.event.QueueAdmissionRevokedEvent;
+import com.ticket.dojo.backdeepfamily.global.exception.AdmissionTicketException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdmissionRevocationRelay 단위 테스트")
+class AdmissionRevocationRelayTest {
+
+    private static final long TTL_MILLIS = 60_000L;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private final AdmissionTicketSigner signer = new AdmissionTicketSigner("admission-ticket-test-secret-0123456789", TTL_MILLIS);
+
+    @Test
+    @DisplayName("한 서버에서 회수한 토큰은 다른 서버에서도 거부")
+    void revokedOnOtherNode_Rejected() {
+        // given
+        AdmissionTicketVerifier verifierA = new AdmissionTicketVerifier(signer, TTL_MILLIS);
+        AdmissionTicketVerifier verifierB = new AdmissionTicketVerifier(signer, TTL_MILLIS);
+        AdmissionRevocationRelay relayA = new AdmissionRevocationRelay(redisTemplate, verifierA);
+        AdmissionRevocationRelay relayB = new AdmissionRevocationRelay(redisTemplate, verifierB);
+        String ticket = signer.issue("token-1", 7L, Queue.DEFAULT_PARTITION, System.currentTimeMillis());
+
+        // when
+        relayA.onRevoked(QueueAdmissionRevokedEvent.of(List.of("token-1", "token-2")));
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(AdmissionRevocationRelay.CHANNEL), published.capture());
+        relayB.onMessage(message(published.getValue()), null);
+
+        // then
+        assertThatThrownBy(() -> verifierB.verify(ticket, 7L))
+                .isInstanceOf(AdmissionTicketException.class)
+                .hasMessageContaining("회수");
+        assertThat(verifierB.getRevokedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전체 회수도 발신 시각 기준으로 전파, 자기가 보낸 메시지는 무시")
+    void revokeAll_PropagatedOnce() {
+        // given
+        AdmissionTicketVerifier verifierA = mock(AdmissionTicketVerifier.class);
+        AdmissionTicketVerifier verifierB = mock(AdmissionTicketVerifier.class);
+        AdmissionRevocationRelay relayA = new AdmissionRevocationRelay(redisTemplate, verifierA);
+        AdmissionRevocationRelay relayB = new AdmissionRevocationRelay(redisTemplate, verifierB);
+
+        // when
+        relayA.onRevoked(QueueAdmissionRevokedEvent.all());
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(AdmissionRevocationRelay.CHANNEL), published.capture());
+        relayA.onMessage(message(published.getValue()), null);
+        relayB.onMessage(message(published.getValue()), null);
+
+        // then
+        long sentAt = Long.parseLong(published.getValue().split("\\|")[1]);
+        verifyNoInteractions(verifierA);
+        verify(verifierB).revokeAll(sentAt);
+    }
+
+    @Test
+    @DisplayName("발행 실패는 삼키고 로컬 회수만 유지")
+    void publishFailure_Swallowed() {
+        // given
+        AdmissionRevocationRelay relay = new AdmissionRevocationRelay(redisTemplate, new AdmissionTicketVerifier(signer, TTL_MILLIS));
+        given(redisTemplate.convertAndSend(anyString(), anyString())).willThrow(new IllegalStateException("redis down"));
+
+        // when
+        relay.onRevoked(QueueAdmissionRevokedEvent.of(List.of("token-1")));
+
+        // then
+        verify(redisTemplate, times(1)).convertAndSend(anyString(), anyString());
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(AdmissionRevocationRelay.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
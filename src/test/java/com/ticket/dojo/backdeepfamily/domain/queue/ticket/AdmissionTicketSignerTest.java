@@ -0,0 +1,105 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.ticket;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.Queue;
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.QueueStatus;
+import com.ticket.dojo.backdeepfamily.global.exception.AdmissionTicketException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AdmissionTicketSigner 단위 테스트")
+class AdmissionTicketSignerTest {
+
+    private static final long TTL_MILLIS = 60_000L;
+
+    private final AdmissionTicketSigner signer = new AdmissionTicketSigner("admission-ticket-test-secret-0123456789", TTL_MILLIS);
+
+    @Test
+    @DisplayName("발급한 입장권은 메모리에서 검증되고 내용이 그대로 복원됨")
+    void issueAndVerify() {
+        // given
+        String ticket = signer.issue("token-1", 7L, Queue.DEFAULT_PARTITION, 1_000L, 1_500L);
+
+        // when
+        AdmissionTicket verified = signer.verify(ticket, 7L, 2_000L);
+
+        // then
+        assertThat(verified.getToken()).isEqualTo("token-1");
+        assertThat(verified.getUserId()).isEqualTo(7L);
+        assertThat(verified.getPartitionKey()).isEqualTo(Queue.DEFAULT_PARTITION);
+        assertThat(verified.getStatusEpochMillis()).isEqualTo(1_000L);
+        assertThat(verified.getIssuedAtMillis()).isEqualTo(1_500L);
+    }
+
+    @Test
+    @DisplayName("서명 키가 없거나 JWT 키와 같으면 생성 실패 (기동 실패)")
+    void secretMustBeSeparate() {
+        String jwtSecret = "jwt-secret-0123456789-0123456789";
+
+        assertThatThrownBy(() -> new AdmissionTicketSigner("", jwtSecret, TTL_MILLIS))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new AdmissionTicketSigner(jwtSecret, jwtSecret, TTL_MILLIS))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(new AdmissionTicketSigner("admission-ticket-test-secret-0123456789", jwtSecret, TTL_MILLIS)
+                .issue("token-1", 7L, Queue.DEFAULT_PARTITION, 1_000L)).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("내용이나 서명을 바꾸면 검증 실패")
+    void tampered() {
+        // given
+        String ticket = signer.issue("token-1", 7L, Queue.DEFAULT_PARTITION, 1_000L, 1_500L);
+        String forgedPayload = signer.issue("token-2", 7L, Queue.DEFAULT_PARTITION, 1_000L, 1_500L).split("\\.")[0];
+        String tampered = forgedPayload + ticket.substring(ticket.indexOf('.'));
+
+        // when & then
+        assertThatThrownBy(() -> signer.verify(tampered, 7L, 2_000L))
+                .isInstanceOf(AdmissionTicketException.class);
+        assertThatThrownBy(() -> new AdmissionTicketSigner("another-secret-0123456789", TTL_MILLIS).verify(ticket, 7L, 2_000L))
+                .isInstanceOf(AdmissionTicketException.class);
+        assertThatThrownBy(() -> signer.verify("not-a-ticket", 7L, 2_000L))
+                .isInstanceOf(AdmissionTicketException.class);
+    }
+
+    @Test
+    @DisplayName("다른 사용자가 제출하거나 입장 유효 시간이 지나면 검증 실패")
+    void wrongUserOrExpired() {
+        // given
+        String ticket = signer.issue("token-1", 7L, Queue.DEFAULT_PARTITION, 1_000L, 1_500L);
+
+        // when & then
+        assertThatThrownBy(() -> signer.verify(ticket, 8L, 2_000L))
+                .isInstanceOf(AdmissionTicketException.class);
+        assertThatThrownBy(() -> signer.verify(ticket, 7L, 1_000L + TTL_MILLIS))
+                .isInstanceOf(AdmissionTicketException.class);
+    }
+
+    @Test
+    @DisplayName("회차 파티션 입장권은 그 회차에서만 사용 가능, 기본 파티션 입장권은 회차 제한 없음")
+    void checkRound() {
+        // given
+        AdmissionTicket roundTicket = signer.verify(signer.issue("token-1", 7L, Queue.roundPartition(3L), 1_000L, 1_500L), 7L, 2_000L);
+        AdmissionTicket defaultTicket = signer.verify(signer.issue("token-2", 7L, Queue.DEFAULT_PARTITION, 1_000L, 1_500L), 7L, 2_000L);
+
+        // when & then
+        roundTicket.checkRound(3L);
+        assertThatThrownBy(() -> roundTicket.checkRound(4L))
+                .isInstanceOf(AdmissionTicketException.class)
+                .hasMessageContaining("회차");
+        defaultTicket.checkRound(4L);
+    }
+
+    @Test
+    @DisplayName("ACTIVE가 아니면 입장권을 발급하지 않음")
+    void issueIfActive() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(signer.issueIfActive(QueueStatus.WAITING, "token-1", 7L, Queue.DEFAULT_PARTITION, null)).isNull();
+        assertThat(signer.issueIfActive(QueueStatus.EXPIRED, "token-1", 7L, Queue.DEFAULT_PARTITION, now)).isNull();
+        assertThat(signer.issueIfActive(QueueStatus.ACTIVE, "token-1", 7L, Queue.DEFAULT_PARTITION, now)).isNotNull();
+    }
+}
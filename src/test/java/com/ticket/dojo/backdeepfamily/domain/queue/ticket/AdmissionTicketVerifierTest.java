@@ -0,0 +1,98 @@
+package com.ticket.dojo.backdeepfamily.domain.queue.ticket;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.Queue;
+import com.ticket.dojo.backdeepfamily.domain.queue.event.QueueAdmissionRevokedEvent;
+import com.ticket.dojo.backdeepfamily.global.exception.AdmissionTicketException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AdmissionTicketVerifier 단위 테스트")
+class AdmissionTicketVerifierTest {
+
+    private static final long TTL_MILLIS = 60_000L;
+
+    private final AdmissionTicketSigner signer = new AdmissionTicketSigner("admission-ticket-test-secret-0123456789", TTL_MILLIS);
+    private final AdmissionTicketVerifier verifier = new AdmissionTicketVerifier(signer, TTL_MILLIS);
+
+    @Test
+    @DisplayName("만료 / lease 만료로 회수된 토큰의 입장권은 TTL 전이라도 거부")
+    void revokedToken_Rejected() {
+        // given
+        long now = System.currentTimeMillis();
+        String revoked = signer.issue("token-1", 7L, Queue.DEFAULT_PARTITION, now);
+        String alive = signer.issue("token-2", 8L, Queue.DEFAULT_PARTITION, now);
+
+        // when
+        verifier.onRevoked(QueueAdmissionRevokedEvent.of(List.of("token-1")));
+
+        // then
+        assertThatThrownBy(() -> verifier.verify(revoked, 7L))
+                .isInstanceOf(AdmissionTicketException.class)
+                .hasMessageContaining("회수");
+        assertThat(verifier.verify(alive, 8L).getToken()).isEqualTo("token-2");
+    }
+
+    @Test
+    @DisplayName("회차 초기화 시 그 전에 ACTIVE가 된 입장권은 모두 거부, 이후 입장권은 통과")
+    void revokeAll_RejectsEarlierEpochs() throws InterruptedException {
+        // given
+        String before = signer.issue("token-1", 7L, Queue.DEFAULT_PARTITION, System.currentTimeMillis() - 1);
+
+        // when
+        verifier.onRevoked(QueueAdmissionRevokedEvent.all());
+        Thread.sleep(5);
+        String after = signer.issue("token-2", 7L, Queue.DEFAULT_PARTITION, System.currentTimeMillis());
+
+        // then
+        assertThatThrownBy(() -> verifier.verify(before, 7L))
+                .isInstanceOf(AdmissionTicketException.class);
+        assertThat(verifier.verify(after, 7L).getToken()).isEqualTo("token-2");
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 전체 회수는 그 뒤에 회수된 토큰 기록을 지우지 않음")
+    void revokeAll_KeepsLaterRevocations() {
+        // given
+        long now = System.currentTimeMillis();
+        String ticket = signer.issue("token-1", 7L, Queue.DEFAULT_PARTITION, now);
+        verifier.revoke(List.of("token-1"), now);
+
+        // when
+        verifier.revokeAll(now - 10);
+
+        // then
+        assertThatThrownBy(() -> verifier.verify(ticket, 7L))
+                .isInstanceOf(AdmissionTicketException.class);
+        assertThat(verifier.getRevokedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서명 검증 실패는 회수 여부와 관계없이 거부")
+    void forged_Rejected() {
+        // when & then
+        assertThatThrownBy(() -> verifier.verify("not-a-ticket", 7L))
+                .isInstanceOf(AdmissionTicketException.class);
+        assertThatThrownBy(() -> verifier.verify(null, 7L))
+                .isInstanceOf(AdmissionTicketException.class);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 회수 기록은 정리되어 회수 목록이 계속 커지지 않음")
+    void purgeExpired() throws InterruptedException {
+        // given
+        AdmissionTicketVerifier shortTtl = new AdmissionTicketVerifier(signer, 0L);
+        shortTtl.onRevoked(QueueAdmissionRevokedEvent.of(List.of("token-1", "token-2")));
+        Thread.sleep(5);
+
+        // when
+        shortTtl.purgeExpired();
+
+        // then
+        assertThat(shortTtl.getRevokedCount()).isZero();
+    }
+}
@@ -0,0 +1,78 @@
+package com.ticket.dojo.backdeepfamily.domain.ticketing.catalog;
+
+import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Seat;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.repository.SeatRepository;
+import com.ticket.dojo.backdeepfamily.global.exception.socket.SeatNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatCatalog 단위 테스트")
+class SeatCatalogTest {
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Test
+    @DisplayName("좌석 ID 기준 배열 index와 좌석 번호 조회, 빈 ID는 없는 좌석")
+    void load_DenseIndex() {
+        // given
+        SeatCatalog catalog = new SeatCatalog(seatRepository);
+
+        // when
+        catalog.load(List.of(seat(12L, "A3"), seat(10L, "A1"), seat(14L, "A5")));
+
+        // then
+        assertThat(catalog.size()).isEqualTo(3);
+        assertThat(catalog.capacity()).isEqualTo(5);
+        assertThat(catalog.indexOf(10L)).isZero();
+        assertThat(catalog.indexOf(14L)).isEqualTo(4);
+        assertThat(catalog.seatIdAt(2)).isEqualTo(12L);
+        assertThat(catalog.getSeatNumber(12L)).isEqualTo("A3");
+        assertThat(catalog.getHoldingSeat(14L).getSeatNumber()).isEqualTo("A5");
+        assertThat(catalog.getSeatIds()).containsExactly(10L, 12L, 14L);
+        assertThat(catalog.contains(11L)).isFalse();
+        assertThatThrownBy(() -> catalog.indexOf(11L))
+                .isInstanceOf(SeatNotFoundException.class);
+        assertThatThrownBy(() -> catalog.indexOf(99L))
+                .isInstanceOf(SeatNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("재적재 시 배열 배치가 바뀐 경우에만 변경으로 판단")
+    void reload_LayoutChanged() {
+        // given
+        SeatCatalog catalog = new SeatCatalog(seatRepository);
+        given(seatRepository.findAll())
+                .willReturn(List.of(seat(1L, "A1"), seat(2L, "A2")))
+                .willReturn(List.of(seat(1L, "B1"), seat(2L, "B2")))
+                .willReturn(List.of(seat(1L, "B1"), seat(2L, "B2"), seat(3L, "B3")));
+
+        // when
+        boolean first = catalog.reload();
+        boolean renamed = catalog.reload();
+        boolean added = catalog.reload();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(renamed).isFalse();
+        assertThat(added).isTrue();
+        assertThat(catalog.getSeatNumber(3L)).isEqualTo("B3");
+    }
+
+    private Seat seat(Long id, String seatNumber) {
+        return Seat.builder()
+                .id(id)
+                .seatNumber(seatNumber)
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.ticket.dojo.backdeepfamily.domain.ticketing.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatHoldSchemaValidator 단위 테스트")
+class SeatHoldSchemaValidatorTest {
+
+    @Mock
+    private DatabaseMetaData metaData;
+
+    @Mock
+    private ResultSet indexes;
+
+    @Test
+    @DisplayName("예전 seat_id 단독 유니크 인덱스가 남아 있으면 찾아냄")
+    void staleSeatOnlyIndex_Found() throws SQLException {
+        // given
+        givenUniqueIndexes(
+                new String[]{"PRIMARY", "id"},
+                new String[]{"UK_old_seat", "seat_id"},
+                new String[]{"uk_reservation_seat_seat_round", "seat_id"},
+                new String[]{"uk_reservation_seat_seat_round", "sequence_num"});
+
+        // when
+        List<String> stale = SeatHoldSchemaValidator.findSeatOnlyUniqueIndexes(metaData, "ticketdojo", null);
+
+        // then
+        assertThat(stale).containsExactly("UK_old_seat");
+    }
+
+    @Test
+    @DisplayName("회차 단위 유니크만 있으면 통과")
+    void roundUniqueOnly_Passes() throws SQLException {
+        // given
+        givenUniqueIndexes(
+                new String[]{"PRIMARY", "id"},
+                new String[]{"uk_reservation_seat_seat_round", "seat_id"},
+                new String[]{"uk_reservation_seat_seat_round", "sequence_num"});
+
+        // when
+        List<String> stale = SeatHoldSchemaValidator.findSeatOnlyUniqueIndexes(metaData, "ticketdojo", null);
+
+        // then
+        assertThat(stale).isEmpty();
+    }
+
+    private void givenUniqueIndexes(String[]... rows) throws SQLException {
+        given(metaData.storesUpperCaseIdentifiers()).willReturn(false);
+        given(metaData.getIndexInfo("ticketdojo", null, SeatHoldSchemaValidator.TABLE, true, false)).willReturn(indexes);
+
+        // 행마다 (INDEX_NAME, COLUMN_NAME)
+        int[] cursor = {-1};
+        given(indexes.next()).willAnswer(invocation -> ++cursor[0] < rows.length);
+        given(indexes.getString("INDEX_NAME")).willAnswer(invocation -> rows[cursor[0]][0]);
+        given(indexes.getString("COLUMN_NAME")).willAnswer(invocation -> rows[cursor[0]][1]);
+    }
+}
@@ -0,0 +1,168 @@
+package com.ticket.dojo.backdeepfamily.domain.ticketing.engine;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatHoldWriteBehind 단위 테스트")
+class SeatHoldWriteBehindTest {
+
+    private static final int MAX_ATTEMPTS = 2;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SeatHoldWriteBehind writeBehind;
+
+    // 반영된 INSERT / DELETE 좌석 (트랜잭션이 성공한 것만)
+    private final List<Long> insertedSeatIds = new ArrayList<>();
+    private final List<Long> deletedSeatIds = new ArrayList<>();
+
+    // DELETE가 실패하는 좌석
+    private long failingDeleteSeatId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        writeBehind = new SeatHoldWriteBehind(jdbcTemplate, transactionTemplate, meterRegistry,
+                4, 100, 1L, MAX_ATTEMPTS, 2);
+    }
+
+    @Test
+    @DisplayName("저장할 수 없는 변경만 남기고, 같은 좌석의 뒤 변경은 순서대로 미룸")
+    void flush_IsolatesFailingSeatInOrder() {
+        // given
+        failingDeleteSeatId = 11L;
+        runTransactions();
+        writeBehind.markDirty(SeatHoldChange.release(1L, 11L, 7L));
+        writeBehind.markDirty(SeatHoldChange.hold(1L, 10L, 100L, LocalDateTime.now()));
+        writeBehind.markDirty(SeatHoldChange.hold(1L, 11L, 8L, LocalDateTime.now()));
+
+        // when
+        int written = writeBehind.flush();
+
+        // then
+        assertThat(written).isEqualTo(1);
+        assertThat(insertedSeatIds).containsExactly(10L);
+        assertThat(writeBehind.getPendingCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("max-attempts번 실패한 변경은 dead letter로 남기고 버림")
+    void flush_DeadLettersAfterMaxAttempts() {
+        // given
+        failingDeleteSeatId = 11L;
+        runTransactions();
+        writeBehind.markDirty(SeatHoldChange.release(1L, 11L, 7L));
+
+        // when
+        writeBehind.flush();
+        writeBehind.flush();
+
+        // then
+        assertThat(writeBehind.getPendingCount()).isZero();
+        assertThat(deletedSeatIds).isEmpty();
+        assertThat(meterRegistry.counter(SeatHoldWriteBehind.DEAD_LETTER_METRIC).count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("일시적인 실패는 횟수를 세지 않고 배치 그대로 재시도")
+    void flush_TransientFailureRetriesWholeBatch() {
+        // given
+        willAnswer(invocation -> {
+            throw new CannotAcquireLockException("lock wait timeout");
+        }).given(transactionTemplate).executeWithoutResult(any());
+        writeBehind.markDirty(SeatHoldChange.hold(1L, 10L, 100L, LocalDateTime.now()));
+        writeBehind.markDirty(SeatHoldChange.hold(1L, 11L, 100L, LocalDateTime.now()));
+
+        // when
+        for (int i = 0; i < MAX_ATTEMPTS + 1; i++) {
+            assertThat(writeBehind.flush()).isZero();
+        }
+
+        // then
+        assertThat(writeBehind.getPendingCount()).isEqualTo(2);
+        assertThat(meterRegistry.counter(SeatHoldWriteBehind.DEAD_LETTER_METRIC).count()).isZero();
+    }
+
+    @Test
+    @DisplayName("overflow가 한도에 닿으면 포화, 반영하면 해소")
+    void isSaturated_OverflowLimit() {
+        // given
+        runTransactions();
+        for (long seatId = 0; seatId < 6; seatId++) {
+            writeBehind.markDirty(SeatHoldChange.hold(1L, seatId, 100L, LocalDateTime.now()));
+        }
+        assertThat(writeBehind.isSaturated()).isTrue();
+
+        // when
+        writeBehind.flush();
+
+        // then
+        assertThat(writeBehind.isSaturated()).isFalse();
+        assertThat(writeBehind.getPendingCount()).isZero();
+        assertThat(insertedSeatIds).hasSize(6);
+    }
+
+    /**
+     * executeWithoutResult를 그대로 실행하고, 실패한 트랜잭션의 INSERT / DELETE 기록은 되돌림
+     */
+    private void runTransactions() {
+        willAnswer(invocation -> {
+            int inserted = insertedSeatIds.size();
+            int deleted = deletedSeatIds.size();
+            try {
+                invocation.<Consumer<Object>>getArgument(0).accept(null);
+            } catch (RuntimeException e) {
+                insertedSeatIds.subList(inserted, insertedSeatIds.size()).clear();
+                deletedSeatIds.subList(deleted, deletedSeatIds.size()).clear();
+                throw e;
+            }
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+
+        given(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any())).willAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            Collection<SeatHoldChange> changes = invocation.getArgument(1);
+            if (sql.startsWith("DELETE")) {
+                if (changes.stream().anyMatch(change -> change.getSeatId() == failingDeleteSeatId)) {
+                    throw new DataIntegrityViolationException("Cannot delete seat " + failingDeleteSeatId);
+                }
+                changes.forEach(change -> deletedSeatIds.add(change.getSeatId()));
+            } else {
+                changes.forEach(change -> insertedSeatIds.add(change.getSeatId()));
+            }
+            int[] counts = new int[changes.size()];
+            Arrays.fill(counts, 1);
+            return new int[][]{counts};
+        });
+    }
+}
@@ -0,0 +1,312 @@
+package com.ticket.dojo.backdeepfamily.domain.ticketing.engine;
+
+import com.ticket.dojo.backdeepfamily.domain.ticketing.catalog.SeatCatalog;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.SeatReleaseResult;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Reservation;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Seat;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.repository.ReservationSeatRepository;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.repository.SeatRepository;
+import com.ticket.dojo.backdeepfamily.global.exception.ServerBusyException;
+import com.ticket.dojo.backdeepfamily.global.exception.socket.RoundClosedException;
+import com.ticket.dojo.backdeepfamily.global.exception.socket.SeatAlreadyHeldException;
+import com.ticket.dojo.backdeepfamily.global.exception.socket.SeatNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatStateEngine 단위 테스트")
+class SeatStateEngineTest {
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private ReservationSeatRepository reservationSeatRepository;
+
+    @Mock
+    private SeatHoldWriteBehind seatHoldWriteBehind;
+
+    private SeatCatalog seatCatalog;
+    private SeatHoldTimer seatHoldTimer;
+    private RoundEpoch roundEpoch;
+    private SeatStateEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        seatCatalog = new SeatCatalog(seatRepository);
+        seatCatalog.load(List.of(seat(10L, "A1"), seat(11L, "A2"), seat(12L, "A3")));
+        seatHoldTimer = new SeatHoldTimer(50);
+        roundEpoch = new RoundEpoch(0L);
+        engine = new SeatStateEngine(seatCatalog, reservationSeatRepository, seatHoldWriteBehind, seatHoldTimer, roundEpoch);
+    }
+
+    @Test
+    @DisplayName("회차마다 점유 상태가 독립적")
+    void hold_RoundsIndependent() {
+        // when
+        engine.hold(1L, 10L, 100L);
+        engine.hold(2L, 10L, 200L);
+
+        // then
+        assertThatThrownBy(() -> engine.hold(1L, 10L, 300L))
+                .isInstanceOf(SeatAlreadyHeldException.class);
+        assertThat(engine.getHolder(1L, 10L)).isEqualTo(100L);
+        assertThat(engine.getHolder(2L, 10L)).isEqualTo(200L);
+    }
+
+    @Test
+    @DisplayName("다른 예약의 좌석은 해제되지 않음")
+    void release_OtherReservation() {
+        // given
+        engine.hold(1L, 10L, 100L);
+
+        // when
+        SeatReleaseResult result = engine.release(1L, 10L, 200L);
+
+        // then
+        assertThat(result.isReleased()).isFalse();
+        assertThat(result.getVersion()).isEqualTo(1L);
+        assertThat(engine.getHolder(1L, 10L)).isEqualTo(100L);
+        verify(seatHoldWriteBehind, times(1)).markDirty(any());
+    }
+
+    @Test
+    @DisplayName("예약 취소 시 해당 예약 좌석만 모두 해제하고 write-behind로 전달")
+    void releaseAll_ReservationOnly() {
+        // given
+        engine.hold(1L, 10L, 100L);
+        engine.hold(1L, 11L, 200L);
+        engine.hold(1L, 12L, 100L);
+
+        // when
+        SeatReleaseResult result = engine.releaseAll(1L, 100L);
+
+        // then
+        assertThat(result.getSeatIds()).containsExactly(10L, 12L);
+        assertThat(engine.getHeldSeatIds(1L)).containsExactly(11L);
+
+        ArgumentCaptor<SeatHoldChange> captor = ArgumentCaptor.forClass(SeatHoldChange.class);
+        verify(seatHoldWriteBehind, times(5)).markDirty(captor.capture());
+        assertThat(captor.getAllValues().subList(3, 5))
+                .allMatch(change -> !change.isHold() && change.getReservationId() == 100L);
+    }
+
+    @Test
+    @DisplayName("실제 변경마다 version 1 증가, 스냅샷은 같은 version 기준")
+    void snapshot_Version() {
+        // given
+        SeatMapSnapshot empty = engine.snapshot(1L);
+        long hold = engine.holdAll(1L, List.of(10L, 11L), 100L);
+        SeatMapSnapshot afterHold = engine.snapshot(1L);
+
+        // when
+        assertThatThrownBy(() -> engine.holdAll(1L, List.of(12L, 11L), 200L))
+                .isInstanceOf(SeatAlreadyHeldException.class);
+        SeatReleaseResult noop = engine.release(1L, 12L, 100L);
+        SeatReleaseResult release = engine.release(1L, 10L, 100L);
+        SeatMapSnapshot afterRelease = engine.snapshot(1L);
+
+        // then
+        assertThat(empty.getVersion()).isZero();
+        assertThat(hold).isEqualTo(1L);
+        assertThat(afterHold.getVersion()).isEqualTo(1L);
+        assertThat(afterHold.getHeldSeatIds()).containsExactly(10L, 11L);
+        assertThat(engine.snapshot(1L)).isNotSameAs(afterHold).isSameAs(afterRelease);
+        assertThat(noop.getVersion()).isEqualTo(1L);
+        assertThat(release.getVersion()).isEqualTo(2L);
+        assertThat(afterRelease.getVersion()).isEqualTo(2L);
+        assertThat(afterRelease.getHeldSeatIds()).containsExactly(11L);
+        assertThat(engine.getHolder(1L, 12L)).isZero();
+    }
+
+    @Test
+    @DisplayName("점유하면 만료 타이머 등록, 해제하면 취소, 결제 진입 시 만료 시각 연장")
+    void hold_ExpiryTimer() {
+        // given
+        long now = System.currentTimeMillis();
+        engine.holdAll(1L, List.of(10L, 11L), 100L);
+        engine.release(1L, 11L, 100L);
+
+        // when
+        List<Long> refreshed = engine.refreshHolds(1L, 100L, now + 60_000);
+
+        // then
+        assertThat(refreshed).containsExactly(10L);
+        assertThat(seatHoldTimer.size()).isEqualTo(1);
+        assertThat(seatHoldTimer.advance(now + 30_000)).isEmpty();
+        assertThat(seatHoldTimer.advance(now + 60_100)).containsExactly(new SeatHoldKey(1L, 10L, 100L));
+    }
+
+    @Test
+    @DisplayName("기동 시 reservation_seat로 점유 상태와 예약 회차 복원")
+    void restore_FromTable() {
+        // given
+        given(reservationSeatRepository.findHoldKeys()).willReturn(List.of(
+                new Object[]{11L, 100L, 7L, LocalDateTime.now().plusSeconds(10), 1L, Reservation.ReservationState.PENDING},
+                new Object[]{99L, 200L, 7L, LocalDateTime.now().plusSeconds(10), 2L, Reservation.ReservationState.PENDING}));
+
+        // when
+        engine.restore();
+
+        // then
+        assertThat(engine.getHeldSeatIds(7L)).containsExactly(11L);
+        assertThat(engine.getHolder(7L, 11L)).isEqualTo(100L);
+        assertThat(engine.findRound(100L)).isEqualTo(7L);
+        assertThat(engine.findReservation(100L).isOwnedBy(1L)).isTrue();
+        assertThat(engine.findReservation(100L).isHoldable()).isTrue();
+        assertThat(seatHoldTimer.size()).isEqualTo(1);
+        assertThatThrownBy(() -> engine.hold(7L, 11L, 300L))
+                .isInstanceOf(SeatAlreadyHeldException.class);
+        verify(seatHoldWriteBehind, never()).markDirty(any());
+    }
+
+    @Test
+    @DisplayName("좌석 배치 교체 시 남은 점유를 모두 저장한 뒤 새 배치로 재구성")
+    void reloadLayout_FlushThenRestore() {
+        // given
+        engine.hold(1L, 10L, 100L);
+        given(seatHoldWriteBehind.flushAll()).willReturn(true);
+        given(reservationSeatRepository.findHoldKeys()).willReturn(List.<Object[]>of(
+                new Object[]{10L, 100L, 1L, LocalDateTime.now().plusSeconds(10), 1L, Reservation.ReservationState.PENDING}));
+
+        // when
+        boolean rebuilt = engine.reloadLayout(() -> seatCatalog.load(
+                List.of(seat(10L, "A1"), seat(11L, "A2"), seat(12L, "A3"), seat(13L, "A4"))));
+
+        // then
+        assertThat(rebuilt).isTrue();
+        assertThat(engine.getHolder(1L, 10L)).isEqualTo(100L);
+        engine.hold(1L, 13L, 200L);
+        assertThat(engine.getHeldSeatIds(1L)).containsExactly(10L, 13L);
+
+        InOrder inOrder = inOrder(seatHoldWriteBehind, reservationSeatRepository);
+        inOrder.verify(seatHoldWriteBehind).flushAll();
+        inOrder.verify(reservationSeatRepository).findHoldKeys();
+    }
+
+    @Test
+    @DisplayName("남은 점유를 저장하지 못하면 배치를 바꾸지 않고 중단")
+    void reloadLayout_FlushFailed() {
+        // given
+        engine.hold(1L, 10L, 100L);
+        given(seatHoldWriteBehind.flushAll()).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> engine.reloadLayout(() -> seatCatalog.load(List.of(seat(10L, "A1"), seat(13L, "A4")))))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(engine.getHolder(1L, 10L)).isEqualTo(100L);
+        assertThatThrownBy(() -> engine.hold(1L, 13L, 200L))
+                .isInstanceOf(SeatNotFoundException.class);
+        verify(reservationSeatRepository, never()).findHoldKeys();
+    }
+
+    @Test
+    @DisplayName("배치 교체 중 들어온 점유는 교체가 끝난 뒤 새 배치에 반영")
+    void reloadLayout_BlocksHolds() throws Exception {
+        // given
+        given(seatHoldWriteBehind.flushAll()).willReturn(true);
+        given(reservationSeatRepository.findHoldKeys()).willReturn(List.of());
+        CompletableFuture<Long> concurrentHold = new CompletableFuture<>();
+
+        // when
+        engine.reloadLayout(() -> {
+            CompletableFuture.runAsync(() -> concurrentHold.complete(engine.hold(1L, 13L, 200L)));
+            // 교체가 끝나기 전에는 점유가 진행되지 않음
+            assertThatThrownBy(() -> concurrentHold.get(100, TimeUnit.MILLISECONDS))
+                    .isInstanceOf(TimeoutException.class);
+            return seatCatalog.load(List.of(seat(10L, "A1"), seat(11L, "A2"), seat(12L, "A3"), seat(13L, "A4")));
+        });
+
+        // then
+        assertThat(concurrentHold.get(1, TimeUnit.SECONDS)).isEqualTo(1L);
+        assertThat(engine.getHolder(1L, 13L)).isEqualTo(200L);
+    }
+
+    @Test
+    @DisplayName("새 회차 시작 시 지난 회차만 제거, 지난 회차 타이머가 만료돼도 해제 없음")
+    void evictRoundsBefore_PastRoundsOnly() {
+        // given
+        engine.registerReservation(100L, 1L, 1L);
+        engine.registerReservation(200L, 2L, 2L);
+        engine.hold(1L, 10L, 100L);
+        engine.hold(2L, 10L, 200L);
+
+        // when
+        int evicted = engine.evictRoundsBefore(2L);
+
+        // then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(engine.getHeldSeatIds(1L)).isEmpty();
+        assertThat(engine.findRound(100L)).isNull();
+        assertThat(engine.getHolder(2L, 10L)).isEqualTo(200L);
+        assertThat(engine.findRound(200L)).isEqualTo(2L);
+        assertThat(engine.release(1L, 10L, 100L).isReleased()).isFalse();
+
+        ArgumentCaptor<SeatHoldChange> captor = ArgumentCaptor.forClass(SeatHoldChange.class);
+        verify(seatHoldWriteBehind, times(2)).markDirty(captor.capture());
+        assertThat(captor.getAllValues()).extracting(SeatHoldChange::getSequenceNum).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("회차 전환은 앞으로만 한 번 성공, 종료된 회차에는 점유 불가")
+    void hold_ClosedRound() {
+        // given
+        engine.hold(1L, 10L, 100L);
+
+        // when
+        Long previous = roundEpoch.advanceTo(2L);
+        Long again = roundEpoch.advanceTo(2L);
+        Long backwards = roundEpoch.advanceTo(1L);
+        engine.evictRoundsBefore(2L);
+
+        // then
+        assertThat(previous).isEqualTo(0L);
+        assertThat(again).isNull();
+        assertThat(backwards).isNull();
+        assertThat(engine.currentRound()).isEqualTo(2L);
+        assertThatThrownBy(() -> engine.hold(1L, 11L, 100L))
+                .isInstanceOf(RoundClosedException.class);
+        assertThat(engine.getHeldSeatIds(1L)).isEmpty();
+        assertThat(engine.hold(2L, 11L, 200L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("DB 반영이 밀려 포화되면 새 점유는 거절하고 해제는 받음")
+    void hold_RejectedWhenWriteBehindSaturated() {
+        // given
+        engine.hold(1L, 10L, 100L);
+        given(seatHoldWriteBehind.isSaturated()).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> engine.hold(1L, 11L, 200L))
+                .isInstanceOf(ServerBusyException.class);
+        assertThat(engine.release(1L, 10L, 100L).isReleased()).isTrue();
+        assertThat(engine.getHeldSeatIds(1L)).isEmpty();
+        verify(seatHoldWriteBehind, times(2)).markDirty(any());
+    }
+
+    private Seat seat(Long id, String seatNumber) {
+        return Seat.builder()
+                .id(id)
+                .seatNumber(seatNumber)
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.ticket.dojo.backdeepfamily.domain.ticketing.scheduler;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.service.QueueService;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.RoundEpoch;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.SeatStateEngine;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Reservation;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.notification.SeatStatusPublisher;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.repository.ReservationSeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoundResetScheduler 단위 테스트")
+class RoundResetSchedulerTest {
+
+    private static final int CHUNK = 2;
+
+    @Mock
+    private ReservationSeatRepository reservationSeatRepository;
+
+    @Mock
+    private QueueService queueService;
+
+    @Mock
+    private SeatStateEngine seatStateEngine;
+
+    @Mock
+    private SeatStatusPublisher seatStatusPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private RoundResetScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new RoundResetScheduler(reservationSeatRepository, queueService, seatStateEngine,
+                new RoundEpoch(7L), seatStatusPublisher, transactionTemplate, CHUNK);
+    }
+
+    @Test
+    @DisplayName("회차 전환 시 점유가 없었어도 대기열은 항상 회차 단위로 닫음 (전체 초기화 없음)")
+    void startRound_AlwaysClosesRound() {
+        // given
+        given(seatStateEngine.evictRoundsBefore(8L)).willReturn(0);
+
+        // when
+        boolean started = scheduler.startRound(8L);
+
+        // then
+        assertThat(started).isTrue();
+        verify(queueService).closeRound(8L);
+        verify(queueService, never()).clearQueue();
+    }
+
+    @Test
+    @DisplayName("이미 전환된 회차는 다시 닫지 않음")
+    void startRound_SameRoundOnce() {
+        // given
+        scheduler.startRound(8L);
+
+        // when
+        boolean started = scheduler.startRound(8L);
+
+        // then
+        assertThat(started).isFalse();
+        verify(queueService, times(1)).closeRound(anyLong());
+    }
+
+    @Test
+    @DisplayName("대기열 정리 실패는 회차 전환을 막지 않음")
+    void startRound_CloseFailureSwallowed() {
+        // given
+        willThrow(new IllegalStateException("db down")).given(queueService).closeRound(8L);
+
+        // when
+        boolean started = scheduler.startRound(8L);
+
+        // then
+        assertThat(started).isTrue();
+        verify(seatStatusPublisher).roundStarted(7L, 8L);
+    }
+
+    @Test
+    @DisplayName("지난 회차 좌석 행과 회차 시작 전에 만료된 대기열 행을 chunk 단위로 정리")
+    void purgePastRounds_SeatsAndExpiredQueues() {
+        // given
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        given(reservationSeatRepository.deleteRoundsBefore(8L, CHUNK)).willReturn(2, 1);
+        given(queueService.purgeExpired(Reservation.startOf(8L), CHUNK)).willReturn(2, 2, 0);
+
+        // when
+        int purged = scheduler.purgePastRounds(8L);
+
+        // then
+        assertThat(purged).isEqualTo(7);
+        verify(reservationSeatRepository, times(2)).deleteRoundsBefore(8L, CHUNK);
+        verify(queueService, times(3)).purgeExpired(Reservation.startOf(8L), CHUNK);
+    }
+}
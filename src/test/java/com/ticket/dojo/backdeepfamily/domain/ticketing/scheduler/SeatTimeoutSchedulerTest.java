@@ -0,0 +1,178 @@
+package com.ticket.dojo.backdeepfamily.domain.ticketing.scheduler;
+
+import com.ticket.dojo.backdeepfamily.domain.ticketing.catalog.SeatCatalog;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.SeatReleaseResult;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.SeatTimeoutNotification;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.RoundEpoch;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.SeatHoldTimer;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.SeatHoldWriteBehind;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.SeatStateEngine;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Reservation;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.ReservationSeat;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Seat;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.notification.SeatStatusPublisher;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.repository.ReservationRepository;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.repository.ReservationSeatRepository;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.repository.SeatRepository;
+import com.ticket.dojo.backdeepfamily.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatTimeoutScheduler 단위 테스트")
+class SeatTimeoutSchedulerTest {
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private ReservationSeatRepository reservationSeatRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private SimpMessagingTemplate simpMessagingTemplate;
+
+    @Mock
+    private SeatHoldWriteBehind seatHoldWriteBehind;
+
+    @Mock
+    private SeatStatusPublisher seatStatusPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SeatStateEngine seatStateEngine;
+    private SeatTimeoutScheduler scheduler;
+    private Reservation payingReservation;
+
+    @BeforeEach
+    void setUp() {
+        SeatCatalog seatCatalog = new SeatCatalog(seatRepository);
+        seatCatalog.load(List.of(seat(1L, "A1"), seat(2L, "A2"), seat(3L, "A3")));
+        SeatHoldTimer seatHoldTimer = new SeatHoldTimer(50);
+        seatStateEngine = new SeatStateEngine(seatCatalog, reservationSeatRepository, seatHoldWriteBehind, seatHoldTimer,
+                new RoundEpoch(0L));
+
+        scheduler = new SeatTimeoutScheduler(reservationSeatRepository, reservationRepository, simpMessagingTemplate,
+                seatStateEngine, seatStatusPublisher, seatHoldTimer, transactionTemplate, 2);
+
+        payingReservation = Reservation.builder()
+                .id(100L)
+                .user(User.builder().userId(1L).email("test@example.com").build())
+                .sequenceNum(1L)
+                .reservationState(Reservation.ReservationState.PAYING)
+                .build();
+    }
+
+    @Test
+    @DisplayName("만료 시각 전에는 해제하지 않고, 지나면 예약별로 한 번에 해제 후 타임아웃 알림")
+    void expireDueHolds_ExpiresAtDeadline() {
+        // given
+        long now = System.currentTimeMillis();
+        seatStateEngine.holdAll(1L, List.of(1L, 2L), 100L);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        given(reservationRepository.findAllWithUserByIdIn(anyCollection()))
+                .willReturn(List.of(payingReservation));
+
+        // when
+        int beforeDeadline = scheduler.expireDueHolds(now + 19_000);
+        int afterDeadline = scheduler.expireDueHolds(now + 20_200);
+
+        // then
+        assertThat(beforeDeadline).isZero();
+        assertThat(afterDeadline).isEqualTo(2);
+        assertThat(seatStateEngine.getHeldSeatIds(1L)).isEmpty();
+        verify(reservationRepository, times(1)).updateStateByIdIn(eq(List.of(100L)),
+                eq(Reservation.ReservationState.PAYING), eq(Reservation.ReservationState.TIMEOUT), any());
+
+        ArgumentCaptor<SeatReleaseResult> released = ArgumentCaptor.forClass(SeatReleaseResult.class);
+        verify(seatStatusPublisher, times(1)).released(released.capture(), eq(100L));
+        assertThat(released.getValue().getSeatIds()).containsExactlyInAnyOrder(1L, 2L);
+        verify(simpMessagingTemplate, times(1))
+                .convertAndSendToUser(eq("test@example.com"), eq("/queue/timeout"), any(SeatTimeoutNotification.class));
+        verify(reservationSeatRepository, never()).findExpiredWithReservation(any(), any());
+    }
+
+    @Test
+    @DisplayName("만료 전에 해제된 좌석은 알림 없음")
+    void expireDueHolds_AlreadyReleased() {
+        // given
+        long now = System.currentTimeMillis();
+        seatStateEngine.hold(1L, 3L, 100L);
+        seatStateEngine.release(1L, 3L, 100L);
+
+        // when
+        int expired = scheduler.expireDueHolds(now + 25_000);
+
+        // then
+        assertThat(expired).isZero();
+        verify(seatStatusPublisher, never()).released(any(), anyLong());
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("복구 정리는 chunk 단위로 조회 / 일괄 삭제하고 마지막 chunk에서 종료")
+    void releaseExpiredSeats_Chunked() {
+        // given
+        seatStateEngine.holdAll(1L, List.of(1L, 2L, 3L), 100L);
+        doAnswer(invocation -> invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+        given(reservationSeatRepository.findExpiredWithReservation(any(), any()))
+                .willReturn(List.of(reservationSeat(10L, 1L), reservationSeat(11L, 2L)))
+                .willReturn(List.of(reservationSeat(12L, 3L)));
+
+        // when
+        scheduler.releaseExpiredSeats();
+
+        // then
+        assertThat(seatStateEngine.getHeldSeatIds(1L)).isEmpty();
+        verify(reservationSeatRepository, times(2)).findExpiredWithReservation(any(), any());
+        verify(reservationSeatRepository).deleteAllByIdInBatch(List.of(10L, 11L));
+        verify(reservationSeatRepository).deleteAllByIdInBatch(List.of(12L));
+        verify(reservationSeatRepository, never()).delete(any());
+        verify(reservationRepository, never()).findAllWithUserByIdIn(anyCollection());
+        verify(simpMessagingTemplate, times(2))
+                .convertAndSendToUser(eq("test@example.com"), eq("/queue/timeout"), any(SeatTimeoutNotification.class));
+    }
+
+    private ReservationSeat reservationSeat(Long id, Long seatId) {
+        return ReservationSeat.builder()
+                .id(id)
+                .seat(seat(seatId, "A" + seatId))
+                .reservation(payingReservation)
+                .expiredAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+    }
+
+    private Seat seat(Long id, String seatNumber) {
+        return Seat.builder()
+                .id(id)
+                .seatNumber(seatNumber)
+                .build();
+    }
+}
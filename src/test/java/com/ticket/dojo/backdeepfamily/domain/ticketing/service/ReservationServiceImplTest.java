@@ -1,8 +1,16 @@
 package com.ticket.dojo.backdeepfamily.domain.ticketing.service;
 
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.Queue;
+import com.ticket.dojo.backdeepfamily.domain.queue.event.QueueAdmissionRevokedEvent;
 import com.ticket.dojo.backdeepfamily.domain.queue.service.QueueService;
+import com.ticket.dojo.backdeepfamily.domain.queue.ticket.AdmissionTicketSigner;
+import com.ticket.dojo.backdeepfamily.domain.queue.ticket.AdmissionTicketVerifier;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.response.GetHoldingSeatsResponse;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.response.GetRankingResponse;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.catalog.SeatCatalog;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.SeatMapSnapshot;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.SeatStateEngine;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.notification.SeatStatusPublisher;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Reservation;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.ReservationSeat;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Seat;
@@ -10,6 +18,7 @@ import com.ticket.dojo.backdeepfamily.domain.ticketing.repository.ReservationRep
 import com.ticket.dojo.backdeepfamily.domain.ticketing.repository.ReservationSeatRepository;
 import com.ticket.dojo.backdeepfamily.domain.user.entity.User;
 import com.ticket.dojo.backdeepfamily.domain.user.repository.UserRepository;
+import com.ticket.dojo.backdeepfamily.global.exception.AdmissionTicketException;
 import com.ticket.dojo.backdeepfamily.global.exception.ReservationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,7 +26,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -27,6 +38,8 @@ import static com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Reservation
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -46,6 +59,20 @@ class ReservationServiceImplTest {
         @Mock
         private QueueService queueService;
 
+        @Mock
+        private SeatStateEngine seatStateEngine;
+
+        @Mock
+        private SeatCatalog seatCatalog;
+
+        @Mock
+        private SeatStatusPublisher seatStatusPublisher;
+
+        private final AdmissionTicketSigner admissionTicketSigner = new AdmissionTicketSigner("reservation-test-secret-key-0123456789", 600_000L);
+
+        @Spy
+        private AdmissionTicketVerifier admissionTicketVerifier = new AdmissionTicketVerifier(admissionTicketSigner, 600_000L);
+
         @InjectMocks
         private ReservationServiceImpl reservationService;
 
@@ -57,6 +84,7 @@ class ReservationServiceImplTest {
         private Long testReservationId;
         private Long testSequenceNum;
         private String testQueueToken;
+        private String testAdmissionTicket;
 
         @BeforeEach
         void setUp() {
@@ -64,6 +92,7 @@ class ReservationServiceImplTest {
                 testReservationId = 1L;
                 testSequenceNum = 1L;
                 testQueueToken = "test-queue-token-123";
+                testAdmissionTicket = admissionTicketSigner.issue(testQueueToken, testUserId, Queue.DEFAULT_PARTITION, System.currentTimeMillis());
 
                 testUser = User.builder()
                                 .userId(testUserId)
@@ -107,6 +136,7 @@ class ReservationServiceImplTest {
                 assertThat(testReservation.getReservationState()).isEqualTo(PAYING);
                 verify(reservationRepository, times(1)).findById(testReservationId);
                 verify(reservationSeatRepository, times(1)).findAllByReservation(testReservation);
+                verify(seatStateEngine, atLeastOnce()).forgetReservation(testReservationId); // 결제 중에는 좌석 점유 불가
         }
 
         @Test
@@ -132,19 +162,28 @@ class ReservationServiceImplTest {
                 given(userRepository.findById(testUserId))
                                 .willReturn(Optional.of(testUser));
 
-                given(reservationSeatRepository.findAll())
-                                .willReturn(List.of(testReservationSeat));
+                given(seatStateEngine.currentRound()).willReturn(testSequenceNum);
+                given(seatStateEngine.snapshot(anyLong()))
+                                .willAnswer(invocation -> new SeatMapSnapshot(invocation.getArgument(0), 3L, List.of(testSeat.getId())));
+                given(seatCatalog.getHoldingSeat(testSeat.getId()))
+                                .willReturn(new GetHoldingSeatsResponse.HoldingSeatDto(testSeat.getId(), testSeat.getSeatNumber()));
 
+                // IDENTITY 전략처럼 save 시점에 ID 부여
                 given(reservationRepository.save(any(Reservation.class)))
-                                .willAnswer(invocation -> invocation.getArgument(0));
+                                .willAnswer(invocation -> {
+                                        Reservation saved = invocation.getArgument(0);
+                                        ReflectionTestUtils.setField(saved, "id", testReservationId);
+                                        return saved;
+                                });
 
                 // when
-                GetHoldingSeatsResponse response = reservationService.enterTicketing(testUserId);
+                GetHoldingSeatsResponse response = reservationService.enterTicketing(testUserId, testAdmissionTicket);
 
                 // then
                 assertThat(response).isNotNull();
-                // reservationId는 JPA save 후에 설정되므로 null일 수 있음 (mock 환경)
-                assertThat(response.getSequenceNum()).isNotNull();
+                assertThat(response.getReservationId()).isEqualTo(testReservationId);
+                assertThat(response.getSequenceNum()).isEqualTo(testSequenceNum);
+                assertThat(response.getVersion()).isEqualTo(3L);
                 assertThat(response.getSeats()).isNotNull();
                 assertThat(response.getSeats()).hasSize(1);
                 assertThat(response.getSeats().get(0).getSeatId()).isEqualTo(testSeat.getId());
@@ -152,7 +191,40 @@ class ReservationServiceImplTest {
 
                 verify(userRepository, times(1)).findById(testUserId);
                 verify(reservationRepository, times(1)).save(any(Reservation.class));
-                verify(reservationSeatRepository, times(1)).findAll();
+                verify(seatStateEngine, times(1)).registerReservation(testReservationId, response.getSequenceNum(), testUserId);
+                verify(reservationSeatRepository, never()).findAll();
+        }
+
+        @Test
+        @DisplayName("티켓팅 진입 실패 - 입장권이 없거나 회수됨 (예약 생성 없음)")
+        void enterTicketing_InvalidTicket() {
+                // given
+                admissionTicketVerifier.onRevoked(QueueAdmissionRevokedEvent.of(List.of(testQueueToken)));
+
+                // when & then
+                assertThatThrownBy(() -> reservationService.enterTicketing(testUserId, null))
+                                .isInstanceOf(AdmissionTicketException.class);
+                assertThatThrownBy(() -> reservationService.enterTicketing(testUserId, testAdmissionTicket))
+                                .isInstanceOf(AdmissionTicketException.class)
+                                .hasMessageContaining("회수");
+
+                verifyNoInteractions(userRepository, reservationRepository, seatStateEngine);
+        }
+
+        @Test
+        @DisplayName("티켓팅 진입 실패 - 다음 회차 파티션에서 받은 입장권 (예약 생성 없음)")
+        void enterTicketing_OtherRoundTicket() {
+                // given
+                String nextRoundTicket = admissionTicketSigner.issue(testQueueToken, testUserId,
+                                Queue.roundPartition(testSequenceNum + 1), System.currentTimeMillis());
+                given(seatStateEngine.currentRound()).willReturn(testSequenceNum);
+
+                // when & then
+                assertThatThrownBy(() -> reservationService.enterTicketing(testUserId, nextRoundTicket))
+                                .isInstanceOf(AdmissionTicketException.class)
+                                .hasMessageContaining("회차");
+
+                verifyNoInteractions(userRepository, reservationRepository);
         }
 
         @Test
@@ -163,7 +235,7 @@ class ReservationServiceImplTest {
                                 .willReturn(Optional.of(testReservation));
 
                 // when
-                reservationService.completePaying(testUserId, testReservationId, testQueueToken);
+                reservationService.completePaying(testUserId, testReservationId, testAdmissionTicket);
 
                 // then
                 assertThat(testReservation.getReservationState()).isEqualTo(CONFIRMED);
@@ -171,6 +243,20 @@ class ReservationServiceImplTest {
                 verify(queueService, times(1)).expireQueue(testQueueToken);
         }
 
+        @Test
+        @DisplayName("결제 완료 실패 - 다른 사용자의 입장권")
+        void completePaying_OtherUsersTicket() {
+                // given
+                String otherUsersTicket = admissionTicketSigner.issue(testQueueToken, 2L, Queue.DEFAULT_PARTITION, System.currentTimeMillis());
+
+                // when & then
+                assertThatThrownBy(() -> reservationService.completePaying(testUserId, testReservationId, otherUsersTicket))
+                                .isInstanceOf(AdmissionTicketException.class);
+
+                assertThat(testReservation.getReservationState()).isEqualTo(PENDING);
+                verifyNoInteractions(reservationRepository, queueService);
+        }
+
         @Test
         @DisplayName("랭킹 조회 성공")
         void getRanking_Success() {
@@ -221,8 +307,6 @@ class ReservationServiceImplTest {
                 // given
                 given(reservationRepository.findById(testReservationId))
                                 .willReturn(Optional.of(testReservation));
-                given(reservationSeatRepository.findAllByReservation(testReservation))
-                                .willReturn(List.of(testReservationSeat));
 
                 // when
                 reservationService.cancelReservation(testReservationId, testUserId);
@@ -230,8 +314,9 @@ class ReservationServiceImplTest {
                 // then
                 assertThat(testReservation.getReservationState()).isEqualTo(Reservation.ReservationState.CANCELLED);
                 verify(reservationRepository, times(1)).findById(testReservationId);
-                verify(reservationSeatRepository, times(1)).findAllByReservation(testReservation);
-                verify(reservationSeatRepository, times(1)).deleteAll(anyList());
+                verify(seatStateEngine, times(1)).releaseAll(testReservation.getSequenceNum(), testReservationId);
+                verify(seatStatusPublisher, times(1)).released(any(), eq(testReservationId));
+                verify(seatStateEngine, atLeastOnce()).forgetReservation(testReservationId);
         }
 
         @Test
@@ -248,7 +333,7 @@ class ReservationServiceImplTest {
                                 .hasMessageContaining("예약 취소 권한이 없습니다");
 
                 verify(reservationRepository, times(1)).findById(testReservationId);
-                verify(reservationSeatRepository, never()).deleteAll(anyList());
+                verify(seatStateEngine, never()).releaseAll(anyLong(), anyLong());
         }
 
         @Test
@@ -265,6 +350,6 @@ class ReservationServiceImplTest {
                                 .hasMessageContaining("확정된 예약은 취소할 수 없습니다");
 
                 verify(reservationRepository, times(1)).findById(testReservationId);
-                verify(reservationSeatRepository, never()).deleteAll(anyList());
+                verify(seatStateEngine, never()).releaseAll(anyLong(), anyLong());
         }
 }
@@ -1,12 +1,26 @@
 package com.ticket.dojo.backdeepfamily.domain.ticketing.service;
 
+import com.ticket.dojo.backdeepfamily.domain.queue.entity.Queue;
+import com.ticket.dojo.backdeepfamily.domain.queue.event.QueueAdmissionRevokedEvent;
+import com.ticket.dojo.backdeepfamily.domain.queue.ticket.AdmissionTicketSigner;
+import com.ticket.dojo.backdeepfamily.domain.queue.ticket.AdmissionTicketVerifier;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.catalog.SeatCatalog;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.SeatHoldResult;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.dto.SeatReleaseResult;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.SeatHoldChange;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.RoundEpoch;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.SeatHoldTimer;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.SeatHoldWriteBehind;
+import com.ticket.dojo.backdeepfamily.domain.ticketing.engine.SeatStateEngine;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Reservation;
-import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.ReservationSeat;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.entity.Seat;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.repository.ReservationRepository;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.repository.ReservationSeatRepository;
 import com.ticket.dojo.backdeepfamily.domain.ticketing.repository.SeatRepository;
 import com.ticket.dojo.backdeepfamily.domain.user.entity.User;
+import com.ticket.dojo.backdeepfamily.global.exception.AdmissionTicketException;
+import com.ticket.dojo.backdeepfamily.global.exception.socket.ReservationAccessDeniedException;
+import com.ticket.dojo.backdeepfamily.global.exception.socket.ReservationClosedException;
 import com.ticket.dojo.backdeepfamily.global.exception.socket.ReservationNotFoundException;
 import com.ticket.dojo.backdeepfamily.global.exception.socket.SeatAlreadyHeldException;
 import com.ticket.dojo.backdeepfamily.global.exception.socket.SeatNotFoundException;
@@ -14,12 +28,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -38,7 +58,14 @@ class TicketingSocketServiceImplTest {
     @Mock
     private ReservationSeatRepository reservationSeatRepository;
 
-    @InjectMocks
+    @Mock
+    private SeatHoldWriteBehind seatHoldWriteBehind;
+
+    private final AdmissionTicketSigner admissionTicketSigner = new AdmissionTicketSigner("ticketing-test-secret-key-0123456789", 600_000L);
+
+    private SeatCatalog seatCatalog;
+    private SeatStateEngine seatStateEngine;
+    private AdmissionTicketVerifier admissionTicketVerifier;
     private TicketingSocketServiceImpl ticketingSocketService;
 
     private User testUser;
@@ -47,15 +74,19 @@ class TicketingSocketServiceImplTest {
     private Long testSeatId;
     private Long testReservationId;
     private Long testSequenceNum;
+    private Long testUserId;
+    private String testAdmissionTicket;
 
     @BeforeEach
     void setUp() {
         testSeatId = 1L;
         testReservationId = 1L;
         testSequenceNum = 1L;
+        testUserId = 1L;
+        testAdmissionTicket = admissionTicketSigner.issue("test-queue-token", testUserId, Queue.DEFAULT_PARTITION, System.currentTimeMillis());
 
         testUser = User.builder()
-                .userId(1L)
+                .userId(testUserId)
                 .name("테스트유저")
                 .email("test@example.com")
                 .build();
@@ -71,29 +102,33 @@ class TicketingSocketServiceImplTest {
                 .id(testSeatId)
                 .seatNumber("A1")
                 .build();
+
+        seatCatalog = new SeatCatalog(seatRepository);
+        seatCatalog.load(List.of(testSeat));
+        seatStateEngine = new SeatStateEngine(seatCatalog, reservationSeatRepository, seatHoldWriteBehind, new SeatHoldTimer(50),
+                new RoundEpoch(0L));
+        admissionTicketVerifier = new AdmissionTicketVerifier(admissionTicketSigner, 600_000L);
+        ticketingSocketService = new TicketingSocketServiceImpl(reservationRepository, seatStateEngine, admissionTicketVerifier);
     }
 
     @Test
-    @DisplayName("좌석 점유 성공")
+    @DisplayName("좌석 점유 성공 - DB 저장은 write-behind, 예약 조회는 처음 한 번만")
     void holdSeat_Success() {
         // given
         given(reservationRepository.findById(testReservationId))
                 .willReturn(Optional.of(testReservation));
-        given(seatRepository.findById(testSeatId))
-                .willReturn(Optional.of(testSeat));
-        given(reservationSeatRepository.existsBySeat(testSeat))
-                .willReturn(false);
-        given(reservationSeatRepository.save(any(ReservationSeat.class)))
-                .willAnswer(invocation -> invocation.getArgument(0));
 
         // when
-        ticketingSocketService.holdSeat(testSeatId, testReservationId);
+        SeatHoldResult hold = ticketingSocketService.holdSeat(testSeatId, testReservationId, testUserId, testAdmissionTicket);
+        SeatReleaseResult release = ticketingSocketService.releaseSeat(testReservationId, testSeatId, testUserId);
 
         // then
+        assertThat(hold.getSequenceNum()).isEqualTo(testSequenceNum);
+        assertThat(hold.getVersion()).isEqualTo(1L);
+        assertThat(release.getVersion()).isEqualTo(2L);
         verify(reservationRepository, times(1)).findById(testReservationId);
-        verify(seatRepository, times(1)).findById(testSeatId);
-        verify(reservationSeatRepository, times(1)).existsBySeat(testSeat);
-        verify(reservationSeatRepository, times(1)).save(any(ReservationSeat.class));
+        verify(seatHoldWriteBehind, times(2)).markDirty(any(SeatHoldChange.class));
+        verify(reservationSeatRepository, never()).save(any());
     }
 
     @Test
@@ -104,13 +139,73 @@ class TicketingSocketServiceImplTest {
                 .willReturn(Optional.empty());
 
         // when & then
-        assertThatThrownBy(() -> ticketingSocketService.holdSeat(testSeatId, testReservationId))
+        assertThatThrownBy(() -> ticketingSocketService.holdSeat(testSeatId, testReservationId, testUserId, testAdmissionTicket))
                 .isInstanceOf(ReservationNotFoundException.class)
                 .hasMessageContaining("예약을 찾을 수 없습니다");
 
         verify(reservationRepository, times(1)).findById(testReservationId);
-        verify(seatRepository, never()).findById(any());
-        verify(reservationSeatRepository, never()).save(any());
+        verify(seatHoldWriteBehind, never()).markDirty(any());
+    }
+
+    @Test
+    @DisplayName("좌석 점유 실패 - 다른 사용자의 예약으로는 점유 불가")
+    void holdSeat_OtherUsersReservation() {
+        // given
+        Long attackerId = 2L;
+        String attackerTicket = admissionTicketSigner.issue("attacker-queue-token", attackerId, Queue.DEFAULT_PARTITION,
+                System.currentTimeMillis());
+        given(reservationRepository.findById(testReservationId))
+                .willReturn(Optional.of(testReservation));
+
+        // when & then
+        assertThatThrownBy(() -> ticketingSocketService.holdSeat(testSeatId, testReservationId, attackerId, attackerTicket))
+                .isInstanceOf(ReservationAccessDeniedException.class);
+        assertThatThrownBy(() -> ticketingSocketService.holdSeats(List.of(testSeatId), testReservationId, attackerId, attackerTicket))
+                .isInstanceOf(ReservationAccessDeniedException.class);
+
+        assertThat(seatStateEngine.getHeldSeatIds(testSequenceNum)).isEmpty();
+        verify(seatHoldWriteBehind, never()).markDirty(any());
+    }
+
+    @Test
+    @DisplayName("좌석 점유 실패 - PENDING이 아닌 예약(결제 중 등)으로는 점유 불가")
+    void holdSeat_ReservationNotPending() {
+        // given
+        Reservation paying = Reservation.builder()
+                .id(testReservationId)
+                .user(testUser)
+                .sequenceNum(testSequenceNum)
+                .reservationState(Reservation.ReservationState.PAYING)
+                .build();
+        given(reservationRepository.findById(testReservationId))
+                .willReturn(Optional.of(paying));
+
+        // when & then
+        assertThatThrownBy(() -> ticketingSocketService.holdSeat(testSeatId, testReservationId, testUserId, testAdmissionTicket))
+                .isInstanceOf(ReservationClosedException.class);
+
+        assertThat(seatStateEngine.getHeldSeatIds(testSequenceNum)).isEmpty();
+        verify(seatHoldWriteBehind, never()).markDirty(any());
+    }
+
+    @Test
+    @DisplayName("좌석 점유 실패 - 상태가 바뀌어 엔진에서 지운 예약은 DB 상태로 다시 확인")
+    void holdSeat_AfterForgetReservation() {
+        // given
+        seatStateEngine.registerReservation(testReservationId, testSequenceNum, testUserId);
+        seatStateEngine.forgetReservation(testReservationId);
+        given(reservationRepository.findById(testReservationId))
+                .willReturn(Optional.of(Reservation.builder()
+                        .id(testReservationId)
+                        .user(testUser)
+                        .sequenceNum(testSequenceNum)
+                        .reservationState(Reservation.ReservationState.CANCELLED)
+                        .build()));
+
+        // when & then
+        assertThatThrownBy(() -> ticketingSocketService.holdSeat(testSeatId, testReservationId, testUserId, testAdmissionTicket))
+                .isInstanceOf(ReservationClosedException.class);
+        verify(reservationRepository, times(1)).findById(testReservationId);
     }
 
     @Test
@@ -119,66 +214,212 @@ class TicketingSocketServiceImplTest {
         // given
         given(reservationRepository.findById(testReservationId))
                 .willReturn(Optional.of(testReservation));
-        given(seatRepository.findById(testSeatId))
-                .willReturn(Optional.empty());
 
         // when & then
-        assertThatThrownBy(() -> ticketingSocketService.holdSeat(testSeatId, testReservationId))
+        assertThatThrownBy(() -> ticketingSocketService.holdSeat(999L, testReservationId, testUserId, testAdmissionTicket))
                 .isInstanceOf(SeatNotFoundException.class)
                 .hasMessageContaining("좌석을 찾을 수 없습니다");
 
-        verify(reservationRepository, times(1)).findById(testReservationId);
-        verify(seatRepository, times(1)).findById(testSeatId);
-        verify(reservationSeatRepository, never()).save(any());
+        verify(seatHoldWriteBehind, never()).markDirty(any());
     }
 
     @Test
     @DisplayName("좌석 점유 실패 - 이미 점유된 좌석")
     void holdSeat_SeatAlreadyHeld() {
         // given
+        seatStateEngine.registerReservation(2L, testSequenceNum, 2L);
+        seatStateEngine.hold(testSequenceNum, testSeatId, 2L);
         given(reservationRepository.findById(testReservationId))
                 .willReturn(Optional.of(testReservation));
-        given(seatRepository.findById(testSeatId))
-                .willReturn(Optional.of(testSeat));
-        given(reservationSeatRepository.existsBySeat(testSeat))
-                .willReturn(true);
 
         // when & then
-        assertThatThrownBy(() -> ticketingSocketService.holdSeat(testSeatId, testReservationId))
+        assertThatThrownBy(() -> ticketingSocketService.holdSeat(testSeatId, testReservationId, testUserId, testAdmissionTicket))
                 .isInstanceOf(SeatAlreadyHeldException.class)
                 .hasMessageContaining("이미 점유된 좌석입니다");
 
-        verify(reservationRepository, times(1)).findById(testReservationId);
-        verify(seatRepository, times(1)).findById(testSeatId);
-        verify(reservationSeatRepository, times(1)).existsBySeat(testSeat);
-        verify(reservationSeatRepository, never()).save(any());
+        assertThat(seatStateEngine.getHolder(testSequenceNum, testSeatId)).isEqualTo(2L);
+        verify(seatHoldWriteBehind, times(1)).markDirty(any(SeatHoldChange.class));
+    }
+
+    @Test
+    @DisplayName("좌석 점유 실패 - 입장권이 없거나, 다른 사용자 것이거나, 회수됨")
+    void holdSeat_InvalidTicket() {
+        // given
+        String otherUsersTicket = admissionTicketSigner.issue("other-queue-token", 2L, Queue.DEFAULT_PARTITION, System.currentTimeMillis());
+
+        // when & then
+        assertThatThrownBy(() -> ticketingSocketService.holdSeat(testSeatId, testReservationId, testUserId, null))
+                .isInstanceOf(AdmissionTicketException.class);
+        assertThatThrownBy(() -> ticketingSocketService.holdSeat(testSeatId, testReservationId, testUserId, otherUsersTicket))
+                .isInstanceOf(AdmissionTicketException.class);
+
+        admissionTicketVerifier.onRevoked(QueueAdmissionRevokedEvent.of(List.of("test-queue-token")));
+        assertThatThrownBy(() -> ticketingSocketService.holdSeats(List.of(testSeatId), testReservationId, testUserId, testAdmissionTicket))
+                .isInstanceOf(AdmissionTicketException.class);
+
+        assertThat(seatStateEngine.getHolder(testSequenceNum, testSeatId)).isZero();
+        verifyNoInteractions(reservationRepository, seatHoldWriteBehind);
+    }
+
+    @Test
+    @DisplayName("좌석 점유 실패 - 다른 회차 파티션에서 받은 입장권")
+    void holdSeat_OtherRoundTicket() {
+        // given
+        String nextRoundTicket = admissionTicketSigner.issue("round-queue-token", testUserId,
+                Queue.roundPartition(testSequenceNum + 1), System.currentTimeMillis());
+        given(reservationRepository.findById(testReservationId))
+                .willReturn(Optional.of(testReservation));
+
+        // when & then
+        assertThatThrownBy(() -> ticketingSocketService.holdSeat(testSeatId, testReservationId, testUserId, nextRoundTicket))
+                .isInstanceOf(AdmissionTicketException.class)
+                .hasMessageContaining("회차");
+
+        assertThat(seatStateEngine.getHolder(testSequenceNum, testSeatId)).isZero();
+        verify(seatHoldWriteBehind, never()).markDirty(any());
+    }
+
+    @Test
+    @DisplayName("여러 좌석 한 번에 점유 성공")
+    void holdSeats_Success() {
+        // given
+        seatCatalog.load(List.of(testSeat, seat(2L, "A2"), seat(3L, "A3")));
+        given(reservationRepository.findById(testReservationId))
+                .willReturn(Optional.of(testReservation));
+
+        // when
+        SeatHoldResult result = ticketingSocketService.holdSeats(List.of(1L, 2L, 3L), testReservationId, testUserId, testAdmissionTicket);
+
+        // then
+        assertThat(result.getSequenceNum()).isEqualTo(testSequenceNum);
+        assertThat(result.getVersion()).isEqualTo(1L);
+        assertThat(seatStateEngine.getHeldSeatIds(testSequenceNum)).containsExactly(1L, 2L, 3L);
+        verify(seatHoldWriteBehind, times(3)).markDirty(any(SeatHoldChange.class));
+    }
+
+    @Test
+    @DisplayName("여러 좌석 점유 실패 - 하나라도 점유되어 있으면 아무것도 점유하지 않음")
+    void holdSeats_PartialConflict() {
+        // given
+        seatCatalog.load(List.of(testSeat, seat(2L, "A2"), seat(3L, "A3")));
+        seatStateEngine.hold(testSequenceNum, 3L, 2L);
+        given(reservationRepository.findById(testReservationId))
+                .willReturn(Optional.of(testReservation));
+
+        // when & then
+        assertThatThrownBy(() -> ticketingSocketService.holdSeats(List.of(1L, 2L, 3L), testReservationId, testUserId, testAdmissionTicket))
+                .isInstanceOf(SeatAlreadyHeldException.class)
+                .hasMessageContaining("3");
+
+        assertThat(seatStateEngine.getHeldSeatIds(testSequenceNum)).containsExactly(3L);
+        verify(seatHoldWriteBehind, times(1)).markDirty(any(SeatHoldChange.class));
+    }
+
+    @Test
+    @DisplayName("여러 좌석 점유 실패 - 최대 좌석 수 초과 / 중복 좌석")
+    void holdSeats_InvalidRequest() {
+        // when & then
+        assertThatThrownBy(() -> ticketingSocketService.holdSeats(List.of(1L, 2L, 3L, 4L, 5L), testReservationId, testUserId, testAdmissionTicket))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ticketingSocketService.holdSeats(List.of(1L, 1L), testReservationId, testUserId, testAdmissionTicket))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("중복");
+
+        verify(reservationRepository, never()).findById(any());
     }
 
     @Test
     @DisplayName("좌석 해제 성공")
     void releaseSeat_Success() {
         // given
-        ReservationSeat reservationSeat = ReservationSeat.builder()
-                .id(1L)
-                .seat(testSeat)
-                .reservation(testReservation)
-                .build();
+        seatStateEngine.registerReservation(testReservationId, testSequenceNum, testUserId);
+        seatStateEngine.hold(testSequenceNum, testSeatId, testReservationId);
+
+        // when
+        SeatReleaseResult result = ticketingSocketService.releaseSeat(testReservationId, testSeatId, testUserId);
+
+        // then
+        assertThat(result.isReleased()).isTrue();
+        assertThat(result.getSequenceNum()).isEqualTo(testSequenceNum);
+        assertThat(result.getSeatIds()).containsExactly(testSeatId);
+        assertThat(seatStateEngine.getHolder(testSequenceNum, testSeatId)).isZero();
+        verify(reservationRepository, never()).findById(any());
+        verify(seatHoldWriteBehind, times(2)).markDirty(any(SeatHoldChange.class));
+    }
+
+    @Test
+    @DisplayName("좌석 해제 - 다른 예약이 점유한 좌석이면 해제하지 않음")
+    void releaseSeat_NotHolder() {
+        // given
+        seatStateEngine.registerReservation(testReservationId, testSequenceNum, testUserId);
+        seatStateEngine.hold(testSequenceNum, testSeatId, 2L);
+
+        // when
+        SeatReleaseResult result = ticketingSocketService.releaseSeat(testReservationId, testSeatId, testUserId);
+
+        // then
+        assertThat(result.isReleased()).isFalse();
+        assertThat(seatStateEngine.getHolder(testSequenceNum, testSeatId)).isEqualTo(2L);
+        verify(seatHoldWriteBehind, times(1)).markDirty(any(SeatHoldChange.class));
+    }
+
+    @Test
+    @DisplayName("내 좌석 모두 해제 - 내 좌석만 해제")
+    void releaseAllSeats_Success() {
+        // given
+        seatCatalog.load(List.of(testSeat, seat(2L, "A2"), seat(3L, "A3")));
+        seatStateEngine.registerReservation(testReservationId, testSequenceNum, testUserId);
+        seatStateEngine.hold(testSequenceNum, 1L, testReservationId);
+        seatStateEngine.hold(testSequenceNum, 2L, 2L);
+        seatStateEngine.hold(testSequenceNum, 3L, testReservationId);
+
+        // when
+        SeatReleaseResult result = ticketingSocketService.releaseAllSeats(testReservationId, testUserId);
+        SeatReleaseResult again = ticketingSocketService.releaseAllSeats(testReservationId, testUserId);
+
+        // then
+        assertThat(result.getSeatIds()).containsExactly(1L, 3L);
+        assertThat(again.isReleased()).isFalse();
+        assertThat(seatStateEngine.getHeldSeatIds(testSequenceNum)).containsExactly(2L);
+        verify(reservationRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("좌석 해제 실패 - 다른 사용자의 예약이면 해제 / 전체 해제 모두 거부")
+    void release_OtherUsersReservation() {
+        // given
+        seatCatalog.load(List.of(testSeat, seat(2L, "A2")));
+        seatStateEngine.registerReservation(testReservationId, testSequenceNum, testUserId);
+        seatStateEngine.hold(testSequenceNum, 1L, testReservationId);
+        seatStateEngine.hold(testSequenceNum, 2L, testReservationId);
+        Long attackerId = 2L;
+
+        // when & then
+        assertThatThrownBy(() -> ticketingSocketService.releaseAllSeats(testReservationId, attackerId))
+                .isInstanceOf(ReservationAccessDeniedException.class);
+        assertThatThrownBy(() -> ticketingSocketService.releaseSeat(testReservationId, 1L, attackerId))
+                .isInstanceOf(ReservationAccessDeniedException.class);
+        assertThatThrownBy(() -> ticketingSocketService.releaseAllSeats(testReservationId, null))
+                .isInstanceOf(ReservationAccessDeniedException.class);
+
+        assertThat(seatStateEngine.getHeldSeatIds(testSequenceNum)).containsExactly(1L, 2L);
+        verify(seatHoldWriteBehind, times(2)).markDirty(any(SeatHoldChange.class));
+    }
 
+    @Test
+    @DisplayName("좌석 해제 - 엔진에 없는 예약은 한 번 조회해 예약자까지 기억")
+    void release_LoadsOwnerOnce() {
+        // given
         given(reservationRepository.findById(testReservationId))
                 .willReturn(Optional.of(testReservation));
-        given(seatRepository.findById(testSeatId))
-                .willReturn(Optional.of(testSeat));
-        given(reservationSeatRepository.findAllByReservation(testReservation))
-                .willReturn(java.util.List.of(reservationSeat));
 
         // when
-        ticketingSocketService.releaseSeat(testReservationId, testSeatId);
+        ticketingSocketService.releaseAllSeats(testReservationId, testUserId);
 
         // then
+        assertThatThrownBy(() -> ticketingSocketService.releaseAllSeats(testReservationId, 2L))
+                .isInstanceOf(ReservationAccessDeniedException.class);
         verify(reservationRepository, times(1)).findById(testReservationId);
-        verify(seatRepository, times(1)).findById(testSeatId);
-        verify(reservationSeatRepository, times(1)).findAllByReservation(testReservation);
-        verify(reservationSeatRepository, times(1)).delete(reservationSeat);
     }
 
     @Test
@@ -189,13 +430,12 @@ class TicketingSocketServiceImplTest {
                 .willReturn(Optional.empty());
 
         // when & then
-        assertThatThrownBy(() -> ticketingSocketService.releaseSeat(testReservationId, testSeatId))
+        assertThatThrownBy(() -> ticketingSocketService.releaseSeat(testReservationId, testSeatId, testUserId))
                 .isInstanceOf(ReservationNotFoundException.class)
                 .hasMessageContaining("예약을 찾을 수 없습니다");
 
         verify(reservationRepository, times(1)).findById(testReservationId);
-        verify(seatRepository, never()).findById(any());
-        verify(reservationSeatRepository, never()).delete(any());
+        verify(seatHoldWriteBehind, never()).markDirty(any());
     }
 
     @Test
@@ -204,16 +444,55 @@ class TicketingSocketServiceImplTest {
         // given
         given(reservationRepository.findById(testReservationId))
                 .willReturn(Optional.of(testReservation));
-        given(seatRepository.findById(testSeatId))
-                .willReturn(Optional.empty());
 
         // when & then
-        assertThatThrownBy(() -> ticketingSocketService.releaseSeat(testReservationId, testSeatId))
+        assertThatThrownBy(() -> ticketingSocketService.releaseSeat(testReservationId, 999L, testUserId))
                 .isInstanceOf(SeatNotFoundException.class)
                 .hasMessageContaining("좌석을 찾을 수 없습니다");
 
-        verify(reservationRepository, times(1)).findById(testReservationId);
-        verify(seatRepository, times(1)).findById(testSeatId);
-        verify(reservationSeatRepository, never()).delete(any());
+        verify(seatHoldWriteBehind, never()).markDirty(any());
+    }
+
+    @Test
+    @DisplayName("같은 좌석 동시 점유 -> 정확히 한 명만 성공")
+    void holdSeat_Concurrent() throws InterruptedException {
+        // given
+        int users = 100;
+        for (long reservationId = 1; reservationId <= users; reservationId++) {
+            seatStateEngine.registerReservation(reservationId, testSequenceNum, testUserId);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(users);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger conflict = new AtomicInteger();
+
+        // when
+        for (long reservationId = 1; reservationId <= users; reservationId++) {
+            long id = reservationId;
+            executor.submit(() -> {
+                try {
+                    ticketingSocketService.holdSeat(testSeatId, id, testUserId, testAdmissionTicket);
+                    success.incrementAndGet();
+                } catch (SeatAlreadyHeldException e) {
+                    conflict.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(success.get()).isEqualTo(1);
+        assertThat(conflict.get()).isEqualTo(users - 1);
+        assertThat(seatStateEngine.getHolder(testSequenceNum, testSeatId)).isNotZero();
+    }
+
+    private Seat seat(Long id, String seatNumber) {
+        return Seat.builder()
+                .id(id)
+                .seatNumber(seatNumber)
+                .build();
     }
 }
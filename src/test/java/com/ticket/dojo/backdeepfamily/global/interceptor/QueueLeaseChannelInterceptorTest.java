@@ -0,0 +1,132 @@
+package com.ticket.dojo.backdeepfamily.global.interceptor;
+
+import com.ticket.dojo.backdeepfamily.domain.queue.lease.QueueLeaseManager;
+import com.ticket.dojo.backdeepfamily.domain.user.entity.CustomUserDetails;
+import com.ticket.dojo.backdeepfamily.domain.user.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QueueLeaseChannelInterceptor 단위 테스트")
+class QueueLeaseChannelInterceptorTest {
+
+    private static final long LEASE_TTL = 30_000L;
+
+    @Mock
+    private QueueLeaseManager queueLeaseManager;
+
+    private final Map<String, Object> session = new ConcurrentHashMap<>();
+
+    @Test
+    @DisplayName("같은 세션의 SEND는 lease TTL의 절반마다 한 번만 연장")
+    void send_RenewThrottledPerSession() {
+        // given
+        QueueLeaseChannelInterceptor interceptor = new QueueLeaseChannelInterceptor(queueLeaseManager, Runnable::run, LEASE_TTL);
+        interceptor.preSend(connect("token-1"), null);
+
+        // when
+        interceptor.preSend(send(), null);
+        interceptor.preSend(send(), null);
+        interceptor.preSend(send(), null);
+
+        // then
+        verify(queueLeaseManager, times(1)).renew("token-1", 1L);
+    }
+
+    @Test
+    @DisplayName("연장 실패는 삼키고 메시지는 그대로 통과")
+    void renewFailure_Swallowed() {
+        // given
+        QueueLeaseChannelInterceptor interceptor = new QueueLeaseChannelInterceptor(queueLeaseManager, Runnable::run, LEASE_TTL);
+        given(queueLeaseManager.renew("token-1", 1L)).willThrow(new IllegalStateException("db down"));
+        interceptor.preSend(connect("token-1"), null);
+        Message<byte[]> message = send();
+
+        // when
+        Message<?> result = interceptor.preSend(message, null);
+
+        // then
+        assertThat(result).isSameAs(message);
+    }
+
+    @Test
+    @DisplayName("연장 작업이 밀려 거절되면 다음 SEND에서 다시 시도")
+    void rejected_RetriedOnNextSend() {
+        // given
+        List<Runnable> accepted = new ArrayList<>();
+        boolean[] reject = {true};
+        QueueLeaseChannelInterceptor interceptor = new QueueLeaseChannelInterceptor(queueLeaseManager, task -> {
+            if (reject[0]) {
+                throw new RejectedExecutionException();
+            }
+            accepted.add(task);
+        }, LEASE_TTL);
+        interceptor.preSend(connect("token-1"), null);
+
+        // when
+        interceptor.preSend(send(), null);
+        reject[0] = false;
+        interceptor.preSend(send(), null);
+
+        // then
+        assertThat(accepted).hasSize(1);
+        verify(queueLeaseManager, never()).renew(any(), any());
+    }
+
+    @Test
+    @DisplayName("queue-token 없이 연결한 세션은 연장하지 않음")
+    void noToken_NoRenew() {
+        // given
+        QueueLeaseChannelInterceptor interceptor = new QueueLeaseChannelInterceptor(queueLeaseManager, Runnable::run, LEASE_TTL);
+
+        // when
+        interceptor.preSend(send(), null);
+
+        // then
+        verifyNoInteractions(queueLeaseManager);
+    }
+
+    private Message<byte[]> connect(String token) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setNativeHeader("queue-token", token);
+        return message(accessor);
+    }
+
+    private Message<byte[]> send() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setDestination("/pub/seat/hold");
+        return message(accessor);
+    }
+
+    private Message<byte[]> message(StompHeaderAccessor accessor) {
+        User user = User.builder()
+                .userId(1L)
+                .email("test@example.com")
+                .name("테스트유저")
+                .build();
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+        accessor.setUser(new UsernamePasswordAuthenticationToken(userDetails, null, List.of()));
+        accessor.setSessionAttributes(session);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
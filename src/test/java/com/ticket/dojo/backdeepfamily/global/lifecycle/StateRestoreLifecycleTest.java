@@ -0,0 +1,40 @@
+package com.ticket.dojo.backdeepfamily.global.lifecycle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StateRestoreLifecycle 단위 테스트")
+class StateRestoreLifecycleTest {
+
+    // 웹 서버 시작 / 종료 lifecycle phase
+    private static final int WEB_SERVER_PHASE = SmartLifecycle.DEFAULT_PHASE - 2048;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private StateRestoreLifecycle lifecycle;
+
+    @Test
+    @DisplayName("웹 서버보다 먼저 시작하며 재구성 이벤트 발행")
+    void start_BeforeWebServer() {
+        // when
+        lifecycle.start();
+
+        // then
+        verify(eventPublisher).publishEvent(any(StateRestoreEvent.class));
+        assertThat(lifecycle.isRunning()).isTrue();
+        assertThat(lifecycle.getPhase()).isLessThan(WEB_SERVER_PHASE);
+    }
+}
@@ -0,0 +1,101 @@
+package com.ticket.dojo.backdeepfamily.global.util.buffer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MpscRingBuffer 단위 테스트")
+class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("넣은 순서대로 꺼내고, 가득 차면 offer 실패")
+    void offerAndDrain_InOrder() {
+        // given
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        // when
+        boolean overflowed = !buffer.offer(4);
+        List<Integer> drained = new ArrayList<>();
+        buffer.drain(drained::add, 3);
+
+        // then
+        assertThat(overflowed).isTrue();
+        assertThat(drained).containsExactly(0, 1, 2);
+        assertThat(buffer.size()).isEqualTo(1);
+        assertThat(buffer.offer(5)).isTrue();
+    }
+
+    @Test
+    @DisplayName("잘못된 크기는 생성 불가")
+    void invalidCapacity() {
+        assertThatThrownBy(() -> new MpscRingBuffer<>(3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MpscRingBuffer<>(1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 넣어도 유실 / 중복 없이 생산자별 순서 유지")
+    void concurrentProducers_NoLossNoDuplicate() throws InterruptedException {
+        // given
+        int producers = 8;
+        int perProducer = 20_000;
+        MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        AtomicBoolean producing = new AtomicBoolean(true);
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            executor.submit(() -> {
+                try {
+                    for (long seq = 0; seq < perProducer; seq++) {
+                        while (!buffer.offer(new long[]{producer, seq})) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        Map<Long, Long> lastSeqByProducer = new HashMap<>();
+        int[] received = {0};
+        boolean[] ordered = {true};
+        while (producing.get() || !buffer.isEmpty()) {
+            buffer.drain(item -> {
+                Long last = lastSeqByProducer.put(item[0], item[1]);
+                if (last != null && last + 1 != item[1]) {
+                    ordered[0] = false;
+                }
+                received[0]++;
+            }, 256);
+            if (done.getCount() == 0) {
+                producing.set(false);
+            }
+        }
+        buffer.drain(item -> received[0]++, Integer.MAX_VALUE);
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(received[0]).isEqualTo(producers * perProducer);
+        assertThat(ordered[0]).isTrue();
+        assertThat(lastSeqByProducer).hasSize(producers);
+    }
+}
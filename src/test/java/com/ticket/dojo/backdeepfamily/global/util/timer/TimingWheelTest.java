@@ -0,0 +1,133 @@
+package com.ticket.dojo.backdeepfamily.global.util.timer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TimingWheel 단위 테스트")
+class TimingWheelTest {
+
+    private static final long TICK = 100L;
+    private static final int SIZE = 8;
+
+    @Test
+    @DisplayName("만료 시각이 지난 키만 한 번씩 반환")
+    void advance_ReturnsLapsedOnce() {
+        // given
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, SIZE, 0L);
+        wheel.schedule("a", 250L);
+        wheel.schedule("b", 450L);
+
+        // when & then
+        assertThat(wheel.advance(200L)).isEmpty();
+        assertThat(wheel.advance(300L)).containsExactly("a");
+        assertThat(wheel.advance(400L)).isEmpty();
+        assertThat(wheel.advance(500L)).containsExactly("b");
+        assertThat(wheel.advance(600L)).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("연장하면 새 만료 시각까지 살아있고, 취소하면 만료되지 않음")
+    void extendAndCancel() {
+        // given
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, SIZE, 0L);
+        wheel.schedule("extended", 250L);
+        wheel.schedule("cancelled", 250L);
+
+        // when
+        assertThat(wheel.extend("extended", 650L)).isTrue();
+        assertThat(wheel.cancel("cancelled")).isTrue();
+        assertThat(wheel.extend("unknown", 650L)).isFalse();
+
+        // then
+        assertThat(wheel.advance(300L)).isEmpty();
+        assertThat(wheel.contains("extended")).isTrue();
+        assertThat(wheel.advance(700L)).containsExactly("extended");
+    }
+
+    @Test
+    @DisplayName("한 바퀴보다 먼 만료 시각도 정확한 시점에 만료")
+    void deadlineBeyondOneRotation() {
+        // given
+        TimingWheel<String> wheel = new TimingWheel<>(TICK, SIZE, 0L);
+        wheel.schedule("far", 2_050L); // 휠 한 바퀴 = 800ms
+
+        // when
+        List<String> expired = new ArrayList<>();
+        for (long now = TICK; now < 2_000L; now += TICK) {
+            expired.addAll(wheel.advance(now));
+        }
+
+        // then
+        assertThat(expired).isEmpty();
+        assertThat(wheel.advance(2_100L)).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("advance가 한참 밀려도 지난 키를 모두 반환")
+    void advance_AfterLongPause() {
+        // given
+        TimingWheel<Integer> wheel = new TimingWheel<>(TICK, SIZE, 0L);
+        for (int i = 1; i <= 20; i++) {
+            wheel.schedule(i, i * 100L);
+        }
+
+        // when
+        List<Integer> expired = wheel.advance(10_000L);
+
+        // then
+        assertThat(expired).hasSize(20);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 등록 / 연장하는 중에도 키는 정확히 한 번만 만료")
+    void concurrentScheduleAndAdvance() throws InterruptedException {
+        // given
+        TimingWheel<Integer> wheel = new TimingWheel<>(1L, 64, 0L);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(8);
+        Set<Integer> expired = ConcurrentHashMap.newKeySet();
+        List<Integer> duplicates = new ArrayList<>();
+
+        // when
+        for (int t = 0; t < 8; t++) {
+            int base = t * 1_000;
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < 1_000; i++) {
+                        wheel.schedule(base + i, i % 50);
+                        wheel.extend(base + i, i % 50 + 10);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        long now = 0;
+        while (latch.getCount() > 0 || wheel.size() > 0) {
+            for (Integer key : wheel.advance(now++)) {
+                if (!expired.add(key)) {
+                    duplicates.add(key);
+                }
+            }
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(duplicates).isEmpty();
+        assertThat(expired).hasSize(8_000);
+    }
+}